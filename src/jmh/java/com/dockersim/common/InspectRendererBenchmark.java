@@ -0,0 +1,92 @@
+package com.dockersim.common;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.dockersim.dto.response.DockerContainerSimpleInspect;
+import com.dockersim.dto.response.DockerNetworkInspect;
+import com.dockersim.dto.response.ImageInspectData;
+import com.dockersim.dto.response.ImageInspectRootFSData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * inspect 출력 비용 비교: 호출마다 ObjectMapper를 만드는 기존 방식과 공유 {@link InspectRenderer}.
+ * <p>
+ * {@code size}는 네트워크에 연결된 컨테이너 수 / 이미지 레이어 수이다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=InspectRendererBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InspectRendererBenchmark {
+
+	@Param({"10", "1000"})
+	public int size;
+
+	private InspectRenderer renderer;
+	private DockerNetworkInspect network;
+	private ImageInspectData image;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		renderer = new InspectRenderer(Jackson2ObjectMapperBuilder.json().build());
+
+		List<DockerContainerSimpleInspect> containers = new ArrayList<>();
+		List<String> layers = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			String hexId = IdGenerator.generateHexFullId();
+			containers.add(new DockerContainerSimpleInspect(hexId, "container-" + i));
+			layers.add("sha256:" + hexId);
+		}
+		network = DockerNetworkInspect.builder()
+			.id(IdGenerator.generateHexFullId())
+			.name("bench")
+			.created(LocalDateTime.now())
+			.containers(containers)
+			.build();
+		image = ImageInspectData.builder()
+			.Id(IdGenerator.generateHexFullId())
+			.RepoTags(List.of("library/bench:latest"))
+			.Created(LocalDateTime.now().toString())
+			.RootFS(ImageInspectRootFSData.builder().Layers(layers).build())
+			.build();
+	}
+
+	@Benchmark
+	public String networkNewObjectMapper() throws Exception {
+		return Jackson2ObjectMapperBuilder.json().build()
+			.writerWithDefaultPrettyPrinter()
+			.writeValueAsString(List.of(network));
+	}
+
+	@Benchmark
+	public List<String> networkSharedRenderer() {
+		return renderer.render(network);
+	}
+
+	@Benchmark
+	public String imageNewObjectMapper() throws Exception {
+		return new ObjectMapper()
+			.writerWithDefaultPrettyPrinter()
+			.writeValueAsString(List.of(image));
+	}
+
+	@Benchmark
+	public List<String> imageSharedRenderer() {
+		return renderer.render(image);
+	}
+}
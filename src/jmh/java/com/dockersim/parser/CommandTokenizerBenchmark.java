@@ -0,0 +1,98 @@
+package com.dockersim.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 명령어 토큰화 비용 비교.
+ * <ul>
+ *     <li>legacy: 이전 DockerCommandParserImpl(StringBuilder + ArrayList) 후 stream으로 첫 토큰을 제외한 배열 생성</li>
+ *     <li>singlePass: {@link CommandTokenizer}</li>
+ *     <li>cached: {@link DockerCommandParserImpl#parseArguments(String)} (반복 명령어 캐시 적중)</li>
+ * </ul>
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=CommandTokenizerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandTokenizerBenchmark {
+
+	@Param({
+		"docker ps -a",
+		"docker run -d --name web -p 8080:80 nginx:latest",
+		"docker run -e \"MSG=hello world\" --name 'quoted name' alpine echo hi"
+	})
+	public String command;
+
+	private DockerCommandParserImpl parser;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		parser = new DockerCommandParserImpl(new SimpleMeterRegistry(), 1024);
+	}
+
+	@Benchmark
+	public String[] legacy() {
+		return legacyTokenize(command).stream().skip(1).toArray(String[]::new);
+	}
+
+	@Benchmark
+	public String[] singlePass() {
+		return CommandTokenizer.tokenize(command);
+	}
+
+	@Benchmark
+	public String[] cached() {
+		return parser.parseArguments(command);
+	}
+
+	private static List<String> legacyTokenize(String commandLine) {
+		List<String> tokens = new ArrayList<>();
+		StringBuilder currentToken = new StringBuilder();
+		boolean inSingleQuote = false;
+		boolean inDoubleQuote = false;
+
+		for (int i = 0; i < commandLine.length(); i++) {
+			char c = commandLine.charAt(i);
+			if (c == '\\' && i + 1 < commandLine.length()) {
+				currentToken.append(commandLine.charAt(i + 1));
+				++i;
+				continue;
+			}
+			if (c == '\'' && !inDoubleQuote) {
+				inSingleQuote = !inSingleQuote;
+				continue;
+			}
+			if (c == '"' && !inSingleQuote) {
+				inDoubleQuote = !inDoubleQuote;
+				continue;
+			}
+			if (Character.isWhitespace(c) && !inSingleQuote && !inDoubleQuote) {
+				if (!currentToken.isEmpty()) {
+					tokens.add(currentToken.toString());
+					currentToken.setLength(0);
+				}
+				continue;
+			}
+			currentToken.append(c);
+		}
+		if (!currentToken.isEmpty()) {
+			tokens.add(currentToken.toString());
+		}
+		return tokens;
+	}
+}
@@ -0,0 +1,65 @@
+package com.dockersim.service.command;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.dockersim.command.DockerCommand;
+import com.dockersim.config.SimulationUserPrincipal;
+
+import picocli.CommandLine;
+
+/**
+ * picocli CommandLine 트리를 요청마다 새로 만드는 방식(cold)과
+ * {@link CommandLinePool}에서 재사용하는 방식(cached)의 디스패치 비용을 비교한다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=CommandDispatchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandDispatchBenchmark {
+
+	@Param({"ps", "image ls", "network connect my-net my-container"})
+	public String command;
+
+	private CommandLine.IFactory factory;
+	private CommandLinePool pool;
+	private SimulationUserPrincipal principal;
+	private String[] args;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		factory = new StubCommandFactory();
+		pool = new CommandLinePool(factory, 16);
+		// 스텁 서비스는 principal을 사용하지 않는다.
+		principal = null;
+		args = command.split(" ");
+	}
+
+	@Benchmark
+	public Object cold() {
+		DockerCommand rootCommand = new DockerCommand();
+		rootCommand.setPrincipal(principal);
+		CommandLine cmd = new CommandLine(rootCommand, factory);
+		cmd.execute(args);
+		return cmd.getParseResult();
+	}
+
+	@Benchmark
+	public Object cached() {
+		try (CommandLinePool.Lease lease = pool.borrow(principal)) {
+			CommandLine cmd = lease.getCommandLine();
+			cmd.execute(args);
+			return cmd.getParseResult();
+		}
+	}
+}
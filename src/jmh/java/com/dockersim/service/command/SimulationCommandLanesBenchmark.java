@@ -0,0 +1,83 @@
+package com.dockersim.service.command;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 8개 스레드가 상태를 바꾸는 명령을 동시에 보낼 때 {@link SimulationCommandLanes}의 처리량을 측정한다.
+ * <p>
+ * 스레드들이 {@code simulations}개의 시뮬레이션에 고르게 나뉘어 명령을 보낸다.
+ * 1이면 모든 명령이 한 레인에서 직렬화되고, 시뮬레이션 수가 스레드 수 이상이면 대부분 서로 기다리지 않아야 한다.
+ * {@code unserialized}는 락 없이 같은 작업을 실행한 기준값이다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=SimulationCommandLanesBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class SimulationCommandLanesBenchmark {
+
+	/**
+	 * 명령 하나가 락을 잡고 있는 동안 수행하는 작업량 (Blackhole.consumeCPU 토큰)
+	 */
+	private static final long WORK_TOKENS = 2_000;
+
+	@Param({"1", "8", "64"})
+	public int simulations;
+
+	private SimulationCommandLanes lanes;
+	private final AtomicInteger nextThread = new AtomicInteger();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		lanes = new SimulationCommandLanes(new SimpleMeterRegistry(), 256, 60_000);
+	}
+
+	@State(Scope.Thread)
+	public static class Client {
+
+		private long simulationId;
+		private long sequence;
+
+		@Setup(Level.Trial)
+		public void setUp(SimulationCommandLanesBenchmark benchmark) {
+			simulationId = benchmark.nextThread.getAndIncrement();
+		}
+
+		long nextSimulation(int simulations) {
+			// 스레드마다 다른 시뮬레이션에서 시작해 순서대로 돌아가며 명령을 보낸다.
+			return (simulationId + sequence++) % simulations + 1;
+		}
+	}
+
+	@Benchmark
+	public Object serialized(Client client) {
+		return lanes.execute(client.nextSimulation(simulations), SimulationCommandLanesBenchmark::work);
+	}
+
+	@Benchmark
+	public Object unserialized(Client client) {
+		client.nextSimulation(simulations);
+		return work();
+	}
+
+	private static Long work() {
+		Blackhole.consumeCPU(WORK_TOKENS);
+		return WORK_TOKENS;
+	}
+}
@@ -0,0 +1,60 @@
+package com.dockersim.service.command;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+
+import picocli.CommandLine;
+
+/**
+ * 벤치마크용 {@link CommandLine.IFactory}.
+ * <p>
+ * Spring 컨텍스트 없이 명령 객체를 만들 수 있도록, 생성자 파라미터로 요구되는 서비스 인터페이스는
+ * 빈 결과를 돌려주는 동적 프록시로 채운다. 측정 대상은 picocli 디스패치 비용이므로 서비스 로직은 비워둔다.
+ */
+public class StubCommandFactory implements CommandLine.IFactory {
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <K> K create(Class<K> cls) throws Exception {
+		if (cls.isInterface()) {
+			return (K)stub(cls);
+		}
+		Constructor<?> constructor = cls.getDeclaredConstructors()[0];
+		constructor.setAccessible(true);
+		Class<?>[] parameterTypes = constructor.getParameterTypes();
+		Object[] args = new Object[parameterTypes.length];
+		for (int i = 0; i < parameterTypes.length; i++) {
+			args[i] = stub(parameterTypes[i]);
+		}
+		return (K)constructor.newInstance(args);
+	}
+
+	private static Object stub(Class<?> type) {
+		return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+			(proxy, method, args) -> emptyValue(method.getReturnType()));
+	}
+
+	private static Object emptyValue(Class<?> type) throws Exception {
+		if (type == void.class) {
+			return null;
+		}
+		if (type == boolean.class) {
+			return false;
+		}
+		if (type.isPrimitive()) {
+			return 0;
+		}
+		if (List.class.isAssignableFrom(type)) {
+			return Collections.emptyList();
+		}
+		if (type == String.class) {
+			return "";
+		}
+		// 응답 DTO는 대부분 @NoArgsConstructor를 가지고 있다.
+		Constructor<?> noArgs = type.getDeclaredConstructor();
+		noArgs.setAccessible(true);
+		return noArgs.newInstance();
+	}
+}
@@ -0,0 +1,99 @@
+package com.dockersim.service.image;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.service.command.CommandExecutorService;
+import com.dockersim.service.image.layer.DockerLayerStore;
+import com.dockersim.support.SimulationBenchmarkFixture;
+import com.dockersim.util.LongListConverter;
+
+/**
+ * 댕글링 이미지가 수천 개 쌓인 시뮬레이션에서 docker image prune 한 번의 처리 시간.
+ * <p>
+ * 매 실행 전에 댕글링 이미지를 JDBC batch로 다시 채운다(측정에서 제외). 이미지는 공통 레이어 하나와 자기 레이어 하나를 가지며,
+ * 컨테이너가 쓰는 이미지 50개는 지우지 않고 남는다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=ImagePruneBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImagePruneBenchmark {
+
+	private static final String INSERT_IMAGE = """
+		INSERT INTO docker_images (hex_id, short_hex_id, namespace, name, tag, location, layer_ids, created_at,
+		    simulation_id, version)
+		VALUES (?, ?, '<none>', '<none>', '<none>', 'LOCAL', ?, ?, ?, 0)""";
+
+	@Param({"1000", "5000"})
+	public int danglingImages;
+
+	private SimulationBenchmarkFixture fixture;
+	private CommandExecutorService executor;
+	private DockerLayerStore layerStore;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transaction;
+	private final LongListConverter layerIdsConverter = new LongListConverter();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		fixture = new SimulationBenchmarkFixture(Map.of()).seed(50, 50);
+		executor = fixture.getBean(CommandExecutorService.class);
+		layerStore = fixture.getBean(DockerLayerStore.class);
+		jdbcTemplate = fixture.getBean(JdbcTemplate.class);
+		transaction = new TransactionTemplate(fixture.getBean(PlatformTransactionManager.class));
+	}
+
+	@Setup(Level.Invocation)
+	public void addDanglingImages() {
+		transaction.executeWithoutResult(status -> {
+			List<List<String>> layers = new ArrayList<>(danglingImages);
+			for (int i = 0; i < danglingImages; i++) {
+				layers.add(List.of("FROM alpine:latest", "RUN build " + System.nanoTime() + "-" + i));
+			}
+			List<List<Long>> layerIds = layerStore.acquireAll(layers);
+
+			Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+			Long simulationId = fixture.getPrincipal().getSimulationId();
+			jdbcTemplate.batchUpdate(INSERT_IMAGE, layerIds, 500, (ps, ids) -> {
+				String hexId = IdGenerator.generateHexFullId();
+				ps.setString(1, hexId);
+				ps.setString(2, IdGenerator.getShortId(hexId));
+				ps.setString(3, layerIdsConverter.convertToDatabaseColumn(ids));
+				ps.setTimestamp(4, now);
+				ps.setLong(5, simulationId);
+			});
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fixture.close();
+	}
+
+	@Benchmark
+	public CommandResult prune() {
+		return fixture.inRequest(() -> executor.execute("docker image prune", fixture.getPrincipal()));
+	}
+}
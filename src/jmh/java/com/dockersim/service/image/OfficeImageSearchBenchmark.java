@@ -0,0 +1,60 @@
+package com.dockersim.service.image;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.dockersim.dto.response.OfficeImageSearchResult;
+import com.dockersim.support.SimulationBenchmarkFixture;
+
+/**
+ * 전체 공식 이미지 카탈로그(static/data/docker_images.json)를 적재한 상태에서 자동완성 검색 한 번의 지연 시간 분포.
+ * <p>
+ * {@link Mode#SampleTime}으로 측정하므로 결과에 p99가 함께 출력된다. 검색어는 빈 검색어(인기순), 짧은 접두사,
+ * 부분 문자열, 오타, 이름:태그 조합, 일치 없음을 나눠 측정한다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=OfficeImageSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OfficeImageSearchBenchmark {
+
+	private static final int LIMIT = 10;
+
+	@Param({"", "u", "ubu", "sql", "ubnutu", "ubuntu:2", "zzzzzz"})
+	public String query;
+
+	private SimulationBenchmarkFixture fixture;
+	private DockerOfficeImageService service;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// create-drop 스키마에서는 시작 시 적재가 꺼져 있으므로 켜서 전체 카탈로그를 넣는다.
+		fixture = new SimulationBenchmarkFixture(Map.of("dockersim.catalog.load-on-startup", "true"));
+		service = fixture.getBean(DockerOfficeImageService.class);
+		// 첫 검색에서 만들어지는 스냅샷(검색 색인 포함)은 측정에서 제외한다.
+		service.searchImages(query, LIMIT);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fixture.close();
+	}
+
+	@Benchmark
+	public List<OfficeImageSearchResult> search() {
+		return service.searchImages(query, LIMIT);
+	}
+}
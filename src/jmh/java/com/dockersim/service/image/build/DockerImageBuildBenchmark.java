@@ -0,0 +1,94 @@
+package com.dockersim.service.image.build;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dockersim.domain.DockerFile;
+import com.dockersim.domain.User;
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.service.command.CommandExecutorService;
+import com.dockersim.support.SimulationBenchmarkFixture;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 같은 Dockerfile을 다시 빌드할 때 명령 단위 빌드 캐시 사용 여부에 따른 처리 시간 비교.
+ * <ul>
+ *     <li>rebuildCached: 바뀌지 않은 Dockerfile을 다시 빌드(모든 명령이 Using cache)</li>
+ *     <li>rebuildNoCache: {@code --no-cache}로 모든 명령을 다시 실행</li>
+ *     <li>editLastStep: 마지막 명령만 다른 두 Dockerfile을 번갈아 빌드(앞 명령은 캐시, 이전 이미지는 댕글링)</li>
+ * </ul>
+ * 실행: ./gradlew jmh -Pjmh.includes=DockerImageBuildBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DockerImageBuildBenchmark {
+
+	@Param({"10", "50"})
+	public int steps;
+
+	private SimulationBenchmarkFixture fixture;
+	private CommandExecutorService executor;
+	private boolean edited;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		fixture = new SimulationBenchmarkFixture(Map.of()).seed(1, 0);
+		executor = fixture.getBean(CommandExecutorService.class);
+
+		new TransactionTemplate(fixture.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+			EntityManager em = fixture.getBean(EntityManager.class);
+			User user = em.find(User.class, fixture.getPrincipal().getUserId());
+			em.persist(DockerFile.builder().name("app").path("./app").content(dockerfile("v1")).user(user).build());
+			em.persist(DockerFile.builder().name("edit").path("./edit").content(dockerfile("v2")).user(user).build());
+		});
+		execute("docker build -t app:1 ./app");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fixture.close();
+	}
+
+	@Benchmark
+	public CommandResult rebuildCached() {
+		return execute("docker build -t app:1 ./app");
+	}
+
+	@Benchmark
+	public CommandResult rebuildNoCache() {
+		return execute("docker build --no-cache -t app:1 ./app");
+	}
+
+	@Benchmark
+	public CommandResult editLastStep() {
+		edited = !edited;
+		return execute("docker build -t edit:1 " + (edited ? "./edit" : "./app"));
+	}
+
+	private String dockerfile(String version) {
+		StringBuilder content = new StringBuilder("FROM image-0:latest\n");
+		for (int i = 1; i < steps - 1; i++) {
+			content.append("RUN echo step-").append(i).append('\n');
+		}
+		return content.append("CMD [\"echo\", \"").append(version).append("\"]\n").toString();
+	}
+
+	private CommandResult execute(String command) {
+		return fixture.inRequest(() -> executor.execute(command, fixture.getPrincipal()));
+	}
+}
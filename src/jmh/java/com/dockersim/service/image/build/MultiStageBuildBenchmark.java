@@ -0,0 +1,102 @@
+package com.dockersim.service.image.build;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dockersim.domain.Simulation;
+import com.dockersim.dto.util.ImageMeta;
+import com.dockersim.service.image.build.DockerImageBuilder.BuildResult;
+import com.dockersim.support.SimulationBenchmarkFixture;
+import com.dockersim.util.ImageUtil;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 서로 의존하지 않는 단계 여러 개와, 그 결과를 모두 {@code COPY --from}으로 모으는 마지막 단계로 된 Dockerfile의
+ * 빌드 시간을 단계 병렬 빌드 스레드 수별로 비교한다(parallelism=1은 순차 빌드).
+ * <p>
+ * 단계는 실제 멀티 스테이지 Dockerfile처럼 패키지 설치, 소스 복사, 빌드/테스트 명령으로 채우며, 모든 명령을 다시 빌드하도록
+ * 캐시는 쓰지 않는다. 측정에는 기반 이미지 조회, 캐시 조회/갱신까지 빌드 한 번의 전체 경로가 포함된다.
+ * 병렬 빌드의 이득은 코어 수에 따라 다르므로 멀티 코어 환경에서 실행해야 의미가 있다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=MultiStageBuildBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiStageBuildBenchmark {
+
+	private static final String[] TOOLCHAINS = {"golang:1.22", "node:20", "python:3.12", "eclipse-temurin:21"};
+
+	@Param({"1", "4"})
+	public int parallelism;
+
+	@Param({"4", "8"})
+	public int stages;
+
+	@Param({"16", "128"})
+	public int stepsPerStage;
+
+	private SimulationBenchmarkFixture fixture;
+	private DockerImageBuilder builder;
+	private TransactionTemplate transaction;
+	private String dockerfile;
+	private ImageMeta meta;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		fixture = new SimulationBenchmarkFixture(Map.of(
+			"dockersim.build.parallelism", parallelism,
+			"dockersim.build.parallel-min-steps", 0)).seed(1, 0);
+		builder = fixture.getBean(DockerImageBuilder.class);
+		transaction = new TransactionTemplate(fixture.getBean(PlatformTransactionManager.class));
+		meta = ImageUtil.parserFullName("app:1");
+
+		StringBuilder content = new StringBuilder();
+		for (int stage = 0; stage < stages; stage++) {
+			content.append("FROM ").append(TOOLCHAINS[stage % TOOLCHAINS.length]).append(" AS part-").append(stage)
+				.append('\n')
+				.append("RUN apt-get update && apt-get install -y --no-install-recommends build-essential ca-certificates ")
+				.append("curl git libssl-dev pkg-config && rm -rf /var/lib/apt/lists/*\n")
+				.append("WORKDIR /src/part-").append(stage).append('\n')
+				.append("COPY part-").append(stage).append("/ ./\n");
+			for (int step = 3; step < stepsPerStage; step++) {
+				content.append("RUN make -j8 -C module-").append(step).append(" PART=").append(stage)
+					.append(" CFLAGS=\"-O2 -g -fstack-protector-strong -D_FORTIFY_SOURCE=2\" install DESTDIR=/out\n");
+			}
+		}
+		content.append("FROM image-0:latest\n");
+		for (int stage = 0; stage < stages; stage++) {
+			content.append("COPY --from=part-").append(stage).append(" /out /app/part-").append(stage).append('\n');
+		}
+		content.append("ENTRYPOINT [\"/app/part-0/bin/app\"]\n");
+		dockerfile = content.toString();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fixture.close();
+	}
+
+	@Benchmark
+	public BuildResult buildNoCache() {
+		return fixture.inRequest(() -> transaction.execute(status -> {
+			Simulation simulation = fixture.getBean(EntityManager.class)
+				.find(Simulation.class, fixture.getPrincipal().getSimulationId());
+			return builder.build(simulation, dockerfile, meta, true);
+		}));
+	}
+}
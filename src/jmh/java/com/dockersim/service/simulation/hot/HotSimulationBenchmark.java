@@ -0,0 +1,76 @@
+package com.dockersim.service.simulation.hot;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.service.command.CommandExecutorService;
+import com.dockersim.support.SimulationBenchmarkFixture;
+
+/**
+ * hot simulation 엔진 사용 여부에 따른 명령 처리 지연 시간 비교.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=HotSimulationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HotSimulationBenchmark {
+
+	@Param({"false", "true"})
+	public boolean hotSimulation;
+
+	private SimulationBenchmarkFixture fixture;
+	private CommandExecutorService executor;
+	private String stopCommand;
+	private String startCommand;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		fixture = new SimulationBenchmarkFixture(Map.of(
+			"dockersim.hot-simulation.enabled", hotSimulation,
+			"dockersim.hot-simulation.flush-interval-ms", 200
+		)).seed(20, 50);
+		executor = fixture.getBean(CommandExecutorService.class);
+
+		String running = fixture.getContainerNames().get(0);
+		stopCommand = "docker stop " + running;
+		startCommand = "docker start " + running;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fixture.close();
+	}
+
+	@Benchmark
+	public CommandResult ps() {
+		return execute("docker ps -a");
+	}
+
+	@Benchmark
+	public CommandResult imageLs() {
+		return execute("docker image ls");
+	}
+
+	@Benchmark
+	public CommandResult stopThenStart() {
+		execute(stopCommand);
+		return execute(startCommand);
+	}
+
+	private CommandResult execute(String command) {
+		return fixture.inRequest(() -> executor.execute(command, fixture.getPrincipal()));
+	}
+}
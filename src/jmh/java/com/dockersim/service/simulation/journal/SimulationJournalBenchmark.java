@@ -0,0 +1,164 @@
+package com.dockersim.service.simulation.journal;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshotCodec;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshotDelta;
+
+/**
+ * 명령 기록 하나를 만드는 비용(변경분 계산 + 인코딩)과, 특정 시점 상태를 만드는 비용을 비교한다. DB 없이 메모리에서만 측정한다.
+ * <p>
+ * 컨테이너 {@code containers}개(모두 네트워크 하나에 연결)에서 시작해 명령 {@code history}개를 기록한다.
+ * 명령 5개 중 4개는 컨테이너 하나의 상태를 바꾸고, 1개는 앞쪽 컨테이너를 지우고 새 컨테이너를 만든다(뒤쪽 참조 위치가 밀림).
+ * <ul>
+ *     <li>{@code recordDelta}: 명령 하나의 변경분 계산과 인코딩</li>
+ *     <li>{@code encodeSnapshot}: 같은 시점의 전체 상태를 인코딩하는 기준값(명령마다 전체 상태를 저장할 때의 비용)</li>
+ *     <li>{@code reconstructFromCheckpoint}: 마지막 시점을 {@code checkpointInterval}마다 저장한 체크포인트에서 만들기(가장 먼 경우)</li>
+ *     <li>{@code reconstructFromStart}: 체크포인트 없이 처음부터 모든 변경분을 적용하기</li>
+ * </ul>
+ * 실행: ./gradlew jmh -Pjmh.includes=SimulationJournalBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimulationJournalBenchmark {
+
+	@Param({"100", "1000"})
+	public int containers;
+
+	@Param({"500"})
+	public int history;
+
+	@Param({"50"})
+	public int checkpointInterval;
+
+	private SimulationSnapshot before;
+	private SimulationSnapshot after;
+	private byte[] initialCheckpoint;
+	private byte[] lastCheckpoint;
+	private List<byte[]> deltas;
+	private int lastCheckpointSequence;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+		List<SimulationSnapshot.Container> initialContainers = new ArrayList<>();
+		List<SimulationSnapshot.NetworkLink> initialLinks = new ArrayList<>();
+		for (int i = 0; i < containers; i++) {
+			initialContainers.add(container(i, ContainerStatus.CREATED, now));
+			initialLinks.add(new SimulationSnapshot.NetworkLink(i, 0, now));
+		}
+		SimulationSnapshot state = new SimulationSnapshot("bench",
+			List.of(new SimulationSnapshot.Image("sha", "sha", "library", "nginx", "latest", ImageLocation.LOCAL,
+				"sha256:1", now)),
+			initialContainers,
+			List.of(new SimulationSnapshot.Network("net", "net", "bench-net", now)),
+			List.of(), initialLinks, List.of());
+
+		initialCheckpoint = SimulationSnapshotCodec.encode(state);
+		deltas = new ArrayList<>(history);
+		lastCheckpointSequence = (history - 1) / checkpointInterval * checkpointInterval;
+		int nextContainer = containers;
+		for (int sequence = 1; sequence <= history; sequence++) {
+			SimulationSnapshot next = sequence % 5 == 0
+				? replaceContainer(state, sequence % state.containers().size(), nextContainer++, now)
+				: toggleContainer(state, sequence % state.containers().size());
+			deltas.add(SimulationSnapshotCodec.encodeDelta(SimulationSnapshotDelta.between(state, next)));
+			if (sequence == lastCheckpointSequence) {
+				lastCheckpoint = SimulationSnapshotCodec.encode(next);
+			}
+			before = state;
+			after = next;
+			state = next;
+		}
+		if (lastCheckpoint == null) {
+			lastCheckpoint = initialCheckpoint;
+		}
+
+		long deltaBytes = deltas.stream().mapToLong(delta -> delta.length).sum();
+		System.out.printf("%n변경분 평균 %,d bytes, 전체 상태 %,d bytes (컨테이너 %d개)%n",
+			deltaBytes / history, SimulationSnapshotCodec.encode(after).length, containers);
+	}
+
+	@Benchmark
+	public byte[] recordDelta() {
+		return SimulationSnapshotCodec.encodeDelta(SimulationSnapshotDelta.between(before, after));
+	}
+
+	@Benchmark
+	public byte[] encodeSnapshot() {
+		return SimulationSnapshotCodec.encode(after);
+	}
+
+	@Benchmark
+	public SimulationSnapshot reconstructFromCheckpoint() {
+		return replay(lastCheckpoint, lastCheckpointSequence);
+	}
+
+	@Benchmark
+	public SimulationSnapshot reconstructFromStart() {
+		return replay(initialCheckpoint, 0);
+	}
+
+	private SimulationSnapshot replay(byte[] checkpoint, int checkpointSequence) {
+		SimulationSnapshot state = SimulationSnapshotCodec.decode(checkpoint);
+		for (int sequence = checkpointSequence + 1; sequence <= history; sequence++) {
+			state = SimulationSnapshotCodec.decodeDelta(deltas.get(sequence - 1)).apply(state);
+		}
+		return state;
+	}
+
+	private static SimulationSnapshot toggleContainer(SimulationSnapshot state, int index) {
+		List<SimulationSnapshot.Container> containers = new ArrayList<>(state.containers());
+		SimulationSnapshot.Container container = containers.get(index);
+		boolean running = container.status() == ContainerStatus.RUNNING;
+		containers.set(index, new SimulationSnapshot.Container(container.hexId(), container.shortHexId(),
+			container.name(), running ? ContainerStatus.EXITED : ContainerStatus.RUNNING, container.image(), null,
+			container.createdAt(), running ? container.startedAt() : container.createdAt(),
+			running ? container.createdAt() : container.stoppedAt()));
+		return new SimulationSnapshot(state.sourcePublicId(), state.images(), containers, state.networks(),
+			state.volumes(), state.networkLinks(), state.volumeLinks());
+	}
+
+	/*
+	index번 컨테이너를 지우고 새 컨테이너를 뒤에 붙인다. 지운 컨테이너 뒤의 연결은 참조 위치가 하나씩 당겨진다.
+	 */
+	private static SimulationSnapshot replaceContainer(SimulationSnapshot state, int index, int id,
+		LocalDateTime now) {
+		List<SimulationSnapshot.Container> containers = new ArrayList<>(state.containers());
+		containers.remove(index);
+		containers.add(container(id, ContainerStatus.CREATED, now));
+		List<SimulationSnapshot.NetworkLink> links = new ArrayList<>();
+		for (SimulationSnapshot.NetworkLink link : state.networkLinks()) {
+			if (link.container() != index) {
+				int container = link.container() > index ? link.container() - 1 : link.container();
+				links.add(new SimulationSnapshot.NetworkLink(container, link.network(), link.connectedAt()));
+			}
+		}
+		links.add(new SimulationSnapshot.NetworkLink(containers.size() - 1, 0, now));
+		return new SimulationSnapshot(state.sourcePublicId(), state.images(), containers, state.networks(),
+			state.volumes(), links, state.volumeLinks());
+	}
+
+	private static SimulationSnapshot.Container container(int id, ContainerStatus status, LocalDateTime now) {
+		String hexId = String.format("%064x", id);
+		return new SimulationSnapshot.Container(hexId, hexId.substring(0, 12), "container-" + id, status, 0, null,
+			now, null, null);
+	}
+}
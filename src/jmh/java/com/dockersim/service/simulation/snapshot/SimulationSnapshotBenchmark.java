@@ -0,0 +1,140 @@
+package com.dockersim.service.simulation.snapshot;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+import com.dockersim.dto.request.SimulationRequest;
+import com.dockersim.service.simulation.SimulationService;
+import com.dockersim.support.SimulationBenchmarkFixture;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 컨테이너 수천 개 규모의 시뮬레이션을 스냅샷으로 내보내기/복원/복사하는 비용.
+ * <p>
+ * {@code jpaCopy}는 같은 복사를 엔티티 persist로 하는 기준값이다(IDENTITY 키라 행마다 INSERT가 실행된다).
+ * 이미지 100개와 컨테이너 {@code containers}개를 가진 시뮬레이션을 사용한다.
+ * <p>
+ * 실행: ./gradlew jmh -Pjmh.includes=SimulationSnapshotBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SimulationSnapshotBenchmark {
+
+	@Param({"1000", "5000"})
+	public int containers;
+
+	private SimulationBenchmarkFixture fixture;
+	private SimulationService simulationService;
+	private TransactionTemplate transaction;
+	private String userPublicId;
+	private String simulationPublicId;
+	private byte[] snapshot;
+	private final AtomicLong forks = new AtomicLong();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		fixture = new SimulationBenchmarkFixture(Map.of()).seed(100, containers);
+		simulationService = fixture.getBean(SimulationService.class);
+		transaction = new TransactionTemplate(fixture.getBean(PlatformTransactionManager.class));
+		userPublicId = fixture.getPrincipal().getUserPublicId();
+		simulationPublicId = fixture.getPrincipal().getSimulationPublicId();
+		snapshot = simulationService.exportSnapshot(userPublicId, simulationPublicId);
+		System.out.printf("%n스냅샷 크기: %,d bytes (컨테이너 %d개)%n", snapshot.length, containers);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		fixture.close();
+	}
+
+	@Benchmark
+	public byte[] export() {
+		return simulationService.exportSnapshot(userPublicId, simulationPublicId);
+	}
+
+	@Benchmark
+	public Object restore() {
+		return simulationService.restoreSnapshot(userPublicId, simulationPublicId, snapshot);
+	}
+
+	@Benchmark
+	public Object fork() {
+		return simulationService.forkSimulation(userPublicId, simulationPublicId,
+			new SimulationRequest("fork-" + forks.incrementAndGet(), "PRIVATE"));
+	}
+
+	@Benchmark
+	public Object jpaCopy() {
+		return transaction.execute(status -> {
+			EntityManager em = fixture.getBean(EntityManager.class);
+			Simulation source = em.createQuery("SELECT s FROM Simulation s WHERE s.publicId = :publicId", Simulation.class)
+				.setParameter("publicId", simulationPublicId)
+				.getSingleResult();
+			User owner = source.getOwner();
+			LocalDateTime now = LocalDateTime.now();
+			Simulation copy = Simulation.builder()
+				.publicId(IdGenerator.generatePublicId())
+				.title("jpa-copy-" + forks.incrementAndGet())
+				.shareState(SimulationShareState.PRIVATE)
+				.owner(owner)
+				.createdAt(now)
+				.updatedAt(now)
+				.build();
+			em.persist(copy);
+
+			Map<Long, DockerImage> images = new HashMap<>();
+			List<DockerImage> sourceImages = em.createQuery(
+					"SELECT i FROM DockerImage i WHERE i.simulation = :simulation", DockerImage.class)
+				.setParameter("simulation", source)
+				.getResultList();
+			for (DockerImage image : sourceImages) {
+				DockerImage imageCopy = image.toBuilder()
+					.id(null)
+					.version(null)
+					.containers(new ArrayList<>())
+					.simulation(copy)
+					.build();
+				em.persist(imageCopy);
+				images.put(image.getId(), imageCopy);
+			}
+			List<DockerContainer> sourceContainers = em.createQuery(
+					"SELECT c FROM DockerContainer c WHERE c.simulation = :simulation", DockerContainer.class)
+				.setParameter("simulation", source)
+				.getResultList();
+			for (DockerContainer container : sourceContainers) {
+				DockerContainer containerCopy = DockerContainer.from(container.getName(),
+					images.get(container.getBaseImage().getId()), copy);
+				em.persist(containerCopy);
+			}
+			em.flush();
+			em.clear();
+			return copy.getId();
+		});
+	}
+}
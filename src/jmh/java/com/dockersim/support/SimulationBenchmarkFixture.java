@@ -0,0 +1,165 @@
+package com.dockersim.support;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dockersim.DockerSimApplication;
+import com.dockersim.common.IdGenerator;
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import picocli.spring.boot.autoconfigure.PicocliAutoConfiguration;
+
+/**
+ * Spring 컨텍스트(H2 인메모리 DB)를 띄우고 시뮬레이션 하나를 시드하는 벤치마크 공용 픽스처.
+ * <p>
+ * 웹 서버 없이 실행하므로, 실제 요청과 같은 조건이 되도록 {@link #inRequest(Supplier)}로
+ * OSIV(요청 단위 EntityManager)를 흉내 낸다.
+ */
+public class SimulationBenchmarkFixture implements AutoCloseable {
+
+	private final ConfigurableApplicationContext context;
+	private final EntityManagerFactory entityManagerFactory;
+	private SimulationUserPrincipal principal;
+	private final List<String> containerNames = new ArrayList<>();
+
+	public SimulationBenchmarkFixture(Map<String, Object> properties) {
+		Map<String, Object> defaults = new HashMap<>();
+		defaults.put("spring.profiles.active", "bench");
+		defaults.put("spring.datasource.url", "jdbc:h2:mem:bench-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+		defaults.put("spring.datasource.driver-class-name", "org.h2.Driver");
+		defaults.put("spring.datasource.username", "sa");
+		defaults.put("spring.datasource.password", "");
+		defaults.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+		defaults.put("spring.jpa.show-sql", "false");
+		defaults.put("logging.level.root", "WARN");
+		defaults.put("logging.level.com.dockersim", "WARN");
+		defaults.put("logging.level.org.hibernate.SQL", "WARN");
+		defaults.putAll(properties);
+
+		// jmhJar가 AutoConfiguration.imports 파일을 줄바꿈 없이 이어 붙여 picocli 자동 설정이 누락되므로 직접 등록한다.
+		// 같은 이유로 MeterRegistry 자동 설정도 누락되므로 SimpleMeterRegistry를 등록한다.
+		this.context = new SpringApplicationBuilder(DockerSimApplication.class, PicocliAutoConfiguration.class)
+			.web(WebApplicationType.NONE)
+			.properties(defaults)
+			.initializers(context -> context.getBeanFactory()
+				.registerSingleton("meterRegistry", new SimpleMeterRegistry()))
+			.run();
+		this.entityManagerFactory = context.getBean(EntityManagerFactory.class);
+	}
+
+	/**
+	 * 이미지 {@code imageCount}개와 컨테이너 {@code containerCount}개(절반은 RUNNING)를 가진 시뮬레이션을 만든다.
+	 */
+	public SimulationBenchmarkFixture seed(int imageCount, int containerCount) {
+		TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		tx.executeWithoutResult(status -> {
+			EntityManager em = context.getBean(EntityManager.class);
+			LocalDateTime now = LocalDateTime.now();
+
+			User user = User.builder()
+				.publicId(IdGenerator.generatePublicId())
+				.name("bench")
+				.email("bench-" + System.nanoTime() + "@dockersim.com")
+				.createdAt(now)
+				.build();
+			em.persist(user);
+
+			Simulation simulation = Simulation.builder()
+				.publicId(IdGenerator.generatePublicId())
+				.title("bench")
+				.shareState(SimulationShareState.PRIVATE)
+				.owner(user)
+				.createdAt(now)
+				.updatedAt(now)
+				.build();
+			em.persist(simulation);
+
+			List<DockerImage> images = new ArrayList<>();
+			for (int i = 0; i < imageCount; i++) {
+				String hexId = IdGenerator.generateHexFullId();
+				DockerImage image = DockerImage.builder()
+					.hexId(hexId)
+					.shortHexId(IdGenerator.getShortId(hexId))
+					.namespace("library")
+					.name("image-" + i)
+					.tag("latest")
+					.location(ImageLocation.LOCAL)
+					.layers(List.of("sha256:" + hexId))
+					.createdAt(now)
+					.simulation(simulation)
+					.build();
+				em.persist(image);
+				images.add(image);
+			}
+
+			for (int i = 0; i < containerCount; i++) {
+				DockerContainer container = DockerContainer.from("container-" + i,
+					images.get(i % images.size()), simulation);
+				if (i % 2 == 0) {
+					container.start();
+				}
+				em.persist(container);
+				containerNames.add(container.getName());
+			}
+
+			principal = new SimulationUserPrincipal(user, simulation);
+		});
+		return this;
+	}
+
+	/**
+	 * 하나의 HTTP 요청처럼 요청 단위 EntityManager를 바인딩한 상태에서 실행한다.
+	 */
+	public <T> T inRequest(Supplier<T> action) {
+		EntityManager em = entityManagerFactory.createEntityManager();
+		TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(em));
+		try {
+			return action.get();
+		} finally {
+			TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+			em.close();
+		}
+	}
+
+	public SimulationUserPrincipal getPrincipal() {
+		return principal;
+	}
+
+	public List<String> getContainerNames() {
+		return containerNames;
+	}
+
+	public ConfigurableApplicationContext getContext() {
+		return context;
+	}
+
+	public <T> T getBean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	@Override
+	public void close() {
+		context.close();
+	}
+}
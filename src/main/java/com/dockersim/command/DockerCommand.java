@@ -3,6 +3,7 @@ package com.dockersim.command;
 
 import com.dockersim.command.aliases.container.*;
 import com.dockersim.command.aliases.image.*;
+import com.dockersim.command.subcommand.BuilderCommand;
 import com.dockersim.command.subcommand.ContainerCommand;
 import com.dockersim.command.subcommand.ImageCommand;
 import com.dockersim.command.subcommand.NetworkCommand;
@@ -19,6 +20,7 @@ import picocli.CommandLine;
                 ContainerCommand.class,
                 VolumeCommand.class,
                 NetworkCommand.class,
+                BuilderCommand.class,
 
                 // Image Aliases
                 Build.class,
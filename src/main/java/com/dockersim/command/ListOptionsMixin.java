@@ -0,0 +1,41 @@
+package com.dockersim.command;
+
+import com.dockersim.common.listing.ListOptions;
+import picocli.CommandLine;
+
+import java.util.List;
+
+/**
+ * 목록 명령(ps, image ls, volume ls, network ls)이 공통으로 받는 옵션.
+ */
+public class ListOptionsMixin {
+
+    @CommandLine.Option(names = {"-f", "--filter"}, description = "조건에 맞는 항목만 출력합니다. (예: status=running)")
+    private List<String> filters;
+
+    @CommandLine.Option(names = "--format", description = "출력 형식을 지정합니다. (예: 'table {{.ID}}\\t{{.Names}}')")
+    private String format;
+
+    @CommandLine.Option(names = "--limit", description = "최대 n개까지 출력합니다.")
+    private Integer limit;
+
+    @CommandLine.Option(names = "--after", description = "지정한 ID/이름 다음 항목부터 출력합니다.")
+    private String after;
+
+    public ListOptions toListOptions() {
+        return toListOptions(null);
+    }
+
+    /**
+     * @param last 최근에 생성된 순서로 출력할 개수 (docker ps -n / -l)
+     */
+    public ListOptions toListOptions(Integer last) {
+        return ListOptions.builder()
+                .filters(filters)
+                .format(format)
+                .limit(limit)
+                .after(after)
+                .last(last)
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.dockersim.command;
+
+/**
+ * 시뮬레이션 상태를 바꾸지 않는 조회 명령(ls, ps, inspect, history 등)에 붙이는 표시 인터페이스.
+ * <p>
+ * 표시가 없는 명령은 상태를 바꾸는 명령으로 보고, 같은 시뮬레이션 안에서 한 번에 하나씩 실행한다.
+ *
+ * @see com.dockersim.service.command.SimulationCommandLanes
+ */
+public interface ReadOnlyCommand {
+
+}
@@ -1,6 +1,9 @@
 package com.dockersim.command.aliases.container;
 
 import com.dockersim.command.DockerCommand;
+import com.dockersim.command.ListOptionsMixin;
+import com.dockersim.command.ReadOnlyCommand;
+import com.dockersim.common.listing.ListOptions;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.dto.response.CommandResultStatus;
 import com.dockersim.service.container.DockerContainerService;
@@ -12,7 +15,7 @@ import java.util.concurrent.Callable;
 
 @CommandLine.Command(name = "ps")
 @RequiredArgsConstructor
-public class Ps implements Callable<CommandResult> {
+public class Ps implements Callable<CommandResult>, ReadOnlyCommand {
 
     private final DockerContainerService service;
 
@@ -25,9 +28,19 @@ public class Ps implements Callable<CommandResult> {
     @CommandLine.Option(names = {"-q", "--quiet"}, description = "Container ID만 출력 여부")
     private boolean quiet = false;
 
+    @CommandLine.Option(names = {"-n", "--last"}, description = "최근에 생성된 Container n개를 출력 (모든 상태)")
+    private Integer last;
+
+    @CommandLine.Option(names = {"-l", "--latest"}, description = "최근에 생성된 Container 1개를 출력 (모든 상태)")
+    private boolean latest = false;
+
+    @CommandLine.Mixin
+    private ListOptionsMixin listOptions;
+
     @Override
     public CommandResult call() throws Exception {
-        List<String> console = service.ps(parent.getPrincipal(), all, quiet);
+        ListOptions options = listOptions.toListOptions(latest ? Integer.valueOf(1) : last);
+        List<String> console = service.ps(parent.getPrincipal(), all, quiet, options);
         return CommandResult.builder()
                 .console(console)
                 .status(CommandResultStatus.READ)
@@ -23,12 +23,15 @@ public class Build implements Callable<CommandResult> {
 	@CommandLine.Option(names = {"-t", "--tag"}, description = "생성되는 Image의 repo[:tag] 지정")
 	private String name;
 
+	@CommandLine.Option(names = "--no-cache", description = "이전 빌드의 단계를 재사용하지 않고 모두 다시 빌드")
+	private boolean noCache;
+
 	@CommandLine.Parameters(index = "0", description = "DockerFile 경로")
 	private String path;
 
 	@Override
 	public CommandResult call() throws Exception {
-		DockerImageResponse response = service.build(parent.getPrincipal(), path, name);
+		DockerImageResponse response = service.build(parent.getPrincipal(), path, name, noCache);
 		return CommandResult.builder()
 			.console(response.getConsole())
 			.status(CommandResultStatus.CREATE)
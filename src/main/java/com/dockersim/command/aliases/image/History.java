@@ -3,6 +3,7 @@ package com.dockersim.command.aliases.image;
 import java.util.concurrent.Callable;
 
 import com.dockersim.command.DockerCommand;
+import com.dockersim.command.ReadOnlyCommand;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.dto.response.CommandResultStatus;
 import com.dockersim.service.image.DockerImageService;
@@ -12,7 +13,7 @@ import picocli.CommandLine;
 
 @CommandLine.Command(name = "history")
 @RequiredArgsConstructor
-public class History implements Callable<CommandResult> {
+public class History implements Callable<CommandResult>, ReadOnlyCommand {
 
 	private final DockerImageService service;
 
@@ -1,6 +1,8 @@
 package com.dockersim.command.aliases.image;
 
 import com.dockersim.command.DockerCommand;
+import com.dockersim.command.ListOptionsMixin;
+import com.dockersim.command.ReadOnlyCommand;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.dto.response.CommandResultStatus;
 import com.dockersim.service.image.DockerImageService;
@@ -11,7 +13,7 @@ import java.util.concurrent.Callable;
 
 @CommandLine.Command(name = "images")
 @RequiredArgsConstructor
-public class Images implements Callable<CommandResult> {
+public class Images implements Callable<CommandResult>, ReadOnlyCommand {
 
     private final DockerImageService service;
 
@@ -24,10 +26,13 @@ public class Images implements Callable<CommandResult> {
     @CommandLine.Option(names = {"-q", "--quiet"}, description = "Hex ID만 출력합니다.")
     private boolean quiet;
 
+    @CommandLine.Mixin
+    private ListOptionsMixin listOptions;
+
     @Override
     public CommandResult call() throws Exception {
         return CommandResult.builder()
-                .console(service.ls(parent.getPrincipal(), all, quiet))
+                .console(service.ls(parent.getPrincipal(), all, quiet, listOptions.toListOptions()))
                 .status(CommandResultStatus.READ)
                 .build();
     }
@@ -0,0 +1,28 @@
+package com.dockersim.command.subcommand;
+
+import com.dockersim.command.DockerCommand;
+import com.dockersim.command.subcommand.builder.BuilderDu;
+import com.dockersim.command.subcommand.builder.BuilderPrune;
+import com.dockersim.config.SimulationUserPrincipal;
+
+import picocli.CommandLine.Command;
+import picocli.CommandLine.ParentCommand;
+
+@Command(
+	name = "builder",
+	aliases = "buildx",
+	description = "build cache command",
+	subcommands = {
+		BuilderDu.class,
+		BuilderPrune.class
+	}
+)
+public class BuilderCommand {
+
+	@ParentCommand
+	private DockerCommand parent;
+
+	public SimulationUserPrincipal getPrincipal() {
+		return parent.getPrincipal();
+	}
+}
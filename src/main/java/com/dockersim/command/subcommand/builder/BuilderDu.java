@@ -0,0 +1,30 @@
+package com.dockersim.command.subcommand.builder;
+
+import java.util.concurrent.Callable;
+
+import com.dockersim.command.ReadOnlyCommand;
+import com.dockersim.command.subcommand.BuilderCommand;
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.dto.response.CommandResultStatus;
+import com.dockersim.service.image.build.BuildCacheService;
+
+import lombok.RequiredArgsConstructor;
+import picocli.CommandLine;
+
+@CommandLine.Command(name = "du", description = "빌드 캐시 사용량을 조회합니다.")
+@RequiredArgsConstructor
+public class BuilderDu implements Callable<CommandResult>, ReadOnlyCommand {
+
+	private final BuildCacheService service;
+
+	@CommandLine.ParentCommand
+	private BuilderCommand parent;
+
+	@Override
+	public CommandResult call() throws Exception {
+		return CommandResult.builder()
+			.console(service.du(parent.getPrincipal()))
+			.status(CommandResultStatus.READ)
+			.build();
+	}
+}
@@ -0,0 +1,35 @@
+package com.dockersim.command.subcommand.builder;
+
+import java.util.concurrent.Callable;
+
+import com.dockersim.command.subcommand.BuilderCommand;
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.dto.response.CommandResultStatus;
+import com.dockersim.service.image.build.BuildCacheService;
+import com.dockersim.util.DisplayUnits;
+
+import lombok.RequiredArgsConstructor;
+import picocli.CommandLine;
+
+@CommandLine.Command(name = "prune", description = "빌드 캐시를 삭제합니다.")
+@RequiredArgsConstructor
+public class BuilderPrune implements Callable<CommandResult> {
+
+	private final BuildCacheService service;
+
+	@CommandLine.ParentCommand
+	private BuilderCommand parent;
+
+	@CommandLine.Option(names = "--keep-storage",
+		description = "남겨둘 캐시 크기(예: 512MB). 최근에 사용한 항목부터 남깁니다.")
+	private String keepStorage;
+
+	@Override
+	public CommandResult call() throws Exception {
+		long keep = keepStorage == null ? 0 : DisplayUnits.parseSize(keepStorage);
+		return CommandResult.builder()
+			.console(service.prune(parent.getPrincipal(), keep))
+			.status(CommandResultStatus.DELETE)
+			.build();
+	}
+}
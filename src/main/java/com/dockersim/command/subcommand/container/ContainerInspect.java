@@ -1,5 +1,6 @@
 package com.dockersim.command.subcommand.container;
 
+import com.dockersim.command.ReadOnlyCommand;
 import com.dockersim.command.subcommand.ContainerCommand;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.dto.response.CommandResultStatus;
@@ -12,7 +13,7 @@ import java.util.concurrent.Callable;
 
 @CommandLine.Command(name = "inspect")
 @RequiredArgsConstructor
-public class ContainerInspect implements Callable<CommandResult> {
+public class ContainerInspect implements Callable<CommandResult>, ReadOnlyCommand {
 
     private final DockerContainerService service;
 
@@ -2,6 +2,7 @@ package com.dockersim.command.subcommand.image;
 
 import java.util.concurrent.Callable;
 
+import com.dockersim.command.ReadOnlyCommand;
 import com.dockersim.command.subcommand.ImageCommand;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.dto.response.CommandResultStatus;
@@ -12,7 +13,7 @@ import picocli.CommandLine;
 
 @CommandLine.Command(name = "history")
 @RequiredArgsConstructor
-public class ImageHistory implements Callable<CommandResult> {
+public class ImageHistory implements Callable<CommandResult>, ReadOnlyCommand {
 
 	private final DockerImageService service;
 
@@ -2,6 +2,8 @@ package com.dockersim.command.subcommand.image;
 
 import java.util.concurrent.Callable;
 
+import com.dockersim.command.ListOptionsMixin;
+import com.dockersim.command.ReadOnlyCommand;
 import com.dockersim.command.subcommand.ImageCommand;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.dto.response.CommandResultStatus;
@@ -12,7 +14,7 @@ import picocli.CommandLine;
 
 @CommandLine.Command(name = "ls", aliases = "list")
 @RequiredArgsConstructor
-public class ImageLs implements Callable<CommandResult> {
+public class ImageLs implements Callable<CommandResult>, ReadOnlyCommand {
 
 	private final DockerImageService service;
 
@@ -25,10 +27,13 @@ public class ImageLs implements Callable<CommandResult> {
 	@CommandLine.Option(names = {"-q", "--quiet"}, description = "Hex ID만 출력합니다.")
 	private boolean quiet;
 
+	@CommandLine.Mixin
+	private ListOptionsMixin listOptions;
+
 	@Override
 	public CommandResult call() throws Exception {
 		return CommandResult.builder()
-			.console(service.ls(parent.getPrincipal(), all, quiet))
+			.console(service.ls(parent.getPrincipal(), all, quiet, listOptions.toListOptions()))
 			.status(CommandResultStatus.READ)
 			.build();
 	}
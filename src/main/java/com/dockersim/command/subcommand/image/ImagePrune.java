@@ -7,8 +7,9 @@ import java.util.stream.Stream;
 import com.dockersim.command.subcommand.ImageCommand;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.dto.response.CommandResultStatus;
-import com.dockersim.dto.response.DockerImageResponse;
+import com.dockersim.dto.response.ImagePruneResponse;
 import com.dockersim.service.image.DockerImageService;
+import com.dockersim.util.DisplayUnits;
 
 import lombok.RequiredArgsConstructor;
 import picocli.CommandLine;
@@ -22,25 +23,28 @@ public class ImagePrune implements Callable<CommandResult> {
 	@CommandLine.ParentCommand
 	private ImageCommand parent;
 
-	@CommandLine.Option(names = {"-a", "--all"}, description = "댕글링 이미지/참조 여부에 관계없이 삭제합니다.")
+	@CommandLine.Option(names = {"-a", "--all"}, description = "댕글링 이미지가 아니어도 컨테이너가 사용하지 않으면 삭제합니다.")
 	private boolean all;
 
 	@Override
 	public CommandResult call() throws Exception {
-		List<DockerImageResponse> prune = service.prune(parent.getPrincipal(), all);
-		if (prune == null) {
+		ImagePruneResponse prune = service.prune(parent.getPrincipal(), all);
+		if (prune.getImages().isEmpty()) {
 			return CommandResult.builder()
 				.console(List.of("삭제할 이미지가 없습니다."))
 				.status(CommandResultStatus.READ)
 				.build();
 		}
 		return CommandResult.builder()
-			.console(Stream.concat(Stream.of("Deleted Images:"),
-					prune.stream().flatMap(response -> response.getConsole().stream()))
+			.console(Stream.of(
+					Stream.of("Deleted Images:"),
+					prune.getImages().stream().flatMap(response -> response.getConsole().stream()),
+					Stream.of("", "Total reclaimed space: " + DisplayUnits.formatSize(prune.getReclaimedSpace())))
+				.flatMap(lines -> lines)
 				.toList()
 			)
 			.status(CommandResultStatus.DELETE)
-			.changedImages(prune)
+			.changedImages(prune.getImages())
 			.build();
 	}
 }
\ No newline at end of file
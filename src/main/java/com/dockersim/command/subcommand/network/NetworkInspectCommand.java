@@ -2,6 +2,7 @@ package com.dockersim.command.subcommand.network;
 
 import java.util.concurrent.Callable;
 
+import com.dockersim.command.ReadOnlyCommand;
 import com.dockersim.command.subcommand.NetworkCommand;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.dto.response.CommandResultStatus;
@@ -12,7 +13,7 @@ import picocli.CommandLine;
 
 @CommandLine.Command(name = "inspect")
 @RequiredArgsConstructor
-public class NetworkInspectCommand implements Callable<CommandResult> {
+public class NetworkInspectCommand implements Callable<CommandResult>, ReadOnlyCommand {
 
 	private final DockerNetworkService service;
 
@@ -2,6 +2,8 @@ package com.dockersim.command.subcommand.network;
 
 import java.util.concurrent.Callable;
 
+import com.dockersim.command.ListOptionsMixin;
+import com.dockersim.command.ReadOnlyCommand;
 import com.dockersim.command.subcommand.NetworkCommand;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.dto.response.CommandResultStatus;
@@ -12,7 +14,7 @@ import picocli.CommandLine;
 
 @CommandLine.Command(name = "ls", aliases = "list")
 @RequiredArgsConstructor
-public class NetworkLsCommand implements Callable<CommandResult> {
+public class NetworkLsCommand implements Callable<CommandResult>, ReadOnlyCommand {
 
 	private final DockerNetworkService service;
 
@@ -22,10 +24,13 @@ public class NetworkLsCommand implements Callable<CommandResult> {
 	@CommandLine.Option(names = {"-q", "--quiet"}, description = "네트워크 이름만 출력")
 	private boolean quiet;
 
+	@CommandLine.Mixin
+	private ListOptionsMixin listOptions;
+
 	@Override
 	public CommandResult call() throws Exception {
 		return CommandResult.builder()
-			.console(service.ls(parent.getPrincipal(), quiet))
+			.console(service.ls(parent.getPrincipal(), quiet, listOptions.toListOptions()))
 			.status(CommandResultStatus.READ)
 			.build();
 	}
@@ -2,6 +2,7 @@ package com.dockersim.command.subcommand.volume;
 
 import java.util.concurrent.Callable;
 
+import com.dockersim.command.ReadOnlyCommand;
 import com.dockersim.command.subcommand.VolumeCommand;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.dto.response.CommandResultStatus;
@@ -12,7 +13,7 @@ import picocli.CommandLine;
 
 @CommandLine.Command(name = "inspect")
 @RequiredArgsConstructor
-public class VolumeInspectCommand implements Callable<CommandResult> {
+public class VolumeInspectCommand implements Callable<CommandResult>, ReadOnlyCommand {
 
 	private final DockerVolumeService service;
 
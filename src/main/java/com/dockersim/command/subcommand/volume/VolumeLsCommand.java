@@ -2,6 +2,8 @@ package com.dockersim.command.subcommand.volume;
 
 import java.util.concurrent.Callable;
 
+import com.dockersim.command.ListOptionsMixin;
+import com.dockersim.command.ReadOnlyCommand;
 import com.dockersim.command.subcommand.VolumeCommand;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.dto.response.CommandResultStatus;
@@ -12,7 +14,7 @@ import picocli.CommandLine;
 
 @CommandLine.Command(name = "ls", aliases = "list")
 @RequiredArgsConstructor
-public class VolumeLsCommand implements Callable<CommandResult> {
+public class VolumeLsCommand implements Callable<CommandResult>, ReadOnlyCommand {
 
 	private final DockerVolumeService service;
 
@@ -22,10 +24,13 @@ public class VolumeLsCommand implements Callable<CommandResult> {
 	@CommandLine.Option(names = {"-q", "--quiet"}, description = "Docker Volume 이름만 출력")
 	private boolean quiet;
 
+	@CommandLine.Mixin
+	private ListOptionsMixin listOptions;
+
 	@Override
 	public CommandResult call() throws Exception {
 		return CommandResult.builder()
-			.console(service.ls(parent.getPrincipal(), quiet))
+			.console(service.ls(parent.getPrincipal(), quiet, listOptions.toListOptions()))
 			.status(CommandResultStatus.READ)
 			.build();
 	}
@@ -0,0 +1,78 @@
+package com.dockersim.common;
+
+import com.dockersim.dto.response.ContainerInspectData;
+import com.dockersim.dto.response.DockerContainerSimpleInspect;
+import com.dockersim.dto.response.DockerNetworkInspect;
+import com.dockersim.dto.response.ImageInspectData;
+import com.dockersim.dto.response.ImageInspectRootFSData;
+import com.dockersim.dto.response.VolumeInspectData;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerImageErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+/**
+ * {@code docker image/container/network/volume inspect} 출력을 만드는 공용 렌더러.
+ * <p>
+ * Spring이 구성한 {@link ObjectMapper}(JavaTimeModule 포함)에서 pretty printer를 적용한 {@link ObjectWriter}를 한 번만 만들어 공유한다.
+ * ObjectWriter는 불변이고 스레드 안전하며, 타입별 serializer는 생성 시점에 inspect DTO를 한 번씩 직렬화해 미리 캐시해 둔다.
+ * 결과는 docker CLI처럼 JSON 배열이며, 중간 List나 트리 모델 없이 각 항목을 generator로 바로 기록한다.
+ */
+@Slf4j
+@Component
+public class InspectRenderer {
+
+    private final ObjectWriter writer;
+
+    public InspectRenderer(ObjectMapper mapper) {
+        this.writer = mapper.writerWithDefaultPrettyPrinter();
+        warmUp();
+    }
+
+    /**
+     * inspect 대상 하나를 JSON 배열({@code [ {...} ]})로 직렬화한다.
+     *
+     * @return 콘솔에 출력할 한 줄(개행 포함 JSON 문자열)
+     */
+    public List<String> render(Object inspectData) {
+        return renderAll(List.of(inspectData));
+    }
+
+    /**
+     * inspect 대상 여러 개를 하나의 JSON 배열로 직렬화한다.
+     */
+    public List<String> renderAll(Iterable<?> inspectData) {
+        StringWriter out = new StringWriter(512);
+        try (SequenceWriter sequence = writer.writeValuesAsArray(out)) {
+            for (Object data : inspectData) {
+                sequence.write(data);
+            }
+        } catch (IOException e) {
+            log.error("inspect 결과 직렬화 실패", e);
+            throw new BusinessException(DockerImageErrorCode.FAIL_CONVERT_INSPECT);
+        }
+        return List.of(out.toString());
+    }
+
+    /*
+    첫 inspect 요청이 serializer 구성 비용을 떠안지 않도록 inspect DTO의 serializer를 미리 만들어 둔다.
+     */
+    private void warmUp() {
+        render(ImageInspectData.builder()
+                .RepoTags(List.of())
+                .RootFS(ImageInspectRootFSData.builder().Layers(List.of()).build())
+                .build());
+        render(ContainerInspectData.builder().build());
+        render(DockerNetworkInspect.builder()
+                .containers(List.of(new DockerContainerSimpleInspect("", "")))
+                .build());
+        render(VolumeInspectData.builder().build());
+    }
+}
@@ -0,0 +1,30 @@
+package com.dockersim.common;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * 미리 직렬화해 둔 JSON 응답 본문과 그 ETag.
+ * 본문 배열은 공유되므로 읽기 전용으로만 사용해야 한다.
+ */
+public final class RenderedJson {
+
+    private final byte[] body;
+    private final String etag;
+
+    private RenderedJson(byte[] body) {
+        this.body = body;
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    public static RenderedJson of(byte[] body) {
+        return new RenderedJson(body);
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
@@ -0,0 +1,88 @@
+package com.dockersim.common.listing;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 목록 명령의 {@code --filter key=value} 조건.
+ * <p>
+ * Docker와 같이 같은 키의 값끼리는 OR, 서로 다른 키끼리는 AND로 해석한다.
+ * 허용되지 않은 키나 {@code key=value} 형식이 아닌 값은 쿼리를 만들기 전에 거부한다.
+ */
+public final class ListFilter {
+
+    private static final ListFilter EMPTY = new ListFilter(Map.of());
+
+    private final Map<String, List<String>> conditions;
+
+    private ListFilter(Map<String, List<String>> conditions) {
+        this.conditions = conditions;
+    }
+
+    public static ListFilter empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param raw         {@code --filter}로 받은 값 목록 (null이면 조건 없음)
+     * @param allowedKeys 해당 목록 명령에서 지원하는 필터 키
+     */
+    public static ListFilter parse(List<String> raw, Set<String> allowedKeys) {
+        if (raw == null || raw.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, List<String>> conditions = new LinkedHashMap<>();
+        for (String entry : raw) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                throw new BusinessException(DockerCommandErrorCode.INVALID_LIST_FILTER, entry);
+            }
+            String key = entry.substring(0, separator).trim().toLowerCase();
+            if (!allowedKeys.contains(key)) {
+                throw new BusinessException(DockerCommandErrorCode.INVALID_LIST_FILTER, entry);
+            }
+            conditions.computeIfAbsent(key, k -> new ArrayList<>()).add(entry.substring(separator + 1).trim());
+        }
+        return new ListFilter(Collections.unmodifiableMap(conditions));
+    }
+
+    public boolean isEmpty() {
+        return conditions.isEmpty();
+    }
+
+    public boolean has(String key) {
+        return conditions.containsKey(key);
+    }
+
+    public List<String> values(String key) {
+        return conditions.getOrDefault(key, List.of());
+    }
+
+    /**
+     * {@code dangling=true}처럼 참/거짓 값을 받는 키를 해석한다. 서로 다른 값이 함께 주어지면 거부한다.
+     *
+     * @return 키가 없으면 null
+     */
+    public Boolean booleanValue(String key) {
+        Boolean result = null;
+        for (String value : values(key)) {
+            boolean parsed = switch (value.toLowerCase()) {
+                case "true", "1" -> true;
+                case "false", "0" -> false;
+                default -> throw new BusinessException(DockerCommandErrorCode.INVALID_LIST_FILTER, key + "=" + value);
+            };
+            if (result != null && result != parsed) {
+                throw new BusinessException(DockerCommandErrorCode.INVALID_LIST_FILTER, key + "=" + value);
+            }
+            result = parsed;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,158 @@
+package com.dockersim.common.listing;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 목록 명령의 {@code --format} 템플릿.
+ * <p>
+ * Go 템플릿 중 {@code {{.Field}}} 치환만 지원한다. 템플릿은 명령마다 한 번만 해석하고, 행마다 조각을 이어 붙인다.
+ * {@code table}로 시작하면 헤더 줄을 함께 출력하고 탭으로 구분된 열을 Docker의 tabwriter와 같은 규칙
+ * (최소 폭 10, 여백 3)으로 정렬한다.
+ *
+ * @param <T> 목록 행 타입
+ */
+public final class ListFormat<T> {
+
+    private static final String TABLE_PREFIX = "table";
+    private static final int MIN_CELL_WIDTH = 10;
+    private static final int CELL_PADDING = 3;
+
+    private final boolean table;
+    private final List<Segment<T>> segments;
+
+    private ListFormat(boolean table, List<Segment<T>> segments) {
+        this.table = table;
+        this.segments = segments;
+    }
+
+    /**
+     * @param template {@code --format} 값
+     * @param columns  템플릿에서 사용할 수 있는 필드 (예: {@code ID -> CONTAINER ID, row::shortHexId})
+     * @return 템플릿이 비어 있거나 {@code table}만 지정되었으면 null (기본 표 형식 사용)
+     */
+    public static <T> ListFormat<T> parse(String template, Map<String, Column<T>> columns) {
+        if (template == null || template.isBlank()) {
+            return null;
+        }
+        String body = template.replace("\\t", "\t");
+        boolean table = body.startsWith(TABLE_PREFIX);
+        if (table) {
+            body = body.substring(TABLE_PREFIX.length()).stripLeading();
+            if (body.isEmpty()) {
+                return null;
+            }
+        }
+
+        List<Segment<T>> segments = new ArrayList<>();
+        int position = 0;
+        while (position < body.length()) {
+            int open = body.indexOf("{{", position);
+            if (open < 0) {
+                segments.add(Segment.literal(body.substring(position)));
+                break;
+            }
+            int close = body.indexOf("}}", open);
+            if (close < 0) {
+                throw new BusinessException(DockerCommandErrorCode.INVALID_LIST_FORMAT, template);
+            }
+            if (open > position) {
+                segments.add(Segment.literal(body.substring(position, open)));
+            }
+            String field = body.substring(open + 2, close).trim();
+            Column<T> column = field.startsWith(".") ? columns.get(field.substring(1)) : null;
+            if (column == null) {
+                throw new BusinessException(DockerCommandErrorCode.INVALID_LIST_FORMAT, template);
+            }
+            segments.add(Segment.field(column));
+            position = close + 2;
+        }
+        return new ListFormat<>(table, List.copyOf(segments));
+    }
+
+    public List<String> render(List<T> rows) {
+        List<String> lines = new ArrayList<>(rows.size() + 1);
+        if (table) {
+            StringBuilder header = new StringBuilder();
+            segments.forEach(segment -> header.append(segment.header()));
+            lines.add(header.toString());
+        }
+        StringBuilder line = new StringBuilder();
+        for (T row : rows) {
+            segments.forEach(segment -> line.append(segment.value(row)));
+            lines.add(line.toString());
+            line.setLength(0);
+        }
+        return table ? align(lines) : lines;
+    }
+
+    /*
+    탭으로 구분된 열을 정렬한다. 마지막 탭 뒤의 값은 열로 보지 않으므로 채우지 않는다.
+     */
+    private static List<String> align(List<String> lines) {
+        List<String[]> cells = new ArrayList<>(lines.size());
+        List<Integer> widths = new ArrayList<>();
+        for (String line : lines) {
+            String[] split = line.split("\t", -1);
+            cells.add(split);
+            for (int i = 0; i < split.length - 1; i++) {
+                int width = Math.max(MIN_CELL_WIDTH, split[i].length() + CELL_PADDING);
+                if (i == widths.size()) {
+                    widths.add(width);
+                } else if (widths.get(i) < width) {
+                    widths.set(i, width);
+                }
+            }
+        }
+        if (widths.isEmpty()) {
+            return lines;
+        }
+
+        List<String> aligned = new ArrayList<>(lines.size());
+        StringBuilder line = new StringBuilder();
+        for (String[] split : cells) {
+            for (int i = 0; i < split.length - 1; i++) {
+                line.append(split[i]);
+                line.append(" ".repeat(widths.get(i) - split[i].length()));
+            }
+            line.append(split[split.length - 1]);
+            aligned.add(line.toString());
+            line.setLength(0);
+        }
+        return aligned;
+    }
+
+    /**
+     * 템플릿에서 사용할 수 있는 필드
+     *
+     * @param header {@code table} 형식에서 출력할 헤더
+     * @param value  행에서 값을 꺼내는 함수
+     */
+    public record Column<T>(String header, Function<T, ?> value) {
+
+    }
+
+    private record Segment<T>(String literal, Column<T> column) {
+
+        static <T> Segment<T> literal(String text) {
+            return new Segment<>(text, null);
+        }
+
+        static <T> Segment<T> field(Column<T> column) {
+            return new Segment<>(null, column);
+        }
+
+        String header() {
+            return column == null ? literal : column.header();
+        }
+
+        String value(T row) {
+            return column == null ? literal : String.valueOf(column.value().apply(row));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.dockersim.common.listing;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 목록 명령(ps, image ls, volume ls, network ls)에 공통으로 전달되는 옵션.
+ * 필터 키와 출력 필드는 명령마다 다르므로 값은 그대로 전달하고, 각 서비스에서 해석한다.
+ */
+@Getter
+@Builder
+public class ListOptions {
+
+    private static final ListOptions DEFAULTS = ListOptions.builder().build();
+
+    /**
+     * {@code --filter key=value} 목록
+     */
+    private final List<String> filters;
+
+    /**
+     * {@code --format} 템플릿
+     */
+    private final String format;
+
+    /**
+     * {@code --limit}: 한 번에 출력할 최대 행 수
+     */
+    private final Integer limit;
+
+    /**
+     * {@code --after}: 이전 페이지 마지막 행의 ID 또는 이름
+     */
+    private final String after;
+
+    /**
+     * {@code -n/--last}, {@code -l/--latest}: 최근에 생성된 순서로 n개만 출력 (docker ps 전용)
+     */
+    private final Integer last;
+
+    public static ListOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * 모든 상태를 조회해야 하는 옵션인지 여부. Docker와 같이 {@code -n}은 {@code -a}를 함께 지정한 것으로 본다.
+     */
+    public boolean impliesAll() {
+        return last != null;
+    }
+
+    public ListPage toPage() {
+        requirePositive(limit);
+        requirePositive(last);
+        if (last != null) {
+            return new ListPage(last, after, true);
+        }
+        if (limit == null && after == null) {
+            return ListPage.unbounded();
+        }
+        return new ListPage(limit, after, false);
+    }
+
+    private static void requirePositive(Integer count) {
+        if (count != null && count < 1) {
+            throw new BusinessException(DockerCommandErrorCode.INVALID_LIST_PAGE, count);
+        }
+    }
+}
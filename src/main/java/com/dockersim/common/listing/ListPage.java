@@ -0,0 +1,24 @@
+package com.dockersim.common.listing;
+
+/**
+ * 목록 명령의 keyset 페이지 조건.
+ * <p>
+ * 행은 생성 순서(PK)로 정렬되며, {@code after}로 받은 식별자(ID/이름)에 해당하는 행의 PK를 기준으로
+ * 그 다음 행부터 {@code limit}개만 조회한다. OFFSET을 쓰지 않으므로 뒤 페이지로 갈수록 느려지지 않는다.
+ *
+ * @param limit       최대 행 수 (null이면 제한 없음)
+ * @param after       이전 페이지 마지막 행의 식별자 (null이면 처음부터)
+ * @param latestFirst 최근에 생성된 순서로 조회할지 여부 (docker ps -n / -l)
+ */
+public record ListPage(Integer limit, String after, boolean latestFirst) {
+
+    private static final ListPage UNBOUNDED = new ListPage(null, null, false);
+
+    public static ListPage unbounded() {
+        return UNBOUNDED;
+    }
+
+    public boolean isUnbounded() {
+        return limit == null && after == null && !latestFirst;
+    }
+}
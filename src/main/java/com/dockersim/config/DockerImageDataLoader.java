@@ -3,14 +3,17 @@ package com.dockersim.config;
 import com.dockersim.service.image.DockerOfficeImageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
+/**
+ * 시작 시 공식 이미지 카탈로그를 적재한다.
+ * 스키마를 새로 만드는 경우(ddl-auto=create) 외에도, 적재가 멱등이므로 {@code dockersim.catalog.load-on-startup=true}로
+ * 기존 DB에 바뀐 항목만 반영할 수 있다.
+ */
 @Component
-@ConditionalOnProperty(
-        name = "spring.jpa.hibernate.ddl-auto",
-        havingValue = "create",
-        matchIfMissing = false
+@ConditionalOnExpression(
+        "'${spring.jpa.hibernate.ddl-auto:}' == 'create' or ${dockersim.catalog.load-on-startup:false}"
 )
 @RequiredArgsConstructor
 public class DockerImageDataLoader implements CommandLineRunner {
@@ -0,0 +1,43 @@
+package com.dockersim.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 낙관적 락 버전 열({@code version})이 추가되기 전에 만들어진 컨테이너/이미지/네트워크/볼륨 행의 버전을 0으로 채운다.
+ * <p>
+ * {@code ddl-auto=update}로 열을 추가하면 기존 행은 NULL이 되고, Hibernate는 버전이 NULL인 행을 버전 없는 행으로 보고
+ * 버전 검사 없이 덮어쓰거나 갱신에 실패한다. 시작할 때(웹 서버가 요청을 받기 전) NULL인 행만 갱신하므로 여러 번 실행해도 안전하다.
+ * 새로 만든 스키마는 열이 NOT NULL이므로 갱신할 행이 없다.
+ */
+@Slf4j
+@Component
+public class EntityVersionMigration {
+
+    static final List<String> VERSIONED_TABLES = List.of(
+            "docker_containers", "docker_images", "docker_networks", "docker_volumes");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param entityManagerFactory 스키마(ddl-auto)가 먼저 갱신되도록 의존한다
+     */
+    public EntityVersionMigration(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        for (String table : VERSIONED_TABLES) {
+            int updated = jdbcTemplate.update("UPDATE " + table + " SET version = 0 WHERE version IS NULL");
+            if (updated > 0) {
+                log.info("Initialized version of {} rows in {}", updated, table);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.dockersim.config;
+
+import com.dockersim.service.image.layer.DockerLayerStore;
+import com.dockersim.util.LongListConverter;
+import com.dockersim.util.StringListConverter;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이미지 레이어를 이미지 행마다 텍스트로 저장하던 예전 스키마({@code docker_images.layers})의 데이터를
+ * 레이어 테이블({@code docker_layers})과 {@code docker_images.layer_ids}로 옮긴다.
+ * <p>
+ * {@code ddl-auto=update}는 예전 열을 지우지 않으므로, 그 열이 남아 있으면 시작할 때(웹 서버가 요청을 받기 전) 아직 옮기지 않은 행을
+ * {@value #BATCH_SIZE}건씩 {@link DockerLayerStore#acquireAll}로 저장하고 예전 열을 비운다. 행마다 예전 열을 비우므로 여러 번 실행해도 안전하다.
+ * 옮긴 뒤에도 남은 행이 있으면 레이어가 빈 이미지로 조회되지 않도록 시작을 중단한다.
+ * 새로 만든 스키마에는 예전 열이 없으므로 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class LegacyImageLayerMigration {
+
+    static final String LEGACY_COLUMN = "layers";
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_LEGACY = """
+            SELECT id, layers FROM docker_images
+            WHERE layers IS NOT NULL AND layer_ids IS NULL AND id > ?
+            ORDER BY id LIMIT ?""";
+    private static final String UPDATE_LAYER_IDS = "UPDATE docker_images SET layer_ids = ?, layers = NULL WHERE id = ?";
+    private static final String COUNT_LEGACY = """
+            SELECT COUNT(*) FROM docker_images WHERE layers IS NOT NULL AND layer_ids IS NULL""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DockerLayerStore layerStore;
+    private final TransactionTemplate transactionTemplate;
+    private final StringListConverter layersConverter = new StringListConverter();
+    private final LongListConverter layerIdsConverter = new LongListConverter();
+
+    /**
+     * @param entityManagerFactory 스키마(ddl-auto)가 먼저 갱신되도록 의존한다
+     */
+    public LegacyImageLayerMigration(
+            JdbcTemplate jdbcTemplate,
+            DockerLayerStore layerStore,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.layerStore = layerStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (!hasLegacyColumn()) {
+            return;
+        }
+
+        long migrated = 0;
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Object[]> rows = jdbcTemplate.query(SELECT_LEGACY,
+                    (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getString("layers")}, afterId, BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> migrate(rows));
+            migrated += rows.size();
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        Long remaining = jdbcTemplate.queryForObject(COUNT_LEGACY, Long.class);
+        if (remaining != null && remaining > 0) {
+            throw new IllegalStateException("docker_images." + LEGACY_COLUMN + "에서 레이어를 옮기지 못한 이미지가 "
+                    + remaining + "건 있습니다. layer_ids를 채운 뒤 다시 시작하세요.");
+        }
+        if (migrated > 0) {
+            log.info("Migrated layers of {} images from docker_images.{} to docker_layers", migrated, LEGACY_COLUMN);
+        }
+    }
+
+    private void migrate(List<Object[]> rows) {
+        List<List<String>> layers = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            layers.add(layersConverter.convertToEntityAttribute((String) row[1]));
+        }
+        List<List<Long>> layerIds = layerStore.acquireAll(layers);
+
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            List<Long> ids = layerIds.get(i);
+            // 빈 레이어 목록은 layer_ids도 비워 두고 예전 열만 지운다.
+            updates.add(new Object[]{ids.isEmpty() ? null : layerIdsConverter.convertToDatabaseColumn(ids), rows.get(i)[0]});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_LAYER_IDS, updates);
+    }
+
+    private boolean hasLegacyColumn() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // 식별자를 대문자로 저장하는 DB(H2)와 소문자로 저장하는 DB(MySQL)를 모두 확인한다.
+            for (String table : List.of("docker_images", "DOCKER_IMAGES")) {
+                try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, null)) {
+                    while (columns.next()) {
+                        if (LEGACY_COLUMN.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
@@ -1,12 +1,7 @@
 package com.dockersim.config;
 
+import com.dockersim.config.auth.SimulationAccessResolver;
 import com.dockersim.config.auth.SimulationAuthenticationToken;
-import com.dockersim.domain.Simulation;
-import com.dockersim.domain.SimulationShareState;
-import com.dockersim.domain.User;
-import com.dockersim.repository.SimulationCollaboratorRepository;
-import com.dockersim.service.simulation.SimulationFinder;
-import com.dockersim.service.user.UserFinder;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,9 +22,7 @@ import java.nio.file.AccessDeniedException;
 @RequiredArgsConstructor
 public class SimulationAuthorizationFilter extends OncePerRequestFilter {
 
-    private final UserFinder userFinder;
-    private final SimulationFinder simulationFinder;
-    private final SimulationCollaboratorRepository collaboratorRepository;
+    private final SimulationAccessResolver simulationAccessResolver;
     private final AntPathRequestMatcher requestMatcher = new AntPathRequestMatcher(
             "/api/simulations/{simulationPublicId}/**");
 
@@ -58,46 +51,17 @@ public class SimulationAuthorizationFilter extends OncePerRequestFilter {
 
         System.out.println(userPublicId);
 
-        User user = userFinder.findUserByPublicId(userPublicId);
-        Simulation simulation = simulationFinder.findByPublicId(simulationPublicId);
-
-        if (!hasPermission(request, user, simulation)) {
-            throw new AccessDeniedException("이 시뮬레이션에 접근할 권한이 없습니다.");
-        }
+        SimulationUserPrincipal principal = simulationAccessResolver.resolve(
+                userPublicId, simulationPublicId, isReadOperation(request))
+                .orElseThrow(() -> new AccessDeniedException("이 시뮬레이션에 접근할 권한이 없습니다."));
 
         // 시뮬레이션 정보가 담긴 새로운 인증정보를 컨택스트에 저장해야함
-        SecurityContextHolder.getContext().setAuthentication(
-                new SimulationAuthenticationToken(new SimulationUserPrincipal(user, simulation))
-        );
+        SecurityContextHolder.getContext().setAuthentication(new SimulationAuthenticationToken(principal));
 
         filterChain.doFilter(request, response);
     }
 
 
-    private boolean hasPermission(HttpServletRequest request, User user, Simulation simulation) {
-        // 1. 소유자는 모든 권한 허용
-        if (simulation.getOwner().getId().equals(user.getId())) {
-            return true;
-        }
-
-        // 2. PRIVATE는 소유자만 접근 가능
-        SimulationShareState shareState = simulation.getShareState();
-        if (shareState == SimulationShareState.PRIVATE) {
-            return false;
-        }
-
-        // 3. READ이면 누구든 읽기 요청만 가능
-        if (shareState == SimulationShareState.READ) {
-            return isReadOperation(request);
-        }
-
-        // 4. WRITE이고, 협업자면 접근 가능
-        if (shareState == SimulationShareState.WRITE) {
-            return collaboratorRepository.existsBySimulationAndUser(simulation, user);
-        }
-        return false;
-    }
-
     private boolean isReadOperation(HttpServletRequest request) {
         return HttpMethod.GET.name().equalsIgnoreCase(request.getMethod());
     }
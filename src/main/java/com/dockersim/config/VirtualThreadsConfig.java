@@ -0,0 +1,29 @@
+package com.dockersim.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 실행 모드({@code spring.threads.virtual.enabled=true})를 켰을 때 실행 중인 JVM이 지원하는지 확인한다.
+ * <p>
+ * Spring Boot는 Java 21 미만에서 이 설정을 조용히 무시하므로, 켠 줄 알고 플랫폼 스레드로 운영하는 일이 없도록
+ * Java 21 미만이면 시작을 중단한다. 가상 스레드로 실행하려면 {@code -PjavaVersion=21}로 빌드하고 Java 21 이상에서 실행한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    static final int MIN_JAVA_VERSION = 21;
+
+    public VirtualThreadsConfig() {
+        this(Runtime.version().feature());
+    }
+
+    VirtualThreadsConfig(int javaVersion) {
+        if (javaVersion < MIN_JAVA_VERSION) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true는 Java " + MIN_JAVA_VERSION
+                    + " 이상에서만 동작합니다. 현재 Java " + javaVersion + "입니다. "
+                    + "DOCKERSIM_VIRTUAL_THREADS를 끄거나 -PjavaVersion=" + MIN_JAVA_VERSION + "로 빌드해 실행하세요.");
+        }
+    }
+}
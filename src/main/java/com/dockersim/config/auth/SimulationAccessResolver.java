@@ -0,0 +1,145 @@
+package com.dockersim.config.auth;
+
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+import com.dockersim.repository.SimulationCollaboratorRepository;
+import com.dockersim.service.simulation.SimulationFinder;
+import com.dockersim.service.user.UserFinder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자가 시뮬레이션에 접근할 수 있는지 판단하고, 접근 가능하면 시뮬레이션 인증 정보를 만든다.
+ * HTTP 요청({@code SimulationAuthorizationFilter})과 STOMP 메시지({@code SimulationChannelInterceptor})가 같은 규칙을 사용한다.
+ * <p>
+ * 판단 결과는 (사용자, 시뮬레이션) 단위로 캐시하므로 같은 사용자의 반복 요청은 DB를 조회하지 않는다.
+ * 공유 상태나 협업자가 바뀌면 {@link #evict(String)}로 해당 시뮬레이션의 항목을 지워야 하며,
+ * 그 외의 변경(사용자 삭제 등)은 TTL({@code dockersim.auth.access-cache.ttl-ms}) 이후 반영된다.
+ * 캐시 적중/미스는 {@code cache.gets{cache=simulationAccess}} 지표로 확인할 수 있다.
+ */
+@Component
+public class SimulationAccessResolver {
+
+    private static final String CACHE_NAME = "simulationAccess";
+
+    private final UserFinder userFinder;
+    private final SimulationFinder simulationFinder;
+    private final SimulationCollaboratorRepository collaboratorRepository;
+    private final Cache<AccessKey, SimulationAccess> accessCache;
+
+    public SimulationAccessResolver(
+        UserFinder userFinder,
+        SimulationFinder simulationFinder,
+        SimulationCollaboratorRepository collaboratorRepository,
+        MeterRegistry meterRegistry,
+        @Value("${dockersim.auth.access-cache.maximum-size:10000}") long maximumSize,
+        @Value("${dockersim.auth.access-cache.ttl-ms:60000}") long ttlMillis
+    ) {
+        this.userFinder = userFinder;
+        this.simulationFinder = simulationFinder;
+        this.collaboratorRepository = collaboratorRepository;
+        this.accessCache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .recordStats()
+            .build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, accessCache, CACHE_NAME);
+        }
+    }
+
+    /**
+     * @param userPublicId       요청한 사용자 ID
+     * @param simulationPublicId 접근하려는 시뮬레이션 ID
+     * @param readOperation      상태를 바꾸지 않는 요청인지 여부 (HTTP GET, STOMP SUBSCRIBE)
+     * @return 접근 권한이 없으면 empty
+     */
+    public Optional<SimulationUserPrincipal> resolve(String userPublicId, String simulationPublicId,
+        boolean readOperation) {
+        SimulationAccess access = accessCache.get(new AccessKey(userPublicId, simulationPublicId),
+            key -> load(key.userPublicId(), key.simulationPublicId()));
+
+        if (!access.permission().allows(readOperation)) {
+            return Optional.empty();
+        }
+        return Optional.of(access.principal());
+    }
+
+    /**
+     * 시뮬레이션의 공유 상태/협업자/소유 여부가 바뀌었을 때 해당 시뮬레이션에 대한 캐시를 지운다.
+     * 트랜잭션 안에서 호출되면, 커밋 전에 다른 요청이 이전 상태를 다시 캐시하는 경우를 막기 위해 커밋 이후에도 한 번 더 지운다.
+     */
+    public void evict(String simulationPublicId) {
+        evictNow(simulationPublicId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(simulationPublicId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(String simulationPublicId) {
+        accessCache.asMap().keySet().removeIf(key -> key.simulationPublicId().equals(simulationPublicId));
+    }
+
+    private SimulationAccess load(String userPublicId, String simulationPublicId) {
+        User user = userFinder.findUserByPublicId(userPublicId);
+        Simulation simulation = simulationFinder.findByPublicId(simulationPublicId);
+        return new SimulationAccess(new SimulationUserPrincipal(user, simulation), permissionOf(user, simulation));
+    }
+
+    private Permission permissionOf(User user, Simulation simulation) {
+        // 1. 소유자는 모든 권한 허용
+        if (simulation.getOwner().getId().equals(user.getId())) {
+            return Permission.WRITE;
+        }
+
+        // 2. PRIVATE는 소유자만 접근 가능
+        SimulationShareState shareState = simulation.getShareState();
+        if (shareState == SimulationShareState.PRIVATE) {
+            return Permission.NONE;
+        }
+
+        // 3. READ이면 누구든 읽기 요청만 가능
+        if (shareState == SimulationShareState.READ) {
+            return Permission.READ;
+        }
+
+        // 4. WRITE이고, 협업자면 접근 가능
+        if (shareState == SimulationShareState.WRITE
+            && collaboratorRepository.existsBySimulationAndUser(simulation, user)) {
+            return Permission.WRITE;
+        }
+        return Permission.NONE;
+    }
+
+    private enum Permission {
+        NONE,
+        READ,
+        WRITE;
+
+        boolean allows(boolean readOperation) {
+            return this == WRITE || (this == READ && readOperation);
+        }
+    }
+
+    private record AccessKey(String userPublicId, String simulationPublicId) {
+    }
+
+    private record SimulationAccess(SimulationUserPrincipal principal, Permission permission) {
+    }
+}
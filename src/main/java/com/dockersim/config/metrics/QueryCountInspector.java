@@ -0,0 +1,63 @@
+package com.dockersim.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 수를 스레드별로 센다.
+ * <p>
+ * SQL을 바꾸지 않고 카운터만 올리며, 값은 누적되므로 측정하는 쪽에서 시작/종료 시점의 차이로 계산한다.
+ * 같은 스레드에서 명령이 중첩(배치 실행)되어도 각자의 구간만 계산된다.
+ * SQL 문장별 반복 횟수가 필요하면 {@link #openScope()}로 구간을 연다.
+ * JdbcTemplate으로 직접 실행하는 SQL(카탈로그 적재, hot simulation flush)은 포함되지 않는다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<QueryScope> SCOPE = new ThreadLocal<>();
+
+    /**
+     * 현재 스레드에서 지금까지 실행된 SQL 수
+     */
+    public static long currentCount() {
+        return COUNT.get()[0];
+    }
+
+    /**
+     * 현재 스레드에서 SQL을 모으는 구간을 연다. 반드시 같은 스레드에서 닫아야 한다.
+     */
+    public static QueryScope openScope() {
+        QueryScope scope = new QueryScope(SCOPE.get(), SCOPE.get());
+        SCOPE.set(scope);
+        return scope;
+    }
+
+    /**
+     * 바깥 구간에 기록하지 않는 구간을 연다. 명령에 딸린 부수 작업(명령 기록 등)의 SQL을 명령의 SQL 수에서 뺄 때 사용한다.
+     */
+    public static QueryScope openDetachedScope() {
+        QueryScope scope = new QueryScope(null, SCOPE.get());
+        SCOPE.set(scope);
+        return scope;
+    }
+
+    static void closeScope(QueryScope scope) {
+        if (SCOPE.get() != scope) {
+            throw new IllegalStateException("QueryScope는 연 순서의 역순으로 같은 스레드에서 닫아야 합니다.");
+        }
+        if (scope.getPrevious() == null) {
+            SCOPE.remove();
+        } else {
+            SCOPE.set(scope.getPrevious());
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        QueryScope scope = SCOPE.get();
+        if (scope != null) {
+            scope.record(sql);
+        }
+        return sql;
+    }
+}
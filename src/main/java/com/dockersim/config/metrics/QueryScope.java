@@ -0,0 +1,65 @@
+package com.dockersim.config.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 한 구간(명령 하나) 동안 현재 스레드에서 실행된 Hibernate SQL을 모은다.
+ * <p>
+ * {@link QueryCountInspector#openScope()}로 열고 try-with-resources로 닫는다.
+ * 구간은 중첩될 수 있으며, 안쪽 구간의 SQL은 바깥 구간에도 함께 기록된다.
+ * ({@link QueryCountInspector#openDetachedScope()}로 연 구간은 예외)
+ * 같은 SQL 문자열(바인딩 파라미터는 {@code ?})이 반복되는 횟수를 함께 세어 N+1 조회를 찾는 데 사용한다.
+ */
+public final class QueryScope implements AutoCloseable {
+
+    private final QueryScope parent;
+    /**
+     * 닫을 때 되돌릴 구간. 분리된 구간이면 parent는 없지만 previous는 있다.
+     */
+    private final QueryScope previous;
+    private final Map<String, Integer> statements = new HashMap<>();
+    private int count;
+    private boolean closed;
+
+    QueryScope(QueryScope parent, QueryScope previous) {
+        this.parent = parent;
+        this.previous = previous;
+    }
+
+    void record(String sql) {
+        for (QueryScope scope = this; scope != null; scope = scope.parent) {
+            scope.count++;
+            scope.statements.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    QueryScope getPrevious() {
+        return previous;
+    }
+
+    /**
+     * 지금까지 실행된 SQL 수
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL과 그 횟수. {@code threshold}번 미만이면 비어 있다.
+     */
+    public Optional<Map.Entry<String, Integer>> mostRepeated(int threshold) {
+        return statements.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .max(Map.Entry.comparingByValue());
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            QueryCountInspector.closeScope(this);
+        }
+    }
+}
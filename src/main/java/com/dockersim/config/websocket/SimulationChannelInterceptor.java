@@ -0,0 +1,87 @@
+package com.dockersim.config.websocket;
+
+import com.dockersim.config.auth.SimulationAccessResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 시뮬레이션 관련 STOMP 목적지에 대한 인가를 처리한다.
+ * <p>
+ * 구독(SUBSCRIBE)은 읽기 권한, 명령 전송(SEND)은 쓰기 권한을 요구하며 HTTP 요청과 같은 규칙({@link SimulationAccessResolver})을 사용한다.
+ * 공유 상태나 협업자 변경이 바로 반영되도록 메시지마다 다시 판단한다(판단 결과의 캐시는 resolver가 관리한다).
+ * <p>
+ * 허용하는 목적지는 아래 형태뿐이며, 그 외의 목적지나 와일드카드({@code *}, {@code ?}, <code>{</code>)가 포함된 목적지는 거부한다.
+ * <ul>
+ *     <li>SUBSCRIBE: {@code /topic/simulations/{simulationPublicId}/events},
+ *     {@code /user/queue/simulations/{simulationPublicId}/console}</li>
+ *     <li>SEND: {@code /app/simulations/{simulationPublicId}/command}</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class SimulationChannelInterceptor implements ChannelInterceptor {
+
+    private static final Pattern EVENT_DESTINATION = Pattern.compile("^/topic/simulations/([^/]+)/events$");
+    private static final Pattern CONSOLE_DESTINATION = Pattern.compile("^/user/queue/simulations/([^/]+)/console$");
+    private static final Pattern COMMAND_DESTINATION = Pattern.compile("^/app/simulations/([^/]+)/command$");
+
+    private static final Pattern WILDCARD = Pattern.compile("[*?{]");
+
+    private final SimulationAccessResolver simulationAccessResolver;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.SUBSCRIBE) {
+            authorize(accessor, extractSimulationPublicId(accessor.getDestination(),
+                    EVENT_DESTINATION, CONSOLE_DESTINATION), true);
+        } else if (command == StompCommand.SEND) {
+            authorize(accessor, extractSimulationPublicId(accessor.getDestination(), COMMAND_DESTINATION), false);
+        }
+        return message;
+    }
+
+    private void authorize(StompHeaderAccessor accessor, String simulationPublicId, boolean readOperation) {
+        if (simulationPublicId == null) {
+            throw new AccessDeniedException("허용되지 않은 목적지입니다: " + accessor.getDestination());
+        }
+
+        Principal user = accessor.getUser();
+        if (user == null) {
+            throw new AccessDeniedException("인증되지 않은 WebSocket 세션입니다.");
+        }
+
+        if (simulationAccessResolver.resolve(user.getName(), simulationPublicId, readOperation).isEmpty()) {
+            throw new AccessDeniedException("시뮬레이션에 접근할 권한이 없습니다.");
+        }
+    }
+
+    private static String extractSimulationPublicId(String destination, Pattern... patterns) {
+        if (destination == null || WILDCARD.matcher(destination).find()) {
+            return null;
+        }
+        for (Pattern pattern : patterns) {
+            Matcher matcher = pattern.matcher(destination);
+            if (matcher.matches()) {
+                return matcher.group(1);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.dockersim.config.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * STOMP over WebSocket 설정.
+ * <p>
+ * 핸드셰이크({@code /ws})는 일반 HTTP 요청과 같은 보안 필터 체인을 거치므로 인증된 사용자만 연결할 수 있고,
+ * 시뮬레이션 단위 인가는 {@link SimulationChannelInterceptor}가 SUBSCRIBE/SEND 시점에 처리한다.
+ * <ul>
+ *     <li>명령 실행: {@code /app/simulations/{simulationPublicId}/command}</li>
+ *     <li>명령 실행 결과(본인): {@code /user/queue/simulations/{simulationPublicId}/console}</li>
+ *     <li>시뮬레이션 상태 변화(협업자 전체): {@code /topic/simulations/{simulationPublicId}/events}</li>
+ * </ul>
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final SimulationChannelInterceptor simulationChannelInterceptor;
+
+    @Value("${dockersim.websocket.allowed-origin-patterns:http://localhost:*}")
+    private String[] allowedOriginPatterns;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOriginPatterns(allowedOriginPatterns);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic", "/queue");
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(simulationChannelInterceptor);
+    }
+}
@@ -3,8 +3,11 @@ package com.dockersim.controller;
 import com.dockersim.common.ApiResponse;
 import com.dockersim.config.SimulationUserPrincipal;
 import com.dockersim.config.auth.CurrentUser;
+import com.dockersim.dto.request.CommandBatchRequest;
+import com.dockersim.dto.response.CommandBatchResult;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.exception.code.DockerCommandErrorCode;
+import com.dockersim.service.command.CommandBatchService;
 import com.dockersim.service.command.CommandExecutorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -25,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class DockerCommandController {
 
     private final CommandExecutorService commandExecutor;
+    private final CommandBatchService commandBatchService;
 
     /**
      * Docker 명령어 실행 API
@@ -52,4 +56,24 @@ public class DockerCommandController {
         }
         return ResponseEntity.ok(ApiResponse.success(result));
     }
-}
\ No newline at end of file
+
+    /**
+     * Docker 명령어 배치 실행 API
+     *
+     * @param principal 시뮬레이션을 조작할 사용자와 시뮬레이션 인증 정보
+     * @param request   실행할 명령어 목록(또는 줄바꿈으로 구분된 스크립트)과 오류 처리 방식
+     * @return 명령별 실행 결과
+     */
+    @Operation(summary = "Docker 명령어 배치 실행",
+            description = "여러 Docker 명령어를 순서대로 실행하고 명령별 결과를 응답합니다. "
+                    + "STOP_ON_ERROR는 첫 오류에서 중단 후 전체를 롤백하고, CONTINUE_ON_ERROR는 실패한 명령만 건너뜁니다.")
+    @PostMapping("/simulations/{simulationPublicId}/commands/batch")
+    public ResponseEntity<ApiResponse<CommandBatchResult>> executeBatch(
+            @Parameter(description = "시뮬레이션을 조작할 사용자와 시뮬레이션 인증 정보", required = true, hidden = true)
+            @CurrentUser SimulationUserPrincipal principal,
+            @PathVariable String simulationPublicId,
+            @RequestBody CommandBatchRequest request
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(commandBatchService.execute(request, principal)));
+    }
+}
@@ -0,0 +1,156 @@
+package com.dockersim.controller;
+
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.config.auth.SimulationAccessResolver;
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.dto.response.CommandStreamFrame;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+import com.dockersim.service.command.CommandConsole;
+import com.dockersim.service.command.CommandExecutorService;
+import com.dockersim.service.command.OptimisticConflictRetry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Controller;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WebSocket(STOMP) Docker 명령어 실행 컨트롤러
+ * <p>
+ * {@code /app/simulations/{simulationPublicId}/command}로 명령을 보내면, 보낸 사용자의
+ * {@code /user/queue/simulations/{simulationPublicId}/console}로 콘솔 출력을 한 줄씩 전달한 뒤 상태 변화를 전달한다.
+ * 명령이 {@link CommandConsole}로 내보내는 출력(docker build의 단계별 출력)은 명령이 끝나기 전에 바로 전달하고,
+ * 나머지 줄은 명령이 끝난 뒤 전달한다.
+ * 상태를 바꾼 명령은 {@code CommandResultBroadcaster}가 시뮬레이션의 다른 구독자에게도 전달한다.
+ */
+@Slf4j
+@Controller
+public class DockerCommandSocketController {
+
+    private static final String CONSOLE_DESTINATION = "/queue/simulations/%s/console";
+
+    private final CommandExecutorService commandExecutor;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate commandTransaction;
+    private final OptimisticConflictRetry conflictRetry;
+    private final SimulationAccessResolver simulationAccessResolver;
+
+    public DockerCommandSocketController(
+            CommandExecutorService commandExecutor,
+            SimpMessagingTemplate messagingTemplate,
+            PlatformTransactionManager transactionManager,
+            OptimisticConflictRetry conflictRetry,
+            SimulationAccessResolver simulationAccessResolver
+    ) {
+        this.commandExecutor = commandExecutor;
+        this.messagingTemplate = messagingTemplate;
+        // HTTP 요청과 달리 OSIV가 적용되지 않으므로, 명령 하나를 하나의 트랜잭션(영속성 컨텍스트)에서 실행한다.
+        this.commandTransaction = new TransactionTemplate(transactionManager);
+        this.conflictRetry = conflictRetry;
+        this.simulationAccessResolver = simulationAccessResolver;
+    }
+
+    /**
+     * Docker 명령어 실행
+     *
+     * @param simulationPublicId 시뮬레이션 ID
+     * @param command            실행할 도커 명령어
+     * @param requestId          클라이언트가 응답을 매칭하기 위해 지정한 ID (선택)
+     */
+    @MessageMapping("/simulations/{simulationPublicId}/command")
+    public void executeCommand(
+            @DestinationVariable String simulationPublicId,
+            @Payload String command,
+            @Header(name = "request-id", required = false) String requestId,
+            Principal user
+    ) {
+        if (user == null) {
+            throw new AccessDeniedException("인증되지 않은 WebSocket 세션입니다.");
+        }
+        SimulationUserPrincipal principal = simulationAccessResolver
+                .resolve(user.getName(), simulationPublicId, false)
+                .orElseThrow(() -> new AccessDeniedException("시뮬레이션에 접근할 권한이 없습니다."));
+
+        ConsoleStream console = new ConsoleStream(user, CONSOLE_DESTINATION.formatted(simulationPublicId), requestId);
+        try (CommandConsole.Scope scope = CommandConsole.open(console::print)) {
+            // 커밋 시점의 낙관적 락 충돌은 트랜잭션 밖에서만 다시 실행할 수 있으므로 트랜잭션 전체를 재시도한다.
+            CommandResult result = conflictRetry.execute(() -> {
+                console.restart();
+                return commandTransaction.execute(status -> commandExecutor.execute(command, principal));
+            });
+            if (result == null) {
+                DockerCommandErrorCode code = DockerCommandErrorCode.FAILED_EXECUTE_DOCKER_COMMAND;
+                console.send(CommandStreamFrame.error(requestId, console.sequence, code, code.getMessage()));
+                return;
+            }
+            if (result.getConsole() != null) {
+                console.finish(result.getConsole());
+            }
+            console.send(CommandStreamFrame.result(requestId, console.sequence, result));
+        } catch (BusinessException e) {
+            console.send(CommandStreamFrame.error(requestId, console.sequence, e.getErrorCode(), e.getMessage()));
+        } catch (RuntimeException e) {
+            log.error("WebSocket 명령 실행 중 예상하지 못한 오류 - simulation: {}", simulationPublicId, e);
+            DockerCommandErrorCode code = DockerCommandErrorCode.FAILED_EXECUTE_DOCKER_COMMAND;
+            console.send(CommandStreamFrame.error(requestId, console.sequence, code, code.getMessage()));
+        }
+    }
+
+    /*
+    명령 하나의 콘솔 프레임을 순서대로 보낸다.
+    - 실행 중에 내보낸 줄은 바로 CONSOLE 프레임으로 보내고 기억해 둔다.
+    - 충돌로 다시 실행하면 이미 보낸 위치까지의 줄은 다시 보내지 않는다.
+    - 명령이 끝나면 결과의 콘솔 출력에서 이미 보낸 줄을 순서대로 건너뛰고 나머지를 보낸다.
+     */
+    private class ConsoleStream {
+
+        private final Principal user;
+        private final String destination;
+        private final String requestId;
+        private final List<String> streamed = new ArrayList<>();
+        private int attemptLines;
+        private int sequence;
+
+        ConsoleStream(Principal user, String destination, String requestId) {
+            this.user = user;
+            this.destination = destination;
+            this.requestId = requestId;
+        }
+
+        void restart() {
+            attemptLines = 0;
+        }
+
+        void print(String line) {
+            if (attemptLines++ >= streamed.size()) {
+                streamed.add(line);
+                send(CommandStreamFrame.console(requestId, sequence++, line));
+            }
+        }
+
+        void finish(List<String> lines) {
+            int matched = 0;
+            for (String line : lines) {
+                if (matched < streamed.size() && line.equals(streamed.get(matched))) {
+                    matched++;
+                } else {
+                    send(CommandStreamFrame.console(requestId, sequence++, line));
+                }
+            }
+        }
+
+        void send(CommandStreamFrame frame) {
+            messagingTemplate.convertAndSendToUser(user.getName(), destination, frame);
+        }
+    }
+}
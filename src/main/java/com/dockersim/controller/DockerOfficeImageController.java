@@ -1,19 +1,26 @@
 package com.dockersim.controller;
 
-import java.util.List;
-
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.dockersim.common.ApiResponse;
+import com.dockersim.common.RenderedJson;
 import com.dockersim.dto.response.DockerOfficeImageResponse;
+import com.dockersim.dto.response.OfficeImageSearchResult;
 import com.dockersim.service.image.DockerOfficeImageService;
 
+import java.util.List;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
@@ -33,11 +40,17 @@ public class DockerOfficeImageController {
 	 */
 	@Operation(summary = "Docker 공식 이미지 조회",
 		description = "Docker 공식 Image를 이름(name)으로 조회합니다.")
-	@GetMapping("/search")
-	public ResponseEntity<ApiResponse<List<DockerOfficeImageResponse>>> findByName(
-		@Parameter(description = "조회할 도커 이미지 이름(name)", required = true) @RequestParam String name
+	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+		content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+			schema = @Schema(implementation = OfficeImageListBody.class)))
+	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304",
+		description = "If-None-Match가 현재 ETag와 같으면 본문 없이 응답")
+	@GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<byte[]> findByName(
+		@Parameter(description = "조회할 도커 이미지 이름(name)", required = true) @RequestParam String name,
+		@Parameter(hidden = true) WebRequest request
 	) {
-		return ResponseEntity.ok(ApiResponse.success(service.findAllByName(name)));
+		return renderedJson(service.renderAllByName(name), request);
 	}
 
 	/**
@@ -56,14 +69,59 @@ public class DockerOfficeImageController {
 		return ResponseEntity.ok(ApiResponse.success(service.findByNameAndTag(name, tag)));
 	}
 
+	/**
+	 * Docker 공식 이미지 검색(자동완성)
+	 *
+	 * @param q     검색어(이름 접두사/부분 문자열, 설명, 태그, 오타 허용). {@code name:tag} 형식도 지원합니다.
+	 * @param limit 최대 결과 수(최대 50)
+	 */
+	@Operation(summary = "Docker 공식 이미지 검색",
+		description = "이름/설명/태그로 Docker 공식 이미지를 검색합니다. 이미지 이름 단위로 일치 정도와 인기순으로 정렬합니다.")
+	@GetMapping("/autocomplete")
+	public ResponseEntity<ApiResponse<List<OfficeImageSearchResult>>> autocomplete(
+		@Parameter(description = "검색어") @RequestParam(defaultValue = "") String q,
+		@Parameter(description = "최대 결과 수") @RequestParam(defaultValue = "10") int limit
+	) {
+		return ResponseEntity.ok(ApiResponse.success(service.searchImages(q, limit)));
+	}
+
 	/**
 	 * Docker 공식 이미지 전체 조회
 	 */
 	@Operation(summary = "Docker 공식 Image 전체 조회",
 		description = "모든 Docker 공식 Image를 조회합니다.")
-	@GetMapping("/list")
-	public ResponseEntity<ApiResponse<List<DockerOfficeImageResponse>>> getAllImages() {
-		List<DockerOfficeImageResponse> list = service.getAllImages();
-		return ResponseEntity.ok(ApiResponse.success(list));
+	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+		content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+			schema = @Schema(implementation = OfficeImageListBody.class)))
+	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304",
+		description = "If-None-Match가 현재 ETag와 같으면 본문 없이 응답")
+	@GetMapping(value = "/list", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<byte[]> getAllImages(@Parameter(hidden = true) WebRequest request) {
+		return renderedJson(service.renderAllImages(), request);
+	}
+
+	/*
+	카탈로그 응답은 미리 직렬화된 본문을 그대로 내려준다. If-None-Match가 일치하면 본문 없이 304로 응답한다.
+	 */
+	private ResponseEntity<byte[]> renderedJson(RenderedJson rendered, WebRequest request) {
+		if (request.checkNotModified(rendered.getEtag())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(rendered.getEtag()).build();
+		}
+		return ResponseEntity.ok()
+			.eTag(rendered.getEtag())
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(rendered.getBody());
+	}
+
+	/*
+	미리 직렬화된 카탈로그 본문(ApiResponse<List<DockerOfficeImageResponse>>)의 OpenAPI 스키마.
+	컨트롤러는 byte[]를 반환하므로 springdoc이 본문 형식을 알 수 있도록 문서에만 사용한다.
+	 */
+	@Schema(name = "OfficeImageListResponse")
+	static class OfficeImageListBody extends ApiResponse<List<DockerOfficeImageResponse>> {
+
+		OfficeImageListBody() {
+			super(true, List.of(), null, null);
+		}
 	}
-}
\ No newline at end of file
+}
@@ -5,12 +5,16 @@ import com.dockersim.config.SimulationUserPrincipal;
 import com.dockersim.dto.request.CollaboratorRequest;
 import com.dockersim.dto.request.SimulationRequest;
 import com.dockersim.dto.response.CollaboratorResponse;
+import com.dockersim.dto.response.SimulationJournalEntryResponse;
 import com.dockersim.dto.response.SimulationResponse;
 import com.dockersim.service.simulation.SimulationService;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -66,6 +70,86 @@ public class SimulationController {
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
+    @Operation(summary = "시뮬레이션 스냅샷 내보내기", description = "이미지, 컨테이너, 네트워크, 볼륨과 연결 관계를 바이너리 스냅샷으로 내려받습니다.")
+    @GetMapping(value = "/{simulationPublicId}/snapshot", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> exportSnapshot(
+            @Parameter(hidden = true) @AuthenticationPrincipal SimulationUserPrincipal principal,
+            @Parameter(description = "내보낼 시뮬레이션 ID") @PathVariable String simulationPublicId
+    ) {
+        byte[] snapshot = service.exportSnapshot(principal.getUserPublicId(), simulationPublicId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + simulationPublicId + ".dsim\"")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(snapshot);
+    }
+
+    @Operation(summary = "시뮬레이션 스냅샷 복원", description = "시뮬레이션의 현재 상태를 모두 지우고 스냅샷의 상태로 바꿉니다. 다른 시뮬레이션의 스냅샷이면 컨테이너/네트워크 ID는 새로 만듭니다.")
+    @PutMapping(value = "/{simulationPublicId}/snapshot", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ApiResponse<SimulationResponse>> restoreSnapshot(
+            @Parameter(hidden = true) @AuthenticationPrincipal SimulationUserPrincipal principal,
+            @Parameter(description = "복원할 시뮬레이션 ID") @PathVariable String simulationPublicId,
+            @Parameter(description = "내보낸 스냅샷") @RequestBody byte[] snapshot
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                service.restoreSnapshot(principal.getUserPublicId(), simulationPublicId, snapshot)));
+    }
+
+    @Operation(summary = "시뮬레이션 복사", description = "시뮬레이션의 상태를 그대로 복사한 새 시뮬레이션을 만듭니다. 요청자가 새 시뮬레이션의 소유자가 됩니다.")
+    @PostMapping("/{simulationPublicId}/fork")
+    public ResponseEntity<ApiResponse<SimulationResponse>> forkSimulation(
+            @Parameter(hidden = true) @AuthenticationPrincipal SimulationUserPrincipal principal,
+            @Parameter(description = "복사할 시뮬레이션 ID") @PathVariable String simulationPublicId,
+            @Parameter(description = "새 시뮬레이션 정보") @RequestBody SimulationRequest request
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                service.forkSimulation(principal.getUserPublicId(), simulationPublicId, request)));
+    }
+
+    @Operation(summary = "명령 기록 조회", description = "시뮬레이션 상태를 바꾼 명령 기록을 최근 것부터 조회합니다. 다음 페이지는 마지막으로 받은 순번을 before로 넘겨 조회합니다. 기록은 dockersim.journal.enabled=true일 때만 남습니다.")
+    @GetMapping("/{simulationPublicId}/journal")
+    public ResponseEntity<ApiResponse<List<SimulationJournalEntryResponse>>> getJournal(
+            @Parameter(hidden = true) @AuthenticationPrincipal SimulationUserPrincipal principal,
+            @Parameter(description = "시뮬레이션 ID") @PathVariable String simulationPublicId,
+            @Parameter(description = "이 순번보다 앞선 기록만 조회") @RequestParam(required = false) Long before,
+            @Parameter(description = "최대 개수(최대 200)") @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                service.getJournal(principal.getUserPublicId(), simulationPublicId, before, limit)));
+    }
+
+    @Operation(summary = "명령 기록 시점의 상태 조회", description = "명령 기록 sequence번까지 반영된 시뮬레이션 상태를 조회합니다. 0은 기록을 시작하기 전의 상태입니다.")
+    @GetMapping("/{simulationPublicId}/journal/{sequence}")
+    public ResponseEntity<ApiResponse<SimulationSnapshot>> getJournalState(
+            @Parameter(hidden = true) @AuthenticationPrincipal SimulationUserPrincipal principal,
+            @Parameter(description = "시뮬레이션 ID") @PathVariable String simulationPublicId,
+            @Parameter(description = "명령 기록 순번") @PathVariable long sequence
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                service.getJournalState(principal.getUserPublicId(), simulationPublicId, sequence)));
+    }
+
+    @Operation(summary = "명령 기록 시점으로 복원", description = "시뮬레이션을 명령 기록 sequence번 시점의 상태로 되돌립니다. 되돌린 것도 새 기록으로 남습니다.")
+    @PostMapping("/{simulationPublicId}/journal/{sequence}/restore")
+    public ResponseEntity<ApiResponse<SimulationResponse>> restoreJournal(
+            @Parameter(hidden = true) @AuthenticationPrincipal SimulationUserPrincipal principal,
+            @Parameter(description = "시뮬레이션 ID") @PathVariable String simulationPublicId,
+            @Parameter(description = "되돌릴 시점의 순번") @PathVariable long sequence
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                service.restoreJournal(principal.getUserPublicId(), simulationPublicId, sequence)));
+    }
+
+    @Operation(summary = "마지막 명령 되돌리기", description = "마지막 명령 기록 직전의 상태로 되돌립니다.")
+    @PostMapping("/{simulationPublicId}/journal/undo")
+    public ResponseEntity<ApiResponse<SimulationResponse>> undo(
+            @Parameter(hidden = true) @AuthenticationPrincipal SimulationUserPrincipal principal,
+            @Parameter(description = "시뮬레이션 ID") @PathVariable String simulationPublicId
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                service.undo(principal.getUserPublicId(), simulationPublicId)));
+    }
+
     @Operation(summary = "협업자 초대", description = "시뮬레이션에 협업자를 초대합니다. 최대 6명까지 초대할 수 있습니다.")
     @PostMapping("/{simulationPublicId}/collaborators")
     public ResponseEntity<ApiResponse<CollaboratorResponse>> inviteCollaborator(
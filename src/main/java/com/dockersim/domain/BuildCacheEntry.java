@@ -0,0 +1,59 @@
+package com.dockersim.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시뮬레이션에서 한 번 실행한 빌드 단계. 같은 부모 위에서 같은 명령을 다시 빌드하면 이 항목을 재사용한다("Using cache").
+ * <p>
+ * 캐시 키는 부모 단계의 키와 명령 문자열로 만든 SHA-256이므로, 키가 같으면 그 단계까지의 빌드 과정 전체가 같다.
+ * 시뮬레이션을 지울 때 함께 지우도록 {@link Simulation}과 연관관계를 맺지 않고 ID만 보관한다.
+ * 시뮬레이션별 캐시 크기는 {@link #size}의 합으로 보며, 예산을 넘으면 마지막 사용 시각이 오래된 항목부터 지운다.
+ */
+@Entity
+@Table(name = "build_cache_entries", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"simulation_id", "cache_key"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class BuildCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "simulation_id", nullable = false, updatable = false)
+    private Long simulationId;
+
+    @Column(name = "cache_key", nullable = false, updatable = false, length = 64)
+    private String cacheKey;
+
+    /**
+     * 부모 단계의 캐시 키. FROM 단계는 null
+     */
+    @Column(name = "parent_key", updatable = false, length = 64)
+    private String parentKey;
+
+    @Column(nullable = false, updatable = false, length = 4096)
+    private String instruction;
+
+    /**
+     * 이 단계가 만든 레이어의 크기(바이트). 실제 파일이 없으므로 명령 종류와 캐시 키로 정한 값이다
+     */
+    @Column(nullable = false, updatable = false)
+    private long size;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime lastUsedAt;
+}
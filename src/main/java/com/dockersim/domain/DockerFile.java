@@ -43,7 +43,7 @@ public class DockerFile {
 	@Column(nullable = false)
 	private String path;
 
-	@Column(nullable = false)
+	@Column(nullable = false, length = 8192)
 	private String content;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -2,7 +2,7 @@ package com.dockersim.domain;
 
 import com.dockersim.common.IdGenerator;
 import com.dockersim.dto.util.ImageMeta;
-import com.dockersim.util.StringListConverter;
+import com.dockersim.util.LongListConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners({ResourceLifecycleListener.class, ImageLayerListener.class})
 @Table(name = "docker_images")
 @Getter
 @Setter
@@ -23,6 +24,10 @@ public class DockerImage {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "hex_id", nullable = false, updatable = false)
     private String hexId;
 
@@ -42,7 +47,17 @@ public class DockerImage {
     @Column(nullable = false)
     private ImageLocation location;
 
-    @Convert(converter = StringListConverter.class)
+    /**
+     * {@link DockerLayer} ID 목록(아래 레이어부터). 레이어 내용은 공유 테이블에 한 번만 저장한다.
+     */
+    @Convert(converter = LongListConverter.class)
+    @Column(name = "layer_ids", length = 2048)
+    private List<Long> layerIds;
+
+    /**
+     * 레이어 내용. 저장할 때 {@link #layerIds}로 바뀌고, 레이어가 필요한 조회(이미지 finder 등)가 여러 이미지를 모아 한 번에 채운다.
+     */
+    @Transient
     private List<String> layers;
 
     @Column(nullable = false)
@@ -59,26 +74,17 @@ public class DockerImage {
     target:
         image build
      */
-    public static DockerImage from(Simulation simulation, DockerFile dockerFile,
-                                   ImageMeta meta) {
-
-        String hexId = IdGenerator.generateHexFullId();
-        String shortHexId = IdGenerator.getShortId(hexId);
-        String name = meta.getName().isEmpty() ? shortHexId : meta.getName();
-        List<String> layers = new ArrayList<>(List.of(dockerFile.getContent().split("\n")));
-        layers.add("0B");
-
-        return DockerImage.builder()
+    public static DockerImage from(Simulation simulation, String hexId, List<String> layers, ImageMeta meta) {
+        DockerImage image = DockerImage.builder()
                 .hexId(hexId)
-                .shortHexId(shortHexId)
-                .namespace(meta.getNamespace())
-                .name(name)
-                .tag(meta.getTag())
+                .shortHexId(IdGenerator.getShortId(hexId))
                 .location(ImageLocation.LOCAL)
                 .layers(layers)
                 .createdAt(LocalDateTime.now())
                 .simulation(simulation)
                 .build();
+        image.tag(meta);
+        return image;
     }
 
     /*
@@ -86,7 +92,11 @@ public class DockerImage {
         image push
      */
     public static DockerImage from(DockerImage oldImage, ImageLocation location) {
+        // 복사본은 새 행으로 저장한다. ID/버전을 그대로 두면 원본 행을 덮어쓴다.
         return oldImage.toBuilder()
+                .id(null)
+                .version(null)
+                .containers(new ArrayList<>())
                 .location(location)
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -116,6 +126,15 @@ public class DockerImage {
         return namespace + "/" + name + ":" + tag;
     }
 
+    /**
+     * 이름/태그를 붙인다. 이름이 없으면 short ID를 이름으로 사용한다.
+     */
+    public void tag(ImageMeta meta) {
+        this.namespace = meta.getNamespace();
+        this.name = meta.getName().isEmpty() ? shortHexId : meta.getName();
+        this.tag = meta.getTag();
+    }
+
     public void convertToDangling() {
         this.name = "<none>";
         this.tag = "<none>";
@@ -0,0 +1,44 @@
+package com.dockersim.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 방식으로 저장하는 이미지 레이어. 같은 내용의 레이어는 모든 시뮬레이션/이미지에서 한 행을 공유한다.
+ * <p>
+ * 이미지는 레이어 ID 목록만 가지며, {@code referenceCount}는 이 레이어를 가리키는 이미지 행 수다.
+ * 행의 추가/삭제와 참조 수 갱신은 {@code DockerLayerStore}가 JDBC로 처리한다.
+ */
+@Entity
+@Table(name = "docker_layers")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class DockerLayer {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * {@code sha256:} + 내용의 SHA-256(16진수)
+     */
+    @Column(nullable = false, updatable = false, unique = true, length = 71)
+    private String digest;
+
+    @Column(nullable = false, updatable = false, length = 4096)
+    private String content;
+
+    @Column(name = "reference_count", nullable = false)
+    private long referenceCount;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,43 @@
+package com.dockersim.domain;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 이미지 행의 생성·삭제에 맞춰 {@link ImageLayerStore}의 레이어 참조 수를 갱신하는 JPA 엔티티 리스너.
+ * <p>
+ * build/pull/push와 rm, 시뮬레이션 삭제에 따른 cascade 삭제까지 모두 반영된다.
+ * 조회한 이미지의 레이어 내용은 채우지 않는다. 레이어가 필요한 조회(이미지 finder 등)가 여러 이미지를 모아 한 번에 채운다.
+ * 리스너는 EntityManagerFactory를 만들 때 생성되므로 저장소는 지연 조회한다.
+ */
+public class ImageLayerListener {
+
+    private final ObjectProvider<ImageLayerStore> storeProvider;
+
+    public ImageLayerListener(ObjectProvider<ImageLayerStore> storeProvider) {
+        this.storeProvider = storeProvider;
+    }
+
+    @PrePersist
+    public void onPersist(DockerImage image) {
+        ImageLayerStore store = storeProvider.getIfAvailable();
+        if (store == null) {
+            return;
+        }
+        // 복사본은 원본의 레이어 ID를 그대로 공유한다.
+        if (image.getLayerIds() != null && !image.getLayerIds().isEmpty()) {
+            store.retain(image.getLayerIds());
+        } else {
+            image.setLayerIds(store.acquire(image.getLayers()));
+        }
+    }
+
+    @PreRemove
+    public void onRemove(DockerImage image) {
+        ImageLayerStore store = storeProvider.getIfAvailable();
+        if (store != null) {
+            store.release(image.getLayerIds());
+        }
+    }
+}
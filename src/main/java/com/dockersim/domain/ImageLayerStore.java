@@ -0,0 +1,24 @@
+package com.dockersim.domain;
+
+import java.util.List;
+
+/**
+ * 이미지 레이어 내용을 공유 테이블에 저장하고 참조 수를 관리하는 저장소. {@link ImageLayerListener}가 이미지 행의 생성·삭제에 맞춰 호출한다.
+ */
+public interface ImageLayerStore {
+
+    /**
+     * 레이어를 저장(이미 있으면 공유)하고 참조 수를 올린 뒤, 레이어 ID를 같은 순서로 돌려준다.
+     */
+    List<Long> acquire(List<String> layers);
+
+    /**
+     * 이미 저장된 레이어 ID를 그대로 쓰는 이미지(복사본)를 위해 참조 수를 올린다.
+     */
+    void retain(List<Long> layerIds);
+
+    /**
+     * 지운 이미지가 가리키던 레이어의 참조 수를 내린다.
+     */
+    void release(List<Long> layerIds);
+}
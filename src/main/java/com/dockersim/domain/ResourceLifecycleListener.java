@@ -0,0 +1,32 @@
+package com.dockersim.domain;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 컨테이너/네트워크/이미지의 생성·변경·삭제를 등록된 {@link ResourceLifecycleObserver}에 전달하는 JPA 엔티티 리스너.
+ * <p>
+ * 서비스마다 갱신 코드를 두지 않아도 create/rm/prune, 시뮬레이션 삭제에 따른 cascade 삭제까지 모두 전달된다.
+ * 리스너는 EntityManagerFactory를 만들 때 생성되므로, 리포지토리에 의존하는 observer는 순환 참조를 피하기 위해 지연 조회한다.
+ */
+public class ResourceLifecycleListener {
+
+    private final ObjectProvider<ResourceLifecycleObserver> observers;
+
+    public ResourceLifecycleListener(ObjectProvider<ResourceLifecycleObserver> observers) {
+        this.observers = observers;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        observers.orderedStream().forEach(observer -> observer.onSaved(entity));
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        observers.orderedStream().forEach(observer -> observer.onRemoved(entity));
+    }
+}
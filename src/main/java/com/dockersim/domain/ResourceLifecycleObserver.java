@@ -0,0 +1,17 @@
+package com.dockersim.domain;
+
+/**
+ * 컨테이너/네트워크/이미지 행의 생성·변경·삭제를 전달받는 쪽. {@link ResourceLifecycleListener}가 호출한다.
+ */
+public interface ResourceLifecycleObserver {
+
+    /**
+     * 엔티티를 저장(생성 또는 변경)한 직후
+     */
+    void onSaved(Object entity);
+
+    /**
+     * 엔티티를 삭제한 직후
+     */
+    void onRemoved(Object entity);
+}
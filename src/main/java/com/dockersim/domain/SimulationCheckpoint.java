@@ -0,0 +1,45 @@
+package com.dockersim.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 명령 기록 {@code sequence}번까지 반영된 시뮬레이션 전체 상태. 순번 0은 기록을 시작하기 전의 상태다.
+ * 특정 시점의 상태는 그 이전의 가장 가까운 체크포인트에 이후 기록의 변경분만 적용해 만든다.
+ */
+@Entity
+@Table(name = "simulation_checkpoints", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"simulation_id", "sequence"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class SimulationCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "simulation_id", nullable = false, updatable = false)
+    private Long simulationId;
+
+    @Column(nullable = false, updatable = false)
+    private long sequence;
+
+    /**
+     * {@code SimulationSnapshotCodec.encode} 형식
+     */
+    @Lob
+    @Column(nullable = false, updatable = false, length = 64 * 1024 * 1024)
+    private byte[] snapshot;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,60 @@
+package com.dockersim.domain;
+
+import com.dockersim.dto.response.CommandResultStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시뮬레이션 상태를 바꾼 명령 하나의 기록. 시뮬레이션마다 1부터 빈틈없이 증가하는 순번을 가지며, 추가만 한다.
+ * <p>
+ * 시뮬레이션을 지울 때 함께 지우도록 {@link Simulation}과 연관관계를 맺지 않고 ID만 보관한다.
+ */
+@Entity
+@Table(name = "simulation_journal", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"simulation_id", "sequence"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class SimulationJournalEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "simulation_id", nullable = false, updatable = false)
+    private Long simulationId;
+
+    @Column(nullable = false, updatable = false)
+    private long sequence;
+
+    @Column(nullable = false, updatable = false, length = 4096)
+    private String command;
+
+    /**
+     * 명령을 실행한 사용자
+     */
+    @Column(nullable = false, updatable = false)
+    private String actorPublicId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(updatable = false)
+    private CommandResultStatus status;
+
+    /**
+     * 직전 기록 이후의 상태 변경분 ({@code SimulationSnapshotCodec.encodeDelta})
+     */
+    @Lob
+    @Column(nullable = false, updatable = false, length = 64 * 1024 * 1024)
+    private byte[] delta;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime executedAt;
+}
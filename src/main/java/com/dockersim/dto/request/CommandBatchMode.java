@@ -0,0 +1,15 @@
+package com.dockersim.dto.request;
+
+/**
+ * 배치 명령 실행 중 오류가 발생했을 때의 처리 방식
+ */
+public enum CommandBatchMode {
+    /**
+     * 첫 오류에서 중단하고, 배치 전체를 하나의 트랜잭션으로 롤백한다.
+     */
+    STOP_ON_ERROR,
+    /**
+     * 오류가 난 명령만 실패로 기록하고 다음 명령을 계속 실행한다. 명령마다 별도 트랜잭션으로 반영된다.
+     */
+    CONTINUE_ON_ERROR
+}
@@ -0,0 +1,61 @@
+package com.dockersim.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommandBatchRequest {
+
+    /**
+     * 순서대로 실행할 명령어 목록. 값이 있으면 script보다 우선한다.
+     */
+    private List<String> commands;
+
+    /**
+     * 줄바꿈으로 구분된 명령어 스크립트.
+     * 빈 줄과 '#'으로 시작하는 주석은 무시하고, '\'로 끝나는 줄은 다음 줄과 이어 붙인다.
+     */
+    private String script;
+
+    private CommandBatchMode mode = CommandBatchMode.STOP_ON_ERROR;
+
+    public List<String> resolveCommands() {
+        if (commands != null && !commands.isEmpty()) {
+            return commands.stream()
+                .filter(command -> command != null && !command.isBlank())
+                .map(String::trim)
+                .toList();
+        }
+        if (script == null) {
+            return List.of();
+        }
+
+        List<String> resolved = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String line : script.split("\\R")) {
+            String trimmed = line.trim();
+            if (current.isEmpty() && (trimmed.isEmpty() || trimmed.startsWith("#"))) {
+                continue;
+            }
+            if (trimmed.endsWith("\\")) {
+                current.append(trimmed.substring(0, trimmed.length() - 1).stripTrailing()).append(' ');
+                continue;
+            }
+            current.append(trimmed);
+            resolved.add(current.toString().trim());
+            current.setLength(0);
+        }
+        if (!current.isEmpty()) {
+            resolved.add(current.toString().trim());
+        }
+        return resolved;
+    }
+}
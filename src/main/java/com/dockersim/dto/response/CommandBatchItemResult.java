@@ -0,0 +1,57 @@
+package com.dockersim.dto.response;
+
+import com.dockersim.exception.code.ResponseCode;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CommandBatchItemResult {
+
+    /**
+     * 배치 내 명령 순서 (0부터 시작)
+     */
+    private final int index;
+
+    private final String command;
+
+    private final CommandBatchItemStatus status;
+
+    /**
+     * 성공한 명령의 실행 결과
+     */
+    private final CommandResult result;
+
+    /**
+     * 실패한 명령의 오류 코드/메시지
+     */
+    private final String errorCode;
+    private final String errorMessage;
+
+    public static CommandBatchItemResult success(int index, String command, CommandResult result) {
+        return CommandBatchItemResult.builder()
+            .index(index)
+            .command(command)
+            .status(CommandBatchItemStatus.SUCCESS)
+            .result(result)
+            .build();
+    }
+
+    public static CommandBatchItemResult failure(int index, String command, ResponseCode code, String message) {
+        return CommandBatchItemResult.builder()
+            .index(index)
+            .command(command)
+            .status(CommandBatchItemStatus.FAILED)
+            .errorCode(code.getCode())
+            .errorMessage(message)
+            .build();
+    }
+
+    public static CommandBatchItemResult skipped(int index, String command) {
+        return CommandBatchItemResult.builder()
+            .index(index)
+            .command(command)
+            .status(CommandBatchItemStatus.SKIPPED)
+            .build();
+    }
+}
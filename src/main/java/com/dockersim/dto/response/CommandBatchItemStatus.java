@@ -0,0 +1,10 @@
+package com.dockersim.dto.response;
+
+public enum CommandBatchItemStatus {
+    SUCCESS,
+    FAILED,
+    /**
+     * 앞선 명령의 오류로 실행하지 않음 (STOP_ON_ERROR)
+     */
+    SKIPPED
+}
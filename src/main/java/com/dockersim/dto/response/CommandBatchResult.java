@@ -0,0 +1,40 @@
+package com.dockersim.dto.response;
+
+import com.dockersim.dto.request.CommandBatchMode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CommandBatchResult {
+
+    private final CommandBatchMode mode;
+
+    /**
+     * STOP_ON_ERROR 모드에서 오류로 인해 배치 전체가 롤백되었는지 여부
+     */
+    private final boolean rolledBack;
+
+    private final int succeeded;
+    private final int failed;
+    private final int skipped;
+
+    private final List<CommandBatchItemResult> results;
+
+    public static CommandBatchResult of(CommandBatchMode mode, boolean rolledBack, List<CommandBatchItemResult> results) {
+        return CommandBatchResult.builder()
+            .mode(mode)
+            .rolledBack(rolledBack)
+            .succeeded(count(results, CommandBatchItemStatus.SUCCESS))
+            .failed(count(results, CommandBatchItemStatus.FAILED))
+            .skipped(count(results, CommandBatchItemStatus.SKIPPED))
+            .results(results)
+            .build();
+    }
+
+    private static int count(List<CommandBatchItemResult> results, CommandBatchItemStatus status) {
+        return (int) results.stream().filter(result -> result.getStatus() == status).count();
+    }
+}
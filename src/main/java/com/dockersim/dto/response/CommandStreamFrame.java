@@ -0,0 +1,80 @@
+package com.dockersim.dto.response;
+
+import com.dockersim.exception.code.ResponseCode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * WebSocket으로 명령을 실행했을 때 실행한 사용자에게 순서대로 전달되는 메시지.
+ * 콘솔 출력 한 줄마다 CONSOLE 프레임을 보내고, 마지막에 RESULT 또는 ERROR 프레임을 보낸다.
+ */
+@Getter
+@Builder
+public class CommandStreamFrame {
+
+    /**
+     * 클라이언트가 SEND 시 지정한 request-id 헤더 (응답 매칭용)
+     */
+    private final String requestId;
+
+    private final CommandStreamFrameType type;
+
+    /**
+     * 프레임 순서 (0부터 시작)
+     */
+    private final int sequence;
+
+    /**
+     * CONSOLE 프레임의 출력 한 줄
+     */
+    private final String line;
+
+    /**
+     * RESULT 프레임의 상태 변화 (콘솔 출력은 CONSOLE 프레임으로 이미 전달되었으므로 포함하지 않는다)
+     */
+    private final CommandResultStatus status;
+    private final List<DockerImageResponse> changedImages;
+    private final List<DockerContainerResponse> changedContainers;
+    private final List<DockerVolumeResponse> changedVolumes;
+    private final List<DockerNetworkResponse> changedNetworks;
+
+    /**
+     * ERROR 프레임의 오류 코드/메시지
+     */
+    private final String errorCode;
+    private final String errorMessage;
+
+    public static CommandStreamFrame console(String requestId, int sequence, String line) {
+        return CommandStreamFrame.builder()
+            .requestId(requestId)
+            .type(CommandStreamFrameType.CONSOLE)
+            .sequence(sequence)
+            .line(line)
+            .build();
+    }
+
+    public static CommandStreamFrame result(String requestId, int sequence, CommandResult result) {
+        return CommandStreamFrame.builder()
+            .requestId(requestId)
+            .type(CommandStreamFrameType.RESULT)
+            .sequence(sequence)
+            .status(result.getStatus())
+            .changedImages(result.getChangedImages())
+            .changedContainers(result.getChangedContainers())
+            .changedVolumes(result.getChangedVolumes())
+            .changedNetworks(result.getChangedNetworks())
+            .build();
+    }
+
+    public static CommandStreamFrame error(String requestId, int sequence, ResponseCode code, String message) {
+        return CommandStreamFrame.builder()
+            .requestId(requestId)
+            .type(CommandStreamFrameType.ERROR)
+            .sequence(sequence)
+            .errorCode(code.getCode())
+            .errorMessage(message)
+            .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.dockersim.dto.response;
+
+public enum CommandStreamFrameType {
+    CONSOLE,
+    RESULT,
+    ERROR
+}
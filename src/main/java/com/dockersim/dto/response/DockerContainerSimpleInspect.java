@@ -3,7 +3,9 @@ package com.dockersim.dto.response;
 import com.dockersim.domain.ContainerNetwork;
 
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 
+@Getter
 @AllArgsConstructor
 public class DockerContainerSimpleInspect {
 	private String id;
@@ -6,7 +6,9 @@ import java.util.List;
 import com.dockersim.domain.DockerNetwork;
 
 import lombok.Builder;
+import lombok.Getter;
 
+@Getter
 @Builder
 public class DockerNetworkInspect {
 	private String name;
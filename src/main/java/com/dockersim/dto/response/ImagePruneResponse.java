@@ -0,0 +1,22 @@
+package com.dockersim.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImagePruneResponse {
+
+	private List<DockerImageResponse> images;
+
+	/**
+	 * 더 이상 참조되지 않아 지운 레이어의 크기(바이트)
+	 */
+	private long reclaimedSpace;
+}
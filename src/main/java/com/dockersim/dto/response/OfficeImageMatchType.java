@@ -0,0 +1,13 @@
+package com.dockersim.dto.response;
+
+/**
+ * 공식 이미지 검색에서 검색어가 일치한 방식. 선언 순서가 정렬 우선순위이다.
+ */
+public enum OfficeImageMatchType {
+    EXACT,
+    PREFIX,
+    SUBSTRING,
+    TAG,
+    DESCRIPTION,
+    FUZZY
+}
@@ -0,0 +1,30 @@
+package com.dockersim.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 공식 이미지 검색(자동완성) 결과. 태그별 행이 아니라 이미지 이름 단위로 응답한다.
+ */
+@Getter
+@Builder
+public class OfficeImageSearchResult {
+
+    private final String namespace;
+    private final String name;
+    private final String description;
+    private final int starCount;
+    private final long pullCount;
+    private final String logoUrl;
+
+    /**
+     * 검색어가 일치한 방식
+     */
+    private final OfficeImageMatchType matchType;
+
+    /**
+     * {@code name:tag} 형식으로 검색했거나 태그가 일치한 경우, 일치한 태그 목록
+     */
+    private final List<String> matchedTags;
+}
@@ -0,0 +1,49 @@
+package com.dockersim.dto.response;
+
+import com.dockersim.service.command.CommandExecutedEvent;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시뮬레이션 상태가 바뀌었을 때 해당 시뮬레이션을 구독 중인 모든 사용자에게 전달되는 메시지.
+ */
+@Getter
+@Builder
+public class SimulationEventMessage {
+
+    private final String simulationPublicId;
+
+    /**
+     * 명령을 실행한 사용자
+     */
+    private final String actorPublicId;
+
+    private final String command;
+
+    private final CommandResultStatus status;
+
+    private final List<DockerImageResponse> changedImages;
+    private final List<DockerContainerResponse> changedContainers;
+    private final List<DockerVolumeResponse> changedVolumes;
+    private final List<DockerNetworkResponse> changedNetworks;
+
+    private final LocalDateTime occurredAt;
+
+    public static SimulationEventMessage from(CommandExecutedEvent event) {
+        CommandResult result = event.getResult();
+        return SimulationEventMessage.builder()
+            .simulationPublicId(event.getPrincipal().getSimulationPublicId())
+            .actorPublicId(event.getPrincipal().getUserPublicId())
+            .command(event.getRawCommand())
+            .status(result.getStatus())
+            .changedImages(result.getChangedImages())
+            .changedContainers(result.getChangedContainers())
+            .changedVolumes(result.getChangedVolumes())
+            .changedNetworks(result.getChangedNetworks())
+            .occurredAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.dockersim.dto.response;
+
+import com.dockersim.repository.SimulationJournalEntryView;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationJournalEntryResponse {
+
+    private long sequence;
+    private String command;
+    private String actorPublicId;
+    private CommandResultStatus status;
+    private LocalDateTime executedAt;
+
+    public static SimulationJournalEntryResponse from(SimulationJournalEntryView entry) {
+        return SimulationJournalEntryResponse.builder()
+            .sequence(entry.getSequence())
+            .command(entry.getCommand())
+            .actorPublicId(entry.getActorPublicId())
+            .status(entry.getStatus())
+            .executedAt(entry.getExecutedAt())
+            .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.dockersim.dto.response;
+
+import com.dockersim.domain.DockerVolume;
+
+import lombok.Builder;
+
+@Builder
+public class VolumeInspectData {
+	public String CreatedAt;
+	public String Driver;
+	public String Mountpoint;
+	public String Name;
+	public int RefCount;
+
+	public static VolumeInspectData from(DockerVolume volume) {
+		return VolumeInspectData.builder()
+			.CreatedAt(volume.getCreateAt().toString())
+			.Driver("local")
+			.Mountpoint(volume.getMountPoint())
+			.Name(volume.getName())
+			.RefCount(volume.getContainerVolumes().size())
+			.build();
+	}
+}
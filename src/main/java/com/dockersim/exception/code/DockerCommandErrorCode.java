@@ -11,7 +11,17 @@ public enum DockerCommandErrorCode implements ResponseCode {
         "유효하지 않은 명령어입니다. 명령어는 'docker'로 시작해야 합니다.(%s)"),
     FAILED_PARSE_DOCKER_COMMAND(HttpStatus.BAD_REQUEST, "C009",
         "도커 명령어 파싱에 실패했습니다. 올바른 형식의 명령어가 아닙니다"),
-    FAILED_EXECUTE_DOCKER_COMMAND(HttpStatus.INTERNAL_SERVER_ERROR, "C010", "도커 명령어 실행에 실패했습니다");
+    FAILED_EXECUTE_DOCKER_COMMAND(HttpStatus.INTERNAL_SERVER_ERROR, "C010", "도커 명령어 실행에 실패했습니다"),
+    EMPTY_COMMAND_BATCH(HttpStatus.BAD_REQUEST, "C011", "실행할 도커 명령어가 없습니다."),
+    TOO_MANY_COMMANDS_IN_BATCH(HttpStatus.BAD_REQUEST, "C012",
+        "한 번에 실행할 수 있는 명령어는 최대 %d개입니다.(%d)"),
+    INVALID_LIST_FILTER(HttpStatus.BAD_REQUEST, "C013", "지원하지 않는 목록 필터입니다.(%s)"),
+    INVALID_LIST_FORMAT(HttpStatus.BAD_REQUEST, "C014", "목록 출력 형식을 해석할 수 없습니다.(%s)"),
+    INVALID_LIST_PAGE(HttpStatus.BAD_REQUEST, "C015", "목록 개수는 1 이상이어야 합니다.(%d)"),
+    SIMULATION_COMMAND_BUSY(HttpStatus.CONFLICT, "C016",
+        "같은 시뮬레이션에서 실행 중인 명령이 끝나지 않았습니다. 잠시 후 다시 시도해 주세요."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "C017",
+        "다른 명령이 같은 객체를 먼저 변경했습니다. 잠시 후 다시 시도해 주세요.");
 
     private final HttpStatus status;
     private final String code;
@@ -9,7 +9,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum DockerContainerErrorCode implements ResponseCode {
 	NOT_FOUND_CONTAINER(HttpStatus.NOT_FOUND, "C001", "컨테이너 '%s'를 찾을 수 없습니다."),
-	CONTAINER_NOT_RUNNING(HttpStatus.BAD_REQUEST, "C002", "컨테이너 '%s'가 실행 중이 아닙니다.");
+	CONTAINER_NOT_RUNNING(HttpStatus.BAD_REQUEST, "C002", "컨테이너 '%s'가 실행 중이 아닙니다."),
+	AMBIGUOUS_CONTAINER_IDENTIFIER(HttpStatus.BAD_REQUEST, "C003",
+		"'%s'로 시작하는 컨테이너가 여러 개 있습니다. 더 긴 ID를 입력하세요.");
 
 	private final HttpStatus status;
 	private final String code;
@@ -31,7 +31,11 @@ public enum DockerImageErrorCode implements ResponseCode {
 	PUSH_BY_ID_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "D025",
 		"이미지 ID로 이미지를 push할 수 없습니다. repository:tag 형식으로 시도해주세요."),
 	FAIL_CONVERT_INSPECT(HttpStatus.INTERNAL_SERVER_ERROR, "D026", "JSON 형식 변환 실패"),
-	FAIL_REMOVE_BASE_IMAGE(HttpStatus.CONFLICT, "D027", "%s는 컨테이너의 기반 이미지로 사용되고 있습니다.");
+	FAIL_REMOVE_BASE_IMAGE(HttpStatus.CONFLICT, "D027", "%s는 컨테이너의 기반 이미지로 사용되고 있습니다."),
+
+	// 빌드 (D03x)
+	INVALID_DOCKERFILE(HttpStatus.BAD_REQUEST, "D030", "Dockerfile %d번째 줄: %s"),
+	INVALID_SIZE(HttpStatus.BAD_REQUEST, "D031", "크기 '%s'를 해석할 수 없습니다. (예: 512MB, 1GB)");
 	private final HttpStatus status;
 	private final String code;
 	private final String template;
@@ -24,7 +24,9 @@ public enum SimulationErrorCode implements ResponseCode {
     SIMULATION_NOT_WRITABLE(HttpStatus.BAD_REQUEST, "SIM-006",
         "시뮬레이션이 쓰기 가능한 상태가 아닙니다. simulationId: {0}"),
     SIMULATION_MAX_COLLABORATORS_REACHED(HttpStatus.BAD_REQUEST, "SIM-007",
-        "최대 협업자 수({0}명)를 초과할 수 없습니다.");
+        "최대 협업자 수({0}명)를 초과할 수 없습니다."),
+    SIMULATION_SNAPSHOT_INVALID(HttpStatus.BAD_REQUEST, "S011", "시뮬레이션 스냅샷을 읽을 수 없습니다.(%s)"),
+    SIMULATION_JOURNAL_ENTRY_NOT_FOUND(HttpStatus.NOT_FOUND, "S012", "%s번 시점의 명령 기록을 찾을 수 없습니다");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,94 @@
+package com.dockersim.parser;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+
+import java.util.Arrays;
+
+/**
+ * 명령어 문자열을 한 번 훑으면서 토큰 배열로 나눈다.
+ * <p>
+ * 따옴표/이스케이프가 없는 토큰(대부분)은 원본 문자열의 시작/끝 위치만 기억했다가 {@code substring}으로 한 번에 잘라내므로
+ * 문자 단위 복사나 StringBuilder가 없다. 따옴표나 {@code \}가 섞인 토큰만 호출마다 한 번 만드는 char 버퍼에 풀어 쓴다.
+ * <ul>
+ *     <li>{@code \x}: 다음 문자를 그대로 사용. 셸과 같이 작은따옴표 안에서는 {@code \}도 일반 문자이고,
+ *     큰따옴표 안에서는 {@code \"}와 {@code \\}만 이스케이프로 본다(예: {@code --format '{{.ID}}\t{{.Names}}'})</li>
+ *     <li>작은따옴표/큰따옴표: 짝이 맞는 동안 공백을 토큰에 포함. 닫히지 않으면 FAILED_PARSE_DOCKER_COMMAND</li>
+ *     <li>내용이 비어 있는 토큰({@code ""})은 만들지 않음</li>
+ * </ul>
+ */
+final class CommandTokenizer {
+
+    private CommandTokenizer() {
+    }
+
+    static String[] tokenize(String input) {
+        int length = input.length();
+        String[] tokens = new String[8];
+        int count = 0;
+        char[] buffer = null;
+
+        int i = 0;
+        while (i < length) {
+            while (i < length && Character.isWhitespace(input.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+
+            // 따옴표/이스케이프를 만나기 전까지는 위치만 이동한다.
+            int start = i;
+            char c = 0;
+            while (i < length) {
+                c = input.charAt(i);
+                if (Character.isWhitespace(c) || c == '\'' || c == '"' || c == '\\') {
+                    break;
+                }
+                i++;
+            }
+
+            String token;
+            if (i == length || Character.isWhitespace(c)) {
+                token = input.substring(start, i);
+            } else {
+                if (buffer == null) {
+                    buffer = new char[length];
+                }
+                int size = i - start;
+                input.getChars(start, i, buffer, 0);
+
+                boolean inSingleQuote = false;
+                boolean inDoubleQuote = false;
+                for (; i < length; i++) {
+                    c = input.charAt(i);
+                    if (c == '\\' && i + 1 < length && !inSingleQuote
+                            && (!inDoubleQuote || input.charAt(i + 1) == '"' || input.charAt(i + 1) == '\\')) {
+                        buffer[size++] = input.charAt(++i);
+                    } else if (c == '\'' && !inDoubleQuote) {
+                        inSingleQuote = !inSingleQuote;
+                    } else if (c == '"' && !inSingleQuote) {
+                        inDoubleQuote = !inDoubleQuote;
+                    } else if (Character.isWhitespace(c) && !inSingleQuote && !inDoubleQuote) {
+                        break;
+                    } else {
+                        buffer[size++] = c;
+                    }
+                }
+                if (inSingleQuote || inDoubleQuote) {
+                    throw new BusinessException(DockerCommandErrorCode.FAILED_PARSE_DOCKER_COMMAND);
+                }
+                if (size == 0) {
+                    continue;
+                }
+                token = new String(buffer, 0, size);
+            }
+
+            if (count == tokens.length) {
+                tokens = Arrays.copyOf(tokens, count * 2);
+            }
+            tokens[count++] = token;
+        }
+        return count == tokens.length ? tokens : Arrays.copyOf(tokens, count);
+    }
+}
@@ -11,4 +11,13 @@ public interface DockerCommandParser {
      * @return 파싱된 토큰들의 리스트
      */
     List<String> tokenize(String commandLine);
+
+    /**
+     * 도커 명령어 문자열을 토큰화한 뒤 첫 토큰({@code docker})을 제외한 picocli 인자 배열을 반환
+     * 같은 명령어가 반복되면 캐시된 결과를 복사해서 반환한다.
+     *
+     * @param commandLine 파싱할 도커 명령어 문자열
+     * @return 하위 명령과 옵션 인자 배열. 호출한 쪽에서 수정해도 된다.
+     */
+    String[] parseArguments(String commandLine);
 }
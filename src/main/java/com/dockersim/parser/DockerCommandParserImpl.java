@@ -2,67 +2,63 @@ package com.dockersim.parser;
 
 import com.dockersim.exception.BusinessException;
 import com.dockersim.exception.code.DockerCommandErrorCode;
-import java.util.ArrayList;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Arrays;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * 명령어 토큰화는 {@link CommandTokenizer}가 담당하고, 실행 경로에서 사용하는 인자 배열은 원본 문자열 기준으로 캐시한다.
+ * 같은 명령어를 반복 실행하는 경우가 많으므로, 크기가 제한된 캐시에 토큰 배열을 보관하고 꺼낼 때는 복사본을 반환한다.
+ */
 @Component
 public class DockerCommandParserImpl implements DockerCommandParser {
 
-    @Override
-    public List<String> tokenize(String commandLine) {
-        if (commandLine == null || commandLine.trim().isEmpty()) {
-            throw new BusinessException(DockerCommandErrorCode.INVALID_DOCKER_COMMAND, commandLine);
-        }
-
-        List<String> tokens = new ArrayList<>();
-        StringBuilder currentToken = new StringBuilder();
-        boolean inSingleQuote = false;
-        boolean inDoubleQuote = false;
+    /**
+     * 이보다 긴 명령어는 캐시하지 않는다(대부분 일회성인 긴 인자 때문에 캐시가 밀려나지 않도록).
+     */
+    private static final int MAX_CACHEABLE_LENGTH = 256;
+    private static final String[] NO_ARGUMENTS = new String[0];
 
-        for (int i = 0; i < commandLine.length(); i++) {
-            char c = commandLine.charAt(i);
+    private final Cache<String, String[]> argumentCache;
 
-            // 1. 이스케이프 문자 처리: '\'를 만나면 다음 문자는 무조건 토큰에 추가
-            if (c == '\\' && i + 1 < commandLine.length()) {
-                currentToken.append(commandLine.charAt(i + 1));
-                ++i;
-                continue;
-            }
-
-            // 2. 따옴표 처리
-            if (c == '\'' && !inDoubleQuote) {
-                inSingleQuote = !inSingleQuote;
-                continue;
-            }
-            if (c == '"' && !inSingleQuote) {
-                inDoubleQuote = !inDoubleQuote;
-                continue;
-            }
+    public DockerCommandParserImpl(
+            MeterRegistry meterRegistry,
+            @Value("${dockersim.command.tokenizer-cache.maximum-size:1024}") long maximumSize
+    ) {
+        this.argumentCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, argumentCache, "commandArguments");
+    }
 
-            // 3. 공백 처리 (따옴표 밖에서만)
-            if (Character.isWhitespace(c) && !inSingleQuote && !inDoubleQuote) {
-                if (!currentToken.isEmpty()) {
-                    tokens.add(currentToken.toString());
-                    currentToken.setLength(0);
-                }
-                continue;
-            }
+    @Override
+    public List<String> tokenize(String commandLine) {
+        return List.of(tokenizeOrThrow(commandLine));
+    }
 
-            // 4. 나머지 모든 문자는 현재 토큰에 추가
-            currentToken.append(c);
-        }
+    @Override
+    public String[] parseArguments(String commandLine) {
+        String[] cached = commandLine != null && commandLine.length() <= MAX_CACHEABLE_LENGTH
+                ? argumentCache.get(commandLine, DockerCommandParserImpl::toArguments)
+                : toArguments(commandLine);
+        return cached.length == 0 ? cached : cached.clone();
+    }
 
-        // 마지막 토큰 추가
-        if (!currentToken.isEmpty()) {
-            tokens.add(currentToken.toString());
-        }
+    private static String[] toArguments(String commandLine) {
+        String[] tokens = tokenizeOrThrow(commandLine);
+        return tokens.length <= 1 ? NO_ARGUMENTS : Arrays.copyOfRange(tokens, 1, tokens.length);
+    }
 
-        // 따옴표가 닫히지 않은 경우 예외 처리
-        if (inSingleQuote || inDoubleQuote) {
-            throw new BusinessException(DockerCommandErrorCode.FAILED_PARSE_DOCKER_COMMAND);
+    private static String[] tokenizeOrThrow(String commandLine) {
+        if (commandLine == null || commandLine.isBlank()) {
+            throw new BusinessException(DockerCommandErrorCode.INVALID_DOCKER_COMMAND, commandLine);
         }
-
-        return tokens;
+        return CommandTokenizer.tokenize(commandLine);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.dockersim.repository;
+
+import com.dockersim.domain.BuildCacheEntry;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BuildCacheEntryRepository extends JpaRepository<BuildCacheEntry, Long> {
+
+    List<BuildCacheEntry> findBySimulationIdAndCacheKeyIn(Long simulationId, Collection<String> cacheKeys);
+
+    @Query("SELECT new com.dockersim.repository.BuildCacheUsage(COUNT(e), COALESCE(SUM(e.size), 0))"
+            + " FROM BuildCacheEntry e WHERE e.simulationId = :simulationId")
+    BuildCacheUsage usage(@Param("simulationId") Long simulationId);
+
+    List<BuildCacheEntry> findBySimulationIdOrderByLastUsedAtAscIdAsc(Long simulationId);
+
+    @Modifying
+    @Query("UPDATE BuildCacheEntry e SET e.lastUsedAt = :usedAt WHERE e.id IN :ids")
+    int touch(@Param("ids") Collection<Long> ids, @Param("usedAt") LocalDateTime usedAt);
+
+    @Modifying
+    @Query("DELETE FROM BuildCacheEntry e WHERE e.simulationId = :simulationId")
+    int deleteBySimulationId(@Param("simulationId") Long simulationId);
+}
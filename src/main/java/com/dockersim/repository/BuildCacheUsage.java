@@ -0,0 +1,10 @@
+package com.dockersim.repository;
+
+/**
+ * 시뮬레이션 하나의 빌드 캐시 사용량
+ *
+ * @param entries 캐시 항목 수
+ * @param size    항목 크기의 합(바이트)
+ */
+public record BuildCacheUsage(long entries, long size) {
+}
@@ -0,0 +1,34 @@
+package com.dockersim.repository;
+
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.DockerContainer;
+
+import java.time.LocalDateTime;
+
+/**
+ * docker ps 목록 한 줄에 필요한 값만 담는 projection.
+ * 엔티티나 프록시를 만들지 않도록 JPQL 생성자 표현식({@code SELECT new ...})으로 조회한다.
+ */
+public record ContainerRow(
+        String hexId,
+        String shortHexId,
+        String name,
+        String imageName,
+        LocalDateTime createdAt,
+        ContainerStatus status
+) {
+
+    /**
+     * 메모리에 올라온 컨테이너(hot simulation)에서 목록 행을 만든다. baseImage는 적재 시점에 초기화되어 있어야 한다.
+     */
+    public static ContainerRow from(DockerContainer container) {
+        return new ContainerRow(
+                container.getHexId(),
+                container.getShortHexId(),
+                container.getName(),
+                container.getBaseImage() == null ? null : container.getBaseImage().getName(),
+                container.getCreatedAt(),
+                container.getStatus()
+        );
+    }
+}
@@ -35,7 +35,27 @@ public interface DockerContainerRepository extends JpaRepository<DockerContainer
             @Param("status") ContainerStatus status
     );
 
-    List<DockerContainer> findAllBySimulation(Simulation simulation);
+    /*
+    target
+        - hot simulation 적재 (baseImage까지 한 번에 조회)
+     */
+    @Query("""
+            SELECT c
+            FROM DockerContainer c
+            LEFT JOIN FETCH c.baseImage
+            WHERE c.simulation.id = :simulationId
+            ORDER BY c.id
+            """)
+    List<DockerContainer> findAllWithBaseImageBySimulationId(@Param("simulationId") Long simulationId);
 
-    List<DockerContainer> findAllBySimulationAndStatus(Simulation simulation, ContainerStatus status);
+    /*
+    target
+        - 이름/ID 색인 적재
+     */
+    @Query("""
+            SELECT c.id AS id, c.name AS name, c.hexId AS hexId
+            FROM DockerContainer c
+            WHERE c.simulation.id = :simulationId
+            """)
+    List<IdentifierView> findIdentifiersBySimulationId(@Param("simulationId") Long simulationId);
 }
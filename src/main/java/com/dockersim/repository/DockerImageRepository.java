@@ -4,6 +4,7 @@ import com.dockersim.domain.DockerImage;
 import com.dockersim.domain.ImageLocation;
 import com.dockersim.domain.Simulation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -42,29 +43,36 @@ public interface DockerImageRepository extends JpaRepository<DockerImage, Long>
     Optional<DockerImage> findBySimulationAndHexIdStartsWithAndLocation(Simulation simulation, String hexId,
                                                                         ImageLocation location);
 
-    @Query("SELECT d FROM DockerImage d "
-            + "WHERE d.simulation = :simulation "
-            + "AND d.location = 'LOCAL' "
-            + "AND d.name <> '<none>' "
-            + "AND d.tag <> '<none>'")
-    List<DockerImage> findNotDanglingImageBySimulation(@Param("simulation") Simulation simulation);
+    List<DockerImage> findBySimulationAndHexIdAndLocation(Simulation simulation, String hexId,
+                                                          ImageLocation location);
 
-    @Query("SELECT d FROM DockerImage d "
-            + "WHERE d.simulation = :simulation "
-            + "AND d.location = 'LOCAL'")
-    List<DockerImage> findBySimulation(@Param("simulation") Simulation simulation);
 
     @Query("SELECT d FROM DockerImage d "
             + "WHERE d.simulation = :simulation "
-            + "AND d.name = '<none>' "
-            + "AND d.tag = '<none>' "
             + "AND d.location = 'LOCAL'")
-    List<DockerImage> findDanglingImageBySimulationInLocal(@Param("simulation") Simulation simulation);
+    List<DockerImage> findBySimulation(@Param("simulation") Simulation simulation);
 
-    @Query("SELECT d FROM DockerImage d "
-            + "WHERE d.simulation = :simulation "
-            + "AND d.containers IS EMPTY")
-    List<DockerImage> findUnreferencedImageBySimulationInLocal(@Param("simulation") Simulation simulation);
+    /*
+    docker image prune 대상: 컨테이너가 기반 이미지로 쓰지 않는 로컬 이미지. all이 false이면 댕글링 이미지만.
+    조회와 삭제는 같은 조건을 쓰므로, 명령이 시뮬레이션별로 하나씩 실행되는 동안에는 같은 이미지를 가리킨다.
+     */
+    String PRUNE_CANDIDATES = "FROM DockerImage d "
+            + "WHERE d.simulation.id = :simulationId "
+            + "AND d.location = com.dockersim.domain.ImageLocation.LOCAL "
+            + "AND (:all = true OR (d.name = '<none>' AND d.tag = '<none>')) "
+            + "AND NOT EXISTS (SELECT c.id FROM DockerContainer c WHERE c.baseImage = d)";
+
+    @Query("SELECT new com.dockersim.repository.PruneCandidateRow(d.id, d.hexId, d.shortHexId, d.namespace, "
+            + "d.name, d.tag, d.createdAt, d.layerIds) " + PRUNE_CANDIDATES + " ORDER BY d.id")
+    List<PruneCandidateRow> findPruneCandidates(@Param("simulationId") Long simulationId, @Param("all") boolean all);
+
+    /**
+     * {@link #findPruneCandidates}와 같은 이미지를 DELETE 한 번으로 지운다. 엔티티 리스너를 거치지 않으므로
+     * 레이어 참조와 식별자 색인은 호출한 쪽에서 반영한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE " + PRUNE_CANDIDATES)
+    int deletePruneCandidates(@Param("simulationId") Long simulationId, @Param("all") boolean all);
 
     @Query("SELECT d FROM DockerImage  d "
             + "WHERE d.simulation = :simulation "
@@ -148,4 +156,15 @@ public interface DockerImageRepository extends JpaRepository<DockerImage, Long>
             @Param("name") String name
     );
 
+    /*
+    target
+        - 이름/ID 색인 적재 (로컬 이미지의 ID 접두사 조회)
+     */
+    @Query("""
+            SELECT i.id AS id, i.name AS name, i.hexId AS hexId
+            FROM DockerImage i
+            WHERE i.simulation.id = :simulationId
+                AND i.location = 'LOCAL'
+            """)
+    List<IdentifierView> findLocalIdentifiersBySimulationId(@Param("simulationId") Long simulationId);
 }
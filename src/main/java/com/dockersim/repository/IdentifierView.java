@@ -0,0 +1,13 @@
+package com.dockersim.repository;
+
+/**
+ * 이름/ID 색인 적재용 projection
+ */
+public interface IdentifierView {
+
+    Long getId();
+
+    String getName();
+
+    String getHexId();
+}
@@ -0,0 +1,31 @@
+package com.dockersim.repository;
+
+import com.dockersim.domain.DockerImage;
+
+import java.time.LocalDateTime;
+
+/**
+ * docker image ls 목록 한 줄에 필요한 값만 담는 projection.
+ * 엔티티나 프록시를 만들지 않도록 JPQL 생성자 표현식({@code SELECT new ...})으로 조회한다.
+ */
+public record ImageRow(
+        String hexId,
+        String shortHexId,
+        String name,
+        String tag,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * 메모리에 올라온 이미지(hot simulation)에서 목록 행을 만든다.
+     */
+    public static ImageRow from(DockerImage image) {
+        return new ImageRow(
+                image.getHexId(),
+                image.getShortHexId(),
+                image.getName(),
+                image.getTag(),
+                image.getCreatedAt()
+        );
+    }
+}
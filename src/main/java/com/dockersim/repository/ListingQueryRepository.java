@@ -0,0 +1,284 @@
+package com.dockersim.repository;
+
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListPage;
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 목록 명령(ps, image ls, volume ls, network ls)의 조회 쿼리.
+ * <p>
+ * {@code --filter} 조건과 keyset 페이지 조건을 JPQL의 WHERE/ORDER BY/LIMIT으로 내려 보내고,
+ * 생성자 표현식으로 목록 행(projection)만 조회한다. 어떤 조건이든 SQL 한 번으로 끝난다.
+ * <p>
+ * 페이지 기준 행은 {@code after}로 받은 ID/이름을 서브쿼리로 PK로 바꿔 비교한다.
+ * 기준 행을 찾지 못하면 비교 대상이 NULL이 되어 빈 목록이 반환된다.
+ * <p>
+ * 시뮬레이션의 객체에는 label이 없으므로 Docker와 같이 {@code label} 필터는 어떤 행과도 일치하지 않는다.
+ */
+@Repository
+public class ListingQueryRepository {
+
+    public static final Set<String> CONTAINER_FILTERS = Set.of("status", "name", "id", "ancestor", "label");
+    public static final Set<String> IMAGE_FILTERS = Set.of("dangling", "reference", "label");
+    public static final Set<String> VOLUME_FILTERS = Set.of("name", "dangling", "label");
+    public static final Set<String> NETWORK_FILTERS = Set.of("name", "id", "dangling", "label");
+
+    private static final String DANGLING = "<none>";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * docker ps / container ls
+     *
+     * @param all false이면 RUNNING 상태만 조회한다. {@code status} 필터가 있으면 필터가 우선한다.
+     */
+    public List<ContainerRow> findContainerRows(Long simulationId, boolean all, ListFilter filter, ListPage page) {
+        if (filter.has("label")) {
+            return List.of();
+        }
+        Jpql jpql = new Jpql("""
+                SELECT new com.dockersim.repository.ContainerRow(c.hexId, c.shortHexId, c.name, i.name, c.createdAt, c.status)
+                FROM DockerContainer c
+                LEFT JOIN c.baseImage i
+                WHERE c.simulation.id = :simulationId""", simulationId);
+
+        if (filter.has("status")) {
+            jpql.where("c.status IN :statuses", "statuses", filter.values("status").stream()
+                    .map(ListingQueryRepository::containerStatus)
+                    .toList());
+        } else if (!all) {
+            jpql.where("c.status = :status", "status", ContainerStatus.RUNNING);
+        }
+        jpql.whereAny(filter.values("name"), (clause, name) -> jpql.like(clause, "c.name", contains(name)));
+        jpql.whereAny(filter.values("id"), (clause, id) -> jpql.like(clause, "c.hexId", startsWith(id)));
+        jpql.whereAny(filter.values("ancestor"), (clause, ancestor) -> ancestor(jpql, clause, ancestor));
+
+        jpql.page(page, "c", """
+                SELECT MIN(p.id) FROM DockerContainer p
+                WHERE p.simulation.id = :simulationId
+                    AND (p.shortHexId = :after OR p.hexId = :after OR p.name = :after)""");
+        return jpql.list(ContainerRow.class);
+    }
+
+    /**
+     * docker image ls
+     *
+     * @param all false이면 댕글링 이미지(&lt;none&gt;:&lt;none&gt;)는 제외한다. {@code dangling} 필터가 있으면 필터가 우선한다.
+     */
+    public List<ImageRow> findLocalImageRows(Long simulationId, boolean all, ListFilter filter, ListPage page) {
+        if (filter.has("label")) {
+            return List.of();
+        }
+        Jpql jpql = new Jpql("""
+                SELECT new com.dockersim.repository.ImageRow(d.hexId, d.shortHexId, d.name, d.tag, d.createdAt)
+                FROM DockerImage d
+                WHERE d.simulation.id = :simulationId
+                    AND d.location = 'LOCAL'""", simulationId);
+
+        Boolean dangling = filter.booleanValue("dangling");
+        if (Boolean.TRUE.equals(dangling)) {
+            jpql.where("(d.name = :dangling OR d.tag = :dangling)", "dangling", DANGLING);
+        } else if (Boolean.FALSE.equals(dangling) || !all) {
+            jpql.where("d.name <> :dangling AND d.tag <> :dangling", "dangling", DANGLING);
+        }
+        jpql.whereAny(filter.values("reference"), (clause, reference) -> reference(jpql, clause, reference));
+
+        jpql.page(page, "d", """
+                SELECT MIN(p.id) FROM DockerImage p
+                WHERE p.simulation.id = :simulationId
+                    AND p.location = 'LOCAL'
+                    AND (p.shortHexId = :after OR p.hexId = :after)""");
+        return jpql.list(ImageRow.class);
+    }
+
+    /**
+     * docker volume ls
+     */
+    public List<VolumeRow> findVolumeRows(Long simulationId, ListFilter filter, ListPage page) {
+        if (filter.has("label")) {
+            return List.of();
+        }
+        Jpql jpql = new Jpql("""
+                SELECT new com.dockersim.repository.VolumeRow(v.name, v.createAt)
+                FROM DockerVolume v
+                WHERE v.simulation.id = :simulationId""", simulationId);
+
+        jpql.whereAny(filter.values("name"), (clause, name) -> jpql.like(clause, "v.name", contains(name)));
+        Boolean dangling = filter.booleanValue("dangling");
+        if (dangling != null) {
+            jpql.where(dangling ? "v.containerVolumes IS EMPTY" : "v.containerVolumes IS NOT EMPTY");
+        }
+
+        jpql.page(page, "v", """
+                SELECT MIN(p.id) FROM DockerVolume p
+                WHERE p.simulation.id = :simulationId AND p.name = :after""");
+        return jpql.list(VolumeRow.class);
+    }
+
+    /**
+     * docker network ls
+     */
+    public List<NetworkRow> findNetworkRows(Long simulationId, ListFilter filter, ListPage page) {
+        if (filter.has("label")) {
+            return List.of();
+        }
+        Jpql jpql = new Jpql("""
+                SELECT new com.dockersim.repository.NetworkRow(n.hexId, n.shortHexId, n.name, n.createdAt)
+                FROM DockerNetwork n
+                WHERE n.simulation.id = :simulationId""", simulationId);
+
+        jpql.whereAny(filter.values("name"), (clause, name) -> jpql.like(clause, "n.name", contains(name)));
+        jpql.whereAny(filter.values("id"), (clause, id) -> jpql.like(clause, "n.hexId", startsWith(id)));
+        Boolean dangling = filter.booleanValue("dangling");
+        if (dangling != null) {
+            jpql.where(dangling ? "n.containerNetworks IS EMPTY" : "n.containerNetworks IS NOT EMPTY");
+        }
+
+        jpql.page(page, "n", """
+                SELECT MIN(p.id) FROM DockerNetwork p
+                WHERE p.simulation.id = :simulationId
+                    AND (p.shortHexId = :after OR p.hexId = :after OR p.name = :after)""");
+        return jpql.list(NetworkRow.class);
+    }
+
+    private static ContainerStatus containerStatus(String value) {
+        try {
+            return ContainerStatus.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(DockerCommandErrorCode.INVALID_LIST_FILTER, "status=" + value);
+        }
+    }
+
+    /*
+    ancestor=<이름>, <이름:태그>, <이미지 ID>
+     */
+    private static void ancestor(Jpql jpql, StringBuilder clause, String ancestor) {
+        String imageId = jpql.bind(ancestor);
+        clause.append("(i.shortHexId = ").append(imageId).append(" OR i.hexId = ").append(imageId).append(" OR ");
+        reference(jpql, clause, "i", ancestor);
+        clause.append(')');
+    }
+
+    private static void reference(Jpql jpql, StringBuilder clause, String reference) {
+        reference(jpql, clause, "d", reference);
+    }
+
+    /*
+    reference=<이름> 또는 <이름:태그>. 와일드카드(*)를 지원한다.
+     */
+    private static void reference(Jpql jpql, StringBuilder clause, String alias, String reference) {
+        int separator = reference.lastIndexOf(':');
+        String name = separator < 0 ? reference : reference.substring(0, separator);
+        clause.append('(');
+        jpql.like(clause, alias + ".name", glob(name));
+        if (separator >= 0) {
+            clause.append(" AND ");
+            jpql.like(clause, alias + ".tag", glob(reference.substring(separator + 1)));
+        }
+        clause.append(')');
+    }
+
+    private static String contains(String value) {
+        return "%" + escape(value) + "%";
+    }
+
+    private static String startsWith(String value) {
+        return escape(value) + "%";
+    }
+
+    private static String glob(String value) {
+        return escape(value).replace('*', '%');
+    }
+
+    private static String escape(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * 조건을 이어 붙이며 JPQL과 파라미터를 함께 만든다.
+     */
+    private final class Jpql {
+
+        private final StringBuilder query;
+        private final Map<String, Object> parameters = new HashMap<>();
+        private Integer maxResults;
+
+        Jpql(String select, Long simulationId) {
+            this.query = new StringBuilder(select);
+            parameters.put("simulationId", simulationId);
+        }
+
+        void where(String condition) {
+            query.append("\n    AND ").append(condition);
+        }
+
+        void where(String condition, String name, Object value) {
+            where(condition);
+            parameters.put(name, value);
+        }
+
+        /**
+         * 같은 키의 값들을 OR로 묶어 하나의 조건으로 추가한다.
+         */
+        void whereAny(List<String> values, ClauseWriter writer) {
+            if (values.isEmpty()) {
+                return;
+            }
+            StringBuilder clause = new StringBuilder("(");
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    clause.append(" OR ");
+                }
+                writer.write(clause, values.get(i));
+            }
+            where(clause.append(')').toString());
+        }
+
+        void like(StringBuilder clause, String path, String pattern) {
+            clause.append(path).append(" LIKE ").append(bind(pattern)).append(" ESCAPE '!'");
+        }
+
+        String bind(Object value) {
+            String name = "p" + parameters.size();
+            parameters.put(name, value);
+            return ":" + name;
+        }
+
+        void page(ListPage page, String alias, String afterSubquery) {
+            String direction = page.latestFirst() ? "DESC" : "ASC";
+            if (page.after() != null) {
+                where(alias + ".id " + (page.latestFirst() ? "<" : ">") + " (" + afterSubquery + ")",
+                        "after", page.after());
+            }
+            query.append("\nORDER BY ").append(alias).append(".id ").append(direction);
+            maxResults = page.limit();
+        }
+
+        <T> List<T> list(Class<T> type) {
+            TypedQuery<T> typed = entityManager.createQuery(query.toString(), type);
+            parameters.forEach(typed::setParameter);
+            if (maxResults != null) {
+                typed.setMaxResults(maxResults);
+            }
+            return typed.getResultList();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ClauseWriter {
+
+        void write(StringBuilder clause, String value);
+    }
+}
@@ -0,0 +1,23 @@
+package com.dockersim.repository;
+
+import com.dockersim.domain.DockerNetwork;
+
+import java.time.LocalDateTime;
+
+/**
+ * docker network ls 목록 한 줄에 필요한 값만 담는 projection.
+ */
+public record NetworkRow(
+        String hexId,
+        String shortHexId,
+        String name,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * 메모리에 올라온 네트워크(hot simulation)에서 목록 행을 만든다.
+     */
+    public static NetworkRow from(DockerNetwork network) {
+        return new NetworkRow(network.getHexId(), network.getShortHexId(), network.getName(), network.getCreatedAt());
+    }
+}
@@ -0,0 +1,20 @@
+package com.dockersim.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * docker image prune으로 지울 이미지 한 건. 엔티티를 만들지 않도록 JPQL 생성자 표현식으로 조회하며,
+ * 지운 뒤 레이어 참조를 내리도록 {@code layerIds}를 함께 읽는다.
+ */
+public record PruneCandidateRow(
+        Long id,
+        String hexId,
+        String shortHexId,
+        String namespace,
+        String name,
+        String tag,
+        LocalDateTime createdAt,
+        List<Long> layerIds
+) {
+}
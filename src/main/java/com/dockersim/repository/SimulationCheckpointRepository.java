@@ -0,0 +1,23 @@
+package com.dockersim.repository;
+
+import com.dockersim.domain.SimulationCheckpoint;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SimulationCheckpointRepository extends JpaRepository<SimulationCheckpoint, Long> {
+
+    /*
+    sequence 시점의 상태를 만들 때 출발점
+     */
+    Optional<SimulationCheckpoint> findFirstBySimulationIdAndSequenceLessThanEqualOrderBySequenceDesc(
+        Long simulationId, long sequence);
+
+    @Modifying
+    @Query("DELETE FROM SimulationCheckpoint c WHERE c.simulationId = :simulationId")
+    int deleteBySimulationId(@Param("simulationId") Long simulationId);
+}
@@ -0,0 +1,36 @@
+package com.dockersim.repository;
+
+import com.dockersim.domain.SimulationJournalEntry;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SimulationJournalEntryRepository extends JpaRepository<SimulationJournalEntry, Long> {
+
+    @Query("SELECT MAX(e.sequence) FROM SimulationJournalEntry e WHERE e.simulationId = :simulationId")
+    Optional<Long> findLatestSequence(@Param("simulationId") Long simulationId);
+
+    Optional<SimulationJournalEntry> findBySimulationIdAndSequence(Long simulationId, long sequence);
+
+    /*
+    체크포인트 이후의 변경분 적용용
+     */
+    List<SimulationJournalEntry> findBySimulationIdAndSequenceBetweenOrderBySequence(Long simulationId,
+        long from, long to);
+
+    /*
+    목록 조회용. 변경분(BLOB)은 읽지 않는다.
+     */
+    List<SimulationJournalEntryView> findBySimulationIdAndSequenceLessThanOrderBySequenceDesc(Long simulationId,
+        long before, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM SimulationJournalEntry e WHERE e.simulationId = :simulationId")
+    int deleteBySimulationId(@Param("simulationId") Long simulationId);
+}
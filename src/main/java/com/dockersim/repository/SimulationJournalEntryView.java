@@ -0,0 +1,20 @@
+package com.dockersim.repository;
+
+import com.dockersim.dto.response.CommandResultStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 명령 기록 목록용 projection (변경분 제외)
+ */
+public interface SimulationJournalEntryView {
+
+    long getSequence();
+
+    String getCommand();
+
+    String getActorPublicId();
+
+    CommandResultStatus getStatus();
+
+    LocalDateTime getExecutedAt();
+}
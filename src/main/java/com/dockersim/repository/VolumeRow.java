@@ -0,0 +1,21 @@
+package com.dockersim.repository;
+
+import com.dockersim.domain.DockerVolume;
+
+import java.time.LocalDateTime;
+
+/**
+ * docker volume ls 목록 한 줄에 필요한 값만 담는 projection.
+ */
+public record VolumeRow(
+        String name,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * 메모리에 올라온 볼륨(hot simulation)에서 목록 행을 만든다.
+     */
+    public static VolumeRow from(DockerVolume volume) {
+        return new VolumeRow(volume.getName(), volume.getCreateAt());
+    }
+}
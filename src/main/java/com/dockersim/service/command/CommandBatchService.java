@@ -0,0 +1,17 @@
+package com.dockersim.service.command;
+
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.dto.request.CommandBatchRequest;
+import com.dockersim.dto.response.CommandBatchResult;
+
+public interface CommandBatchService {
+
+    /**
+     * 여러 명령어를 순서대로 실행하고, 명령별 결과를 반환합니다.
+     *
+     * @param request   실행할 명령어 목록 또는 스크립트와 오류 처리 방식
+     * @param principal 시뮬레이션을 조작할 사용자와 시뮬레이션 인증 정보
+     * @return 명령별 실행 결과
+     */
+    CommandBatchResult execute(CommandBatchRequest request, SimulationUserPrincipal principal);
+}
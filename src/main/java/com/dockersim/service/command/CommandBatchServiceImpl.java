@@ -0,0 +1,119 @@
+package com.dockersim.service.command;
+
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.dto.request.CommandBatchMode;
+import com.dockersim.dto.request.CommandBatchRequest;
+import com.dockersim.dto.response.CommandBatchItemResult;
+import com.dockersim.dto.response.CommandBatchItemStatus;
+import com.dockersim.dto.response.CommandBatchResult;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배치 명령 실행.
+ * <p>
+ * HTTP 요청 하나로 처리되므로 시뮬레이션 권한 검증은 한 번만 이루어지고, 요청 단위 영속성 컨텍스트를 공유한다.
+ * <ul>
+ *     <li>STOP_ON_ERROR: 배치 전체를 하나의 트랜잭션으로 실행하고, 첫 오류에서 중단한 뒤 롤백한다.</li>
+ *     <li>CONTINUE_ON_ERROR: 명령마다 새 트랜잭션으로 실행하여, 실패한 명령이 다른 명령의 반영을 막지 않도록 한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class CommandBatchServiceImpl implements CommandBatchService {
+
+    private final CommandExecutorService commandExecutor;
+    private final TransactionTemplate batchTransaction;
+    private final TransactionTemplate commandTransaction;
+    private final int maxSize;
+
+    public CommandBatchServiceImpl(
+            CommandExecutorService commandExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${dockersim.command.batch.max-size:100}") int maxSize
+    ) {
+        this.commandExecutor = commandExecutor;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.commandTransaction = new TransactionTemplate(transactionManager);
+        this.commandTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public CommandBatchResult execute(CommandBatchRequest request, SimulationUserPrincipal principal) {
+        List<String> commands = request.resolveCommands();
+        if (commands.isEmpty()) {
+            throw new BusinessException(DockerCommandErrorCode.EMPTY_COMMAND_BATCH);
+        }
+        if (commands.size() > maxSize) {
+            throw new BusinessException(DockerCommandErrorCode.TOO_MANY_COMMANDS_IN_BATCH, maxSize, commands.size());
+        }
+
+        CommandBatchMode mode = request.getMode() != null ? request.getMode() : CommandBatchMode.STOP_ON_ERROR;
+        if (mode == CommandBatchMode.CONTINUE_ON_ERROR) {
+            return continueOnError(commands, principal);
+        }
+        return stopOnError(commands, principal);
+    }
+
+    private CommandBatchResult stopOnError(List<String> commands, SimulationUserPrincipal principal) {
+        List<CommandBatchItemResult> results = new ArrayList<>(commands.size());
+
+        Boolean rolledBack = batchTransaction.execute(status -> {
+            for (int i = 0; i < commands.size(); i++) {
+                CommandBatchItemResult result = run(i, commands.get(i), principal);
+                results.add(result);
+                if (result.getStatus() == CommandBatchItemStatus.FAILED) {
+                    status.setRollbackOnly();
+                    for (int j = i + 1; j < commands.size(); j++) {
+                        results.add(CommandBatchItemResult.skipped(j, commands.get(j)));
+                    }
+                    return true;
+                }
+            }
+            return false;
+        });
+
+        return CommandBatchResult.of(CommandBatchMode.STOP_ON_ERROR, Boolean.TRUE.equals(rolledBack), results);
+    }
+
+    private CommandBatchResult continueOnError(List<String> commands, SimulationUserPrincipal principal) {
+        List<CommandBatchItemResult> results = new ArrayList<>(commands.size());
+
+        for (int i = 0; i < commands.size(); i++) {
+            int index = i;
+            CommandBatchItemResult result = commandTransaction.execute(status -> {
+                CommandBatchItemResult itemResult = run(index, commands.get(index), principal);
+                if (itemResult.getStatus() == CommandBatchItemStatus.FAILED) {
+                    status.setRollbackOnly();
+                }
+                return itemResult;
+            });
+            results.add(result);
+        }
+
+        return CommandBatchResult.of(CommandBatchMode.CONTINUE_ON_ERROR, false, results);
+    }
+
+    private CommandBatchItemResult run(int index, String command, SimulationUserPrincipal principal) {
+        try {
+            return CommandBatchItemResult.success(index, command, commandExecutor.execute(command, principal));
+        } catch (BusinessException e) {
+            log.debug("배치 명령 실패 - index: {}, code: {}", index, e.getErrorCode().getCode());
+            return CommandBatchItemResult.failure(index, command, e.getErrorCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("배치 명령 실행 중 예상하지 못한 오류 - index: {}", index, e);
+            DockerCommandErrorCode code = DockerCommandErrorCode.FAILED_EXECUTE_DOCKER_COMMAND;
+            return CommandBatchItemResult.failure(index, command, code, code.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.dockersim.service.command;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 명령이 끝나기 전에 콘솔 출력을 내보내는 통로.
+ * <p>
+ * 명령을 실행하는 쪽(WebSocket 컨트롤러)이 {@link #open(Consumer)}으로 현재 스레드에 출력 대상을 연결하면,
+ * 오래 걸리는 명령(docker build)은 진행되는 대로 {@link #print(List)}로 출력을 먼저 내보낸다.
+ * 내보낸 줄은 명령 결과(CommandResult.console)에도 같은 순서로 들어 있으므로, 연결된 대상이 없으면 아무것도 하지 않는다.
+ */
+public final class CommandConsole {
+
+    private static final ThreadLocal<Consumer<String>> SINK = new ThreadLocal<>();
+
+    private CommandConsole() {
+    }
+
+    /**
+     * 현재 스레드의 출력 대상을 연결한다. 반드시 같은 스레드에서 닫아야 한다.
+     */
+    public static Scope open(Consumer<String> sink) {
+        Scope scope = new Scope(SINK.get());
+        SINK.set(sink);
+        return scope;
+    }
+
+    public static void print(List<String> lines) {
+        Consumer<String> sink = SINK.get();
+        if (sink != null) {
+            lines.forEach(sink);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Consumer<String> previous;
+
+        private Scope(Consumer<String> previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                SINK.remove();
+            } else {
+                SINK.set(previous);
+            }
+        }
+    }
+}
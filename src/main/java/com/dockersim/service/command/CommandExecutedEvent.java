@@ -0,0 +1,19 @@
+package com.dockersim.service.command;
+
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.dto.response.CommandResult;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도커 명령어가 정상적으로 실행된 뒤 발행되는 이벤트.
+ * 트랜잭션 안에서 발행된 경우 커밋 이후에만 리스너가 처리해야 한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommandExecutedEvent {
+
+    private final SimulationUserPrincipal principal;
+    private final String rawCommand;
+    private final CommandResult result;
+}
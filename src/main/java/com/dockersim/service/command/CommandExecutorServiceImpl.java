@@ -1,72 +1,90 @@
 package com.dockersim.service.command;
 
-import com.dockersim.command.DockerCommand;
+import com.dockersim.command.ReadOnlyCommand;
 import com.dockersim.config.SimulationUserPrincipal;
 import com.dockersim.dto.response.CommandResult;
 import com.dockersim.dto.response.ImageRemoveResponse;
 import com.dockersim.exception.BusinessException;
 import com.dockersim.exception.code.DockerCommandErrorCode;
 import com.dockersim.parser.DockerCommandParser;
+import com.dockersim.service.simulation.journal.SimulationJournal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import picocli.CommandLine;
 import picocli.CommandLine.ParseResult;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class CommandExecutorServiceImpl implements CommandExecutorService {
 
-    private final CommandLine.IFactory factory;
+    private final CommandLinePool commandLinePool;
     private final DockerCommandParser parser;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommandMetrics commandMetrics;
+    private final SimulationCommandLanes commandLanes;
+    private final OptimisticConflictRetry conflictRetry;
+    private final SimulationJournal commandJournal;
 
     @Override
     public CommandResult execute(String rawCommand, SimulationUserPrincipal principal) {
-        if (rawCommand == null || !rawCommand.trim().toLowerCase().startsWith("docker")) {
-            throw new BusinessException(DockerCommandErrorCode.INVALID_DOCKER_COMMAND, rawCommand);
+        CommandMetrics.Sample sample = commandMetrics.start();
+        try {
+            CommandResult result = execute(rawCommand, principal, sample);
+            sample.success();
+            return result;
+        } catch (RuntimeException | Error e) {
+            sample.failure(e);
+            throw e;
         }
+    }
 
-        List<String> tokenList = parser.tokenize(rawCommand);
-        String[] args = tokenList.stream().skip(1).toArray(String[]::new);
-
-        System.out.println(Arrays.toString(args));
-        StringWriter writer = new StringWriter();
-        PrintWriter printWriter = new PrintWriter(writer);
-
-        DockerCommand rootCommand = new DockerCommand();
-        rootCommand.setPrincipal(principal);
+    private CommandResult execute(String rawCommand, SimulationUserPrincipal principal, CommandMetrics.Sample sample) {
+        if (!startsWithDocker(rawCommand)) {
+            throw new BusinessException(DockerCommandErrorCode.INVALID_DOCKER_COMMAND, rawCommand);
+        }
 
-        CommandLine cmd = new CommandLine(rootCommand, factory);
+        long startedAt = System.nanoTime();
+        String[] args = parser.parseArguments(rawCommand);
+        sample.tokenize(System.nanoTime() - startedAt);
 
-        // --- 최종 수정된 예외 처리 로직 ---
-        // 람다 내부에서 외부 변수에 접근하기 위해 AtomicReference 사용
-        final AtomicReference<Throwable> executionException = new AtomicReference<>();
+        // 다른 명령과 같은 행을 동시에 바꿔 충돌하면 새 CommandLine으로 처음부터 다시 실행한다.
+        return conflictRetry.execute(() -> run(rawCommand, args, principal, sample));
+    }
 
-        cmd.setExecutionExceptionHandler((ex, commandLine, parseResult) -> {
-            // picocli가 감싼 예외(ExecutionException)에서 원래 예외(cause)를 꺼내 저장합니다.
-            if (ex instanceof picocli.CommandLine.ExecutionException && ex.getCause() != null) {
-                executionException.set(ex.getCause());
+    private CommandResult run(String rawCommand, String[] args, SimulationUserPrincipal principal,
+            CommandMetrics.Sample sample) {
+        // 요청마다 CommandLine 트리를 새로 만들지 않고, 풀에서 미리 구성된 인스턴스를 빌려 사용한다.
+        try (CommandLinePool.Lease lease = commandLinePool.borrow(principal)) {
+            CommandLine cmd = lease.getCommandLine();
+            CommandResult result;
+            if (isReadOnly(cmd, args)) {
+                result = complete(args, lease, sample);
             } else {
-                executionException.set(ex);
+                // 상태를 바꾸는 명령은 같은 시뮬레이션 안에서 한 번에 하나씩 실행하고, 레인을 잡은 채로 기록해 기록 순서를 실행 순서와 맞춘다.
+                result = commandLanes.execute(principal.getSimulationId(),
+                        () -> commandJournal.record(principal, rawCommand, () -> complete(args, lease, sample)));
             }
-            // picocli에는 표준 종료 코드를 반환하고, 예외는 밖에서 처리합니다.
-            return commandLine.getCommandSpec().exitCodeOnExecutionException();
-        });
-
-        cmd.setOut(printWriter);
-        cmd.setErr(printWriter);
+            eventPublisher.publishEvent(new CommandExecutedEvent(principal, rawCommand, result));
+            return result;
+        }
+    }
 
+    private CommandResult complete(String[] args, CommandLinePool.Lease lease, CommandMetrics.Sample sample) {
+        CommandLine cmd = lease.getCommandLine();
+        long startedAt = System.nanoTime();
         cmd.execute(args);
+        sample.picocli(System.nanoTime() - startedAt, lease.getExecutionNanos());
+        sample.command(CommandMetrics.commandName(cmd.getParseResult()));
 
         // cmd.execute()가 끝난 후, 저장된 예외가 있는지 확인합니다.
-        if (executionException.get() != null) {
-            Throwable caught = executionException.get();
+        if (lease.getExecutionException() != null) {
+            Throwable caught = lease.getExecutionException();
 
             // 원인 체인을 따라가며 BusinessException을 찾습니다.
             BusinessException business = unwrapBusinessException(caught);
@@ -80,12 +98,15 @@ public class CommandExecutorServiceImpl implements CommandExecutorService {
             }
             throw new RuntimeException("Command execution failed", caught);
         }
-        // --- 최종 수정된 예외 처리 로직 끝 ---
 
-        ParseResult parseResult = cmd.getParseResult();
+        startedAt = System.nanoTime();
+        CommandResult result = toCommandResult(cmd.getParseResult(), lease.getOutput());
+        sample.map(System.nanoTime() - startedAt);
+        return result;
+    }
 
+    private CommandResult toCommandResult(ParseResult parseResult, String output) {
         if (parseResult.isUsageHelpRequested() || parseResult.isVersionHelpRequested()) {
-            String output = writer.toString();
             return CommandResult.builder()
                     .console(Arrays.asList(output.split(System.lineSeparator())))
                     .build();
@@ -118,6 +139,39 @@ public class CommandExecutorServiceImpl implements CommandExecutorService {
 
         return CommandResult.builder().build();
     }
+    /*
+    파싱 전에 인자를 따라 실행될 하위 명령을 찾아 조회 명령인지 확인한다. 옵션(-로 시작)은 건너뛴다.
+     */
+    private static boolean isReadOnly(CommandLine root, String[] args) {
+        CommandLine current = root;
+        for (String arg : args) {
+            if (arg.startsWith("-")) {
+                continue;
+            }
+            Map<String, CommandLine> subcommands = current.getSubcommands();
+            CommandLine next = subcommands.get(arg);
+            if (next == null) {
+                break;
+            }
+            current = next;
+        }
+        return current.getCommand() instanceof ReadOnlyCommand;
+    }
+
+    /*
+    앞 공백을 제외하고 대소문자 구분 없이 docker로 시작하는지 확인한다(trim/toLowerCase 복사 없이).
+     */
+    private static boolean startsWithDocker(String rawCommand) {
+        if (rawCommand == null) {
+            return false;
+        }
+        int start = 0;
+        while (start < rawCommand.length() && rawCommand.charAt(start) <= ' ') {
+            start++;
+        }
+        return rawCommand.regionMatches(true, start, "docker", 0, "docker".length());
+    }
+
     private BusinessException unwrapBusinessException(Throwable t) {
         // 방어적: 순환 참조 방지 및 과도한 깊이 제한
         int depth = 0;
@@ -0,0 +1,138 @@
+package com.dockersim.service.command;
+
+import com.dockersim.command.DockerCommand;
+import com.dockersim.config.SimulationUserPrincipal;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 미리 구성된 picocli {@link CommandLine} 트리를 재사용하기 위한 풀.
+ * <p>
+ * {@code new CommandLine(new DockerCommand(), factory)}는 모든 하위 명령의 애노테이션을 리플렉션으로 분석하고
+ * {@link CommandLine.IFactory}를 통해 Spring 빈을 다시 주입받기 때문에 요청마다 생성하면 비용이 크다.
+ * CommandLine 인스턴스는 스레드 안전하지 않으므로 하나의 요청이 하나의 인스턴스를 독점적으로 빌려 쓰고,
+ * 사용이 끝나면 principal과 출력 버퍼를 비운 뒤 풀에 반납한다.
+ * 옵션/파라미터 값은 picocli가 파싱할 때마다 초기값으로 되돌리므로 별도로 초기화하지 않는다.
+ * <p>
+ * ThreadLocal 대신 크기가 제한된 큐를 사용하므로 스레드 수와 관계없이 유휴 인스턴스 수가 {@code maxIdle}을 넘지 않는다.
+ */
+@Component
+public class CommandLinePool {
+
+    private final CommandLine.IFactory factory;
+    private final BlockingQueue<Lease> idle;
+
+    public CommandLinePool(
+            CommandLine.IFactory factory,
+            @Value("${dockersim.command.pool.max-idle:64}") int maxIdle
+    ) {
+        this.factory = factory;
+        this.idle = new ArrayBlockingQueue<>(Math.max(1, maxIdle));
+    }
+
+    /**
+     * 유휴 CommandLine을 하나 빌려온다. 유휴 인스턴스가 없으면 새로 생성한다.
+     *
+     * @param principal 이번 명령을 실행하는 사용자/시뮬레이션 정보
+     * @return try-with-resources로 반납할 수 있는 임대 객체
+     */
+    public Lease borrow(SimulationUserPrincipal principal) {
+        Lease lease = idle.poll();
+        if (lease == null) {
+            lease = new Lease(this, factory);
+        }
+        lease.reset(principal);
+        return lease;
+    }
+
+    /**
+     * 현재 풀에 보관 중인 유휴 인스턴스 수
+     */
+    public int idleCount() {
+        return idle.size();
+    }
+
+    private void release(Lease lease) {
+        lease.reset(null);
+        // 풀이 가득 찼다면 그대로 버려 GC에 맡긴다.
+        idle.offer(lease);
+    }
+
+    /**
+     * 풀에서 빌려온 CommandLine과 해당 실행의 출력 버퍼, 실행 중 발생한 예외, 명령 실행 시간을 함께 보관한다.
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private final CommandLinePool pool;
+        private final DockerCommand rootCommand;
+        @Getter
+        private final CommandLine commandLine;
+        private final StringWriter buffer;
+        @Getter
+        private Throwable executionException;
+        /**
+         * 파싱이 끝난 뒤 명령 객체의 실행에 걸린 시간. 파싱 단계에서 실패해 실행되지 않았으면 -1
+         */
+        @Getter
+        private long executionNanos;
+
+        private Lease(CommandLinePool pool, CommandLine.IFactory factory) {
+            this.pool = pool;
+            this.rootCommand = new DockerCommand();
+            this.commandLine = new CommandLine(rootCommand, factory);
+            this.buffer = new StringWriter();
+
+            PrintWriter printWriter = new PrintWriter(buffer, true);
+            commandLine.setOut(printWriter);
+            commandLine.setErr(printWriter);
+
+            CommandLine.IExecutionStrategy runLast = new CommandLine.RunLast();
+            commandLine.setExecutionStrategy(parseResult -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return runLast.execute(parseResult);
+                } finally {
+                    executionNanos = System.nanoTime() - startedAt;
+                }
+            });
+
+            commandLine.setExecutionExceptionHandler((ex, cmd, parseResult) -> {
+                // picocli가 감싼 예외(ExecutionException)에서 원래 예외(cause)를 꺼내 저장합니다.
+                if (ex instanceof CommandLine.ExecutionException && ex.getCause() != null) {
+                    executionException = ex.getCause();
+                } else {
+                    executionException = ex;
+                }
+                // picocli에는 표준 종료 코드를 반환하고, 예외는 밖에서 처리합니다.
+                return cmd.getCommandSpec().exitCodeOnExecutionException();
+            });
+        }
+
+        /**
+         * 이번 실행 동안 out/err로 출력된 내용
+         */
+        public String getOutput() {
+            commandLine.getOut().flush();
+            return buffer.toString();
+        }
+
+        private void reset(SimulationUserPrincipal principal) {
+            rootCommand.setPrincipal(principal);
+            buffer.getBuffer().setLength(0);
+            executionException = null;
+            executionNanos = -1;
+        }
+
+        @Override
+        public void close() {
+            pool.release(this);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.dockersim.service.command;
+
+import com.dockersim.config.metrics.QueryCountInspector;
+import com.dockersim.config.metrics.QueryScope;
+import com.dockersim.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine;
+import picocli.CommandLine.ParseResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도커 명령 실행 지표.
+ * <ul>
+ *     <li>{@code dockersim.command.phase}(command, phase): tokenize / parse / execute / map 단계별 지연 시간 히스토그램</li>
+ *     <li>{@code dockersim.command}(command, outcome): 명령 전체 지연 시간과 성공/실패 건수</li>
+ *     <li>{@code dockersim.command.queries}(command): 명령 하나가 실행한 Hibernate SQL 수</li>
+ *     <li>{@code dockersim.command.errors}(command, code): 실패한 명령의 오류 코드(BusinessException이 아니면 예외 클래스 이름)</li>
+ *     <li>{@code dockersim.command.query.budget.exceeded}(command): SQL 수가 {@code query-budget.max-statements}를 넘은 명령 수</li>
+ *     <li>{@code dockersim.command.query.repeated}(command): 같은 SQL이 {@code query-budget.repeated-statement-threshold}번 이상
+ *     반복된(N+1 의심) 명령 수</li>
+ * </ul>
+ * 예산을 넘거나 N+1이 의심되면 명령 이름, SQL 수, 가장 많이 반복된 SQL을 WARN으로 남긴다.
+ * command 태그는 picocli 명령 트리의 하위 명령 이름(예: {@code container ls})이므로 값의 종류가 명령 수로 제한된다.
+ * 파싱 전에 실패하면 {@code unknown}이다.
+ */
+@Slf4j
+@Component
+public class CommandMetrics {
+
+    static final String UNKNOWN_COMMAND = "unknown";
+
+    private final MeterRegistry registry;
+    private final int maxStatements;
+    private final int repeatedStatementThreshold;
+    private final Map<String, CommandMeters> meters = new ConcurrentHashMap<>();
+
+    public CommandMetrics(
+            MeterRegistry registry,
+            @Value("${dockersim.command.query-budget.max-statements:20}") int maxStatements,
+            @Value("${dockersim.command.query-budget.repeated-statement-threshold:5}") int repeatedStatementThreshold
+    ) {
+        this.registry = registry;
+        this.maxStatements = maxStatements;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    /**
+     * 명령 하나의 측정을 시작한다.
+     */
+    public Sample start() {
+        return new Sample();
+    }
+
+    /**
+     * picocli 실행 결과에서 실행된 하위 명령 이름을 만든다. 루트(docker)만 실행되었으면 {@code docker}.
+     */
+    static String commandName(ParseResult parseResult) {
+        if (parseResult == null) {
+            return UNKNOWN_COMMAND;
+        }
+        List<CommandLine> chain = parseResult.asCommandLineList();
+        if (chain.size() <= 1) {
+            return chain.isEmpty() ? UNKNOWN_COMMAND : chain.get(0).getCommandName();
+        }
+        StringBuilder name = new StringBuilder();
+        for (int i = 1; i < chain.size(); i++) {
+            if (i > 1) {
+                name.append(' ');
+            }
+            name.append(chain.get(i).getCommandName());
+        }
+        return name.toString();
+    }
+
+    private CommandMeters metersFor(String command) {
+        return meters.computeIfAbsent(command, CommandMeters::new);
+    }
+
+    /**
+     * 명령 하나의 단계별 시간과 SQL 수를 모았다가 {@link #success()} 또는 {@link #failure(Throwable)}에서 기록한다.
+     * 측정하지 못한 단계(예: 토큰화 실패 후의 parse)는 기록하지 않는다.
+     * SQL은 스레드 단위로 모으므로 시작한 스레드에서 반드시 둘 중 하나를 호출해야 한다.
+     */
+    public final class Sample {
+
+        private final long startedAt = System.nanoTime();
+        private final QueryScope queries = QueryCountInspector.openScope();
+        private String command = UNKNOWN_COMMAND;
+        private long tokenizeNanos = -1;
+        private long parseNanos = -1;
+        private long executeNanos = -1;
+        private long mapNanos = -1;
+
+        private Sample() {
+        }
+
+        void command(String command) {
+            this.command = command;
+        }
+
+        void tokenize(long nanos) {
+            this.tokenizeNanos = nanos;
+        }
+
+        /**
+         * picocli {@code execute} 전체 시간과 그 중 명령 실행에 걸린 시간으로 parse/execute를 나눈다.
+         */
+        void picocli(long totalNanos, long executeNanos) {
+            if (executeNanos < 0) {
+                this.parseNanos = totalNanos;
+                return;
+            }
+            this.parseNanos = Math.max(0, totalNanos - executeNanos);
+            this.executeNanos = executeNanos;
+        }
+
+        void map(long nanos) {
+            this.mapNanos = nanos;
+        }
+
+        public void success() {
+            record("success");
+        }
+
+        public void failure(Throwable error) {
+            CommandMeters commandMeters = record("error");
+            String code = error instanceof BusinessException business
+                    ? business.getErrorCode().getCode()
+                    : error.getClass().getSimpleName();
+            commandMeters.errors(code).increment();
+        }
+
+        private CommandMeters record(String outcome) {
+            queries.close();
+            CommandMeters commandMeters = metersFor(command);
+            recordPhase(commandMeters.tokenize, tokenizeNanos);
+            recordPhase(commandMeters.parse, parseNanos);
+            recordPhase(commandMeters.execute, executeNanos);
+            recordPhase(commandMeters.map, mapNanos);
+            commandMeters.total(outcome).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            commandMeters.queries.record(queries.count());
+            checkQueryBudget(commandMeters);
+            return commandMeters;
+        }
+
+        private void checkQueryBudget(CommandMeters commandMeters) {
+            boolean overBudget = maxStatements > 0 && queries.count() > maxStatements;
+            Map.Entry<String, Integer> repeated = repeatedStatementThreshold > 0
+                    ? queries.mostRepeated(repeatedStatementThreshold).orElse(null)
+                    : null;
+            if (overBudget) {
+                commandMeters.budgetExceeded.increment();
+            }
+            if (repeated != null) {
+                commandMeters.repeatedStatements.increment();
+            }
+            if (overBudget || repeated != null) {
+                log.warn("명령 [{}] SQL {}건 실행 (예산 {}건){}", command, queries.count(), maxStatements,
+                        repeated == null ? "" : ", N+1 의심 " + repeated.getValue() + "회 반복: " + repeated.getKey());
+            }
+        }
+
+        private void recordPhase(Timer timer, long nanos) {
+            if (nanos >= 0) {
+                timer.record(nanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /*
+    명령마다 Timer.builder로 레지스트리를 다시 조회하지 않도록 명령 이름별로 미터를 한 번만 만든다.
+     */
+    private final class CommandMeters {
+
+        private final String command;
+        private final Timer tokenize;
+        private final Timer parse;
+        private final Timer execute;
+        private final Timer map;
+        private final Timer success;
+        private final Timer error;
+        private final DistributionSummary queries;
+        private final Counter budgetExceeded;
+        private final Counter repeatedStatements;
+        private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+
+        private CommandMeters(String command) {
+            this.command = command;
+            this.tokenize = phase("tokenize");
+            this.parse = phase("parse");
+            this.execute = phase("execute");
+            this.map = phase("map");
+            this.success = outcome("success");
+            this.error = outcome("error");
+            this.queries = DistributionSummary.builder("dockersim.command.queries")
+                    .description("명령 하나가 실행한 SQL 수")
+                    .baseUnit("queries")
+                    .tag("command", command)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.budgetExceeded = Counter.builder("dockersim.command.query.budget.exceeded")
+                    .description("SQL 수가 예산을 넘은 명령 수")
+                    .tag("command", command)
+                    .register(registry);
+            this.repeatedStatements = Counter.builder("dockersim.command.query.repeated")
+                    .description("같은 SQL이 반복 실행된(N+1 의심) 명령 수")
+                    .tag("command", command)
+                    .register(registry);
+        }
+
+        private Timer total(String outcome) {
+            return "success".equals(outcome) ? success : error;
+        }
+
+        private Counter errors(String code) {
+            return errors.computeIfAbsent(code, key -> Counter.builder("dockersim.command.errors")
+                    .description("오류 코드별 명령 실패 수")
+                    .tag("command", command)
+                    .tag("code", key)
+                    .register(registry));
+        }
+
+        private Timer phase(String phase) {
+            return Timer.builder("dockersim.command.phase")
+                    .description("명령 처리 단계별 지연 시간")
+                    .tag("command", command)
+                    .tag("phase", phase)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        private Timer outcome(String outcome) {
+            return Timer.builder("dockersim.command")
+                    .description("명령 전체 지연 시간")
+                    .tag("command", command)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
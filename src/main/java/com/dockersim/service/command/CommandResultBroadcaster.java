@@ -0,0 +1,45 @@
+package com.dockersim.service.command;
+
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.dto.response.CommandResultStatus;
+import com.dockersim.dto.response.SimulationEventMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 시뮬레이션 상태를 바꾼 명령의 결과를 {@code /topic/simulations/{simulationPublicId}/events} 구독자에게 전달한다.
+ * <p>
+ * 트랜잭션 안에서 실행된 명령(예: STOP_ON_ERROR 배치)은 커밋된 뒤에만 전달하고, 롤백되면 전달하지 않는다.
+ * 조회 명령(READ)이나 도움말처럼 상태 변화가 없는 결과는 전달하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommandResultBroadcaster {
+
+    private static final String EVENT_DESTINATION = "/topic/simulations/%s/events";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommandExecuted(CommandExecutedEvent event) {
+        CommandResult result = event.getResult();
+        if (event.getPrincipal() == null || result == null
+            || result.getStatus() == null || result.getStatus() == CommandResultStatus.READ) {
+            return;
+        }
+
+        String simulationPublicId = event.getPrincipal().getSimulationPublicId();
+        try {
+            messagingTemplate.convertAndSend(EVENT_DESTINATION.formatted(simulationPublicId),
+                SimulationEventMessage.from(event));
+        } catch (RuntimeException e) {
+            // 전달 실패가 이미 반영된 명령의 응답에 영향을 주지 않도록 한다.
+            log.warn("시뮬레이션 {} 이벤트 전달 실패", simulationPublicId, e);
+        }
+    }
+}
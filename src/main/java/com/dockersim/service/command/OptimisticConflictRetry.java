@@ -0,0 +1,127 @@
+package com.dockersim.service.command;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌(@Version 불일치)로 실패한 명령을 처음부터 다시 실행한다.
+ * <p>
+ * 재시도는 트랜잭션을 소유한 쪽에서만 의미가 있다. 이미 트랜잭션 안이면 그 트랜잭션은 롤백될 수밖에 없으므로
+ * 재시도하지 않고 충돌을 CONCURRENT_MODIFICATION으로 바꿔 던지고, 트랜잭션을 연 쪽(STOMP 컨트롤러 등)이 다시 실행한다.
+ * 재시도 전에는 영속성 컨텍스트(OSIV)를 비워 오래된 버전의 엔티티를 다시 쓰지 않게 한다.
+ * <p>
+ * {@code max-attempts}번 모두 충돌하면 CONCURRENT_MODIFICATION(409)으로 실패한다.
+ */
+@Slf4j
+@Component
+public class OptimisticConflictRetry {
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Counter retries;
+    private final Counter exhausted;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public OptimisticConflictRetry(
+            MeterRegistry registry,
+            @Value("${dockersim.command.conflict-retry.max-attempts:3}") int maxAttempts,
+            @Value("${dockersim.command.conflict-retry.backoff-ms:10}") long backoffMillis
+    ) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.retries = Counter.builder("dockersim.command.conflict.retries")
+                .description("낙관적 락 충돌로 다시 실행한 명령 수")
+                .register(registry);
+        this.exhausted = Counter.builder("dockersim.command.conflict.exhausted")
+                .description("재시도 후에도 충돌하여 실패한 명령 수")
+                .register(registry);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return translate(action);
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw new BusinessException(DockerCommandErrorCode.CONCURRENT_MODIFICATION);
+                }
+                log.debug("낙관적 락 충돌로 명령을 다시 실행합니다. ({}/{})", attempt, maxAttempts);
+                retries.increment();
+                clearPersistenceContext();
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 예외(원인 포함)가 낙관적 락 충돌인지 여부
+     */
+    static boolean isConflict(Throwable e) {
+        int depth = 0;
+        for (Throwable t = e; t != null && depth++ < 20; t = t.getCause()) {
+            if (t instanceof OptimisticLockingFailureException || t instanceof OptimisticLockException) {
+                return true;
+            }
+            if (t instanceof BusinessException business
+                    && business.getErrorCode() == DockerCommandErrorCode.CONCURRENT_MODIFICATION) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <T> T translate(Supplier<T> action) {
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            if (isConflict(e) && !(e instanceof BusinessException)) {
+                throw new BusinessException(DockerCommandErrorCode.CONCURRENT_MODIFICATION);
+            }
+            throw e;
+        }
+    }
+
+    private void clearPersistenceContext() {
+        if (entityManager != null) {
+            entityManager.clear();
+        }
+    }
+
+    /*
+    충돌한 명령들이 같은 시점에 다시 부딪히지 않도록 시도 횟수에 비례한 대기 시간에 무작위 값을 더한다.
+     */
+    private void backoff(int attempt) {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        long delay = backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(DockerCommandErrorCode.CONCURRENT_MODIFICATION);
+        }
+    }
+}
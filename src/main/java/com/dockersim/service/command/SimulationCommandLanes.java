@@ -0,0 +1,103 @@
+package com.dockersim.service.command;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 시뮬레이션 단위 명령 실행 레인.
+ * <p>
+ * 상태를 바꾸는 명령은 시뮬레이션 ID로 고른 락(striped lock)을 잡은 뒤 실행하므로, 같은 시뮬레이션의 명령은
+ * 도착 순서대로(공정 락) 하나씩 실행되고 서로 다른 시뮬레이션은 다른 락을 쓰므로 병렬로 실행된다.
+ * 락 수가 고정되어 있어 시뮬레이션 수와 관계없이 메모리가 늘지 않으며, 두 시뮬레이션이 같은 락에 배정되면 서로 기다릴 뿐 결과는 같다.
+ * <p>
+ * 트랜잭션 안에서 실행되면 락은 커밋/롤백이 끝난 뒤(afterCompletion) 놓는다. 서비스 메서드가 끝난 직후 락을 놓으면
+ * 다음 명령이 커밋되지 않은 변경을 보지 못하고 같은 검증을 통과할 수 있기 때문이다. 락은 재진입 가능하므로
+ * 배치 명령처럼 한 트랜잭션 안에서 여러 명령을 실행해도 된다.
+ * <p>
+ * 여러 인스턴스로 배포하면 인스턴스 사이의 명령은 직렬화되지 않는다.
+ */
+@Component
+public class SimulationCommandLanes {
+
+    private final ReentrantLock[] stripes;
+    private final long acquireTimeoutMillis;
+    private final Timer waitTimer;
+
+    public SimulationCommandLanes(
+            MeterRegistry registry,
+            @Value("${dockersim.command.lanes.stripes:256}") int stripes,
+            @Value("${dockersim.command.lanes.acquire-timeout-ms:10000}") long acquireTimeoutMillis
+    ) {
+        this.stripes = new ReentrantLock[Integer.highestOneBit(Math.max(1, stripes - 1)) << 1];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock(true);
+        }
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.waitTimer = Timer.builder("dockersim.command.lane.wait")
+                .description("같은 시뮬레이션의 앞선 명령을 기다린 시간")
+                .register(registry);
+    }
+
+    /**
+     * 시뮬레이션 레인을 잡고 작업을 실행한다. {@code acquire-timeout-ms} 안에 잡지 못하면 SIMULATION_COMMAND_BUSY.
+     */
+    public <T> T execute(Long simulationId, Supplier<T> action) {
+        ReentrantLock lock = stripe(simulationId);
+        acquire(lock);
+
+        boolean releaseOnCompletion = false;
+        try {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        lock.unlock();
+                    }
+                });
+                releaseOnCompletion = true;
+            }
+            return action.get();
+        } finally {
+            if (!releaseOnCompletion) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드가 시뮬레이션 레인을 잡고 있는지 여부
+     */
+    public boolean isHeldByCurrentThread(Long simulationId) {
+        return stripe(simulationId).isHeldByCurrentThread();
+    }
+
+    private void acquire(ReentrantLock lock) {
+        long startedAt = System.nanoTime();
+        try {
+            if (!lock.tryLock(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new BusinessException(DockerCommandErrorCode.SIMULATION_COMMAND_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(DockerCommandErrorCode.SIMULATION_COMMAND_BUSY);
+        } finally {
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private ReentrantLock stripe(Long simulationId) {
+        int hash = simulationId.hashCode();
+        hash ^= hash >>> 16;
+        return stripes[hash & (stripes.length - 1)];
+    }
+}
@@ -1,8 +1,11 @@
 package com.dockersim.service.container;
 
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListPage;
 import com.dockersim.domain.ContainerStatus;
 import com.dockersim.domain.DockerContainer;
 import com.dockersim.domain.Simulation;
+import com.dockersim.repository.ContainerRow;
 
 import java.util.List;
 
@@ -11,5 +14,10 @@ public interface DockerContainerFinder {
 
     DockerContainer findBySimulationAndIdentifierAndStatus(Simulation simulation, String nameOrHexId, ContainerStatus status);
 
-    List<DockerContainer> findBySimulation(Simulation simulation, boolean all);
+    /**
+     * docker ps 목록 행을 필터/페이지 조건과 함께 한 번의 쿼리로 조회합니다.
+     *
+     * @param all false이면 RUNNING 상태의 컨테이너만 조회 (status 필터가 있으면 필터가 우선)
+     */
+    List<ContainerRow> findRows(Long simulationId, boolean all, ListFilter filter, ListPage page);
 }
@@ -1,39 +1,86 @@
 package com.dockersim.service.container;
 
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListPage;
 import com.dockersim.domain.ContainerStatus;
 import com.dockersim.domain.DockerContainer;
 import com.dockersim.domain.Simulation;
 import com.dockersim.exception.BusinessException;
 import com.dockersim.exception.code.DockerContainerErrorCode;
+import com.dockersim.repository.ContainerRow;
 import com.dockersim.repository.DockerContainerRepository;
+import com.dockersim.repository.ListingQueryRepository;
+import com.dockersim.service.image.layer.DockerLayerStore;
+import com.dockersim.service.simulation.index.SimulationIdentifierIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class DockerContainerFinderImpl implements DockerContainerFinder {
     private final DockerContainerRepository repo;
+    private final ListingQueryRepository listingQueryRepository;
+    private final SimulationIdentifierIndex identifierIndex;
+    private final DockerLayerStore layerStore;
 
     @Override
     public DockerContainer findByIdentifier(Simulation simulation, String nameOrHexId) {
-        return repo.findByNameOrHexId(simulation, nameOrHexId).orElseThrow(
+        return withBaseImageLayers(resolve(simulation, nameOrHexId).orElseThrow(
                 () -> new BusinessException(DockerContainerErrorCode.NOT_FOUND_CONTAINER, nameOrHexId)
-        );
+        ));
     }
 
     @Override
     public DockerContainer findBySimulationAndIdentifierAndStatus(Simulation simulation, String nameOrHexId, ContainerStatus status) {
-        return repo.findBySimulationAndIdentifierAndStatus(simulation, nameOrHexId, status)
-                .orElseThrow(() -> new BusinessException(DockerContainerErrorCode.NOT_FOUND_CONTAINER, nameOrHexId));
+        return withBaseImageLayers(resolve(simulation, nameOrHexId)
+                .filter(container -> container.getStatus() == status)
+                .orElseThrow(() -> new BusinessException(DockerContainerErrorCode.NOT_FOUND_CONTAINER, nameOrHexId)));
+    }
+
+    /*
+    응답에 base image의 레이어가 들어가므로 함께 채운다.
+     */
+    private DockerContainer withBaseImageLayers(DockerContainer container) {
+        layerStore.fillLayers(Collections.singletonList(container.getBaseImage()));
+        return container;
     }
 
     @Override
-    public List<DockerContainer> findBySimulation(Simulation simulation, boolean all) {
-        if (all) {
-            return repo.findAllBySimulation(simulation);
+    public List<ContainerRow> findRows(Long simulationId, boolean all, ListFilter filter, ListPage page) {
+        return listingQueryRepository.findContainerRows(simulationId, all, filter, page);
+    }
+
+    /*
+    이름, short ID, ID 접두사를 색인에서 찾고 기본 키로 조회한다.
+    색인에 없거나 색인의 결과가 실제와 다르면 기존 쿼리로 확인하고 색인을 다시 적재하도록 한다.
+     */
+    private Optional<DockerContainer> resolve(Simulation simulation, String nameOrHexId) {
+        long containerId = identifierIndex.resolveContainer(simulation.getId(), nameOrHexId);
+        if (containerId == SimulationIdentifierIndex.AMBIGUOUS) {
+            throw new BusinessException(DockerContainerErrorCode.AMBIGUOUS_CONTAINER_IDENTIFIER, nameOrHexId);
+        }
+        if (containerId != SimulationIdentifierIndex.NOT_FOUND) {
+            Optional<DockerContainer> indexed = repo.findById(containerId)
+                    .filter(container -> matches(container, simulation, nameOrHexId));
+            if (indexed.isPresent()) {
+                return indexed;
+            }
         }
-        return repo.findAllBySimulationAndStatus(simulation, ContainerStatus.RUNNING);
+
+        Optional<DockerContainer> found = repo.findByNameOrHexId(simulation, nameOrHexId);
+        if (containerId != SimulationIdentifierIndex.NOT_FOUND || found.isPresent()) {
+            identifierIndex.invalidate(simulation.getId());
+        }
+        return found;
+    }
+
+    private static boolean matches(DockerContainer container, Simulation simulation, String nameOrHexId) {
+        return Objects.equals(container.getSimulation().getId(), simulation.getId())
+                && (nameOrHexId.equals(container.getName()) || container.getHexId().startsWith(nameOrHexId));
     }
 }
@@ -1,5 +1,6 @@
 package com.dockersim.service.container;
 
+import com.dockersim.common.listing.ListOptions;
 import com.dockersim.config.SimulationUserPrincipal;
 import com.dockersim.dto.response.DockerContainerResponse;
 
@@ -14,7 +15,7 @@ public interface DockerContainerService {
                          String containerNameOrHexId);
 
     List<String> ps(SimulationUserPrincipal principal,
-                    boolean all, boolean quiet);
+                    boolean all, boolean quiet, ListOptions options);
 
     DockerContainerResponse pause(SimulationUserPrincipal principal, String containerNameOrHexId);
 
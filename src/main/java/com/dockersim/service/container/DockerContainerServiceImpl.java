@@ -1,23 +1,33 @@
 package com.dockersim.service.container;
 
+import com.dockersim.common.InspectRenderer;
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListFormat;
+import com.dockersim.common.listing.ListOptions;
+import com.dockersim.common.listing.ListPage;
 import com.dockersim.config.SimulationUserPrincipal;
 import com.dockersim.domain.*;
 import com.dockersim.dto.response.ContainerInspectData;
 import com.dockersim.dto.response.DockerContainerResponse;
 import com.dockersim.exception.BusinessException;
-import com.dockersim.exception.code.DockerImageErrorCode;
+import com.dockersim.exception.code.DockerContainerErrorCode;
+import com.dockersim.repository.ContainerRow;
 import com.dockersim.repository.DockerContainerRepository;
+import com.dockersim.repository.ListingQueryRepository;
 import com.dockersim.service.image.DockerImageFinder;
 import com.dockersim.service.simulation.SimulationFinder;
+import com.dockersim.service.simulation.hot.HotSimulationEngine;
 import com.dockersim.service.user.UserFinder;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.dockersim.util.FixedWidthRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -28,6 +38,8 @@ public class DockerContainerServiceImpl implements DockerContainerService {
     private final DockerImageFinder dockerImageFinder;
     private final DockerContainerFinder dockerContainerFinder;
     private final UserFinder userFinder;
+    private final HotSimulationEngine hotSimulationEngine;
+    private final InspectRenderer inspectRenderer;
 
     private final DockerContainerRepository repo;
 
@@ -53,67 +65,91 @@ public class DockerContainerServiceImpl implements DockerContainerService {
     @Override
     public List<String> inspect(SimulationUserPrincipal principal, String containerNameOrHexId) {
         log.debug("컨테이너 상세 조회 전 검증");
-        Simulation simulation = simulationFinder.findByPublicId(principal.getSimulationPublicId());
+        Simulation simulation = simulationFinder.findById(principal.getSimulationId());
 
         log.debug("컨테이너 조회");
         DockerContainer container = dockerContainerFinder.findByIdentifier(simulation, containerNameOrHexId);
 
         log.debug("컨테이너 상세 정보 재가공");
         ContainerInspectData inspectData = ContainerInspectData.from(container);
-        try {
-            String json = new ObjectMapper()
-                    .writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(List.of(inspectData));
-            return List.of(json);
-        } catch (JsonProcessingException e) {
-            log.error(e.getMessage());
-            throw new BusinessException(DockerImageErrorCode.FAIL_CONVERT_INSPECT);
-        }
+        return inspectRenderer.render(inspectData);
     }
 
+    /*
+    docker ps --format에서 사용할 수 있는 필드
+     */
+    private static final Map<String, ListFormat.Column<ContainerRow>> PS_COLUMNS = Map.of(
+            "ID", new ListFormat.Column<>("CONTAINER ID", ContainerRow::shortHexId),
+            "Names", new ListFormat.Column<>("NAMES", ContainerRow::name),
+            "Image", new ListFormat.Column<>("IMAGE", ContainerRow::imageName),
+            "CreatedAt", new ListFormat.Column<>("CREATED AT", ContainerRow::createdAt),
+            "Status", new ListFormat.Column<>("STATUS", ContainerRow::status)
+    );
+
     @Override
-    public List<String> ps(SimulationUserPrincipal principal, boolean all, boolean quiet) {
-        Simulation simulation = simulationFinder.findById(principal.getSimulationId());
-        List<DockerContainer> containers = dockerContainerFinder.findBySimulation(simulation, all);
+    public List<String> ps(SimulationUserPrincipal principal, boolean all, boolean quiet, ListOptions options) {
+        ListFilter filter = ListFilter.parse(options.getFilters(), ListingQueryRepository.CONTAINER_FILTERS);
+        ListFormat<ContainerRow> format = ListFormat.parse(options.getFormat(), PS_COLUMNS);
+        ListPage page = options.toPage();
+        boolean showAll = all || options.impliesAll();
+
+        Long simulationId = principal.getSimulationId();
+        List<ContainerRow> containers;
+        if (hotSimulationEngine.isEnabled() && filter.isEmpty() && page.isUnbounded()) {
+            containers = hotSimulationEngine.access(simulationId,
+                    hot -> hot.findContainers(showAll).stream().map(ContainerRow::from).toList());
+        } else {
+            // 필터/페이지 조건은 DB에서 처리하므로 메모리에만 있는 변경분을 먼저 반영한다.
+            hotSimulationEngine.flush(simulationId);
+            // 목록 조회는 읽기 전용이므로 시뮬레이션 엔티티를 따로 조회하지 않고 ID로 바로 한 번에 조회한다.
+            containers = dockerContainerFinder.findRows(simulationId, showAll, filter, page);
+        }
 
-        Stream<String> headerStream, bodyStream;
         if (quiet) {
-            headerStream = Stream.of("CONTAINER ID");
-            bodyStream = containers.stream().map(DockerContainer::getHexId);
-        } else {
-            headerStream = String.format("%-25s %-20s %-20s %-15s", "CONTAINER ID", "IMAGE", "CREATED", "STATUS").lines();
-            bodyStream = containers.stream().map(
-                    container ->
-                            String.format(
-                                    "%-25s %-20s %-20s %-15s",
-                                    container.getShortHexId(),
-                                    container.getBaseImage().getName(),
-                                    container.getCreatedAt(),
-                                    container.getStatus()
-                            )
-            );
+            List<String> lines = new ArrayList<>(containers.size() + 1);
+            lines.add("CONTAINER ID");
+            containers.forEach(container -> lines.add(container.hexId()));
+            return lines;
+        }
+        if (format != null) {
+            return format.render(containers);
+        }
+
+        List<String> lines = new ArrayList<>(containers.size() + 1);
+
+        FixedWidthRow row = new FixedWidthRow(25, 20, 20, 15);
+        lines.add(row.cell("CONTAINER ID").cell("IMAGE").cell("CREATED").cell("STATUS").build());
+        for (ContainerRow container : containers) {
+            lines.add(row.cell(container.shortHexId())
+                    .cell(container.imageName())
+                    .cell(container.createdAt())
+                    .cell(container.status())
+                    .build());
         }
-        return Stream.concat(headerStream, bodyStream).toList();
+        return lines;
     }
 
     @Override
     public DockerContainerResponse pause(SimulationUserPrincipal principal, String containerNameOrHexId) {
         log.debug("컨테이너 일시 중지 전 검증");
-        Simulation simulation = simulationFinder.findById(principal.getSimulationId());
-
-        DockerContainer container = dockerContainerFinder.findBySimulationAndIdentifierAndStatus(simulation, containerNameOrHexId, ContainerStatus.RUNNING);
-        container.pause();
-
-
-        return DockerContainerResponse.from(
-                List.of("[Pause Container]: " + container.getShortHexId()),
-                repo.save(container)
-        );
+        return changeStatus(principal, containerNameOrHexId, ContainerStatus.RUNNING, DockerContainer::pause,
+                "[Pause Container]: ");
     }
 
     @Override
     public List<DockerContainerResponse> restart(SimulationUserPrincipal principal, String containerNameOrHexId) {
-        return List.of(stop(principal, containerNameOrHexId), start(principal, containerNameOrHexId));
+        log.debug("컨테이너 재시작 전 검증");
+        // stop()과 start()를 따로 호출하면 충돌 재시도 시 이미 멈춘 컨테이너를 RUNNING으로 다시 찾게 되므로
+        // 한 번 조회한 컨테이너에서 중지와 시작을 모두 수행하고 한 번만 저장한다.
+        return transition(principal, containerNameOrHexId, ContainerStatus.RUNNING, container -> {
+            container.stop();
+            DockerContainerResponse stopped = DockerContainerResponse.from(
+                    List.of("[Stop Container]: " + container.getShortHexId()), container);
+            container.start();
+            DockerContainerResponse started = DockerContainerResponse.from(
+                    List.of("[Pause Container]: " + container.getShortHexId()), container);
+            return List.of(stopped, started);
+        });
     }
 
     @Override
@@ -133,43 +169,66 @@ public class DockerContainerServiceImpl implements DockerContainerService {
     @Override
     public DockerContainerResponse start(SimulationUserPrincipal principal, String containerNameOrHexId) {
         log.debug("컨테이너 시작 전 검증");
-        Simulation simulation = simulationFinder.findById(principal.getSimulationId());
-
-        DockerContainer container = dockerContainerFinder.findBySimulationAndIdentifierAndStatus(simulation, containerNameOrHexId, ContainerStatus.EXITED);
-        container.start();
-
-        return DockerContainerResponse.from(
-                List.of("[Pause Container]: " + container.getShortHexId()),
-                repo.save(container)
-        );
+        return changeStatus(principal, containerNameOrHexId, ContainerStatus.EXITED, DockerContainer::start,
+                "[Pause Container]: ");
     }
 
     @Override
     public DockerContainerResponse stop(SimulationUserPrincipal principal, String containerNameOrHexId) {
         log.debug("컨테이너 중지 전 검증");
-        Simulation simulation = simulationFinder.findById(principal.getSimulationId());
-
-        DockerContainer container = dockerContainerFinder.findBySimulationAndIdentifierAndStatus(simulation, containerNameOrHexId, ContainerStatus.RUNNING);
-        container.stop();
-
-        return DockerContainerResponse.from(
-                List.of("[Stop Container]: " + container.getShortHexId()),
-                repo.save(container)
-        );
+        return changeStatus(principal, containerNameOrHexId, ContainerStatus.RUNNING, DockerContainer::stop,
+                "[Stop Container]: ");
     }
 
     @Override
     public DockerContainerResponse unpause(SimulationUserPrincipal principal, String containerNameOrHexId) {
-
         log.debug("컨테이너 일시 중지 해제 전 검증");
-        Simulation simulation = simulationFinder.findById(principal.getSimulationId());
+        return changeStatus(principal, containerNameOrHexId, ContainerStatus.PAUSED, DockerContainer::unpause,
+                "[Unpause Container]: ");
+    }
 
-        DockerContainer container = dockerContainerFinder.findBySimulationAndIdentifierAndStatus(simulation, containerNameOrHexId, ContainerStatus.PAUSED);
-        container.unpause();
+    /*
+    start/stop/pause/unpause 공통 처리
+     */
+    private DockerContainerResponse changeStatus(
+            SimulationUserPrincipal principal,
+            String containerNameOrHexId,
+            ContainerStatus requiredStatus,
+            Consumer<DockerContainer> transition,
+            String consolePrefix
+    ) {
+        return transition(principal, containerNameOrHexId, requiredStatus, container -> {
+            transition.accept(container);
+            return DockerContainerResponse.from(List.of(consolePrefix + container.getShortHexId()), container);
+        });
+    }
 
-        return DockerContainerResponse.from(
-                List.of("[Unpause Container]: " + container.getShortHexId()),
-                repo.save(container)
-        );
+    /*
+    컨테이너 한 건을 조회해 상태를 바꾸고 저장하는 단위
+    - hot simulation이 활성화되어 있으면 메모리에서 상태를 바꾸고 write-behind 대상으로 등록한다.
+    - 그렇지 않으면 DB에서 조회 후 바로 저장한다.
+     */
+    private <T> T transition(
+            SimulationUserPrincipal principal,
+            String containerNameOrHexId,
+            ContainerStatus requiredStatus,
+            Function<DockerContainer, T> action
+    ) {
+        if (hotSimulationEngine.isEnabled()) {
+            return hotSimulationEngine.access(principal.getSimulationId(), hot -> {
+                DockerContainer container = hot.findContainer(containerNameOrHexId, requiredStatus).orElseThrow(
+                        () -> new BusinessException(DockerContainerErrorCode.NOT_FOUND_CONTAINER, containerNameOrHexId));
+                T result = action.apply(container);
+                hot.markDirty(container);
+                return result;
+            });
+        }
+
+        Simulation simulation = simulationFinder.findById(principal.getSimulationId());
+
+        DockerContainer container = dockerContainerFinder.findBySimulationAndIdentifierAndStatus(simulation, containerNameOrHexId, requiredStatus);
+        T result = action.apply(container);
+        repo.save(container);
+        return result;
     }
 }
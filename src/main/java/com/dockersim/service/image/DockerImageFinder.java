@@ -1,9 +1,12 @@
 package com.dockersim.service.image;
 
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListPage;
 import com.dockersim.domain.DockerImage;
 import com.dockersim.domain.ImageLocation;
 import com.dockersim.domain.Simulation;
 import com.dockersim.dto.util.ImageMeta;
+import com.dockersim.repository.ImageRow;
 
 import java.util.List;
 
@@ -79,13 +82,12 @@ public interface DockerImageFinder {
 	 */
 
     /**
-     * Loacl에 있는 모든 Image를 조회합니다.
-     *
-     * @param simulation Image가 속한 simulation
-     * @param all
+     * Local에 있는 Image의 목록 행(docker image ls)을 필터/페이지 조건과 함께 한 번의 쿼리로 조회합니다.
      *
+     * @param simulationId Image가 속한 simulation ID
+     * @param all          false이면 댕글링 이미지(&lt;none&gt;:&lt;none&gt;)는 제외 (dangling 필터가 있으면 필터가 우선)
      */
-    List<DockerImage> findBySimulationInLocal(Simulation simulation, boolean all);
+    List<ImageRow> findLocalRows(Long simulationId, boolean all, ListFilter filter, ListPage page);
 
 	/*
 	image pull
@@ -135,20 +137,6 @@ public interface DockerImageFinder {
 
     // -----------------------------------------------------------------
 
-    /**
-     * Local에서 댕글링 이미지를 조회합니다.
-     *
-     * @param simulation Image가 속한 simulation
-     */
-    List<DockerImage> findDanglingImageBySimulationInLocal(Simulation simulation);
-
-    /**
-     * Local에서 참조되지 않는 Image를 조회합니다.
-     *
-     * @param simulation Image가 속한 simulation
-     */
-    List<DockerImage> findUnreferencedImageBySimulationInLocal(Simulation simulation);
-
     DockerImage findByIdentifierAndLocation(Simulation simulation, String nameOrShortHexId,
                                             ImageLocation location);
 }
@@ -1,5 +1,7 @@
 package com.dockersim.service.image;
 
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListPage;
 import com.dockersim.domain.DockerImage;
 import com.dockersim.domain.DockerOfficeImage;
 import com.dockersim.domain.ImageLocation;
@@ -8,7 +10,11 @@ import com.dockersim.dto.util.ImageMeta;
 import com.dockersim.exception.BusinessException;
 import com.dockersim.exception.code.DockerImageErrorCode;
 import com.dockersim.repository.DockerImageRepository;
+import com.dockersim.repository.ImageRow;
+import com.dockersim.repository.ListingQueryRepository;
 import com.dockersim.repository.DockerOfficeImageRepository;
+import com.dockersim.service.image.layer.DockerLayerStore;
+import com.dockersim.service.simulation.index.SimulationIdentifierIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +23,10 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+/**
+ * 이미지 엔티티를 돌려주는 조회는 레이어 내용({@link DockerImage#getLayers()})을 채워서 돌려준다.
+ * 조회한 이미지를 모아 {@link DockerLayerStore#fillLayers}로 한 번에 채우므로 캐시에 없는 레이어가 있어도 조회당 SELECT는 한 번이다.
+ */
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -24,6 +34,9 @@ public class DockerImageFinderImpl implements DockerImageFinder {
 
     private final DockerImageRepository repo;
     private final DockerOfficeImageRepository officeImageRepo;
+    private final ListingQueryRepository listingQueryRepository;
+    private final SimulationIdentifierIndex identifierIndex;
+    private final DockerLayerStore layerStore;
 
     @Override
     public DockerImage findImageOrNull(
@@ -31,6 +44,10 @@ public class DockerImageFinderImpl implements DockerImageFinder {
             ImageMeta info,
             ImageLocation location
     ) {
+        return withLayers(findImageWithoutLayersOrNull(simulation, info, location));
+    }
+
+    private DockerImage findImageWithoutLayersOrNull(Simulation simulation, ImageMeta info, ImageLocation location) {
         return repo.findBySimulationAndNamespaceAndNameAndTagAndLocation(
                 simulation, info.getNamespace(), info.getName(), info.getTag(), location
         ).orElse(null);
@@ -38,7 +55,7 @@ public class DockerImageFinderImpl implements DockerImageFinder {
 
     @Override
     public DockerImage findImageByNameBeforeShortHexId(Simulation simulation, ImageMeta meta, ImageLocation location) {
-        return repo.findBySimulationAndShortHexIdAndLocation(simulation, meta.getFullName(), location).orElseGet(
+        return withLayers(repo.findBySimulationAndShortHexIdAndLocation(simulation, meta.getFullName(), location).orElseGet(
                 () -> repo.findBySimulationAndNameAndTagAndLocation(
                                 simulation,
                                 meta.getName(),
@@ -47,15 +64,15 @@ public class DockerImageFinderImpl implements DockerImageFinder {
                         )
                         .orElseThrow(
                                 () -> new BusinessException(DockerImageErrorCode.IMAGE_NOT_FOUND, location, meta.getFullName()))
-        );
+        ));
     }
 
     @Override
     public DockerImage findImage(Simulation simulation, ImageMeta meta, ImageLocation location) {
-        return repo.findBySimulationAndNameAndTagAndLocation(simulation, meta.getName(), meta.getTag(), location)
+        return withLayers(repo.findBySimulationAndNameAndTagAndLocation(simulation, meta.getName(), meta.getTag(), location)
                 .orElseThrow(
                         () -> new BusinessException(DockerImageErrorCode.IMAGE_NOT_FOUND, location, meta.getFullName())
-                );
+                ));
     }
 
     @Override
@@ -64,9 +81,9 @@ public class DockerImageFinderImpl implements DockerImageFinder {
             ImageMeta info,
             ImageLocation location
     ) {
-        return repo.findBySimulationAndNamespaceAndNameAndLocation(
+        return withLayers(repo.findBySimulationAndNamespaceAndNameAndLocation(
                 simulation, info.getNamespace(), info.getName(), location
-        );
+        ));
     }
 
 	/*
@@ -75,19 +92,16 @@ public class DockerImageFinderImpl implements DockerImageFinder {
 
     @Override
     public DockerImage findImageInLocalOrNull(Simulation simulation, ImageMeta meta) {
-        return repo.findBySimulationAndNameAndTagAndLocation(simulation, meta.getName(), meta.getTag(),
-                ImageLocation.LOCAL).orElse(null);
+        return withLayers(repo.findBySimulationAndNameAndTagAndLocation(simulation, meta.getName(), meta.getTag(),
+                ImageLocation.LOCAL).orElse(null));
     }
 
     /*
     image ls
      */
     @Override
-    public List<DockerImage> findBySimulationInLocal(Simulation simulation, boolean all) {
-        if (all) {
-            return repo.findBySimulation(simulation);
-        }
-        return repo.findNotDanglingImageBySimulation(simulation);
+    public List<ImageRow> findLocalRows(Long simulationId, boolean all, ListFilter filter, ListPage page) {
+        return listingQueryRepository.findLocalImageRows(simulationId, all, filter, page);
     }
 
 
@@ -122,12 +136,12 @@ public class DockerImageFinderImpl implements DockerImageFinder {
 
     private List<DockerImage> _findPullImageInUserHub(Simulation simulation, ImageMeta meta, boolean all) {
         if (all) {
-            return repo.findAllBySimulationAndNameAndInHub(simulation, meta.getName());
+            return withLayers(repo.findAllBySimulationAndNameAndInHub(simulation, meta.getName()));
         }
         DockerImage image = repo.findBySimulationAndNameAndTagInHub(simulation, meta.getName(), meta.getTag())
                 .orElse(null);
 
-        return List.of(Objects.requireNonNull(image));
+        return List.of(withLayers(Objects.requireNonNull(image)));
     }
 
     /*
@@ -165,37 +179,69 @@ public class DockerImageFinderImpl implements DockerImageFinder {
             images = localImages.stream().map(
                     image -> {
                         meta.updateTag(image.getTag());
-                        return this.findImageOrNull(simulation, meta, ImageLocation.HUB);
+                        return findImageWithoutLayersOrNull(simulation, meta, ImageLocation.HUB);
                     }
 
             ).toList();
         } else {
             images = Optional.ofNullable(
-                    this.findImageOrNull(simulation, meta, ImageLocation.HUB)
+                    findImageWithoutLayersOrNull(simulation, meta, ImageLocation.HUB)
             ).stream().toList();
         }
-        return images;
+        return withLayers(images);
     }
 
     // -----------------------------------------------------------------
 
-    @Override
-    public List<DockerImage> findDanglingImageBySimulationInLocal(Simulation simulation) {
-        return repo.findDanglingImageBySimulationInLocal(simulation);
-    }
-
-    @Override
-    public List<DockerImage> findUnreferencedImageBySimulationInLocal(Simulation simulation) {
-        return repo.findUnreferencedImageBySimulationInLocal(simulation);
-    }
-
     @Override
     public DockerImage findByIdentifierAndLocation(
             Simulation simulation,
             String nameOrShortHexId,
             ImageLocation imageLocation
     ) {
-        return repo.findByIdentifier(simulation, nameOrShortHexId, imageLocation)
-                .orElseThrow(() -> new BusinessException(DockerImageErrorCode.IMAGE_NOT_FOUND, imageLocation, nameOrShortHexId));
+        return withLayers(repo.findByIdentifier(simulation, nameOrShortHexId, imageLocation)
+                .or(() -> findLocalImageByHexIdPrefix(simulation, nameOrShortHexId, imageLocation))
+                .orElseThrow(() -> new BusinessException(DockerImageErrorCode.IMAGE_NOT_FOUND, imageLocation, nameOrShortHexId)));
+    }
+
+    /*
+    이름/short ID로 찾지 못한 로컬 이미지는 색인에서 ID 접두사로 찾는다.
+     */
+    private Optional<DockerImage> findLocalImageByHexIdPrefix(
+            Simulation simulation,
+            String hexIdPrefix,
+            ImageLocation imageLocation
+    ) {
+        if (imageLocation != ImageLocation.LOCAL) {
+            return Optional.empty();
+        }
+        long imageId = identifierIndex.resolveLocalImage(simulation.getId(), hexIdPrefix);
+        if (imageId == SimulationIdentifierIndex.AMBIGUOUS) {
+            throw new BusinessException(DockerImageErrorCode.IMAGE_AMBIGUOUS, hexIdPrefix);
+        }
+        if (imageId == SimulationIdentifierIndex.NOT_FOUND) {
+            return Optional.empty();
+        }
+        Optional<DockerImage> indexed = repo.findById(imageId)
+                .filter(image -> image.getLocation() == ImageLocation.LOCAL
+                        && image.getSimulation() != null
+                        && Objects.equals(image.getSimulation().getId(), simulation.getId())
+                        && image.getHexId().startsWith(hexIdPrefix));
+        if (indexed.isEmpty()) {
+            identifierIndex.invalidate(simulation.getId());
+        }
+        return indexed;
+    }
+
+    private DockerImage withLayers(DockerImage image) {
+        if (image != null) {
+            layerStore.fillLayers(List.of(image));
+        }
+        return image;
+    }
+
+    private List<DockerImage> withLayers(List<DockerImage> images) {
+        layerStore.fillLayers(images);
+        return images;
     }
 }
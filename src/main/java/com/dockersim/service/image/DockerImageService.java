@@ -2,8 +2,10 @@ package com.dockersim.service.image;
 
 import java.util.List;
 
+import com.dockersim.common.listing.ListOptions;
 import com.dockersim.config.SimulationUserPrincipal;
 import com.dockersim.dto.response.DockerImageResponse;
+import com.dockersim.dto.response.ImagePruneResponse;
 
 public interface DockerImageService {
 
@@ -13,10 +15,11 @@ public interface DockerImageService {
 	 * @param principal      인증 정보
 	 * @param dockerFilePath 도커 파일 경로
 	 * @param tag            생성되는 Image의 repo[:tag] 지정
+	 * @param noCache        true이면 이전 빌드의 단계를 재사용하지 않습니다.
 	 * @return 생성한 Image와 콘솔 결과를 밥환합니다.
 	 */
 	DockerImageResponse build(SimulationUserPrincipal principal, String dockerFilePath,
-		String tag);
+		String tag, boolean noCache);
 
 	/**
 	 * Image의 Layer를 전부 출력합니다.
@@ -42,18 +45,19 @@ public interface DockerImageService {
 	 * @param principal 인증 정보
 	 * @param all       댕글링 이미지도 조회합니다.
 	 * @param quiet     Image Hex ID만 출력합니다.
+	 * @param options   --filter, --format, --limit, --after 옵션
 	 * @return 콘솔 결과를 반환합니다.
 	 */
-	List<String> ls(SimulationUserPrincipal principal, boolean all, boolean quiet);
+	List<String> ls(SimulationUserPrincipal principal, boolean all, boolean quiet, ListOptions options);
 
 	/**
-	 * Local의 참조되지 않은 댕글링 이미지를 삭제합니다.
+	 * Local에서 컨테이너가 사용하지 않는 댕글링 이미지를 한 번에 삭제합니다.
 	 *
 	 * @param principal 인증 정보
-	 * @param all       참조되지 않는 이미지도 삭제합니다.
-	 * @return 삭제할 Image와 콘솔 결과를 반환합니다.
+	 * @param all       댕글링 이미지가 아니어도 컨테이너가 사용하지 않는 이미지를 모두 삭제합니다.
+	 * @return 삭제한 Image(콘솔 결과 포함)와 확보한 크기를 반환합니다.
 	 */
-	List<DockerImageResponse> prune(SimulationUserPrincipal principal, boolean all);
+	ImagePruneResponse prune(SimulationUserPrincipal principal, boolean all);
 
 	/**
 	 * Docker Hub 또는 원격 이미지 저장소에서 Local로 Image를 다운로드 합니다.
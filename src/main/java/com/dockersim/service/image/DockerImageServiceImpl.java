@@ -1,29 +1,44 @@
 package com.dockersim.service.image;
 
+import com.dockersim.common.InspectRenderer;
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListFormat;
+import com.dockersim.common.listing.ListOptions;
+import com.dockersim.common.listing.ListPage;
 import com.dockersim.config.SimulationUserPrincipal;
 import com.dockersim.domain.*;
 import com.dockersim.dto.response.DockerImageResponse;
 import com.dockersim.dto.response.ImageInspectData;
 import com.dockersim.dto.response.ImageInspectRootFSData;
+import com.dockersim.dto.response.ImagePruneResponse;
 import com.dockersim.dto.util.ImageMeta;
 import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
 import com.dockersim.exception.code.DockerImageErrorCode;
 import com.dockersim.repository.DockerImageRepository;
+import com.dockersim.repository.ImageRow;
+import com.dockersim.repository.ListingQueryRepository;
+import com.dockersim.repository.PruneCandidateRow;
 import com.dockersim.service.dockerfile.DockerFileFinder;
+import com.dockersim.service.image.build.DockerImageBuilder;
+import com.dockersim.service.image.build.DockerImageBuilder.BuildResult;
+import com.dockersim.service.image.layer.DockerLayerStore;
 import com.dockersim.service.simulation.SimulationFinder;
+import com.dockersim.service.simulation.hot.HotSimulationEngine;
+import com.dockersim.service.simulation.index.SimulationIdentifierIndex;
 import com.dockersim.service.user.UserFinder;
+import com.dockersim.util.DisplayUnits;
+import com.dockersim.util.FixedWidthRow;
 import com.dockersim.util.ImageUtil;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 @Service
@@ -37,9 +52,15 @@ public class DockerImageServiceImpl implements DockerImageService {
     private final DockerImageFinder dockerImageFinder;
     private final UserFinder userFinder;
     private final DockerFileFinder dockerFileFinder;
+    private final HotSimulationEngine hotSimulationEngine;
+    private final InspectRenderer inspectRenderer;
+    private final DockerImageBuilder imageBuilder;
+    private final DockerLayerStore layerStore;
+    private final SimulationIdentifierIndex identifierIndex;
 
     @Override
-    public DockerImageResponse build(SimulationUserPrincipal principal, String dockerFilePath, String tag) {
+    public DockerImageResponse build(SimulationUserPrincipal principal, String dockerFilePath, String tag,
+                                     boolean noCache) {
         Simulation simulation = simulationFinder.findById(principal.getSimulationId());
         User user = userFinder.findUserById(principal.getUserId());
         DockerFile dockerFile = dockerFileFinder.findByPathAndUser(dockerFilePath, user);
@@ -47,14 +68,25 @@ public class DockerImageServiceImpl implements DockerImageService {
         ImageMeta imageInfo = ImageUtil.parserFullName(tag);
         ImageUtil.checkInvalidImageInfo(imageInfo, user, true);
 
-        DockerImage image = DockerImage.from(simulation, dockerFile, imageInfo);
+        BuildResult result = imageBuilder.build(simulation, dockerFile.getContent(), imageInfo, noCache);
 
         DockerImage prevImage = dockerImageFinder.findImageInLocalOrNull(simulation, imageInfo);
+        if (prevImage != null && prevImage.getHexId().equals(result.imageId())) {
+            // 모든 단계가 같으면 같은 이미지이므로 새로 만들지 않는다.
+            return DockerImageResponse.from(prevImage, result.console());
+        }
         if (prevImage != null) {
             prevImage.convertToDangling();
             repo.save(prevImage);
         }
 
+        // 태그를 다른 빌드 결과에 넘겨 댕글링이 됐던 같은 이미지가 있으면 다시 태그를 붙인다.
+        DockerImage image = repo.findBySimulationAndHexIdAndLocation(simulation, result.imageId(), ImageLocation.LOCAL)
+                .stream()
+                .findFirst()
+                .orElseGet(() -> DockerImage.from(simulation, result.imageId(), result.layers(), imageInfo));
+        image.tag(imageInfo);
+
         Stream<String> headerStream = Stream.of(
                 dockerFilePath + "에 위치한 Dockerfile에 의해 Image" + image.getName() + "을 생성했습니다.");
         Stream<String> bodyStream = Stream.empty();
@@ -67,7 +99,7 @@ public class DockerImageServiceImpl implements DockerImageService {
         }
 
         return DockerImageResponse.from(repo.save(image),
-                Stream.concat(headerStream, bodyStream).toList()
+                Stream.of(headerStream, result.console().stream(), bodyStream).flatMap(lines -> lines).toList()
         );
     }
 
@@ -98,73 +130,97 @@ public class DockerImageServiceImpl implements DockerImageService {
                 .RootFS(ImageInspectRootFSData.builder().Layers(image.getLayers()).build())
                 .build();
 
-        try {
-            return Collections.singletonList(
-                    (new ObjectMapper()).writerWithDefaultPrettyPrinter().writeValueAsString(List.of(inspectData)));
-        } catch (JsonProcessingException e) {
-            throw new BusinessException(DockerImageErrorCode.FAIL_CONVERT_INSPECT);
-        }
+        return inspectRenderer.render(inspectData);
     }
 
+    /*
+    docker image ls --format에서 사용할 수 있는 필드
+     */
+    private static final Map<String, ListFormat.Column<ImageRow>> LS_COLUMNS = Map.of(
+            "ID", new ListFormat.Column<>("IMAGE ID", ImageRow::shortHexId),
+            "Repository", new ListFormat.Column<>("REPOSITORY", ImageRow::name),
+            "Tag", new ListFormat.Column<>("TAG", ImageRow::tag),
+            "CreatedAt", new ListFormat.Column<>("CREATED AT", ImageRow::createdAt),
+            "CreatedSince", new ListFormat.Column<>("CREATED",
+                    image -> DisplayUnits.formatDuration(image.createdAt(), LocalDateTime.now()))
+    );
+
     @Override
     @Transactional(readOnly = true)
-    public List<String> ls(SimulationUserPrincipal principal, boolean all, boolean quiet) {
-        Simulation simulation = simulationFinder.findById(principal.getSimulationId());
-        List<DockerImage> images = dockerImageFinder.findBySimulationInLocal(simulation, all);
-
-        Stream<String> headerStream, bodyStream;
-        if (quiet) {
-            headerStream = Stream.of("REPOSITORY");
-            bodyStream = images.stream().map(DockerImage::getHexId);
+    public List<String> ls(SimulationUserPrincipal principal, boolean all, boolean quiet, ListOptions options) {
+        ListFilter filter = ListFilter.parse(options.getFilters(), ListingQueryRepository.IMAGE_FILTERS);
+        ListFormat<ImageRow> format = ListFormat.parse(options.getFormat(), LS_COLUMNS);
+        ListPage page = options.toPage();
+
+        Long simulationId = principal.getSimulationId();
+        List<ImageRow> images;
+        if (hotSimulationEngine.isEnabled() && filter.isEmpty() && page.isUnbounded()) {
+            images = hotSimulationEngine.access(simulationId,
+                    hot -> hot.findLocalImages(all).stream().map(ImageRow::from).toList());
         } else {
-            headerStream = String.format("%-25s %-20s %-15s %-20s", "REPOSITORY", "TAG", "IMAGE ID", "CREATED").lines();
-            bodyStream = images.stream().map(
-                    image ->
-                            String.format(
-                                    "%-25s %-20s %-15s %-20s",
-                                    image.getName(),
-                                    image.getTag(),
-                                    image.getShortHexId(),
-                                    formatDuration(image.getCreatedAt())
-                            )
-            );
+            // 필터/페이지 조건은 DB에서 처리하므로 메모리에만 있는 변경분을 먼저 반영한다.
+            hotSimulationEngine.flush(simulationId);
+            // 목록 조회는 읽기 전용이므로 시뮬레이션 엔티티를 따로 조회하지 않고 ID로 바로 한 번에 조회한다.
+            images = dockerImageFinder.findLocalRows(simulationId, all, filter, page);
         }
-        return Stream.concat(headerStream, bodyStream).toList();
-    }
 
-    private String formatDuration(LocalDateTime time) {
-
-        Duration duration = Duration.between(time, LocalDateTime.now());
-        long days = duration.toDays();
-        if (days > 0) {
-            return days + (days == 1 ? " day ago" : " days ago");
+        if (quiet) {
+            List<String> lines = new ArrayList<>(images.size() + 1);
+            lines.add("REPOSITORY");
+            images.forEach(image -> lines.add(image.hexId()));
+            return lines;
         }
-        long hours = duration.toHours();
-        if (hours > 0) {
-            return hours + (hours == 1 ? " hour ago" : " hours ago");
+        if (format != null) {
+            return format.render(images);
         }
-        long minutes = duration.toMinutes();
-        if (minutes > 0) {
-            return minutes + (minutes == 1 ? " minute ago" : " minutes ago");
+
+        List<String> lines = new ArrayList<>(images.size() + 1);
+        LocalDateTime now = LocalDateTime.now();
+        FixedWidthRow row = new FixedWidthRow(25, 20, 15, 20);
+        lines.add(row.cell("REPOSITORY").cell("TAG").cell("IMAGE ID").cell("CREATED").build());
+        for (ImageRow image : images) {
+            lines.add(row.cell(image.name())
+                    .cell(image.tag())
+                    .cell(image.shortHexId())
+                    .cell(DisplayUnits.formatDuration(image.createdAt(), now))
+                    .build());
         }
-        return "just now";
+        return lines;
     }
 
     @Override
-    public List<DockerImageResponse> prune(SimulationUserPrincipal principal, boolean all) {
-        Simulation simulation = simulationFinder.findById(principal.getSimulationId());
-        List<DockerImage> images;
-
-        if (all) {
-            images = dockerImageFinder.findDanglingImageBySimulationInLocal(simulation)
-                    .stream().filter(image -> image.getContainers().isEmpty()).toList();
-        } else {
-            images = dockerImageFinder.findUnreferencedImageBySimulationInLocal(simulation);
+    public ImagePruneResponse prune(SimulationUserPrincipal principal, boolean all) {
+        Long simulationId = principal.getSimulationId();
+        // 컨테이너 참조 여부를 DB에서 판단하므로 메모리 그래프의 반영 대기 중인 변경분을 먼저 DB에 반영한다.
+        hotSimulationEngine.flush(simulationId);
+        // 지운 이미지가 메모리 그래프에 남지 않도록 그래프를 내린다(findById가 invalidate를 호출한다).
+        simulationFinder.findById(simulationId);
+
+        List<PruneCandidateRow> candidates = repo.findPruneCandidates(simulationId, all);
+        if (candidates.isEmpty()) {
+            return new ImagePruneResponse(List.of(), 0);
+        }
+        if (repo.deletePruneCandidates(simulationId, all) != candidates.size()) {
+            throw new BusinessException(DockerCommandErrorCode.CONCURRENT_MODIFICATION);
         }
 
-        return images.stream()
-                .map(image -> DockerImageResponse.from(image, List.of("deleted: " + image.getHexId())))
+        // 한 번의 DELETE는 엔티티 리스너를 거치지 않으므로 레이어 참조와 식별자 색인을 직접 반영한다.
+        long reclaimed = layerStore.releaseAll(candidates.stream().map(PruneCandidateRow::layerIds).toList());
+        identifierIndex.removeLocalImages(simulationId, candidates.stream().map(PruneCandidateRow::id).toList());
+
+        List<DockerImageResponse> images = candidates.stream()
+                .map(image -> DockerImageResponse.builder()
+                        .console(List.of("deleted: " + image.hexId()))
+                        .hexId(image.hexId())
+                        .shortHexId(image.shortHexId())
+                        .namespace(image.namespace())
+                        .name(image.name())
+                        .tag(image.tag())
+                        .location(ImageLocation.LOCAL)
+                        .createdAt(image.createdAt())
+                        .build())
                 .toList();
+        return new ImagePruneResponse(images, reclaimed);
     }
 
     @Override
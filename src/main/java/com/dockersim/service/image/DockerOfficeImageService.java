@@ -1,6 +1,8 @@
 package com.dockersim.service.image;
 
+import com.dockersim.common.RenderedJson;
 import com.dockersim.dto.response.DockerOfficeImageResponse;
+import com.dockersim.dto.response.OfficeImageSearchResult;
 import java.util.List;
 
 public interface DockerOfficeImageService {
@@ -30,4 +32,25 @@ public interface DockerOfficeImageService {
      * 도커 공식 이미지 목록을 반환합니다.
      */
     List<DockerOfficeImageResponse> getAllImages();
-}
\ No newline at end of file
+
+    /**
+     * name이 일치하는 모든 도커 공식 Image 응답({@code ApiResponse})을 미리 직렬화한 본문을 반환합니다.
+     *
+     * @param name Image 이름
+     */
+    RenderedJson renderAllByName(String name);
+
+    /**
+     * 도커 공식 이미지 목록 응답({@code ApiResponse})을 미리 직렬화한 본문을 반환합니다.
+     */
+    RenderedJson renderAllImages();
+
+    /**
+     * 이름/설명/태그로 도커 공식 이미지를 검색합니다(자동완성).
+     * 이름 일치, 이름 접두사, 이름 부분 문자열, 태그, 설명, 오타 허용 순으로 정렬하고 같은 순위는 스타/pull 수로 정렬합니다.
+     *
+     * @param query 검색어. {@code name:tag} 형식이면 태그 접두사까지 일치하는 이미지만 찾습니다.
+     * @param limit 최대 결과 수
+     */
+    List<OfficeImageSearchResult> searchImages(String query, int limit);
+}
@@ -1,109 +1,220 @@
 package com.dockersim.service.image;
 
-import com.dockersim.domain.DockerImage;
+import com.dockersim.common.RenderedJson;
 import com.dockersim.domain.DockerOfficeImage;
-import com.dockersim.domain.ImageLocation;
 import com.dockersim.dto.DockerImageJson;
 import com.dockersim.dto.response.DockerOfficeImageResponse;
+import com.dockersim.dto.response.OfficeImageSearchResult;
 import com.dockersim.exception.BusinessException;
 import com.dockersim.exception.code.DockerImageErrorCode;
-import com.dockersim.repository.DockerImageRepository;
-import com.dockersim.repository.DockerOfficeImageRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class DockerOfficeImageServiceImpl implements DockerOfficeImageService {
 
-    private final DockerOfficeImageRepository officeImageRepository;
-    private final DockerImageRepository imageRepository;
+    private static final String CATALOG_RESOURCE_PATH = "/static/data/docker_images.json";
+    private static final int MAX_SEARCH_LIMIT = 50;
+
+    private final OfficeImageCatalog catalog;
+    private final OfficeImageCatalogStore catalogStore;
     private final ObjectMapper mapper;
+    private final int batchSize;
+
+    public DockerOfficeImageServiceImpl(
+            OfficeImageCatalog catalog,
+            OfficeImageCatalogStore catalogStore,
+            ObjectMapper mapper,
+            @Value("${dockersim.catalog.batch-size:500}") int batchSize
+    ) {
+        this.catalog = catalog;
+        this.catalogStore = catalogStore;
+        this.mapper = mapper;
+        this.batchSize = Math.max(1, batchSize);
+    }
 
+    /**
+     * JSON을 스트리밍으로 읽으면서 새 항목은 JDBC batch로 추가하고, 메타데이터가 바뀐 항목만 갱신한다.
+     * 이미 저장된 항목과 같으면 건너뛰므로 여러 번 실행해도 결과가 같다.
+     */
     @Override
     @Transactional
     public void loadAllFromJson() {
-        String resourcePath = "/static/data/docker_images.json";
-        log.info("Loading docker images from {}", resourcePath);
+        log.info("Loading docker images from {}", CATALOG_RESOURCE_PATH);
+        long startedAt = System.nanoTime();
 
-        try (InputStream is = getClass().getResourceAsStream(resourcePath)) {
+        try (InputStream is = getClass().getResourceAsStream(CATALOG_RESOURCE_PATH)) {
             if (is == null) {
                 throw new BusinessException(DockerImageErrorCode.OFFICE_IMAGE_DATA_LOAD_FAIL,
-                        resourcePath);
+                        CATALOG_RESOURCE_PATH);
             }
 
-            List<DockerImageJson> list = mapper.readValue(is,
-                    new TypeReference<List<DockerImageJson>>() {
-                    });
-
-            log.info("Found {} images in JSON file", list.size());
-            int savedCount = 0;
-
-            for (DockerImageJson jsonImage : list) {
-                if (jsonImage.getTags() == null || jsonImage.getTags().isEmpty()) {
-                    log.warn("Skipping image {} because it has no tags", jsonImage.getName());
-                    continue;
+            CatalogLoad load = new CatalogLoad(catalogStore.findExisting());
+            try (JsonParser parser = mapper.getFactory().createParser(is)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new BusinessException(DockerImageErrorCode.OFFICE_IMAGE_PARSE_ERROR,
+                            "최상위 요소가 배열이 아닙니다.");
+                }
+                // 전체 목록을 메모리에 올리지 않고 이미지 하나씩 읽는다.
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    load.add(mapper.readValue(parser, DockerImageJson.class));
                 }
+            }
+            load.flush();
+            refreshCatalogAfterCommit();
+
+            long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+            log.info("Office image catalog loaded in {} ms - inserted: {}, updated: {}, unchanged: {}, failed: {} ({} rows/s)",
+                    elapsedMillis, load.inserted, load.updated, load.unchanged, load.failed,
+                    (load.inserted + load.updated + load.unchanged) * 1000L / elapsedMillis);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error while loading images: {}", e.getMessage());
+            throw new BusinessException(DockerImageErrorCode.OFFICE_IMAGE_CRITICAL_ERROR);
+        }
+    }
 
-                try {
-                    for (String tag : jsonImage.getTags()) {
-                        DockerOfficeImage image = DockerOfficeImage.from(jsonImage, tag);
-                        officeImageRepository.save(image);
+    /*
+    카탈로그 적재 1회의 진행 상태. 추가/갱신 대상을 batchSize만큼 모아서 반영한다.
+     */
+    private class CatalogLoad {
+
+        private final Map<String, OfficeImageCatalogStore.CatalogEntry> existing;
+        private final Set<String> seen = new HashSet<>();
+        private final List<DockerOfficeImage> pendingInserts = new ArrayList<>();
+        private final List<DockerOfficeImage> pendingUpdates = new ArrayList<>();
+        private int inserted;
+        private int updated;
+        private int unchanged;
+        private int failed;
+
+        CatalogLoad(Map<String, OfficeImageCatalogStore.CatalogEntry> existing) {
+            this.existing = existing;
+        }
+
+        void add(DockerImageJson jsonImage) {
+            if (jsonImage.getTags() == null || jsonImage.getTags().isEmpty()) {
+                log.warn("Skipping image {} because it has no tags", jsonImage.getName());
+                return;
+            }
 
-                        imageRepository.save(DockerImage.from(image, ImageLocation.HUB));
-                        ++savedCount;
+            try {
+                for (String tag : jsonImage.getTags()) {
+                    String key = OfficeImageCatalogStore.key(jsonImage.getName(), tag);
+                    // JSON 안에서 같은 name:tag가 반복되면 처음 것만 사용한다.
+                    if (!seen.add(key)) {
+                        continue;
+                    }
+                    DockerOfficeImage image = DockerOfficeImage.from(jsonImage, tag);
+                    OfficeImageCatalogStore.CatalogEntry saved = existing.get(key);
+                    if (saved == null) {
+                        pendingInserts.add(image);
+                    } else if (saved.sameAs(image)) {
+                        ++unchanged;
+                    } else {
+                        pendingUpdates.add(image);
                     }
-                } catch (Exception e) {
-                    log.error("Failed to process image {}: {}", jsonImage.getName(),
-                            e.getMessage());
                 }
+            } catch (Exception e) {
+                ++failed;
+                log.error("Failed to process image {}: {}", jsonImage.getName(), e.getMessage());
             }
 
-            log.info("Successfully saved {} image entries", savedCount);
-        } catch (Exception e) {
-            log.error("Unexpected error while loading images: {}", e.getMessage());
-            throw new BusinessException(DockerImageErrorCode.OFFICE_IMAGE_CRITICAL_ERROR);
+            if (pendingInserts.size() >= batchSize || pendingUpdates.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!pendingInserts.isEmpty()) {
+                catalogStore.insert(pendingInserts, batchSize);
+                inserted += pendingInserts.size();
+                pendingInserts.clear();
+            }
+            if (!pendingUpdates.isEmpty()) {
+                catalogStore.updateMetadata(pendingUpdates, batchSize);
+                updated += pendingUpdates.size();
+                pendingUpdates.clear();
+            }
         }
     }
 
+    /*
+    조회는 DB 대신 카탈로그 스냅샷(OfficeImageCatalog)을 사용한다.
+     */
 
     @Override
-    @Transactional(readOnly = true)
     public DockerOfficeImageResponse findByNameAndTag(String name, String tag) {
-        return DockerOfficeImageResponse.from(officeImageRepository.findByNameAndTag(name, tag).orElseThrow(
-                () -> new BusinessException(DockerImageErrorCode.OFFICE_IMAGE_NOT_FOUND, name + ":" + tag)
-        ));
+        DockerOfficeImageResponse image = catalog.findByNameAndTag(name, tag);
+        if (image == null) {
+            throw new BusinessException(DockerImageErrorCode.OFFICE_IMAGE_NOT_FOUND, name + ":" + tag);
+        }
+        return image;
     }
 
-    @Transactional(readOnly = true)
+    @Override
     public List<DockerOfficeImageResponse> findAllByName(String name) {
+        List<DockerOfficeImageResponse> images = catalog.findAllByName(name);
+        if (images.isEmpty()) {
+            throw new BusinessException(DockerImageErrorCode.OFFICE_IMAGE_NOT_FOUND, name);
+        }
+        return images;
+    }
 
-        List<DockerOfficeImage> images = officeImageRepository.findAllByName(name);
+    @Override
+    public List<DockerOfficeImageResponse> getAllImages() {
+        return catalog.getAll();
+    }
 
-        if (images.isEmpty()) {
+    @Override
+    public RenderedJson renderAllByName(String name) {
+        RenderedJson rendered = catalog.renderAllByName(name);
+        if (rendered == null) {
             throw new BusinessException(DockerImageErrorCode.OFFICE_IMAGE_NOT_FOUND, name);
         }
-        return images.stream()
-                .map(DockerOfficeImageResponse::from)
-                .collect(Collectors.toList());
+        return rendered;
     }
 
+    @Override
+    public RenderedJson renderAllImages() {
+        return catalog.renderAll();
+    }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<DockerOfficeImageResponse> getAllImages() {
-        return officeImageRepository.findAll().stream()
-                .map(DockerOfficeImageResponse::from)
-                .collect(Collectors.toList());
+    public List<OfficeImageSearchResult> searchImages(String query, int limit) {
+        return catalog.search(query, Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT)));
+    }
+
+    /*
+    적재가 커밋된 뒤에 스냅샷을 교체해야 롤백된 카탈로그가 노출되지 않는다.
+     */
+    private void refreshCatalogAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            catalog.refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                catalog.refresh();
+            }
+        });
     }
 }
@@ -0,0 +1,181 @@
+package com.dockersim.service.image;
+
+import com.dockersim.common.ApiResponse;
+import com.dockersim.common.RenderedJson;
+import com.dockersim.dto.response.DockerOfficeImageResponse;
+import com.dockersim.dto.response.OfficeImageSearchResult;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerImageErrorCode;
+import com.dockersim.repository.DockerOfficeImageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공식 이미지 카탈로그의 불변 스냅샷.
+ * <p>
+ * 카탈로그는 시작 시 {@code DockerImageDataLoader}가 적재할 때만 바뀌므로, 요청마다 DB를 조회하지 않고
+ * 전체 목록, 이름별 목록, 이름+태그 색인, 검색 색인과 미리 직렬화한 JSON 본문(ETag 포함)을 메모리에서 제공한다.
+ * 스냅샷은 처음 조회할 때 만들고, 카탈로그 적재가 커밋되면 {@link #refresh()}로 통째로 교체한다.
+ */
+@Slf4j
+@Component
+public class OfficeImageCatalog {
+
+    private final DockerOfficeImageRepository officeImageRepository;
+    private final ObjectMapper mapper;
+    private final TransactionTemplate readTransaction;
+
+    /*
+    DB를 읽는 동안 잡고 있는 락이므로 synchronized 대신 ReentrantLock을 쓴다.
+    (Java 21의 가상 스레드는 synchronized 안에서 블로킹 I/O를 하면 캐리어 스레드에 고정된다.)
+     */
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public OfficeImageCatalog(
+            DockerOfficeImageRepository officeImageRepository,
+            ObjectMapper mapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.officeImageRepository = officeImageRepository;
+        this.mapper = mapper;
+        // 적재 트랜잭션의 커밋 직후(afterCommit)에도 호출되므로 항상 새 트랜잭션에서 읽는다.
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * DB에서 카탈로그를 다시 읽어 스냅샷을 교체한다.
+     */
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            List<DockerOfficeImageResponse> images = readTransaction.execute(status ->
+                    officeImageRepository.findAll().stream()
+                            .map(DockerOfficeImageResponse::from)
+                            .toList());
+            snapshot = new Snapshot(images == null ? List.of() : images);
+            log.info("Office image catalog snapshot refreshed - {} images, {} names",
+                    snapshot.images.size(), snapshot.byName.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public List<DockerOfficeImageResponse> getAll() {
+        return current().images;
+    }
+
+    /**
+     * @return 이름이 일치하는 이미지가 없으면 빈 목록
+     */
+    public List<DockerOfficeImageResponse> findAllByName(String name) {
+        return current().byName.getOrDefault(name, List.of());
+    }
+
+    /**
+     * @return 없으면 null
+     */
+    public DockerOfficeImageResponse findByNameAndTag(String name, String tag) {
+        return current().byNameAndTag.get(key(name, tag));
+    }
+
+    /**
+     * {@code ApiResponse.success(전체 목록)}을 직렬화한 본문
+     */
+    public RenderedJson renderAll() {
+        return current().renderedAll;
+    }
+
+    /**
+     * {@code ApiResponse.success(이름별 목록)}을 직렬화한 본문. 이름이 일치하는 이미지가 없으면 null
+     */
+    public RenderedJson renderAllByName(String name) {
+        return current().renderedByName.get(name);
+    }
+
+    /**
+     * 이름/설명/태그 검색. 접두사, 부분 문자열, 오타 허용 순으로 일치한 이미지를 이름 단위로 반환한다.
+     *
+     * @see OfficeImageSearchIndex
+     */
+    public List<OfficeImageSearchResult> search(String query, int limit) {
+        return current().searchIndex.search(query, limit);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refreshLock.lock();
+            try {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private static String key(String name, String tag) {
+        return name + ":" + tag;
+    }
+
+    private final class Snapshot {
+
+        private final List<DockerOfficeImageResponse> images;
+        private final Map<String, List<DockerOfficeImageResponse>> byName;
+        private final Map<String, DockerOfficeImageResponse> byNameAndTag;
+        private final RenderedJson renderedAll;
+        private final Map<String, RenderedJson> renderedByName;
+        private final OfficeImageSearchIndex searchIndex;
+
+        private Snapshot(List<DockerOfficeImageResponse> images) {
+            Map<String, List<DockerOfficeImageResponse>> groupedByName = new LinkedHashMap<>();
+            Map<String, DockerOfficeImageResponse> indexedByNameAndTag = new HashMap<>();
+            for (DockerOfficeImageResponse image : images) {
+                groupedByName.computeIfAbsent(image.getName(), name -> new ArrayList<>()).add(image);
+                indexedByNameAndTag.putIfAbsent(key(image.getName(), image.getTag()), image);
+            }
+
+            Map<String, List<DockerOfficeImageResponse>> immutableByName = new HashMap<>();
+            Map<String, RenderedJson> rendered = new HashMap<>();
+            groupedByName.forEach((name, list) -> {
+                List<DockerOfficeImageResponse> immutable = List.copyOf(list);
+                immutableByName.put(name, immutable);
+                rendered.put(name, render(immutable));
+            });
+
+            this.images = List.copyOf(images);
+            this.byName = Map.copyOf(immutableByName);
+            this.byNameAndTag = Map.copyOf(indexedByNameAndTag);
+            this.renderedAll = render(this.images);
+            this.renderedByName = Map.copyOf(rendered);
+            this.searchIndex = new OfficeImageSearchIndex(this.images);
+        }
+
+        private RenderedJson render(List<DockerOfficeImageResponse> images) {
+            try {
+                return RenderedJson.of(mapper.writeValueAsBytes(ApiResponse.success(images)));
+            } catch (JsonProcessingException e) {
+                throw new BusinessException(DockerImageErrorCode.OFFICE_IMAGE_CRITICAL_ERROR);
+            }
+        }
+    }
+}
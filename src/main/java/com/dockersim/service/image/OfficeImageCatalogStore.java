@@ -0,0 +1,161 @@
+package com.dockersim.service.image;
+
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.DockerOfficeImage;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.service.image.layer.DockerLayerStore;
+import com.dockersim.util.LongListConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 공식 이미지 카탈로그를 JDBC batch로 반영한다.
+ * <p>
+ * 엔티티의 ID 생성 전략이 IDENTITY라 JPA로 저장하면 행마다 INSERT가 즉시 실행되고 batch가 적용되지 않으므로,
+ * 카탈로그 적재처럼 행이 많은 경우에는 이 클래스를 사용한다. 호출한 쪽의 트랜잭션에 참여한다.
+ */
+@Component
+@RequiredArgsConstructor
+class OfficeImageCatalogStore {
+
+    private static final String SELECT_OFFICE_IMAGE_SQL = """
+            SELECT name, tag, description, star_count, pull_count, last_updated, date_registered, logo_url
+            FROM docker_office_images
+            """;
+
+    private static final String INSERT_OFFICE_IMAGE_SQL = """
+            INSERT INTO docker_office_images
+                (hex_id, short_hex_id, tag, name, description, layer, star_count, pull_count,
+                 last_updated, date_registered, logo_url)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // JPA를 거치지 않으므로 낙관적 락 버전의 초기값(0)을 직접 넣는다. NULL이면 이후 JPA 갱신이 버전 비교에 실패한다.
+    private static final String INSERT_HUB_IMAGE_SQL = """
+            INSERT INTO docker_images
+                (hex_id, short_hex_id, namespace, name, tag, location, layer_ids, created_at, simulation_id, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, NULL, 0)
+            """;
+
+    private static final String UPDATE_OFFICE_IMAGE_SQL = """
+            UPDATE docker_office_images
+            SET description = ?, star_count = ?, pull_count = ?, last_updated = ?, date_registered = ?, logo_url = ?
+            WHERE name = ? AND tag = ?
+            """;
+
+    private static final LongListConverter LAYER_IDS_CONVERTER = new LongListConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DockerLayerStore layerStore;
+
+    /**
+     * 이미 저장된 카탈로그 항목을 {@code name:tag} 기준으로 조회한다.
+     */
+    Map<String, CatalogEntry> findExisting() {
+        Map<String, CatalogEntry> existing = new HashMap<>();
+        jdbcTemplate.query(SELECT_OFFICE_IMAGE_SQL, rs -> {
+            CatalogEntry entry = new CatalogEntry(
+                    rs.getString("description"),
+                    rs.getInt("star_count"),
+                    rs.getLong("pull_count"),
+                    toLocalDateTime(rs.getTimestamp("last_updated")),
+                    toLocalDateTime(rs.getTimestamp("date_registered")),
+                    rs.getString("logo_url")
+            );
+            existing.put(key(rs.getString("name"), rs.getString("tag")), entry);
+        });
+        return existing;
+    }
+
+    /**
+     * 새 공식 이미지와, 이를 pull할 때 사용하는 HUB 이미지를 함께 저장한다.
+     * HUB 이미지의 레이어는 batch 전체에서 한꺼번에 레이어 저장소에 넣는다.
+     */
+    void insert(List<DockerOfficeImage> images, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_OFFICE_IMAGE_SQL, images, batchSize, (ps, image) -> {
+            ps.setString(1, image.getHexId());
+            ps.setString(2, image.getShortHexId());
+            ps.setString(3, image.getTag());
+            ps.setString(4, image.getName());
+            ps.setString(5, image.getDescription());
+            ps.setString(6, image.getLayer());
+            ps.setInt(7, image.getStarCount());
+            ps.setLong(8, image.getPullCount());
+            ps.setTimestamp(9, Timestamp.valueOf(image.getLastUpdated()));
+            ps.setTimestamp(10, Timestamp.valueOf(image.getDateRegistered()));
+            ps.setString(11, image.getLogoUrl());
+        });
+
+        List<DockerImage> hubImages = images.stream()
+                .map(image -> DockerImage.from(image, ImageLocation.HUB))
+                .toList();
+        List<List<Long>> layerIds = layerStore.acquireAll(hubImages.stream().map(DockerImage::getLayers).toList());
+        for (int i = 0; i < hubImages.size(); i++) {
+            hubImages.get(i).setLayerIds(layerIds.get(i));
+        }
+        jdbcTemplate.batchUpdate(INSERT_HUB_IMAGE_SQL, hubImages, batchSize, (ps, image) -> {
+            ps.setString(1, image.getHexId());
+            ps.setString(2, image.getShortHexId());
+            ps.setString(3, image.getNamespace());
+            ps.setString(4, image.getName());
+            ps.setString(5, image.getTag());
+            ps.setString(6, image.getLocation().name());
+            ps.setString(7, LAYER_IDS_CONVERTER.convertToDatabaseColumn(image.getLayerIds()));
+            ps.setTimestamp(8, Timestamp.valueOf(image.getCreatedAt()));
+        });
+    }
+
+    /**
+     * 이름/태그는 그대로이고 메타데이터(설명, 스타 수 등)만 바뀐 항목을 갱신한다. ID는 바꾸지 않는다.
+     */
+    void updateMetadata(List<DockerOfficeImage> images, int batchSize) {
+        jdbcTemplate.batchUpdate(UPDATE_OFFICE_IMAGE_SQL, images, batchSize, (ps, image) -> {
+            ps.setString(1, image.getDescription());
+            ps.setInt(2, image.getStarCount());
+            ps.setLong(3, image.getPullCount());
+            ps.setTimestamp(4, Timestamp.valueOf(image.getLastUpdated()));
+            ps.setTimestamp(5, Timestamp.valueOf(image.getDateRegistered()));
+            ps.setString(6, image.getLogoUrl());
+            ps.setString(7, image.getName());
+            ps.setString(8, image.getTag());
+        });
+    }
+
+    static String key(String name, String tag) {
+        return name + ":" + tag;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /**
+     * 변경 여부 비교에 사용하는 저장된 카탈로그 항목의 메타데이터
+     */
+    record CatalogEntry(
+            String description,
+            int starCount,
+            long pullCount,
+            LocalDateTime lastUpdated,
+            LocalDateTime dateRegistered,
+            String logoUrl
+    ) {
+
+        boolean sameAs(DockerOfficeImage image) {
+            return Objects.equals(description, image.getDescription())
+                    && starCount == image.getStarCount()
+                    && pullCount == image.getPullCount()
+                    && Objects.equals(lastUpdated, image.getLastUpdated())
+                    && Objects.equals(dateRegistered, image.getDateRegistered())
+                    && Objects.equals(logoUrl, image.getLogoUrl());
+        }
+    }
+}
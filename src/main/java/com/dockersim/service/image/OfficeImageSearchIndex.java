@@ -0,0 +1,258 @@
+package com.dockersim.service.image;
+
+import com.dockersim.dto.response.DockerOfficeImageResponse;
+import com.dockersim.dto.response.OfficeImageMatchType;
+import com.dockersim.dto.response.OfficeImageSearchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 공식 이미지 이름/설명/태그에 대한 불변 검색 색인.
+ * <p>
+ * 이름 단위로 항목을 만들고, 검색어를 다음 순서로 비교한다.
+ * 이름 일치 → 이름 접두사 → 이름 부분 문자열 → 태그 → 설명 → 오타 허용(이름 접두사와의 편집 거리).
+ * 같은 방식으로 일치한 항목은 스타 수, pull 수 순으로 정렬한다.
+ * {@code ubuntu:22}처럼 태그를 함께 입력하면 이름이 일치하거나 접두사인 이미지 중 태그 접두사가 일치하는 것만 찾는다.
+ * <p>
+ * 카탈로그는 이름 기준 수백 건 수준이므로 정렬된 배열에서 접두사를 이진 탐색하고, 나머지는 소문자로 미리 변환한 문자열을 순회한다.
+ */
+class OfficeImageSearchIndex {
+
+    private static final int MAX_MATCHED_TAGS = 20;
+
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparing((Candidate candidate) -> candidate.matchType)
+            .thenComparing(candidate -> candidate.entry.starCount, Comparator.reverseOrder())
+            .thenComparing(candidate -> candidate.entry.pullCount, Comparator.reverseOrder())
+            .thenComparing(candidate -> candidate.entry.name);
+
+    /**
+     * 소문자 이름 오름차순
+     */
+    private final Entry[] entries;
+    private final String[] names;
+    /**
+     * 검색어가 없을 때 사용하는 인기순 목록
+     */
+    private final Entry[] popular;
+
+    OfficeImageSearchIndex(List<DockerOfficeImageResponse> images) {
+        Map<String, List<DockerOfficeImageResponse>> byName = new LinkedHashMap<>();
+        for (DockerOfficeImageResponse image : images) {
+            byName.computeIfAbsent(image.getName(), name -> new ArrayList<>()).add(image);
+        }
+
+        this.entries = byName.values().stream()
+                .map(Entry::new)
+                .sorted(Comparator.comparing(entry -> entry.lowerName))
+                .toArray(Entry[]::new);
+        this.names = Arrays.stream(entries).map(entry -> entry.lowerName).toArray(String[]::new);
+        this.popular = Arrays.stream(entries)
+                .sorted(Comparator.comparingInt((Entry entry) -> entry.starCount).reversed()
+                        .thenComparing(entry -> entry.pullCount, Comparator.reverseOrder()))
+                .toArray(Entry[]::new);
+    }
+
+    List<OfficeImageSearchResult> search(String query, int limit) {
+        String normalized = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return Arrays.stream(popular).limit(limit)
+                    .map(entry -> entry.toResult(OfficeImageMatchType.PREFIX, List.of()))
+                    .toList();
+        }
+
+        int separator = normalized.indexOf(':');
+        List<Candidate> candidates = separator >= 0
+                ? searchWithTag(normalized.substring(0, separator), normalized.substring(separator + 1))
+                : searchByKeyword(normalized);
+
+        return candidates.stream()
+                .sorted(RANKING)
+                .limit(limit)
+                .map(candidate -> candidate.entry.toResult(candidate.matchType, candidate.matchedTags))
+                .toList();
+    }
+
+    private List<Candidate> searchByKeyword(String keyword) {
+        List<Candidate> candidates = new ArrayList<>();
+        boolean[] matched = new boolean[entries.length];
+
+        // 접두사: 정렬된 이름에서 시작 위치를 찾고 접두사가 유지되는 동안만 순회
+        for (int i = lowerBound(keyword); i < names.length && names[i].startsWith(keyword); i++) {
+            matched[i] = true;
+            OfficeImageMatchType type = names[i].length() == keyword.length()
+                    ? OfficeImageMatchType.EXACT : OfficeImageMatchType.PREFIX;
+            candidates.add(new Candidate(entries[i], type, List.of()));
+        }
+
+        int maxEdits = maxEdits(keyword.length());
+        for (int i = 0; i < entries.length; i++) {
+            if (matched[i]) {
+                continue;
+            }
+            Entry entry = entries[i];
+            if (entry.lowerName.contains(keyword)) {
+                candidates.add(new Candidate(entry, OfficeImageMatchType.SUBSTRING, List.of()));
+                continue;
+            }
+            List<String> tags = entry.tagsContaining(keyword);
+            if (!tags.isEmpty()) {
+                candidates.add(new Candidate(entry, OfficeImageMatchType.TAG, tags));
+                continue;
+            }
+            if (entry.lowerDescription.contains(keyword)) {
+                candidates.add(new Candidate(entry, OfficeImageMatchType.DESCRIPTION, List.of()));
+                continue;
+            }
+            if (maxEdits > 0 && prefixDistance(keyword, entry.lowerName, maxEdits) <= maxEdits) {
+                candidates.add(new Candidate(entry, OfficeImageMatchType.FUZZY, List.of()));
+            }
+        }
+        return candidates;
+    }
+
+    private List<Candidate> searchWithTag(String name, String tagPrefix) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = lowerBound(name); i < names.length && names[i].startsWith(name); i++) {
+            List<String> tags = entries[i].tagsStartingWith(tagPrefix);
+            if (tags.isEmpty()) {
+                continue;
+            }
+            OfficeImageMatchType type = names[i].length() == name.length()
+                    ? OfficeImageMatchType.EXACT : OfficeImageMatchType.PREFIX;
+            candidates.add(new Candidate(entries[i], type, tags));
+        }
+        return candidates;
+    }
+
+    private int lowerBound(String prefix) {
+        int index = Arrays.binarySearch(names, prefix);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    /*
+    짧은 검색어는 오타를 허용하면 거의 모든 이름과 일치하므로 길이에 따라 허용 편집 수를 늘린다.
+     */
+    private static int maxEdits(int length) {
+        if (length < 4) {
+            return 0;
+        }
+        return length < 8 ? 1 : 2;
+    }
+
+    /**
+     * 입력 중인 검색어와 이름의 앞부분(검색어 길이 ±1) 사이의 최소 편집 거리(인접 문자 교환 포함).
+     * maxEdits를 넘으면 계산을 중단하고 maxEdits + 1을 반환한다.
+     */
+    static int prefixDistance(String query, String name, int maxEdits) {
+        int best = maxEdits + 1;
+        int from = Math.max(1, query.length() - 1);
+        int to = Math.min(name.length(), query.length() + 1);
+        for (int length = from; length <= to; length++) {
+            best = Math.min(best, distance(query, name, length, maxEdits));
+        }
+        return best;
+    }
+
+    private static int distance(String a, String b, int bLength, int maxEdits) {
+        int aLength = a.length();
+        if (Math.abs(aLength - bLength) > maxEdits) {
+            return maxEdits + 1;
+        }
+        int[] previousPrevious = new int[bLength + 1];
+        int[] previous = new int[bLength + 1];
+        int[] current = new int[bLength + 1];
+        for (int j = 0; j <= bLength; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= aLength; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= bLength; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[bLength];
+    }
+
+    private static final class Entry {
+
+        private final String name;
+        private final String lowerName;
+        private final String description;
+        private final String lowerDescription;
+        private final int starCount;
+        private final long pullCount;
+        private final String logoUrl;
+        private final String[] tags;
+        private final String[] lowerTags;
+
+        private Entry(List<DockerOfficeImageResponse> images) {
+            DockerOfficeImageResponse first = images.get(0);
+            this.name = first.getName();
+            this.lowerName = name.toLowerCase(Locale.ROOT);
+            this.description = first.getDescription();
+            this.lowerDescription = description == null ? "" : description.toLowerCase(Locale.ROOT);
+            this.starCount = images.stream().mapToInt(DockerOfficeImageResponse::getStarCount).max().orElse(0);
+            this.pullCount = images.stream().mapToLong(DockerOfficeImageResponse::getPullCount).max().orElse(0);
+            this.logoUrl = first.getLogoUrl();
+            this.tags = images.stream().map(DockerOfficeImageResponse::getTag).toArray(String[]::new);
+            this.lowerTags = Arrays.stream(tags).map(tag -> tag.toLowerCase(Locale.ROOT)).toArray(String[]::new);
+        }
+
+        private List<String> tagsStartingWith(String prefix) {
+            List<String> matched = new ArrayList<>();
+            for (int i = 0; i < tags.length && matched.size() < MAX_MATCHED_TAGS; i++) {
+                if (lowerTags[i].startsWith(prefix)) {
+                    matched.add(tags[i]);
+                }
+            }
+            return matched;
+        }
+
+        private List<String> tagsContaining(String keyword) {
+            List<String> matched = new ArrayList<>();
+            for (int i = 0; i < tags.length && matched.size() < MAX_MATCHED_TAGS; i++) {
+                if (lowerTags[i].contains(keyword)) {
+                    matched.add(tags[i]);
+                }
+            }
+            return matched;
+        }
+
+        private OfficeImageSearchResult toResult(OfficeImageMatchType matchType, List<String> matchedTags) {
+            return OfficeImageSearchResult.builder()
+                    .namespace("library")
+                    .name(name)
+                    .description(description)
+                    .starCount(starCount)
+                    .pullCount(pullCount)
+                    .logoUrl(logoUrl)
+                    .matchType(matchType)
+                    .matchedTags(matchedTags)
+                    .build();
+        }
+    }
+
+    private record Candidate(Entry entry, OfficeImageMatchType matchType, List<String> matchedTags) {
+    }
+}
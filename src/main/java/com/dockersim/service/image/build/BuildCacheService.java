@@ -0,0 +1,34 @@
+package com.dockersim.service.image.build;
+
+import java.util.List;
+
+import com.dockersim.config.SimulationUserPrincipal;
+
+public interface BuildCacheService {
+
+	/**
+	 * 빌드 캐시 항목을 최근에 사용한 순서로 출력합니다. (docker builder du)
+	 *
+	 * @param principal 인증 정보
+	 * @return 항목별 크기와 마지막 사용 시각, 전체 크기와 한도를 담은 콘솔 결과를 반환합니다.
+	 */
+	List<String> du(SimulationUserPrincipal principal);
+
+	/**
+	 * 빌드 캐시를 오래 사용하지 않은 항목부터 삭제합니다. (docker builder prune)
+	 *
+	 * @param principal   인증 정보
+	 * @param keepStorage 남겨둘 캐시 크기(바이트). 0이면 모두 삭제합니다.
+	 * @return 삭제한 항목과 확보한 크기를 담은 콘솔 결과를 반환합니다.
+	 */
+	List<String> prune(SimulationUserPrincipal principal, long keepStorage);
+
+	/**
+	 * 시뮬레이션의 빌드 캐시가 크기/항목 수 한도를 넘었으면 한도 안으로 들어올 때까지 오래 사용하지 않은 항목부터 삭제합니다.
+	 * 빌드가 새 캐시 항목을 저장한 뒤 호출합니다.
+	 *
+	 * @param simulationId 시뮬레이션 ID
+	 * @return 삭제한 항목 수
+	 */
+	int evictOverBudget(Long simulationId);
+}
@@ -0,0 +1,133 @@
+package com.dockersim.service.image.build;
+
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.domain.BuildCacheEntry;
+import com.dockersim.repository.BuildCacheEntryRepository;
+import com.dockersim.repository.BuildCacheUsage;
+import com.dockersim.util.DisplayUnits;
+import com.dockersim.util.FixedWidthRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 시뮬레이션별 빌드 캐시 크기 관리.
+ * <p>
+ * 캐시 크기는 항목마다 정한 레이어 크기({@link BuildCacheEntry#getSize()})의 합이다. 빌드가 새 항목을 저장해
+ * {@code dockersim.build.cache.max-size} 또는 {@code max-entries}를 넘으면, 마지막 사용 시각이 오래된 항목부터(LRU)
+ * 한도 안으로 들어올 때까지 지운다. 지운 단계는 다음 빌드에서 다시 빌드되므로 결과 이미지는 바뀌지 않는다.
+ */
+@Service
+@Transactional
+public class BuildCacheServiceImpl implements BuildCacheService {
+
+    private static final int DESCRIPTION_WIDTH = 40;
+
+    private final BuildCacheEntryRepository repo;
+    private final long maxSize;
+    private final long maxEntries;
+    private final Counter evicted;
+
+    public BuildCacheServiceImpl(
+            BuildCacheEntryRepository repo,
+            MeterRegistry meterRegistry,
+            @Value("${dockersim.build.cache.max-size:1GB}") String maxSize,
+            @Value("${dockersim.build.cache.max-entries:1000}") long maxEntries
+    ) {
+        this.repo = repo;
+        this.maxSize = DisplayUnits.parseSize(maxSize);
+        this.maxEntries = maxEntries;
+        this.evicted = Counter.builder("dockersim.build.cache.evicted")
+                .description("한도를 넘어 자동으로 지운 빌드 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> du(SimulationUserPrincipal principal) {
+        List<BuildCacheEntry> entries = repo.findBySimulationIdOrderByLastUsedAtAscIdAsc(principal.getSimulationId());
+        Collections.reverse(entries);
+
+        List<String> lines = new ArrayList<>(entries.size() + 3);
+        LocalDateTime now = LocalDateTime.now();
+        FixedWidthRow row = new FixedWidthRow(12, 10, 15, DESCRIPTION_WIDTH);
+        lines.add(row.cell("ID").cell("SIZE").cell("LAST ACCESSED").cell("DESCRIPTION").build());
+        long total = 0;
+        for (BuildCacheEntry entry : entries) {
+            lines.add(row.cell(entry.getCacheKey().substring(0, 12))
+                    .cell(DisplayUnits.formatSize(entry.getSize()))
+                    .cell(DisplayUnits.formatDuration(entry.getLastUsedAt(), now))
+                    .cell(describe(entry.getInstruction()))
+                    .build());
+            total += entry.getSize();
+        }
+        lines.add("Total:\t" + DisplayUnits.formatSize(total) + " (" + entries.size() + " entries)");
+        lines.add("Limit:\t" + DisplayUnits.formatSize(maxSize) + " (" + maxEntries + " entries)");
+        return lines;
+    }
+
+    @Override
+    public List<String> prune(SimulationUserPrincipal principal, long keepStorage) {
+        // 크기가 0인 항목(ENV, CMD 등)까지 모두 지우려면 항목 수 기준도 0이어야 한다.
+        List<BuildCacheEntry> removed = removeLeastRecentlyUsed(principal.getSimulationId(), keepStorage,
+                keepStorage > 0 ? Long.MAX_VALUE : 0);
+
+        List<String> lines = new ArrayList<>(removed.size() + 2);
+        if (!removed.isEmpty()) {
+            lines.add("Deleted build cache objects:");
+        }
+        long reclaimed = 0;
+        for (BuildCacheEntry entry : removed) {
+            lines.add(entry.getCacheKey().substring(0, 12));
+            reclaimed += entry.getSize();
+        }
+        lines.add("Total reclaimed space: " + DisplayUnits.formatSize(reclaimed));
+        return lines;
+    }
+
+    @Override
+    public int evictOverBudget(Long simulationId) {
+        BuildCacheUsage usage = repo.usage(simulationId);
+        if (usage.size() <= maxSize && usage.entries() <= maxEntries) {
+            return 0;
+        }
+        int count = removeLeastRecentlyUsed(simulationId, maxSize, maxEntries).size();
+        evicted.increment(count);
+        return count;
+    }
+
+    /*
+    크기 합이 keepSize 이하, 항목 수가 keepEntries 이하가 될 때까지 오래 사용하지 않은 항목부터 한 번의 DELETE로 지운다.
+     */
+    private List<BuildCacheEntry> removeLeastRecentlyUsed(Long simulationId, long keepSize, long keepEntries) {
+        List<BuildCacheEntry> entries = repo.findBySimulationIdOrderByLastUsedAtAscIdAsc(simulationId);
+        long size = entries.stream().mapToLong(BuildCacheEntry::getSize).sum();
+        long count = entries.size();
+
+        List<BuildCacheEntry> removed = new ArrayList<>();
+        for (BuildCacheEntry entry : entries) {
+            if (size <= keepSize && count <= keepEntries) {
+                break;
+            }
+            removed.add(entry);
+            size -= entry.getSize();
+            count--;
+        }
+        if (!removed.isEmpty()) {
+            repo.deleteAllByIdInBatch(removed.stream().map(BuildCacheEntry::getId).toList());
+        }
+        return removed;
+    }
+
+    private static String describe(String instruction) {
+        return instruction.length() <= DESCRIPTION_WIDTH ? instruction
+                : instruction.substring(0, DESCRIPTION_WIDTH - 3) + "...";
+    }
+}
@@ -0,0 +1,394 @@
+package com.dockersim.service.image.build;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.domain.BuildCacheEntry;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.Simulation;
+import com.dockersim.dto.util.ImageMeta;
+import com.dockersim.repository.BuildCacheEntryRepository;
+import com.dockersim.service.command.CommandConsole;
+import com.dockersim.service.image.DockerImageFinder;
+import com.dockersim.util.ImageUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Dockerfile을 명령 단위로 빌드하고, 같은 시뮬레이션에서 이전에 빌드한 단계를 재사용한다.
+ * <p>
+ * 단계마다 부모 단계의 캐시 키와 정규화된 명령 문자열로 캐시 키(SHA-256)를 만든다. FROM 단계의 키는 기반 이미지의 ID로 만들며,
+ * 기반 이미지가 로컬에 없으면 이미지 참조 문자열을 대신 사용한다. {@code COPY --from=<단계>}의 키에는 그 단계의 마지막 키를 더한다.
+ * 키가 결정적이므로 바뀌지 않은 Dockerfile을 다시 빌드하면 모든 단계가 {@code Using cache}가 되고 같은 이미지 ID가 나온다.
+ * 명령 하나가 바뀌면 그 단계부터 끝까지, 그리고 그 단계를 복사하는 다른 단계도 다시 빌드한다.
+ * <p>
+ * 여러 단계로 된 Dockerfile은 단계 의존 관계({@link DockerfileStage#dependencies()})를 따라 빌드 풀에서 병렬로 처리한다.
+ * 단계는 의존하는 단계가 모두 끝난 뒤({@code FROM <단계>}, {@code COPY --from}) 시작하고, 의존 관계가 없는 단계는 동시에 진행된다.
+ * 서로 의존하지 않는 단계가 없거나(단계가 한 줄로 이어진 경우) 명령 수가 {@code dockersim.build.parallel-min-steps}보다 적으면
+ * 풀에 넘기는 비용이 더 크므로 명령을 실행한 스레드에서 Dockerfile 순서대로 빌드한다.
+ * 진행 출력은 단계별로 모아 {@code [단계 이름]}을 붙여 Dockerfile 순서대로 내보낸다. 로컬 기반 이미지 조회와 캐시 조회/저장은
+ * 명령을 실행한 스레드(영속성 컨텍스트)에서만 한다.
+ * <p>
+ * 캐시 조회는 빌드 한 번에 SELECT 1번이며, 새로 빌드한 단계는 {@link BuildCacheEntry}로 저장하고
+ * 재사용한 단계는 마지막 사용 시각을 갱신한다. COPY/ADD의 빌드 컨텍스트는 없으므로 명령 문자열만 키에 반영한다.
+ * 새 항목을 저장하면 {@link BuildCacheService#evictOverBudget(Long)}로 시뮬레이션의 캐시 크기를 한도 안으로 유지한다.
+ */
+@Component
+public class DockerImageBuilder {
+
+    private static final int SHORT_ID_LENGTH = 12;
+
+    private final BuildCacheEntryRepository cacheRepository;
+    private final BuildCacheService buildCacheService;
+    private final DockerImageFinder dockerImageFinder;
+    private final Counter cachedSteps;
+    private final Counter builtSteps;
+    private final ForkJoinPool stagePool;
+    private final int parallelMinSteps;
+
+    public DockerImageBuilder(
+            BuildCacheEntryRepository cacheRepository,
+            BuildCacheService buildCacheService,
+            DockerImageFinder dockerImageFinder,
+            MeterRegistry meterRegistry,
+            @Value("${dockersim.build.parallelism:0}") int parallelism,
+            @Value("${dockersim.build.parallel-min-steps:64}") int parallelMinSteps
+    ) {
+        this.cacheRepository = cacheRepository;
+        this.buildCacheService = buildCacheService;
+        this.dockerImageFinder = dockerImageFinder;
+        this.cachedSteps = Counter.builder("dockersim.build.steps")
+                .description("빌드한 Dockerfile 명령 수")
+                .tag("result", "cached")
+                .register(meterRegistry);
+        this.builtSteps = Counter.builder("dockersim.build.steps")
+                .description("빌드한 Dockerfile 명령 수")
+                .tag("result", "built")
+                .register(meterRegistry);
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        // 1이면 풀 없이 명령을 실행한 스레드에서 단계를 차례로 빌드한다.
+        this.stagePool = threads > 1 ? new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("docker-build-" + thread.getPoolIndex());
+            return thread;
+        }, null, false) : null;
+        this.parallelMinSteps = parallelMinSteps;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (stagePool != null) {
+            stagePool.shutdownNow();
+        }
+    }
+
+    /**
+     * 빌드 결과
+     *
+     * @param imageId     결과 이미지 ID(64자리 16진수). 마지막 단계의 캐시 키와 태그로 만든다
+     * @param layers      결과 이미지의 레이어(마지막 단계의 FROM과 명령)
+     * @param console     Step 별 진행 출력
+     * @param cachedSteps 캐시를 사용한 명령 수
+     */
+    public record BuildResult(String imageId, List<String> layers, List<String> console, int cachedSteps) {
+    }
+
+    /**
+     * @param noCache true이면 캐시를 사용하지 않고 모든 단계를 다시 빌드한다(캐시 항목은 갱신된다).
+     */
+    public BuildResult build(Simulation simulation, String content, ImageMeta meta, boolean noCache) {
+        ParsedDockerfile dockerfile = DockerfileParser.parse(content);
+        Long simulationId = simulation.getId();
+
+        Map<Integer, String> baseImageIds = new HashMap<>();
+        for (DockerfileStage stage : dockerfile.stages()) {
+            if (!stage.dependencies().contains(baseStageIndex(dockerfile, stage))) {
+                baseImageIds.put(stage.index(), baseImageId(simulation, stage.baseImage()));
+            }
+        }
+        boolean parallel = stagePool != null && dockerfile.stepCount() >= parallelMinSteps
+                && hasIndependentStages(dockerfile.stages());
+        List<StagePlan> plans = inDependencyOrder(dockerfile.stages(), parallel,
+                (stage, dependency) -> plan(dockerfile, stage, baseImageIds.get(stage.index()), dependency),
+                plan -> { });
+
+        List<String> keys = plans.stream()
+                .flatMap(plan -> plan.steps().stream())
+                .filter(step -> step.parentKey() != null)
+                .map(Step::key)
+                .toList();
+        Map<String, BuildCacheEntry> cached = keys.isEmpty() ? Map.of()
+                : cacheRepository.findBySimulationIdAndCacheKeyIn(simulationId, keys).stream()
+                .collect(Collectors.toMap(BuildCacheEntry::getCacheKey, Function.identity(), (a, b) -> a));
+
+        LocalDateTime now = LocalDateTime.now();
+        int total = dockerfile.stepCount();
+        boolean multiStage = plans.size() > 1;
+        // 단계가 끝나는 대로(앞 단계가 모두 끝난 뒤) 그 단계의 출력을 먼저 내보낸다.
+        List<StageLog> logs = inDependencyOrder(dockerfile.stages(), parallel, (stage, dependency) -> run(
+                simulationId, plans.get(stage.index()), cached, noCache, now, total, multiStage),
+                log -> CommandConsole.print(log.console()));
+
+        List<String> console = new ArrayList<>();
+        // 같은 명령이 여러 단계에 나오면(똑같은 단계 두 개) 한 번만 저장한다.
+        Map<String, BuildCacheEntry> created = new LinkedHashMap<>();
+        Set<Long> used = new LinkedHashSet<>();
+        int hits = 0;
+        for (StageLog log : logs) {
+            console.addAll(log.console());
+            log.created().forEach(entry -> created.putIfAbsent(entry.getCacheKey(), entry));
+            used.addAll(log.used());
+            hits += log.hits();
+        }
+
+        if (!created.isEmpty()) {
+            cacheRepository.saveAll(created.values());
+        }
+        if (!used.isEmpty()) {
+            cacheRepository.touch(List.copyOf(used), now);
+        }
+        if (!created.isEmpty()) {
+            buildCacheService.evictOverBudget(simulationId);
+        }
+        cachedSteps.increment(hits);
+        builtSteps.increment(keys.size() - hits);
+
+        DockerfileStage target = dockerfile.target();
+        String imageId = sha256(plans.get(target.index()).lastKey() + "\n" + meta.getNamespace() + "/"
+                + meta.getName() + ":" + meta.getTag());
+        int summaryStart = console.size();
+        console.add("Successfully built " + shortId(imageId));
+        if (!meta.getName().isEmpty()) {
+            console.add("Successfully tagged " + meta.getFullName());
+        }
+        CommandConsole.print(console.subList(summaryStart, console.size()));
+
+        List<String> layers = new ArrayList<>(target.stepCount());
+        layers.add(target.from().text());
+        target.instructions().forEach(instruction -> layers.add(instruction.text()));
+        return new BuildResult(imageId, layers, console, hits);
+    }
+
+    /*
+    단계마다 work를 실행해 단계 순서대로 돌려준다. work는 두 번째 인자로 의존하는 단계의 결과를 받을 수 있다.
+    parallel이 아니면 Dockerfile 순서대로 실행한다(의존 단계는 항상 앞에 있다).
+    풀에서는 단계마다 의존 단계가 모두 끝난 뒤 시작하는 작업을 만든다.
+    completed는 호출한 스레드에서 단계 순서대로, 그 단계와 앞 단계가 모두 끝나는 즉시 호출된다.
+     */
+    private <T> List<T> inDependencyOrder(List<DockerfileStage> stages, boolean parallel,
+            BiFunction<DockerfileStage, IntFunction<T>, T> work, Consumer<T> completed) {
+        if (!parallel) {
+            List<T> results = new ArrayList<>(stages.size());
+            for (DockerfileStage stage : stages) {
+                T result = work.apply(stage, results::get);
+                results.add(result);
+                completed.accept(result);
+            }
+            return results;
+        }
+
+        AtomicReferenceArray<CompletableFuture<T>> futures = new AtomicReferenceArray<>(stages.size());
+        for (DockerfileStage stage : stages) {
+            CompletableFuture<?>[] dependencies = stage.dependencies().stream()
+                    .map(futures::get)
+                    .toArray(CompletableFuture[]::new);
+            futures.set(stage.index(), CompletableFuture.allOf(dependencies)
+                    .thenApplyAsync(ignored -> work.apply(stage, index -> futures.get(index).join()), stagePool));
+        }
+        try {
+            List<T> results = new ArrayList<>(stages.size());
+            for (int i = 0; i < stages.size(); i++) {
+                T result = futures.get(i).join();
+                results.add(result);
+                completed.accept(result);
+            }
+            return results;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /*
+    의존 관계 깊이(의존 단계가 없으면 0, 있으면 의존 단계의 최대 깊이 + 1)가 같은 단계가 둘 이상이면 동시에 빌드할 수 있다.
+     */
+    static boolean hasIndependentStages(List<DockerfileStage> stages) {
+        int[] depths = new int[stages.size()];
+        Set<Integer> seen = new HashSet<>();
+        for (DockerfileStage stage : stages) {
+            int depth = 0;
+            for (int dependency : stage.dependencies()) {
+                depth = Math.max(depth, depths[dependency] + 1);
+            }
+            depths[stage.index()] = depth;
+            if (!seen.add(depth)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+    단계 하나의 캐시 키를 만든다. FROM 단계는 부모 키가 없다.
+     */
+    private StagePlan plan(ParsedDockerfile dockerfile, DockerfileStage stage, String baseImageId,
+            IntFunction<StagePlan> dependency) {
+        if (baseImageId == null) {
+            baseImageId = dependency.apply(baseStageIndex(dockerfile, stage)).lastKey();
+        }
+        String key = sha256("FROM " + baseImageId);
+        List<Step> steps = new ArrayList<>(stage.stepCount());
+        // 기반 이미지 ID가 없으면(참조 문자열) 단계 키를 대신 출력한다.
+        steps.add(new Step(stage.from(), key, null, baseImageId.matches("[0-9a-f]{12,}") ? baseImageId : key));
+        for (DockerfileInstruction instruction : stage.instructions()) {
+            String parentKey = key;
+            String text = instruction.text();
+            DockerfileStage source = instruction.copyFrom() == null ? null
+                    : dockerfile.findStage(instruction.copyFrom(), stage.index());
+            if (source != null) {
+                // 복사해 오는 단계가 바뀌면 이 명령도 다시 빌드해야 한다.
+                text += "\n" + dependency.apply(source.index()).lastKey();
+            }
+            key = sha256(parentKey + "\n" + text);
+            steps.add(new Step(instruction, key, parentKey, key));
+        }
+        int firstStep = 1;
+        for (int i = 0; i < stage.index(); i++) {
+            firstStep += dockerfile.stages().get(i).stepCount();
+        }
+        return new StagePlan(stage, steps, key, firstStep);
+    }
+
+    /*
+    단계 하나를 빌드하며 진행 출력을 남긴다. 단계 안에서 처음 캐시를 쓰지 못한 명령부터는 모두 다시 빌드한다.
+     */
+    private StageLog run(Long simulationId, StagePlan plan, Map<String, BuildCacheEntry> cached, boolean noCache,
+            LocalDateTime now, int total, boolean multiStage) {
+        String prefix = multiStage ? "[" + plan.stage().label() + "] " : "";
+        List<String> console = new ArrayList<>();
+        List<BuildCacheEntry> created = new ArrayList<>();
+        List<Long> used = new ArrayList<>();
+        int hits = 0;
+        boolean missed = false;
+        for (int i = 0; i < plan.steps().size(); i++) {
+            Step step = plan.steps().get(i);
+            console.add(prefix + "Step " + (plan.firstStep() + i) + "/" + total + " : " + step.instruction().text());
+            if (step.parentKey() == null) {
+                console.add(prefix + " ---> " + shortId(step.outputId()));
+                continue;
+            }
+            BuildCacheEntry entry = cached.get(step.key());
+            if (entry != null) {
+                used.add(entry.getId());
+            }
+            if (entry != null && !noCache && !missed) {
+                hits++;
+                console.add(prefix + " ---> Using cache");
+            } else {
+                missed = true;
+                if (entry == null) {
+                    created.add(BuildCacheEntry.builder()
+                            .simulationId(simulationId)
+                            .cacheKey(step.key())
+                            .parentKey(step.parentKey())
+                            .instruction(step.instruction().text())
+                            .size(layerSize(step.instruction().keyword(), step.key()))
+                            .createdAt(now)
+                            .lastUsedAt(now)
+                            .build());
+                }
+                if (step.instruction().keyword().equals("RUN")) {
+                    String container = IdGenerator.getShortId(IdGenerator.generateHexFullId());
+                    console.add(prefix + " ---> Running in " + container);
+                    console.add(prefix + "Removing intermediate container " + container);
+                }
+            }
+            console.add(prefix + " ---> " + shortId(step.outputId()));
+        }
+        return new StageLog(console, created, used, hits);
+    }
+
+    /*
+    FROM이 앞 단계를 가리키면 그 단계 번호, 아니면 -1
+     */
+    private static int baseStageIndex(ParsedDockerfile dockerfile, DockerfileStage stage) {
+        DockerfileStage base = dockerfile.findStage(stage.baseImage(), stage.index());
+        return base != null ? base.index() : -1;
+    }
+
+    /*
+    로컬 이미지면 그 이미지 ID, 아니면 참조 문자열
+     */
+    private String baseImageId(Simulation simulation, String reference) {
+        if (reference.equalsIgnoreCase("scratch")) {
+            return "scratch";
+        }
+        DockerImage image = dockerImageFinder.findImageInLocalOrNull(simulation, ImageUtil.parserFullName(reference));
+        return image != null ? image.getHexId() : reference;
+    }
+
+    /*
+    레이어 크기. 파일을 바꾸는 RUN(1~16MB)과 COPY/ADD(1kB~1MB)만 크기가 있고 나머지 명령은 이미지 설정만 바꾸므로 0이다.
+    실제 파일이 없으므로 같은 단계가 항상 같은 크기가 되도록 캐시 키로 정한다.
+     */
+    static long layerSize(String keyword, String key) {
+        long seed = Long.parseLong(key.substring(0, 8), 16);
+        return switch (keyword) {
+            case "RUN" -> 1_000_000 + seed % 15_000_000;
+            case "COPY", "ADD" -> 1_000 + seed % 999_000;
+            default -> 0;
+        };
+    }
+
+    static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String shortId(String id) {
+        return id.substring(0, SHORT_ID_LENGTH);
+    }
+
+    private record Step(DockerfileInstruction instruction, String key, String parentKey, String outputId) {
+    }
+
+    /**
+     * @param firstStep 단계의 FROM이 전체 Dockerfile에서 몇 번째 명령인지(1부터)
+     */
+    private record StagePlan(DockerfileStage stage, List<Step> steps, String lastKey, int firstStep) {
+    }
+
+    private record StageLog(List<String> console, List<BuildCacheEntry> created, List<Long> used, int hits) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.dockersim.service.image.build;
+
+/**
+ * Dockerfile 명령 하나. 줄 연결({@code \})은 풀고 공백은 한 칸으로 정리한 상태다.
+ *
+ * @param line      명령이 시작된 줄 번호(1부터)
+ * @param keyword   대문자 명령어(FROM, RUN, COPY 등)
+ * @param arguments 명령어 뒤의 인자
+ */
+public record DockerfileInstruction(int line, String keyword, String arguments) {
+
+    /**
+     * 캐시 키와 {@code history}에 쓰는 정규화된 명령 문자열
+     */
+    public String text() {
+        return keyword + " " + arguments;
+    }
+
+    /**
+     * {@code COPY --from=<단계 이름|번호|이미지>}의 값. COPY가 아니거나 {@code --from}이 없으면 null
+     */
+    public String copyFrom() {
+        if (!keyword.equals("COPY")) {
+            return null;
+        }
+        for (String word : arguments.split(" ")) {
+            if (!word.startsWith("--")) {
+                break;
+            }
+            if (word.startsWith("--from=")) {
+                return word.substring("--from=".length());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,164 @@
+package com.dockersim.service.image.build;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerImageErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Dockerfile 문자열을 단계와 명령으로 나눈다.
+ * <ul>
+ *     <li>{@code #}로 시작하는 줄과 빈 줄은 건너뛴다. 줄 끝의 {@code \}는 다음 줄과 이어 붙인다(사이의 주석/빈 줄은 무시)</li>
+ *     <li>명령어는 대소문자를 구분하지 않으며, 인자의 연속된 공백은 한 칸으로 정리한다</li>
+ *     <li>첫 명령은 {@code FROM}이어야 한다. 그 앞에는 {@code ARG}만 올 수 있다</li>
+ *     <li>{@code FROM [--platform=...] image [AS name]}. 단계 이름은 대소문자를 구분하지 않고 중복될 수 없다</li>
+ *     <li>{@code FROM <앞 단계>}와 {@code COPY --from=<앞 단계 이름|번호>}는 단계 사이의 의존 관계가 된다.
+ *     앞 단계가 아닌 이름은 외부 이미지로 본다</li>
+ * </ul>
+ * 형식이 맞지 않으면 줄 번호와 함께 INVALID_DOCKERFILE을 던진다. 변수 치환({@code $VAR})은 하지 않는다.
+ */
+public final class DockerfileParser {
+
+    private static final Set<String> KEYWORDS = Set.of(
+            "FROM", "RUN", "CMD", "LABEL", "MAINTAINER", "EXPOSE", "ENV", "ADD", "COPY", "ENTRYPOINT",
+            "VOLUME", "USER", "WORKDIR", "ARG", "ONBUILD", "STOPSIGNAL", "HEALTHCHECK", "SHELL");
+
+    private DockerfileParser() {
+    }
+
+    public static ParsedDockerfile parse(String content) {
+        List<DockerfileInstruction> instructions = readInstructions(content == null ? "" : content);
+        if (instructions.isEmpty()) {
+            throw invalid(1, "빌드할 명령이 없습니다");
+        }
+
+        List<DockerfileInstruction> globalArgs = new ArrayList<>();
+        List<DockerfileStage> stages = new ArrayList<>();
+        DockerfileInstruction from = null;
+        List<DockerfileInstruction> body = new ArrayList<>();
+        for (DockerfileInstruction instruction : instructions) {
+            if (instruction.keyword().equals("FROM")) {
+                if (from != null) {
+                    stages.add(stage(stages, from, body));
+                    body = new ArrayList<>();
+                }
+                from = instruction;
+            } else if (from == null) {
+                if (!instruction.keyword().equals("ARG")) {
+                    throw invalid(instruction.line(), "첫 명령은 FROM이어야 합니다");
+                }
+                globalArgs.add(instruction);
+            } else {
+                body.add(instruction);
+            }
+        }
+        if (from == null) {
+            throw invalid(instructions.get(instructions.size() - 1).line(), "FROM이 없습니다");
+        }
+        stages.add(stage(stages, from, body));
+        return new ParsedDockerfile(List.copyOf(globalArgs), List.copyOf(stages));
+    }
+
+    private static List<DockerfileInstruction> readInstructions(String content) {
+        List<DockerfileInstruction> instructions = new ArrayList<>();
+        String[] lines = content.split("\r?\n", -1);
+        StringBuilder pending = null;
+        int startLine = 0;
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (pending == null) {
+                pending = new StringBuilder();
+                startLine = i + 1;
+            }
+            boolean continued = line.endsWith("\\");
+            pending.append(continued ? line.substring(0, line.length() - 1) : line).append(' ');
+            if (!continued) {
+                instructions.add(instruction(startLine, pending.toString()));
+                pending = null;
+            }
+        }
+        if (pending != null) {
+            instructions.add(instruction(startLine, pending.toString()));
+        }
+        return instructions;
+    }
+
+    private static DockerfileInstruction instruction(int line, String text) {
+        String[] parts = text.strip().split("\\s+", 2);
+        String keyword = parts[0].toUpperCase(Locale.ROOT);
+        if (!KEYWORDS.contains(keyword)) {
+            throw invalid(line, "알 수 없는 명령 '" + parts[0] + "'");
+        }
+        String arguments = parts.length > 1 ? String.join(" ", parts[1].strip().split("\\s+")) : "";
+        if (arguments.isEmpty()) {
+            throw invalid(line, keyword + "에 인자가 없습니다");
+        }
+        return new DockerfileInstruction(line, keyword, arguments);
+    }
+
+    private static DockerfileStage stage(List<DockerfileStage> previous, DockerfileInstruction from,
+            List<DockerfileInstruction> body) {
+        List<String> words = new ArrayList<>(List.of(from.arguments().split(" ")));
+        words.removeIf(word -> word.startsWith("--platform="));
+        String name = null;
+        if (words.size() == 3 && words.get(1).equalsIgnoreCase("AS")) {
+            name = words.get(2).toLowerCase(Locale.ROOT);
+            for (DockerfileStage stage : previous) {
+                if (name.equals(stage.name())) {
+                    throw invalid(from.line(), "단계 이름 '" + name + "'이 중복됩니다");
+                }
+            }
+        } else if (words.size() != 1) {
+            throw invalid(from.line(), "FROM 형식은 'FROM image [AS name]'입니다");
+        }
+
+        int index = previous.size();
+        Set<Integer> dependencies = new TreeSet<>();
+        DockerfileStage base = findStage(previous, words.get(0), index);
+        if (base != null) {
+            dependencies.add(base.index());
+        }
+        for (DockerfileInstruction instruction : body) {
+            String source = instruction.copyFrom();
+            if (source == null) {
+                continue;
+            }
+            if (source.equalsIgnoreCase(name) || source.equals(String.valueOf(index))) {
+                throw invalid(instruction.line(), "COPY --from=" + source + "은 현재 단계를 가리킵니다");
+            }
+            if (source.matches("\\d+") && findStage(previous, source, index) == null) {
+                throw invalid(instruction.line(), "COPY --from=" + source + " 단계가 없습니다");
+            }
+            DockerfileStage stage = findStage(previous, source, index);
+            if (stage != null) {
+                dependencies.add(stage.index());
+            }
+        }
+        return new DockerfileStage(index, name, words.get(0), from, List.copyOf(body), List.copyOf(dependencies));
+    }
+
+    static DockerfileStage findStage(List<DockerfileStage> stages, String reference, int index) {
+        if (reference.matches("\\d{1,9}")) {
+            int number = Integer.parseInt(reference);
+            return number < index && number < stages.size() ? stages.get(number) : null;
+        }
+        String name = reference.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < index && i < stages.size(); i++) {
+            if (name.equals(stages.get(i).name())) {
+                return stages.get(i);
+            }
+        }
+        return null;
+    }
+
+    private static BusinessException invalid(int line, String reason) {
+        return new BusinessException(DockerImageErrorCode.INVALID_DOCKERFILE, line, reason);
+    }
+}
@@ -0,0 +1,31 @@
+package com.dockersim.service.image.build;
+
+import java.util.List;
+
+/**
+ * {@code FROM}으로 시작하는 빌드 단계 하나.
+ *
+ * @param index        Dockerfile 안의 단계 순서(0부터)
+ * @param name         {@code FROM ... AS name}의 이름. 없으면 null
+ * @param baseImage    {@code FROM}의 이미지 참조
+ * @param from         {@code FROM} 명령
+ * @param instructions {@code FROM} 뒤의 명령
+ * @param dependencies 이 단계보다 먼저 끝나야 하는 앞 단계 번호({@code FROM <단계>}, {@code COPY --from=<단계>}). 오름차순
+ */
+public record DockerfileStage(int index, String name, String baseImage, DockerfileInstruction from,
+                             List<DockerfileInstruction> instructions, List<Integer> dependencies) {
+
+    /**
+     * 진행 출력에 쓰는 단계 이름. 이름이 없으면 {@code stage-<번호>}
+     */
+    public String label() {
+        return name != null ? name : "stage-" + index;
+    }
+
+    /**
+     * {@code FROM}을 포함한 명령 수
+     */
+    public int stepCount() {
+        return instructions.size() + 1;
+    }
+}
@@ -0,0 +1,31 @@
+package com.dockersim.service.image.build;
+
+import java.util.List;
+
+/**
+ * {@link DockerfileParser}로 읽은 Dockerfile. 마지막 단계가 빌드 결과 이미지가 된다.
+ *
+ * @param globalArgs 첫 {@code FROM} 앞의 {@code ARG}
+ * @param stages     단계 목록(1개 이상)
+ */
+public record ParsedDockerfile(List<DockerfileInstruction> globalArgs, List<DockerfileStage> stages) {
+
+    /**
+     * {@code index}번 단계보다 앞에 있는 단계 중 {@code reference}(이름 또는 번호)가 가리키는 단계.
+     * 없으면(외부 이미지 참조) null
+     */
+    public DockerfileStage findStage(String reference, int index) {
+        return DockerfileParser.findStage(stages, reference, index);
+    }
+
+    public DockerfileStage target() {
+        return stages.get(stages.size() - 1);
+    }
+
+    /**
+     * 모든 단계의 명령 수({@code Step n/N}의 N)
+     */
+    public int stepCount() {
+        return stages.stream().mapToInt(DockerfileStage::stepCount).sum();
+    }
+}
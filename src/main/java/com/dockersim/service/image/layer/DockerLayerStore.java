@@ -0,0 +1,348 @@
+package com.dockersim.service.image.layer;
+
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.ImageLayerStore;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이미지 레이어를 내용의 SHA-256 기준으로 한 번만 저장하고, 레이어마다 참조하는 이미지 행 수를 관리한다.
+ * <p>
+ * 이미지를 저장할 때 {@link #acquire}로 레이어 ID를 받아 참조 수를 올리고, 지울 때 {@link #release}로 내린다.
+ * 참조 수가 0이 된 레이어는 바로 지운다. 같은 레이어 ID를 그대로 쓰는 복사본(push 등)은 {@link #retain}을 사용한다.
+ * <p>
+ * 레이어 ID와 내용의 대응은 바뀌지 않으므로 내용은 ID별로 캐시하고, 이미지 조회({@link #fillLayers}, {@link #resolve})는
+ * 캐시에 없는 ID만 한 번의 SELECT로 읽는다. 엔티티를 읽을 때마다 채우지 않고, 레이어가 필요한 finder가 조회한 이미지를 모아 한 번에 채운다. 다이제스트 → ID 캐시는 참조 수를 올릴 때 갱신된 행 수로 검증하므로,
+ * 그 사이 지워진 레이어는 다시 만든다. 다른 트랜잭션이 같은 레이어를 동시에 처음 만들면 다이제스트 유일 제약에 걸리고,
+ * CONCURRENT_MODIFICATION으로 바꿔 던져 명령 전체를 다시 실행하게 한다.
+ * <p>
+ * JDBC로 처리하며 호출한 쪽의 트랜잭션에 참여한다.
+ */
+@Component
+public class DockerLayerStore implements ImageLayerStore {
+
+    public static final String DIGEST_PREFIX = "sha256:";
+
+    private static final String CACHE_NAME = "dockerLayerContents";
+    private static final int IN_CHUNK_SIZE = 500;
+
+    private static final String SELECT_IDS = "SELECT id, digest FROM docker_layers WHERE digest IN (%s)";
+    private static final String SELECT_CONTENTS = "SELECT id, content FROM docker_layers WHERE id IN (%s)";
+    private static final String INSERT_LAYER = """
+            INSERT INTO docker_layers (digest, content, reference_count, created_at) VALUES (?, ?, ?, ?)""";
+    private static final String ADD_REFERENCES = """
+            UPDATE docker_layers SET reference_count = reference_count + ? WHERE id = ?""";
+    private static final String SIZE_UNREFERENCED = """
+            SELECT COALESCE(SUM(LENGTH(content)), 0) FROM docker_layers WHERE reference_count <= 0 AND id IN (%s)""";
+    private static final String DELETE_UNREFERENCED = """
+            DELETE FROM docker_layers WHERE reference_count <= 0 AND id IN (%s)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<Long, String> contents;
+    private final Cache<String, Long> ids;
+
+    public DockerLayerStore(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${dockersim.layer-store.cache.maximum-size:10000}") long cacheSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.contents = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        this.ids = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, contents, CACHE_NAME);
+    }
+
+    /**
+     * 레이어 내용의 다이제스트({@code sha256:} + 16진수)
+     */
+    public static String digest(String content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return DIGEST_PREFIX + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 이미지 하나의 레이어를 저장(이미 있으면 공유)하고 참조 수를 올린 뒤, 레이어 ID를 같은 순서로 돌려준다.
+     */
+    @Override
+    public List<Long> acquire(List<String> layers) {
+        return acquireAll(Collections.singletonList(layers)).get(0);
+    }
+
+    /**
+     * 여러 이미지의 레이어를 한꺼번에 저장한다. 같은 내용은 한 행으로 모으고, 참조 수는 이미지별 등장 횟수만큼 올린다.
+     */
+    public List<List<Long>> acquireAll(List<List<String>> images) {
+        Map<String, String> contentByDigest = new LinkedHashMap<>();
+        Map<String, Long> references = new HashMap<>();
+        List<List<String>> digests = new ArrayList<>(images.size());
+        for (List<String> layers : images) {
+            List<String> imageDigests = new ArrayList<>(layers == null ? 0 : layers.size());
+            if (layers != null) {
+                for (String content : layers) {
+                    String digest = digest(content);
+                    contentByDigest.putIfAbsent(digest, content);
+                    references.merge(digest, 1L, Long::sum);
+                    imageDigests.add(digest);
+                }
+            }
+            digests.add(imageDigests);
+        }
+        if (contentByDigest.isEmpty()) {
+            return digests.stream().map(layers -> List.<Long>of()).toList();
+        }
+
+        Map<String, Long> resolved = findIds(contentByDigest.keySet());
+        List<String> existing = new ArrayList<>(resolved.keySet());
+        if (!existing.isEmpty()) {
+            int[] updated = jdbcTemplate.batchUpdate(ADD_REFERENCES, existing, existing.size(), (ps, digest) -> {
+                ps.setLong(1, references.get(digest));
+                ps.setLong(2, resolved.get(digest));
+            })[0];
+            for (int i = 0; i < updated.length; i++) {
+                // 캐시한 ID의 레이어가 그 사이 지워졌으면 새로 만든다.
+                if (updated[i] == 0) {
+                    resolved.remove(existing.get(i));
+                    ids.invalidate(existing.get(i));
+                }
+            }
+        }
+
+        List<String> missing = contentByDigest.keySet().stream()
+                .filter(digest -> !resolved.containsKey(digest))
+                .toList();
+        if (!missing.isEmpty()) {
+            insert(missing, contentByDigest, references);
+            resolved.putAll(selectIds(missing));
+        }
+
+        List<List<Long>> result = new ArrayList<>(digests.size());
+        for (List<String> imageDigests : digests) {
+            List<Long> layerIds = new ArrayList<>(imageDigests.size());
+            for (String digest : imageDigests) {
+                Long id = resolved.get(digest);
+                layerIds.add(id);
+                contents.put(id, contentByDigest.get(digest));
+            }
+            result.add(layerIds);
+        }
+        return result;
+    }
+
+    /**
+     * 이미 저장된 레이어 ID를 그대로 쓰는 이미지(복사본)를 위해 참조 수를 올린다.
+     */
+    @Override
+    public void retain(List<Long> layerIds) {
+        Map<Long, Long> counts = count(Collections.singletonList(layerIds));
+        if (counts.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(counts.entrySet());
+        int[] updated = jdbcTemplate.batchUpdate(ADD_REFERENCES, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        })[0];
+        for (int rows : updated) {
+            // 원본 이미지가 동시에 지워져 레이어가 사라졌다.
+            if (rows == 0) {
+                throw new BusinessException(DockerCommandErrorCode.CONCURRENT_MODIFICATION);
+            }
+        }
+    }
+
+    @Override
+    public void release(List<Long> layerIds) {
+        releaseAll(Collections.singletonList(layerIds));
+    }
+
+    /**
+     * 지운 이미지들이 가리키던 레이어의 참조 수를 내리고, 더 이상 참조되지 않는 레이어를 지운다.
+     *
+     * @return 지운 레이어 내용의 크기 합
+     */
+    public long releaseAll(Collection<List<Long>> images) {
+        Map<Long, Long> counts = count(images);
+        if (counts.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(counts.entrySet());
+        jdbcTemplate.batchUpdate(ADD_REFERENCES, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, -entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+        long reclaimed = 0;
+        for (List<Long> chunk : chunks(new ArrayList<>(counts.keySet()))) {
+            String in = placeholders(chunk.size());
+            Long size = jdbcTemplate.queryForObject(SIZE_UNREFERENCED.formatted(in), Long.class, chunk.toArray());
+            reclaimed += size == null ? 0 : size;
+            jdbcTemplate.update(DELETE_UNREFERENCED.formatted(in), chunk.toArray());
+        }
+        return reclaimed;
+    }
+
+    /**
+     * 레이어 내용이 아직 없는 이미지들에 레이어 내용을 채운다. 캐시에 없는 레이어는 이미지 수와 관계없이 한 번에 읽는다.
+     * 같은 이미지가 여러 번 들어 있거나 null이어도 된다.
+     */
+    public void fillLayers(Collection<DockerImage> images) {
+        Set<DockerImage> pending = new LinkedHashSet<>();
+        for (DockerImage image : images) {
+            if (image != null && image.getLayers() == null) {
+                pending.add(image);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<DockerImage> missing = new ArrayList<>(pending);
+        List<List<String>> layers = resolveAll(missing.stream().map(DockerImage::getLayerIds).toList());
+        for (int i = 0; i < missing.size(); i++) {
+            missing.get(i).setLayers(layers.get(i));
+        }
+    }
+
+    /**
+     * 레이어 ID 목록을 내용 목록으로 바꾼다. 이미 지워진 레이어는 건너뛴다.
+     */
+    public List<String> resolve(List<Long> layerIds) {
+        return resolveAll(Collections.singletonList(layerIds)).get(0);
+    }
+
+    /**
+     * 여러 이미지의 레이어를 한꺼번에 내용으로 바꾼다. 캐시에 없는 ID는 한 번에 읽는다.
+     */
+    public List<List<String>> resolveAll(List<List<Long>> images) {
+        Set<Long> wanted = new LinkedHashSet<>();
+        for (List<Long> layerIds : images) {
+            if (layerIds != null) {
+                wanted.addAll(layerIds);
+            }
+        }
+        Map<Long, String> found = wanted.isEmpty() ? Map.of() : contents.getAll(wanted, this::selectContents);
+
+        List<List<String>> result = new ArrayList<>(images.size());
+        for (List<Long> layerIds : images) {
+            if (layerIds == null || layerIds.isEmpty()) {
+                result.add(List.of());
+                continue;
+            }
+            List<String> layers = new ArrayList<>(layerIds.size());
+            for (Long id : layerIds) {
+                String content = found.get(id);
+                if (content != null) {
+                    layers.add(content);
+                }
+            }
+            result.add(layers);
+        }
+        return result;
+    }
+
+    private Map<String, Long> findIds(Collection<String> digests) {
+        Map<String, Long> resolved = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String digest : digests) {
+            Long id = ids.getIfPresent(digest);
+            if (id != null) {
+                resolved.put(digest, id);
+            } else {
+                uncached.add(digest);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            resolved.putAll(selectIds(uncached));
+        }
+        return resolved;
+    }
+
+    private Map<String, Long> selectIds(List<String> digests) {
+        Map<String, Long> found = new HashMap<>();
+        for (List<String> chunk : chunks(digests)) {
+            jdbcTemplate.query(SELECT_IDS.formatted(placeholders(chunk.size())), rs -> {
+                found.put(rs.getString("digest"), rs.getLong("id"));
+            }, chunk.toArray());
+        }
+        ids.putAll(found);
+        return found;
+    }
+
+    private Map<Long, String> selectContents(Set<? extends Long> layerIds) {
+        Map<Long, String> found = new HashMap<>();
+        for (List<Long> chunk : chunks(new ArrayList<Long>(layerIds))) {
+            jdbcTemplate.query(SELECT_CONTENTS.formatted(placeholders(chunk.size())), rs -> {
+                found.put(rs.getLong("id"), rs.getString("content"));
+            }, chunk.toArray());
+        }
+        return found;
+    }
+
+    private void insert(List<String> digests, Map<String, String> contentByDigest, Map<String, Long> references) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.batchUpdate(INSERT_LAYER, digests, digests.size(), (ps, digest) -> {
+                ps.setString(1, digest);
+                ps.setString(2, contentByDigest.get(digest));
+                ps.setLong(3, references.get(digest));
+                ps.setTimestamp(4, now);
+            });
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 같은 레이어를 먼저 만들었다. 명령을 다시 실행하면 그 행을 공유한다.
+            throw new BusinessException(DockerCommandErrorCode.CONCURRENT_MODIFICATION);
+        }
+    }
+
+    private static Map<Long, Long> count(Collection<List<Long>> images) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (List<Long> layerIds : images) {
+            if (layerIds != null) {
+                layerIds.forEach(id -> counts.merge(id, 1L, Long::sum));
+            }
+        }
+        return counts;
+    }
+
+    private static <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += IN_CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(values.size(), from + IN_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
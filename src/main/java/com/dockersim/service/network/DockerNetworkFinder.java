@@ -2,14 +2,20 @@ package com.dockersim.service.network;
 
 import java.util.List;
 
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListPage;
 import com.dockersim.domain.ContainerNetwork;
 import com.dockersim.domain.DockerNetwork;
 import com.dockersim.domain.Simulation;
+import com.dockersim.repository.NetworkRow;
 
 public interface DockerNetworkFinder {
 	DockerNetwork findByNameOrHexId(Simulation simulation, String nameOrHexId);
 
-	List<DockerNetwork> findAll(Simulation simulation);
+	/**
+	 * 시뮬레이션에 속한 네트워크의 목록 행(docker network ls)을 필터/페이지 조건과 함께 조회합니다.
+	 */
+	List<NetworkRow> findRows(Long simulationId, ListFilter filter, ListPage page);
 
 	boolean existsByName(Simulation simulation, String name);
 
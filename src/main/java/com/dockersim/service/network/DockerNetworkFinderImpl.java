@@ -1,14 +1,21 @@
 package com.dockersim.service.network;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListPage;
 import com.dockersim.domain.ContainerNetwork;
 import com.dockersim.domain.DockerNetwork;
 import com.dockersim.domain.Simulation;
 import com.dockersim.exception.BusinessException;
 import com.dockersim.exception.code.DockerNetworkErrorCode;
+import com.dockersim.repository.ListingQueryRepository;
+import com.dockersim.repository.NetworkRow;
+import com.dockersim.service.simulation.index.SimulationIdentifierIndex;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,17 +23,19 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class DockerNetworkFinderImpl implements DockerNetworkFinder {
 	private final DockerNetworkRepository repo;
+	private final ListingQueryRepository listingQueryRepository;
+	private final SimulationIdentifierIndex identifierIndex;
 
 	@Override
 	public DockerNetwork findByNameOrHexId(Simulation simulation, String nameOrHexId) {
-		return repo.findByNameOrHexId(simulation, nameOrHexId).orElseThrow(
+		return resolve(simulation, nameOrHexId).orElseThrow(
 			() -> new BusinessException(DockerNetworkErrorCode.NOT_FOUND_NETWORK, nameOrHexId)
 		);
 	}
 
 	@Override
-	public List<DockerNetwork> findAll(Simulation simulation) {
-		return repo.findBySimulation(simulation);
+	public List<NetworkRow> findRows(Long simulationId, ListFilter filter, ListPage page) {
+		return listingQueryRepository.findNetworkRows(simulationId, filter, page);
 	}
 
 	@Override
@@ -45,4 +54,33 @@ public class DockerNetworkFinderImpl implements DockerNetworkFinder {
 	public List<DockerNetwork> findUnusedNetworks(Simulation simulation) {
 		return repo.findUnusedNetworks(simulation);
 	}
+
+	/*
+	이름, short ID, ID 접두사를 색인에서 찾고 기본 키로 조회한다.
+	색인에 없거나 색인의 결과가 실제와 다르면 기존 쿼리로 확인하고 색인을 다시 적재하도록 한다.
+	 */
+	private Optional<DockerNetwork> resolve(Simulation simulation, String nameOrHexId) {
+		long networkId = identifierIndex.resolveNetwork(simulation.getId(), nameOrHexId);
+		if (networkId == SimulationIdentifierIndex.AMBIGUOUS) {
+			throw new BusinessException(DockerNetworkErrorCode.AMBIGUOUS_NETWORK_IDENTIFIER, nameOrHexId);
+		}
+		if (networkId != SimulationIdentifierIndex.NOT_FOUND) {
+			Optional<DockerNetwork> indexed = repo.findById(networkId)
+				.filter(network -> matches(network, simulation, nameOrHexId));
+			if (indexed.isPresent()) {
+				return indexed;
+			}
+		}
+
+		Optional<DockerNetwork> found = repo.findByNameOrHexId(simulation, nameOrHexId);
+		if (networkId != SimulationIdentifierIndex.NOT_FOUND || found.isPresent()) {
+			identifierIndex.invalidate(simulation.getId());
+		}
+		return found;
+	}
+
+	private static boolean matches(DockerNetwork network, Simulation simulation, String nameOrHexId) {
+		return Objects.equals(network.getSimulation().getId(), simulation.getId())
+			&& (nameOrHexId.equals(network.getName()) || network.getHexId().startsWith(nameOrHexId));
+	}
 }
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import com.dockersim.domain.ContainerNetwork;
 import com.dockersim.domain.DockerNetwork;
 import com.dockersim.domain.Simulation;
+import com.dockersim.repository.IdentifierView;
 
 public interface DockerNetworkRepository extends JpaRepository<DockerNetwork, Long> {
 
@@ -46,4 +47,12 @@ public interface DockerNetworkRepository extends JpaRepository<DockerNetwork, Lo
 		"WHERE d.simulation = :simulation " +
 		"AND d.containerNetworks IS EMPTY")
 	List<DockerNetwork> findUnusedNetworks(@Param("simulation") Simulation simulation);
+
+	// 이름/ID 색인 적재
+	@Query("""
+			SELECT d.id AS id, d.name AS name, d.hexId AS hexId
+			FROM DockerNetwork d
+			WHERE d.simulation.id = :simulationId
+		""")
+	List<IdentifierView> findIdentifiersBySimulationId(@Param("simulationId") Long simulationId);
 }
@@ -2,6 +2,7 @@ package com.dockersim.service.network;
 
 import java.util.List;
 
+import com.dockersim.common.listing.ListOptions;
 import com.dockersim.config.SimulationUserPrincipal;
 import com.dockersim.dto.response.DockerNetworkResponse;
 
@@ -26,7 +27,7 @@ public interface DockerNetworkService {
 	);
 
 	List<String> ls(SimulationUserPrincipal principal,
-		boolean quiet
+		boolean quiet, ListOptions options
 	);
 
 	List<DockerNetworkResponse> prune(SimulationUserPrincipal principal);
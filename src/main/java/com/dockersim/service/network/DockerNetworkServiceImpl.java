@@ -1,5 +1,10 @@
 package com.dockersim.service.network;
 
+import com.dockersim.common.InspectRenderer;
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListFormat;
+import com.dockersim.common.listing.ListOptions;
+import com.dockersim.common.listing.ListPage;
 import com.dockersim.config.SimulationUserPrincipal;
 import com.dockersim.domain.ContainerNetwork;
 import com.dockersim.domain.DockerContainer;
@@ -9,19 +14,20 @@ import com.dockersim.dto.response.DockerContainerSimpleInspect;
 import com.dockersim.dto.response.DockerNetworkInspect;
 import com.dockersim.dto.response.DockerNetworkResponse;
 import com.dockersim.exception.BusinessException;
-import com.dockersim.exception.code.DockerImageErrorCode;
 import com.dockersim.exception.code.DockerNetworkErrorCode;
+import com.dockersim.repository.ListingQueryRepository;
+import com.dockersim.repository.NetworkRow;
 import com.dockersim.service.container.DockerContainerFinder;
 import com.dockersim.service.simulation.SimulationFinder;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.dockersim.service.simulation.hot.HotSimulationEngine;
+import com.dockersim.util.FixedWidthRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +37,17 @@ public class DockerNetworkServiceImpl implements DockerNetworkService {
     private final DockerNetworkFinder dockerNetworkFinder;
 
     private final SimulationFinder simulationFinder;
+    private final HotSimulationEngine hotSimulationEngine;
+    private final InspectRenderer inspectRenderer;
+
+    /*
+    docker network ls --format에서 사용할 수 있는 필드
+     */
+    private static final Map<String, ListFormat.Column<NetworkRow>> LS_COLUMNS = Map.of(
+            "ID", new ListFormat.Column<>("NETWORK ID", NetworkRow::shortHexId),
+            "Name", new ListFormat.Column<>("NAME", NetworkRow::name),
+            "CreatedAt", new ListFormat.Column<>("CREATED AT", NetworkRow::createdAt)
+    );
 
     @Override
     public DockerNetworkResponse connect(
@@ -89,37 +106,47 @@ public class DockerNetworkServiceImpl implements DockerNetworkService {
         DockerNetwork network = dockerNetworkFinder.findByNameOrHexId(simulation, networkNameOrHexId);
 
         List<ContainerNetwork> containerNetworks = dockerNetworkFinder.getDockerContainerSimpleInspects(
-                simulation.getId(), network.getId());
+                network.getId(), simulation.getId());
 
         List<DockerContainerSimpleInspect> containerSimpleInspects = containerNetworks.stream()
                 .map(DockerContainerSimpleInspect::from).toList();
 
         DockerNetworkInspect inspectData = DockerNetworkInspect.from(network, containerSimpleInspects);
 
-        try {
-            return Collections.singletonList(
-                    (new ObjectMapper()).writerWithDefaultPrettyPrinter().writeValueAsString(List.of(inspectData)));
-        } catch (JsonProcessingException e) {
-            throw new BusinessException(DockerImageErrorCode.FAIL_CONVERT_INSPECT);
-        }
+        return inspectRenderer.render(inspectData);
     }
 
     @Transactional(readOnly = true)
     @Override
-    public List<String> ls(SimulationUserPrincipal principal, boolean quiet) {
-        Simulation simulation = simulationFinder.findById(principal.getSimulationId());
-
-        List<DockerNetwork> networks = dockerNetworkFinder.findAll(simulation);
+    public List<String> ls(SimulationUserPrincipal principal, boolean quiet, ListOptions options) {
+        ListFilter filter = ListFilter.parse(options.getFilters(), ListingQueryRepository.NETWORK_FILTERS);
+        ListFormat<NetworkRow> format = ListFormat.parse(options.getFormat(), LS_COLUMNS);
+        ListPage page = options.toPage();
+
+        Long simulationId = principal.getSimulationId();
+        List<NetworkRow> networks;
+        if (hotSimulationEngine.isEnabled() && filter.isEmpty() && page.isUnbounded()) {
+            networks = hotSimulationEngine.access(simulationId,
+                    hot -> hot.getNetworks().stream().map(NetworkRow::from).toList());
+        } else {
+            hotSimulationEngine.flush(simulationId);
+            networks = dockerNetworkFinder.findRows(simulationId, filter, page);
+        }
 
-        Stream<String> headerStream, bodyStream;
+        if (!quiet && format != null) {
+            return format.render(networks);
+        }
+        List<String> lines = new ArrayList<>(networks.size() + 1);
         if (quiet) {
-            headerStream = Stream.of("NETWORK ID");
-            bodyStream = networks.stream().map(DockerNetwork::getShortHexId);
-        } else {
-            headerStream = String.format("%-25s %s", "NETWORK ID", "NAME").lines();
-            bodyStream = networks.stream().map(DockerNetwork::getHeader);
+            lines.add("NETWORK ID");
+            networks.forEach(network -> lines.add(network.shortHexId()));
+            return lines;
         }
-        return Stream.concat(headerStream, bodyStream).toList();
+
+        FixedWidthRow row = new FixedWidthRow(25, 0);
+        lines.add(row.cell("NETWORK ID").cell("NAME").build());
+        networks.forEach(network -> lines.add(row.cell(network.shortHexId()).cell(network.name()).build()));
+        return lines;
     }
 
     @Override
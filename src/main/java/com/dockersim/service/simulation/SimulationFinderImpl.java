@@ -4,6 +4,7 @@ import com.dockersim.domain.Simulation;
 import com.dockersim.exception.BusinessException;
 import com.dockersim.exception.code.SimulationErrorCode;
 import com.dockersim.repository.SimulationRepository;
+import com.dockersim.service.simulation.hot.HotSimulationEngine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,14 +15,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class SimulationFinderImpl implements SimulationFinder {
 
     private final SimulationRepository repo;
+    private final HotSimulationEngine hotSimulationEngine;
 
     @Override
     public boolean existsByPublicId(String publicId) {
         return repo.existsByPublicId(publicId);
     }
 
+    /**
+     * 명령 서비스가 DB 경로로 진입할 때 사용한다.
+     * 메모리에 올라온 시뮬레이션이라면 대기 중인 변경분을 먼저 반영하고 메모리 그래프를 내린다.
+     */
     @Override
     public Simulation findById(Long id) {
+        hotSimulationEngine.invalidate(id);
         return repo.findById(id).orElseThrow(
             () -> new BusinessException(SimulationErrorCode.SIMULATION_NOT_FOUND, id));
     }
@@ -3,7 +3,9 @@ package com.dockersim.service.simulation;
 import com.dockersim.dto.request.CollaboratorRequest;
 import com.dockersim.dto.request.SimulationRequest;
 import com.dockersim.dto.response.CollaboratorResponse;
+import com.dockersim.dto.response.SimulationJournalEntryResponse;
 import com.dockersim.dto.response.SimulationResponse;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot;
 import java.util.List;
 
 public interface SimulationService {
@@ -74,4 +76,70 @@ public interface SimulationService {
      */
     void removeCollaborator(String ownerId, String simulationId, String collaboratorUserId);
 
+    /**
+     * 시뮬레이션 상태(이미지, 컨테이너, 네트워크, 볼륨과 연결 관계)를 바이너리 스냅샷으로 내보낸다. 조회 권한이 있으면 가능
+     *
+     * @param userId       요청자 ID
+     * @param simulationId 시뮬레이션 ID
+     * @return 스냅샷 바이트
+     */
+    byte[] exportSnapshot(String userId, String simulationId);
+
+    /**
+     * 시뮬레이션의 현재 상태를 모두 지우고 스냅샷의 상태로 바꾼다. 쓰기 권한이 있어야 한다
+     *
+     * @param userId       요청자 ID
+     * @param simulationId 복원할 시뮬레이션 ID
+     * @param snapshot     {@link #exportSnapshot}으로 내보낸 스냅샷
+     * @return 복원된 시뮬레이션 정보
+     */
+    SimulationResponse restoreSnapshot(String userId, String simulationId, byte[] snapshot);
+
+    /**
+     * 시뮬레이션 상태를 복사한 새 시뮬레이션을 만든다. 요청자가 새 시뮬레이션의 소유자가 된다
+     *
+     * @param userId       요청자 ID
+     * @param simulationId 복사할 시뮬레이션 ID
+     * @param request      새 시뮬레이션 정보(제목, 공유 상태)
+     * @return 생성된 시뮬레이션 정보
+     */
+    SimulationResponse forkSimulation(String userId, String simulationId, SimulationRequest request);
+
+    /**
+     * 시뮬레이션 상태를 바꾼 명령 기록을 최근 것부터 조회한다. 조회 권한이 있으면 가능
+     *
+     * @param userId       요청자 ID
+     * @param simulationId 시뮬레이션 ID
+     * @param before       이 순번보다 앞선 기록만 조회(다음 페이지). null이면 마지막 기록부터
+     * @param limit        최대 개수
+     */
+    List<SimulationJournalEntryResponse> getJournal(String userId, String simulationId, Long before, int limit);
+
+    /**
+     * 명령 기록 {@code sequence}번까지 반영된 시뮬레이션 상태. 0이면 기록을 시작하기 전의 상태. 조회 권한이 있으면 가능
+     *
+     * @param userId       요청자 ID
+     * @param simulationId 시뮬레이션 ID
+     * @param sequence     명령 기록 순번
+     */
+    SimulationSnapshot getJournalState(String userId, String simulationId, long sequence);
+
+    /**
+     * 시뮬레이션을 명령 기록 {@code sequence}번 시점의 상태로 되돌린다. 되돌린 것도 새 기록으로 남는다. 쓰기 권한이 있어야 한다
+     *
+     * @param userId       요청자 ID
+     * @param simulationId 시뮬레이션 ID
+     * @param sequence     되돌릴 시점
+     * @return 복원된 시뮬레이션 정보
+     */
+    SimulationResponse restoreJournal(String userId, String simulationId, long sequence);
+
+    /**
+     * 마지막 기록 직전의 상태로 되돌린다. 되돌린 것도 새 기록으로 남으므로, 다시 호출하면 되돌리기 전 상태로 돌아간다
+     *
+     * @param userId       요청자 ID
+     * @param simulationId 시뮬레이션 ID
+     * @return 복원된 시뮬레이션 정보
+     */
+    SimulationResponse undo(String userId, String simulationId);
 }
@@ -1,21 +1,36 @@
 package com.dockersim.service.simulation;
 
+import com.dockersim.config.auth.SimulationAccessResolver;
 import com.dockersim.domain.Simulation;
 import com.dockersim.domain.SimulationShareState;
 import com.dockersim.domain.User;
 import com.dockersim.dto.request.CollaboratorRequest;
 import com.dockersim.dto.request.SimulationRequest;
 import com.dockersim.dto.response.CollaboratorResponse;
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.dto.response.CommandResultStatus;
+import com.dockersim.dto.response.SimulationJournalEntryResponse;
 import com.dockersim.dto.response.SimulationResponse;
 import com.dockersim.exception.BusinessException;
 import com.dockersim.exception.code.SimulationErrorCode;
+import com.dockersim.repository.BuildCacheEntryRepository;
 import com.dockersim.repository.SimulationRepository;
+import com.dockersim.service.command.SimulationCommandLanes;
+import com.dockersim.service.simulation.hot.HotSimulationEngine;
+import com.dockersim.service.simulation.index.SimulationIdentifierIndex;
+import com.dockersim.service.simulation.journal.SimulationJournal;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshotCodec;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshotStore;
 import com.dockersim.service.user.UserFinder;
 import java.util.List;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
@@ -24,10 +39,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class SimulationServiceImpl implements SimulationService {
 
     private static final int MAX_COLLABORATORS = 6;
+    private static final int MAX_JOURNAL_PAGE = 200;
+
+    /*
+    명령어로 실행하지 않은 상태 변경을 명령 기록에 남길 때 쓰는 이름
+     */
+    private static final String RESTORE_SNAPSHOT_COMMAND = "simulation restore --snapshot";
+    private static final String RESTORE_JOURNAL_COMMAND = "simulation restore --sequence %d";
 
     private final UserFinder userFinder;
     private final SimulationFinder simulationFinder; // SimulationFinder 주입
     private final SimulationRepository simulationRepository;
+    private final SimulationAccessResolver simulationAccessResolver;
+    private final SimulationSnapshotStore snapshotStore;
+    private final SimulationCommandLanes commandLanes;
+    private final HotSimulationEngine hotSimulationEngine;
+    private final SimulationIdentifierIndex identifierIndex;
+    private final SimulationJournal simulationJournal;
+    private final BuildCacheEntryRepository buildCacheRepository;
 
     @Override
     public SimulationResponse createSimulation(String ownerId, SimulationRequest request) {
@@ -69,6 +98,7 @@ public class SimulationServiceImpl implements SimulationService {
 
         simulation.updateTitle(request.getTitle());
         simulation.updateShareState(newShareState);
+        simulationAccessResolver.evict(simulationPublicId);
 
         return SimulationResponse.from(simulationRepository.save(simulation));
     }
@@ -80,7 +110,10 @@ public class SimulationServiceImpl implements SimulationService {
 
         validateOwnership(simulation, owner);
 
+        simulationJournal.delete(simulation.getId());
+        buildCacheRepository.deleteBySimulationId(simulation.getId());
         simulationRepository.delete(simulation);
+        simulationAccessResolver.evict(simulationPublicId);
     }
 
     @Override
@@ -97,6 +130,7 @@ public class SimulationServiceImpl implements SimulationService {
 
         simulation.addCollaborator(invitee, owner);
         simulationRepository.save(simulation);
+        simulationAccessResolver.evict(simulationId);
 
         return CollaboratorResponse.from(simulation.findCollaborator(invitee));
     }
@@ -125,10 +159,146 @@ public class SimulationServiceImpl implements SimulationService {
 
         simulation.removeCollaborator(collaborator);
         simulationRepository.save(simulation);
+        simulationAccessResolver.evict(simulationId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] exportSnapshot(String userId, String simulationPublicId) {
+        Simulation simulation = findReadableSimulation(userId, simulationPublicId);
+
+        // 메모리 그래프에서 반영을 기다리는 컨테이너 상태도 스냅샷에 포함한다.
+        hotSimulationEngine.flush(simulation.getId());
+        SimulationSnapshot snapshot = snapshotStore.load(simulation.getId(), simulation.getPublicId());
+        return SimulationSnapshotCodec.encode(snapshot);
+    }
+
+    @Override
+    public SimulationResponse restoreSnapshot(String userId, String simulationPublicId, byte[] bytes) {
+        SimulationSnapshot snapshot = SimulationSnapshotCodec.decode(bytes);
+        User user = userFinder.findUserByPublicId(userId);
+        Simulation simulation = simulationFinder.findByPublicId(simulationPublicId);
+        validateSimulationAccess(simulation, user);
+
+        // 같은 시뮬레이션으로 되돌릴 때만 ID를 유지한다. 컨테이너 ID는 DB 전체에서 유일하다.
+        replaceContents(simulation, userId, RESTORE_SNAPSHOT_COMMAND, () -> snapshot,
+            simulation.getPublicId().equals(snapshot.sourcePublicId()));
+
+        log.info("시뮬레이션 {} 복원 - 객체 {}개", simulationPublicId, snapshot.objectCount());
+        return SimulationResponse.from(simulation);
+    }
+
+    @Override
+    public SimulationResponse forkSimulation(String userId, String simulationPublicId, SimulationRequest request) {
+        Simulation source = findReadableSimulation(userId, simulationPublicId);
+        User owner = userFinder.findUserByPublicId(userId);
+        validateSimulationTitle(request.getTitle(), userId);
+        SimulationShareState shareState = validateShareState(request.getShareState());
+
+        hotSimulationEngine.flush(source.getId());
+        SimulationSnapshot snapshot = snapshotStore.load(source.getId(), source.getPublicId());
+
+        Simulation fork = simulationRepository.save(Simulation.from(request, shareState, owner));
+        snapshotStore.insert(fork.getId(), snapshot, false);
+
+        log.info("시뮬레이션 {} 복사 -> {} - 객체 {}개", simulationPublicId, fork.getPublicId(), snapshot.objectCount());
+        return SimulationResponse.from(fork);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SimulationJournalEntryResponse> getJournal(String userId, String simulationPublicId, Long before,
+        int limit) {
+        Simulation simulation = findReadableSimulation(userId, simulationPublicId);
+        long upper = before == null ? Long.MAX_VALUE : before;
+        return simulationJournal.entries(simulation.getId(), upper, Math.min(Math.max(limit, 1), MAX_JOURNAL_PAGE))
+            .stream()
+            .map(SimulationJournalEntryResponse::from)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SimulationSnapshot getJournalState(String userId, String simulationPublicId, long sequence) {
+        Simulation simulation = findReadableSimulation(userId, simulationPublicId);
+        return simulationJournal.reconstruct(simulation.getId(), sequence);
+    }
+
+    @Override
+    public SimulationResponse restoreJournal(String userId, String simulationPublicId, long sequence) {
+        User user = userFinder.findUserByPublicId(userId);
+        Simulation simulation = simulationFinder.findByPublicId(simulationPublicId);
+        validateSimulationAccess(simulation, user);
+
+        replaceContents(simulation, userId, RESTORE_JOURNAL_COMMAND.formatted(sequence),
+            () -> simulationJournal.reconstruct(simulation.getId(), sequence), true);
+
+        log.info("시뮬레이션 {} - {}번 시점으로 복원", simulationPublicId, sequence);
+        return SimulationResponse.from(simulation);
+    }
+
+    @Override
+    public SimulationResponse undo(String userId, String simulationPublicId) {
+        Simulation simulation = simulationFinder.findByPublicId(simulationPublicId);
+        validateSimulationAccess(simulation, userFinder.findUserByPublicId(userId));
+        long latest = simulationJournal.latestSequence(simulation.getId());
+        if (latest == 0) {
+            throw new BusinessException(SimulationErrorCode.SIMULATION_JOURNAL_ENTRY_NOT_FOUND, latest);
+        }
+        return restoreJournal(userId, simulationPublicId, latest - 1);
     }
 
     // findSimulationByString, findSimulationWithCollaborators 메서드 제거
 
+    /*
+    getSimulation과 같은 기준: READ 상태는 누구나, 그 외에는 소유자/협업자만 조회할 수 있다.
+     */
+    private Simulation findReadableSimulation(String userId, String simulationPublicId) {
+        Simulation simulation = simulationFinder.findByPublicId(simulationPublicId);
+        if (simulation.getShareState() != SimulationShareState.READ) {
+            validateSimulationAccess(simulation, userFinder.findUserByPublicId(userId));
+        }
+        return simulation;
+    }
+
+    /*
+    시뮬레이션의 현재 상태를 모두 지우고 target 상태로 바꾼다. 명령과 섞이지 않도록 명령 레인을 잡고(커밋될 때까지 다음 명령을 막는다),
+    바뀐 내용은 명령과 같은 방식으로 기록에 남긴다. target은 레인을 잡은 뒤에 만든다.
+     */
+    private void replaceContents(Simulation simulation, String userId, String command,
+        Supplier<SimulationSnapshot> target, boolean keepIdentifiers) {
+        Long simulationId = simulation.getId();
+        commandLanes.execute(simulationId, () -> simulationJournal.record(simulationId, simulation.getPublicId(),
+            userId, command, () -> {
+                SimulationSnapshot snapshot = target.get();
+                hotSimulationEngine.discard(simulationId);
+                snapshotStore.deleteContents(simulationId);
+                snapshotStore.insert(simulationId, snapshot, keepIdentifiers);
+                return CommandResult.builder()
+                    .console(List.of())
+                    .status(CommandResultStatus.UPDATE)
+                    .build();
+            }));
+        discardCachedState(simulationId);
+    }
+
+    /*
+    JDBC로 바꾼 내용은 엔티티 리스너를 거치지 않으므로, 식별자 색인과 메모리 그래프를 버려 다음 조회 때 DB에서 다시 적재하게 한다.
+    커밋 전에 다른 조회가 이전 상태를 다시 적재했을 수 있으므로 트랜잭션이 끝난 뒤에도 한 번 더 버린다.
+     */
+    private void discardCachedState(Long simulationId) {
+        identifierIndex.invalidate(simulationId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    identifierIndex.invalidate(simulationId);
+                    hotSimulationEngine.discard(simulationId);
+                }
+            });
+        }
+    }
+
     private void validateSimulationTitle(String title, String ownerId, String currentSimulationId) {
         if (currentSimulationId != null) {
             if (simulationRepository.existsByTitleAndOwnerIdAndNotId(title, ownerId,
@@ -0,0 +1,32 @@
+package com.dockersim.service.simulation.hot;
+
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.DockerContainer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * write-behind 대상 컨테이너의 상태 스냅샷.
+ * flush 도중에 메모리의 컨테이너가 다시 바뀌어도 영향을 받지 않도록 값을 복사해 둔다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class ContainerStateChange {
+
+    private final Long containerId;
+    private final ContainerStatus status;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime stoppedAt;
+
+    static ContainerStateChange from(DockerContainer container) {
+        return new ContainerStateChange(
+                container.getId(),
+                container.getStatus(),
+                container.getStartedAt(),
+                container.getStoppedAt()
+        );
+    }
+}
@@ -0,0 +1,156 @@
+package com.dockersim.service.simulation.hot;
+
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.DockerNetwork;
+import com.dockersim.domain.DockerVolume;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerContainerErrorCode;
+import com.dockersim.service.simulation.index.IdentifierIndex;
+import com.dockersim.service.simulation.index.SimulationIdentifierIndex;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리에 올라온 하나의 시뮬레이션 상태(이미지/컨테이너/네트워크/볼륨).
+ * <p>
+ * 모든 엔티티는 영속성 컨텍스트에서 분리된 상태이며, 명령 처리에 필요한 연관관계(컨테이너의 baseImage)는 적재 시점에 초기화한다.
+ * 컨테이너 상태 전이(start/stop/pause/unpause)는 메모리에서만 반영되고 {@link #markDirty(DockerContainer)}로 기록된 뒤
+ * {@link HotSimulationEngine}이 주기적으로 DB에 일괄 반영한다.
+ * <p>
+ * 이 객체의 모든 접근은 {@link HotSimulationEngine#access}를 통해 시뮬레이션 단위 락을 잡은 상태에서 이루어져야 한다.
+ */
+public class HotSimulation {
+
+    @Getter
+    private final Long simulationId;
+
+    private final List<DockerContainer> containers;
+    private final List<DockerImage> localImages;
+    private final List<DockerNetwork> networks;
+    private final List<DockerVolume> volumes;
+
+    // 생성/삭제는 DB 경로로 처리되고 그때 그래프가 내려가므로, 적재 시점에 한 번 만든 색인을 그대로 사용한다.
+    private final Map<Long, DockerContainer> containersById = new HashMap<>();
+    private final IdentifierIndex containerIndex = new IdentifierIndex();
+
+    private final Set<DockerContainer> dirtyContainers = new LinkedHashSet<>();
+
+    @Getter(AccessLevel.PACKAGE)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Getter(AccessLevel.PACKAGE)
+    private volatile long lastAccessedAt;
+
+    @Getter(AccessLevel.PACKAGE)
+    private boolean evicted;
+
+    public HotSimulation(
+            Long simulationId,
+            List<DockerContainer> containers,
+            List<DockerImage> localImages,
+            List<DockerNetwork> networks,
+            List<DockerVolume> volumes
+    ) {
+        this.simulationId = simulationId;
+        this.containers = new ArrayList<>(containers);
+        this.localImages = new ArrayList<>(localImages);
+        this.networks = new ArrayList<>(networks);
+        this.volumes = new ArrayList<>(volumes);
+        containers.forEach(container -> {
+            containersById.put(container.getId(), container);
+            containerIndex.put(container.getId(), container.getName(), container.getHexId());
+        });
+        this.lastAccessedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * docker ps / container ls
+     *
+     * @param all false이면 RUNNING 상태의 컨테이너만 반환
+     */
+    public List<DockerContainer> findContainers(boolean all) {
+        if (all) {
+            return List.copyOf(containers);
+        }
+        return containers.stream()
+                .filter(container -> container.getStatus() == ContainerStatus.RUNNING)
+                .toList();
+    }
+
+    /**
+     * DB 경로({@code DockerContainerFinder})와 같은 규칙으로 컨테이너를 찾는다: 전체 ID → 이름 → 유일한 ID 접두사.
+     *
+     * @return 찾은 컨테이너가 지정한 상태가 아니면 empty
+     * @throws BusinessException 접두사가 여러 컨테이너와 일치하는 경우
+     */
+    public Optional<DockerContainer> findContainer(String nameOrHexId, ContainerStatus status) {
+        if (nameOrHexId == null || nameOrHexId.isEmpty()) {
+            return Optional.empty();
+        }
+        long containerId = containerIndex.resolve(nameOrHexId);
+        if (containerId == SimulationIdentifierIndex.AMBIGUOUS) {
+            throw new BusinessException(DockerContainerErrorCode.AMBIGUOUS_CONTAINER_IDENTIFIER, nameOrHexId);
+        }
+        return Optional.ofNullable(containersById.get(containerId))
+                .filter(container -> container.getStatus() == status);
+    }
+
+    /**
+     * docker image ls
+     *
+     * @param all false이면 댕글링 이미지(&lt;none&gt;:&lt;none&gt;)는 제외
+     */
+    public List<DockerImage> findLocalImages(boolean all) {
+        if (all) {
+            return List.copyOf(localImages);
+        }
+        return localImages.stream()
+                .filter(image -> !"<none>".equals(image.getName()) && !"<none>".equals(image.getTag()))
+                .toList();
+    }
+
+    public List<DockerNetwork> getNetworks() {
+        return List.copyOf(networks);
+    }
+
+    public List<DockerVolume> getVolumes() {
+        return List.copyOf(volumes);
+    }
+
+    /**
+     * 메모리에서 상태가 바뀐 컨테이너를 다음 flush 대상으로 등록한다.
+     */
+    public void markDirty(DockerContainer container) {
+        dirtyContainers.add(container);
+    }
+
+    void touch() {
+        this.lastAccessedAt = System.currentTimeMillis();
+    }
+
+    void evict() {
+        this.evicted = true;
+    }
+
+    /**
+     * flush 대상 컨테이너의 현재 상태를 복사하고 dirty 목록을 비운다.
+     */
+    List<ContainerStateChange> drainDirtyContainers() {
+        List<ContainerStateChange> changes = dirtyContainers.stream()
+                .map(ContainerStateChange::from)
+                .toList();
+        dirtyContainers.clear();
+        return changes;
+    }
+}
@@ -0,0 +1,277 @@
+package com.dockersim.service.simulation.hot;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 자주 사용되는 시뮬레이션의 상태를 메모리에 유지하는 엔진.
+ * <p>
+ * 처음 접근할 때 시뮬레이션 그래프를 적재하고, 이후 조회(ps, image/network/volume ls)와
+ * 컨테이너 상태 전이(start/stop/pause/unpause)는 DB를 거치지 않고 메모리에서 처리한다.
+ * 상태 전이는 write-behind 방식으로 모아두었다가 {@code flush-interval-ms}마다 JDBC batch로 반영한다.
+ * <p>
+ * 그 외 명령(생성/삭제, 네트워크 연결 등)은 기존처럼 DB 경로로 처리된다.
+ * DB 경로의 진입점인 {@code SimulationFinder.findById}가 {@link #invalidate(Long)}를 호출하므로
+ * 대기 중인 변경분이 먼저 반영되고, 메모리 그래프는 다음 접근 시 다시 적재된다.
+ * <p>
+ * {@code dockersim.hot-simulation.enabled=false}(기본값)이면 아무 동작도 하지 않는다.
+ * 상태를 JVM 메모리에 보관하므로 여러 인스턴스가 같은 시뮬레이션을 처리하는 배포에서는 활성화하지 않는다.
+ */
+@Slf4j
+@Component
+public class HotSimulationEngine {
+
+    private final HotSimulationStore store;
+    @Getter
+    private final boolean enabled;
+    private final long idleTimeoutMillis;
+    private final int batchSize;
+
+    private final Map<Long, CompletableFuture<HotSimulation>> active = new ConcurrentHashMap<>();
+
+    public HotSimulationEngine(
+            HotSimulationStore store,
+            @Value("${dockersim.hot-simulation.enabled:false}") boolean enabled,
+            @Value("${dockersim.hot-simulation.idle-timeout-ms:300000}") long idleTimeoutMillis,
+            @Value("${dockersim.hot-simulation.batch-size:100}") int batchSize
+    ) {
+        this.store = store;
+        this.enabled = enabled;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 시뮬레이션 단위 락을 잡은 상태에서 메모리 그래프에 접근한다. 그래프가 없으면 DB에서 적재한다.
+     * <p>
+     * 적재는 맵 갱신 밖에서 처음 요청한 스레드 하나만 수행하고, 같은 시뮬레이션의 다른 요청은 그 결과를 기다린다.
+     * 이전 그래프는 변경분을 반영한 뒤에 맵에서 제거되므로, 새 적재는 항상 반영된 이후의 DB 상태를 읽는다.
+     */
+    public <T> T access(Long simulationId, Function<HotSimulation, T> action) {
+        while (true) {
+            CompletableFuture<HotSimulation> entry = entryOf(simulationId);
+            HotSimulation hot = await(entry);
+
+            hot.getLock().lock();
+            try {
+                // 락을 기다리는 동안 다른 스레드가 내린 그래프라면 다시 적재한다.
+                if (hot.isEvicted()) {
+                    active.remove(simulationId, entry);
+                    continue;
+                }
+                hot.touch();
+                discardOnRollback(simulationId);
+                return action.apply(hot);
+            } finally {
+                hot.getLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 변경분을 DB에 반영하고 메모리 그래프를 내린다.
+     */
+    public void invalidate(Long simulationId) {
+        if (!enabled) {
+            return;
+        }
+        CompletableFuture<HotSimulation> entry = active.get(simulationId);
+        HotSimulation hot = loaded(entry);
+        if (hot == null) {
+            return;
+        }
+        hot.getLock().lock();
+        try {
+            if (!hot.isEvicted()) {
+                write(hot);
+                hot.evict();
+            }
+        } finally {
+            hot.getLock().unlock();
+        }
+        active.remove(simulationId, entry);
+    }
+
+    /**
+     * 대기 중인 변경분만 DB에 반영하고 메모리 그래프는 유지한다.
+     * 메모리 그래프로 처리할 수 없는 조회(필터/페이지가 있는 목록 등)를 DB에서 수행하기 전에 호출한다.
+     */
+    public void flush(Long simulationId) {
+        if (!enabled) {
+            return;
+        }
+        HotSimulation hot = loaded(active.get(simulationId));
+        if (hot == null) {
+            return;
+        }
+        hot.getLock().lock();
+        try {
+            if (!hot.isEvicted()) {
+                write(hot);
+            }
+        } finally {
+            hot.getLock().unlock();
+        }
+    }
+
+    /**
+     * 변경분을 반영하지 않고 메모리 그래프를 버린다. 다음 접근 시 DB 기준으로 다시 적재된다.
+     */
+    public void discard(Long simulationId) {
+        CompletableFuture<HotSimulation> entry = active.get(simulationId);
+        HotSimulation hot = loaded(entry);
+        if (hot == null) {
+            return;
+        }
+        hot.getLock().lock();
+        try {
+            int dropped = hot.drainDirtyContainers().size();
+            if (dropped > 0) {
+                log.warn("시뮬레이션 {}의 반영 대기 중인 컨테이너 상태 {}건을 버립니다.", simulationId, dropped);
+            }
+            hot.evict();
+        } finally {
+            hot.getLock().unlock();
+        }
+        active.remove(simulationId, entry);
+    }
+
+    /**
+     * 현재 메모리에 올라와 있는 시뮬레이션 수
+     */
+    public int activeCount() {
+        return active.size();
+    }
+
+    @Scheduled(fixedDelayString = "${dockersim.hot-simulation.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        for (CompletableFuture<HotSimulation> entry : active.values()) {
+            HotSimulation hot = loaded(entry);
+            if (hot == null) {
+                continue;
+            }
+            hot.getLock().lock();
+            try {
+                if (!hot.isEvicted()) {
+                    write(hot);
+                }
+            } finally {
+                hot.getLock().unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dockersim.hot-simulation.eviction-interval-ms:30000}")
+    public void evictIdle() {
+        if (!enabled) {
+            return;
+        }
+        long threshold = System.currentTimeMillis() - idleTimeoutMillis;
+        active.values().stream()
+                .map(HotSimulationEngine::loaded)
+                .filter(hot -> hot != null && hot.getLastAccessedAt() < threshold)
+                .map(HotSimulation::getSimulationId)
+                .toList()
+                .forEach(this::invalidate);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        active.keySet().stream().toList().forEach(this::invalidate);
+    }
+
+    /*
+    트랜잭션(예: STOP_ON_ERROR 배치) 안에서 메모리 그래프를 변경한 뒤 롤백되면, 메모리 상태도 되돌릴 수 없으므로 그래프를 버린다.
+     */
+    private void discardOnRollback(Long simulationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    discard(simulationId);
+                }
+            }
+        });
+    }
+
+    private void write(HotSimulation hot) {
+        List<ContainerStateChange> changes = hot.drainDirtyContainers();
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            // 쓰기 트랜잭션(예: STOP_ON_ERROR 배치) 안이라면 함께 커밋/롤백되도록 참여한다.
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                store.writeContainerStatesInCurrentTransaction(changes, batchSize);
+            } else {
+                store.writeContainerStates(changes, batchSize);
+            }
+            log.debug("시뮬레이션 {}의 컨테이너 상태 {}건 반영", hot.getSimulationId(), changes.size());
+        } catch (RuntimeException e) {
+            // 반영에 실패하면 메모리 그래프를 신뢰할 수 없으므로 내리고, 다음 접근 시 DB 기준으로 다시 적재한다.
+            log.error("시뮬레이션 {}의 컨테이너 상태 반영 실패", hot.getSimulationId(), e);
+            hot.evict();
+            active.computeIfPresent(hot.getSimulationId(), (id, entry) -> loaded(entry) == hot ? null : entry);
+        }
+    }
+
+    /*
+    시뮬레이션의 적재 항목을 반환한다. 항목이 없으면 이 스레드가 자리를 먼저 차지한 뒤 맵 밖에서 적재한다.
+    적재에 실패하면 항목을 지워 다음 요청이 다시 시도할 수 있게 한다.
+     */
+    private CompletableFuture<HotSimulation> entryOf(Long simulationId) {
+        CompletableFuture<HotSimulation> created = new CompletableFuture<>();
+        CompletableFuture<HotSimulation> existing = active.putIfAbsent(simulationId, created);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            created.complete(store.load(simulationId));
+        } catch (RuntimeException e) {
+            active.remove(simulationId, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private static HotSimulation await(CompletableFuture<HotSimulation> entry) {
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /*
+    적재가 끝난 그래프만 반환한다. 적재 중이거나 실패한 항목에는 반영할 변경분이 없다.
+     */
+    private static HotSimulation loaded(CompletableFuture<HotSimulation> entry) {
+        if (entry == null || !entry.isDone() || entry.isCompletedExceptionally()) {
+            return null;
+        }
+        return entry.join();
+    }
+}
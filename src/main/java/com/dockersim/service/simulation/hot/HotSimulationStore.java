@@ -0,0 +1,120 @@
+package com.dockersim.service.simulation.hot;
+
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.DockerNetwork;
+import com.dockersim.domain.DockerVolume;
+import com.dockersim.domain.Simulation;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.SimulationErrorCode;
+import com.dockersim.repository.DockerContainerRepository;
+import com.dockersim.repository.DockerImageRepository;
+import com.dockersim.repository.DockerVolumeRepository;
+import com.dockersim.repository.SimulationRepository;
+import com.dockersim.service.image.layer.DockerLayerStore;
+import com.dockersim.service.network.DockerNetworkRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link HotSimulation}의 DB 적재/반영을 담당한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotSimulationStore {
+
+    // JPA를 거치지 않으므로 낙관적 락 버전을 직접 올려, 그 사이에 같은 행을 읽은 JPA 쓰기가 충돌로 감지되게 한다.
+    private static final String UPDATE_CONTAINER_STATE_SQL =
+            "UPDATE docker_containers SET status = ?, started_at = ?, stopped_at = ?, version = COALESCE(version, 0) + 1"
+                    + " WHERE id = ?";
+
+    private final SimulationRepository simulationRepository;
+    private final DockerContainerRepository containerRepository;
+    private final DockerImageRepository imageRepository;
+    private final DockerNetworkRepository networkRepository;
+    private final DockerVolumeRepository volumeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DockerLayerStore layerStore;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 시뮬레이션의 로컬 이미지/컨테이너/네트워크/볼륨을 조회한 뒤 영속성 컨텍스트에서 분리한다.
+     * 컨테이너의 baseImage는 fetch join으로 함께 적재하므로 이후 지연 로딩이 발생하지 않는다.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public HotSimulation load(Long simulationId) {
+        Simulation simulation = simulationRepository.findById(simulationId).orElseThrow(
+                () -> new BusinessException(SimulationErrorCode.SIMULATION_NOT_FOUND, simulationId));
+
+        List<DockerContainer> containers = containerRepository.findAllWithBaseImageBySimulationId(simulationId);
+        List<DockerImage> images = imageRepository.findBySimulation(simulation);
+        List<DockerNetwork> networks = networkRepository.findBySimulation(simulation);
+        List<DockerVolume> volumes = volumeRepository.findBySimulation(simulation);
+        // 응답에 쓰이는 레이어 내용을 이미지와 컨테이너의 base image를 모아 한 번에 채운다.
+        List<DockerImage> withLayers = new ArrayList<>(images);
+        containers.forEach(container -> withLayers.add(container.getBaseImage()));
+        layerStore.fillLayers(withLayers);
+
+        // OSIV로 요청 단위 EntityManager를 공유하는 경우에도 다른 요청의 영속성 컨텍스트에 묶이지 않도록 분리한다.
+        containers.forEach(container -> {
+            if (container.getBaseImage() != null) {
+                entityManager.detach(container.getBaseImage());
+            }
+            entityManager.detach(container);
+        });
+        images.forEach(entityManager::detach);
+        networks.forEach(entityManager::detach);
+        volumes.forEach(entityManager::detach);
+
+        return new HotSimulation(simulationId, containers, images, networks, volumes);
+    }
+
+    /**
+     * 메모리에서 바뀐 컨테이너 상태를 새 트랜잭션에서 JDBC batch로 반영한다.
+     * 스케줄러나 읽기 전용 트랜잭션 안에서 호출될 때 사용한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void writeContainerStates(List<ContainerStateChange> changes, int batchSize) {
+        batchUpdate(changes, batchSize);
+    }
+
+    /**
+     * 호출한 쪽의 쓰기 트랜잭션에 참여하여 반영한다. 해당 트랜잭션이 롤백되면 함께 롤백된다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void writeContainerStatesInCurrentTransaction(List<ContainerStateChange> changes, int batchSize) {
+        batchUpdate(changes, batchSize);
+    }
+
+    private void batchUpdate(List<ContainerStateChange> changes, int batchSize) {
+        jdbcTemplate.batchUpdate(UPDATE_CONTAINER_STATE_SQL, changes, batchSize, (ps, change) -> {
+            ps.setString(1, change.getStatus().name());
+            setTimestamp(ps, 2, change.getStartedAt());
+            setTimestamp(ps, 3, change.getStoppedAt());
+            ps.setLong(4, change.getContainerId());
+        });
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime time) throws SQLException {
+        if (time == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(time));
+        }
+    }
+}
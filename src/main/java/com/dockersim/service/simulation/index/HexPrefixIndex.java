@@ -0,0 +1,119 @@
+package com.dockersim.service.simulation.index;
+
+import java.util.Arrays;
+
+/**
+ * 16진수 ID를 정렬된 배열로 보관하고, 접두사로 ID를 찾는 색인.
+ * <p>
+ * 엔티티 ID는 {@code long[]}로 보관하여 박싱 없이 조회한다. 접두사 조회는 이진 탐색 한 번과
+ * 바로 다음 원소 비교로 끝나므로 O(log n · 접두사 길이)이며, 같은 접두사를 가진 ID가 둘 이상이면 {@link #AMBIGUOUS}를 반환한다.
+ * 추가/삭제는 배열 복사가 필요하지만 시뮬레이션 하나의 리소스 수가 작고 조회가 훨씬 잦으므로 문제가 되지 않는다.
+ * <p>
+ * 스레드 안전하지 않다. 호출하는 쪽에서 동기화해야 한다.
+ */
+class HexPrefixIndex {
+
+    static final long NOT_FOUND = -1L;
+    static final long AMBIGUOUS = -2L;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String[] hexIds = new String[INITIAL_CAPACITY];
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    void add(String hexId, long id) {
+        int position = search(hexId, id);
+        if (position >= 0) {
+            return;
+        }
+        int insertAt = -(position + 1);
+        if (size == hexIds.length) {
+            hexIds = Arrays.copyOf(hexIds, size * 2);
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(hexIds, insertAt, hexIds, insertAt + 1, size - insertAt);
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        hexIds[insertAt] = hexId;
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(String hexId, long id) {
+        int position = search(hexId, id);
+        if (position < 0) {
+            return;
+        }
+        System.arraycopy(hexIds, position + 1, hexIds, position, size - position - 1);
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        hexIds[--size] = null;
+    }
+
+    /**
+     * @return 접두사가 일치하는 유일한 엔티티 ID, 없으면 {@link #NOT_FOUND}, 둘 이상이면 {@link #AMBIGUOUS}
+     */
+    long resolve(String prefix) {
+        if (prefix.isEmpty() || !isHex(prefix)) {
+            return NOT_FOUND;
+        }
+        int first = lowerBound(prefix);
+        if (first >= size || !hexIds[first].startsWith(prefix)) {
+            return NOT_FOUND;
+        }
+        if (first + 1 < size && hexIds[first + 1].startsWith(prefix)) {
+            return AMBIGUOUS;
+        }
+        return ids[first];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /*
+    (hexId, id) 순으로 정렬되어 있으므로, 같은 hexId를 가진 서로 다른 엔티티도 보관할 수 있다.
+     */
+    private int search(String hexId, long id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compared = hexIds[mid].compareTo(hexId);
+            if (compared == 0) {
+                compared = Long.compare(ids[mid], id);
+            }
+            if (compared < 0) {
+                low = mid + 1;
+            } else if (compared > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (hexIds[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
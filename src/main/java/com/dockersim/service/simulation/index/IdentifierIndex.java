@@ -0,0 +1,69 @@
+package com.dockersim.service.simulation.index;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 종류의 리소스(컨테이너, 네트워크, 이미지)에 대한 이름/ID 색인.
+ * <p>
+ * Docker와 같은 순서로 식별자를 해석한다: 전체 ID 일치 → 이름 일치 → 유일한 ID 접두사.
+ * 스레드 안전하지 않다. {@link SimulationIdentifierIndex}가 시뮬레이션 단위로 동기화하며,
+ * 메모리 그래프({@code HotSimulation})는 시뮬레이션 락 안에서만 사용한다.
+ */
+public class IdentifierIndex {
+
+    private static final int FULL_HEX_ID_LENGTH = 64;
+
+    private final Map<String, Long> idsByName = new HashMap<>();
+    private final Map<Long, Entry> entriesById = new HashMap<>();
+    private final HexPrefixIndex hexIds = new HexPrefixIndex();
+
+    /**
+     * 엔티티를 등록한다. 이미 등록된 엔티티라면 이름/ID를 새 값으로 바꾼다.
+     *
+     * @param name 이름으로 찾지 않는 리소스(이미지)는 null
+     */
+    public void put(long id, String name, String hexId) {
+        remove(id);
+        entriesById.put(id, new Entry(name, hexId));
+        if (name != null) {
+            idsByName.put(name, id);
+        }
+        hexIds.add(hexId, id);
+    }
+
+    void remove(long id) {
+        Entry entry = entriesById.remove(id);
+        if (entry == null) {
+            return;
+        }
+        if (entry.name() != null) {
+            idsByName.remove(entry.name(), id);
+        }
+        hexIds.remove(entry.hexId(), id);
+    }
+
+    /**
+     * @return 엔티티 ID, 없으면 {@link SimulationIdentifierIndex#NOT_FOUND}, 접두사가 여러 엔티티와 일치하면 {@link SimulationIdentifierIndex#AMBIGUOUS}
+     */
+    public long resolve(String identifier) {
+        if (identifier.length() == FULL_HEX_ID_LENGTH) {
+            long id = hexIds.resolve(identifier);
+            if (id >= 0) {
+                return id;
+            }
+        }
+        Long byName = idsByName.get(identifier);
+        if (byName != null) {
+            return byName;
+        }
+        return hexIds.resolve(identifier);
+    }
+
+    int size() {
+        return entriesById.size();
+    }
+
+    private record Entry(String name, String hexId) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.dockersim.service.simulation.index;
+
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.DockerNetwork;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.domain.ResourceLifecycleObserver;
+import com.dockersim.service.simulation.index.SimulationIdentifierIndex.ResourceType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨테이너/네트워크/이미지의 생성·변경·삭제를 {@link SimulationIdentifierIndex}에 반영한다.
+ * <p>
+ * {@link com.dockersim.domain.ResourceLifecycleListener}(JPA 엔티티 리스너)가 호출하므로, 서비스마다 색인 갱신 코드를 두지 않아도
+ * create/rm/prune, 시뮬레이션 삭제에 따른 cascade 삭제까지 모두 반영된다.
+ */
+@Component
+public class IdentifierIndexUpdater implements ResourceLifecycleObserver {
+
+    private final ObjectProvider<SimulationIdentifierIndex> indexProvider;
+
+    public IdentifierIndexUpdater(ObjectProvider<SimulationIdentifierIndex> indexProvider) {
+        this.indexProvider = indexProvider;
+    }
+
+    @Override
+    public void onSaved(Object entity) {
+        SimulationIdentifierIndex index = indexProvider.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        if (entity instanceof DockerContainer container) {
+            index.put(ResourceType.CONTAINER, container.getSimulation().getId(), container.getId(),
+                    container.getName(), container.getHexId());
+        } else if (entity instanceof DockerNetwork network) {
+            index.put(ResourceType.NETWORK, network.getSimulation().getId(), network.getId(),
+                    network.getName(), network.getHexId());
+        } else if (entity instanceof DockerImage image && image.getSimulation() != null) {
+            if (image.getLocation() == ImageLocation.LOCAL) {
+                index.put(ResourceType.LOCAL_IMAGE, image.getSimulation().getId(), image.getId(),
+                        null, image.getHexId());
+            } else {
+                index.remove(ResourceType.LOCAL_IMAGE, image.getSimulation().getId(), image.getId());
+            }
+        }
+    }
+
+    @Override
+    public void onRemoved(Object entity) {
+        SimulationIdentifierIndex index = indexProvider.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        if (entity instanceof DockerContainer container) {
+            index.remove(ResourceType.CONTAINER, container.getSimulation().getId(), container.getId());
+        } else if (entity instanceof DockerNetwork network) {
+            index.remove(ResourceType.NETWORK, network.getSimulation().getId(), network.getId());
+        } else if (entity instanceof DockerImage image && image.getSimulation() != null) {
+            index.remove(ResourceType.LOCAL_IMAGE, image.getSimulation().getId(), image.getId());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.dockersim.service.simulation.index;
+
+import com.dockersim.repository.DockerContainerRepository;
+import com.dockersim.repository.DockerImageRepository;
+import com.dockersim.repository.IdentifierView;
+import com.dockersim.service.network.DockerNetworkRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 시뮬레이션별 컨테이너/네트워크/로컬 이미지의 이름·ID 색인.
+ * <p>
+ * {@code docker stop 3f}처럼 이름, short ID, 임의 길이의 ID 접두사로 리소스를 지칭할 때,
+ * OR/LIKE 조건의 쿼리 대신 메모리 색인에서 엔티티 ID를 찾고 기본 키로 조회할 수 있게 한다.
+ * 접두사가 여러 리소스와 일치하면 Docker처럼 {@link #AMBIGUOUS}를 반환한다.
+ * <p>
+ * 색인은 처음 조회할 때 시뮬레이션 단위로 적재하고, 이후 생성/삭제는 {@link IdentifierIndexUpdater}가 커밋 이후에 반영한다.
+ * 다른 인스턴스에서 일어난 변경처럼 색인이 놓칠 수 있는 경우를 위해, 조회하는 쪽(Finder)은 색인 결과를 엔티티로 검증하고
+ * 색인에서 찾지 못하면 기존 쿼리로 다시 확인한 뒤 필요하면 {@link #invalidate(Long)}를 호출한다.
+ */
+@Component
+public class SimulationIdentifierIndex {
+
+    public static final long NOT_FOUND = HexPrefixIndex.NOT_FOUND;
+    public static final long AMBIGUOUS = HexPrefixIndex.AMBIGUOUS;
+
+    private final DockerContainerRepository containerRepository;
+    private final DockerNetworkRepository networkRepository;
+    private final DockerImageRepository imageRepository;
+    private final Cache<Long, SimulationEntries> entries;
+
+    public SimulationIdentifierIndex(
+            DockerContainerRepository containerRepository,
+            DockerNetworkRepository networkRepository,
+            DockerImageRepository imageRepository,
+            @Value("${dockersim.identifier-index.max-simulations:1000}") long maxSimulations,
+            @Value("${dockersim.identifier-index.idle-timeout-ms:600000}") long idleTimeoutMillis
+    ) {
+        this.containerRepository = containerRepository;
+        this.networkRepository = networkRepository;
+        this.imageRepository = imageRepository;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSimulations)
+                .expireAfterAccess(Duration.ofMillis(idleTimeoutMillis))
+                .build();
+    }
+
+    /**
+     * @return 컨테이너 ID, 없으면 {@link #NOT_FOUND}, 접두사가 여러 컨테이너와 일치하면 {@link #AMBIGUOUS}
+     */
+    public long resolveContainer(Long simulationId, String identifier) {
+        return resolve(simulationId, identifier, SimulationEntries::containers);
+    }
+
+    /**
+     * @return 네트워크 ID, 없으면 {@link #NOT_FOUND}, 접두사가 여러 네트워크와 일치하면 {@link #AMBIGUOUS}
+     */
+    public long resolveNetwork(Long simulationId, String identifier) {
+        return resolve(simulationId, identifier, SimulationEntries::networks);
+    }
+
+    /**
+     * 로컬 이미지는 이름(repository:tag) 조회를 기존 쿼리가 담당하므로 ID 접두사로만 찾는다.
+     *
+     * @return 이미지 ID, 없으면 {@link #NOT_FOUND}, 접두사가 여러 이미지와 일치하면 {@link #AMBIGUOUS}
+     */
+    public long resolveLocalImage(Long simulationId, String hexIdPrefix) {
+        return resolve(simulationId, hexIdPrefix, SimulationEntries::localImages);
+    }
+
+    /**
+     * 시뮬레이션의 색인을 버린다. 다음 조회 시 DB 기준으로 다시 적재된다.
+     */
+    public void invalidate(Long simulationId) {
+        entries.invalidate(simulationId);
+    }
+
+    /**
+     * 엔티티 리스너를 거치지 않고 한꺼번에 지운 로컬 이미지(docker image prune)를 커밋 이후 색인에서 뺀다.
+     */
+    public void removeLocalImages(Long simulationId, Collection<Long> ids) {
+        afterCommit(() -> entries.asMap().computeIfPresent(simulationId, (key, current) -> {
+            synchronized (current) {
+                ids.forEach(current.localImages()::remove);
+            }
+            return current;
+        }));
+    }
+
+    void put(ResourceType type, Long simulationId, long id, String name, String hexId) {
+        afterCommit(() -> entries.asMap().computeIfPresent(simulationId, (key, current) -> {
+            synchronized (current) {
+                type.of(current).put(id, type == ResourceType.LOCAL_IMAGE ? null : name, hexId);
+            }
+            return current;
+        }));
+    }
+
+    void remove(ResourceType type, Long simulationId, long id) {
+        afterCommit(() -> entries.asMap().computeIfPresent(simulationId, (key, current) -> {
+            synchronized (current) {
+                type.of(current).remove(id);
+            }
+            return current;
+        }));
+    }
+
+    private long resolve(Long simulationId, String identifier, Function<SimulationEntries, IdentifierIndex> type) {
+        if (simulationId == null || identifier == null || identifier.isEmpty()) {
+            return NOT_FOUND;
+        }
+        SimulationEntries current = entries.get(simulationId, this::load);
+        synchronized (current) {
+            return type.apply(current).resolve(identifier);
+        }
+    }
+
+    private SimulationEntries load(Long simulationId) {
+        SimulationEntries loaded = new SimulationEntries(new IdentifierIndex(), new IdentifierIndex(),
+                new IdentifierIndex());
+        fill(loaded.containers(), containerRepository.findIdentifiersBySimulationId(simulationId), true);
+        fill(loaded.networks(), networkRepository.findIdentifiersBySimulationId(simulationId), true);
+        fill(loaded.localImages(), imageRepository.findLocalIdentifiersBySimulationId(simulationId), false);
+        return loaded;
+    }
+
+    private static void fill(IdentifierIndex index, List<IdentifierView> views, boolean byName) {
+        for (IdentifierView view : views) {
+            index.put(view.getId(), byName ? view.getName() : null, view.getHexId());
+        }
+    }
+
+    /*
+    롤백된 생성/삭제가 색인에 남지 않도록 커밋 이후에 반영한다.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    enum ResourceType {
+        CONTAINER,
+        NETWORK,
+        LOCAL_IMAGE;
+
+        private IdentifierIndex of(SimulationEntries entries) {
+            return switch (this) {
+                case CONTAINER -> entries.containers();
+                case NETWORK -> entries.networks();
+                case LOCAL_IMAGE -> entries.localImages();
+            };
+        }
+    }
+
+    private record SimulationEntries(IdentifierIndex containers, IdentifierIndex networks,
+                                     IdentifierIndex localImages) {
+    }
+}
@@ -0,0 +1,291 @@
+package com.dockersim.service.simulation.journal;
+
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.config.metrics.QueryCountInspector;
+import com.dockersim.config.metrics.QueryScope;
+import com.dockersim.domain.SimulationCheckpoint;
+import com.dockersim.domain.SimulationJournalEntry;
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.dto.response.CommandResultStatus;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.SimulationErrorCode;
+import com.dockersim.repository.SimulationCheckpointRepository;
+import com.dockersim.repository.SimulationJournalEntryRepository;
+import com.dockersim.repository.SimulationJournalEntryView;
+import com.dockersim.service.simulation.hot.HotSimulationEngine;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshotCodec;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshotDelta;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshotStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 시뮬레이션 상태를 바꾼 명령을 순서대로 기록하고, 기록의 임의 시점 상태를 다시 만든다.
+ * <p>
+ * 기록 하나에는 명령 원문, 실행한 사용자, 결과 상태와 직전 기록 이후의 상태 변경분({@link SimulationSnapshotDelta})을 남긴다.
+ * 명령을 다시 실행하는 대신 변경분을 적용하므로, 실행할 때마다 새로 만들어지는 컨테이너 ID도 기록된 그대로 재현된다.
+ * {@code checkpoint-interval}개마다 전체 상태를 체크포인트로 저장하므로, 어느 시점이든 가장 가까운 체크포인트와
+ * 그 뒤의 변경분(최대 {@code checkpoint-interval - 1}개)만 읽으면 된다.
+ * <p>
+ * 기록 순서가 실행 순서와 같도록 {@code SimulationCommandLanes}의 레인을 잡은 채로 {@link #record}를 호출해야 한다.
+ * 기록은 명령과 같은 트랜잭션에 저장되므로 명령이 반영되면 기록도 남고, 기록 저장이 실패하면 명령도 롤백된다.
+ * 호출한 쪽에 트랜잭션이 없으면(REST 경로) 명령과 기록을 감싸는 트랜잭션을 직접 연다.
+ * 마지막 기록 시점의 상태는 캐시해 두므로, 명령 하나를 기록하는 비용은 현재 상태 조회 한 번(JDBC SELECT 6번)과 변경분 계산,
+ * 마지막 순번 확인과 기록 저장이다. 이 SQL은 명령의 SQL 예산({@code dockersim.command.query-budget})에 넣지 않는다.
+ * 메모리 그래프({@link HotSimulationEngine})의 반영 대기 중인 변경분은 상태를 읽기 전에 DB에 반영하므로,
+ * 기록을 켜면 컨테이너 상태 전이도 명령마다 DB에 쓰인다.
+ * <p>
+ * 명령마다 상태를 다시 읽는 비용이 들므로 {@code dockersim.journal.enabled=true}로 켠 경우에만 기록한다(기본값 false).
+ * 꺼져 있으면 명령만 실행하고, 기록 조회/시점 복원/되돌리기는 켜기 전의 기록만 대상으로 한다.
+ */
+@Component
+public class SimulationJournal {
+
+    private static final String CACHE_NAME = "simulationJournalHeads";
+
+    private final SimulationJournalEntryRepository entryRepository;
+    private final SimulationCheckpointRepository checkpointRepository;
+    private final SimulationSnapshotStore snapshotStore;
+    private final HotSimulationEngine hotSimulationEngine;
+    private final boolean enabled;
+    private final int checkpointInterval;
+    private final Cache<Long, Head> heads;
+    private final DistributionSummary deltaBytes;
+    private final TransactionTemplate recordTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SimulationJournal(
+            SimulationJournalEntryRepository entryRepository,
+            SimulationCheckpointRepository checkpointRepository,
+            SimulationSnapshotStore snapshotStore,
+            HotSimulationEngine hotSimulationEngine,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager,
+            @Value("${dockersim.journal.enabled:false}") boolean enabled,
+            @Value("${dockersim.journal.checkpoint-interval:50}") int checkpointInterval,
+            @Value("${dockersim.journal.head-cache.maximum-size:1000}") long headCacheSize,
+            @Value("${dockersim.journal.head-cache.idle-ttl-ms:600000}") long headCacheIdleMillis
+    ) {
+        this.entryRepository = entryRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.snapshotStore = snapshotStore;
+        this.hotSimulationEngine = hotSimulationEngine;
+        this.enabled = enabled;
+        this.checkpointInterval = Math.max(1, checkpointInterval);
+        this.heads = Caffeine.newBuilder()
+                .maximumSize(headCacheSize)
+                .expireAfterAccess(Duration.ofMillis(headCacheIdleMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, heads, CACHE_NAME);
+        this.deltaBytes = DistributionSummary.builder("dockersim.journal.delta.bytes")
+                .description("명령 기록 하나에 저장한 변경분 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.recordTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 마지막으로 기록된 시점과 그때의 상태
+     */
+    private record Head(long sequence, SimulationSnapshot state) {
+    }
+
+    public CommandResult record(SimulationUserPrincipal principal, String rawCommand, Supplier<CommandResult> command) {
+        return record(principal.getSimulationId(), principal.getSimulationPublicId(), principal.getUserPublicId(),
+                rawCommand, command);
+    }
+
+    /**
+     * 상태를 바꾸는 작업을 실행하고 그 결과를 같은 트랜잭션에 기록한다. 작업이 예외로 끝나면 기록하지 않는다.
+     * 상태가 바뀌지 않았고 결과 상태도 없거나 READ이면(도움말 등) 기록하지 않는다.
+     *
+     * @param command 기록에 남길 명령. 명령어가 아닌 작업(복원 등)은 그 작업을 설명하는 문자열
+     */
+    public CommandResult record(Long simulationId, String simulationPublicId, String actorPublicId, String command,
+            Supplier<CommandResult> change) {
+        if (!enabled) {
+            return change.get();
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 작업의 서비스 메서드가 각자 커밋한 뒤 기록을 따로 저장하면, 기록이 실패해도 작업은 반영된 채로 남는다.
+            return recordTransaction.execute(
+                    status -> recordInTransaction(simulationId, simulationPublicId, actorPublicId, command, change));
+        }
+        return recordInTransaction(simulationId, simulationPublicId, actorPublicId, command, change);
+    }
+
+    private CommandResult recordInTransaction(Long simulationId, String simulationPublicId, String actorPublicId,
+            String command, Supplier<CommandResult> change) {
+        Head head;
+        try (QueryScope ignored = QueryCountInspector.openDetachedScope()) {
+            head = head(simulationId, simulationPublicId);
+        }
+        CommandResult result = change.get();
+        flushPendingChanges(simulationId);
+        try (QueryScope ignored = QueryCountInspector.openDetachedScope()) {
+            append(simulationId, simulationPublicId, head, actorPublicId, command, result.getStatus());
+        }
+        return result;
+    }
+
+    /**
+     * 기록 {@code sequence}번까지 반영된 상태. 0이면 기록을 시작하기 전의 상태다.
+     */
+    public SimulationSnapshot reconstruct(Long simulationId, long sequence) {
+        SimulationCheckpoint checkpoint = checkpointRepository
+                .findFirstBySimulationIdAndSequenceLessThanEqualOrderBySequenceDesc(simulationId, sequence)
+                .orElseThrow(() -> new BusinessException(SimulationErrorCode.SIMULATION_JOURNAL_ENTRY_NOT_FOUND,
+                        sequence));
+        SimulationSnapshot state = SimulationSnapshotCodec.decode(checkpoint.getSnapshot());
+        if (checkpoint.getSequence() == sequence) {
+            return state;
+        }
+
+        List<SimulationJournalEntry> entries = entryRepository.findBySimulationIdAndSequenceBetweenOrderBySequence(
+                simulationId, checkpoint.getSequence() + 1, sequence);
+        if (entries.size() != sequence - checkpoint.getSequence()) {
+            throw new BusinessException(SimulationErrorCode.SIMULATION_JOURNAL_ENTRY_NOT_FOUND, sequence);
+        }
+        for (SimulationJournalEntry entry : entries) {
+            state = SimulationSnapshotCodec.decodeDelta(entry.getDelta()).apply(state);
+        }
+        return state;
+    }
+
+    /**
+     * 마지막 기록 순번. 기록이 없으면 0
+     */
+    public long latestSequence(Long simulationId) {
+        return entryRepository.findLatestSequence(simulationId).orElse(0L);
+    }
+
+    /**
+     * {@code before}번보다 앞선 기록을 최근 것부터 최대 {@code limit}개
+     */
+    public List<SimulationJournalEntryView> entries(Long simulationId, long before, int limit) {
+        return entryRepository.findBySimulationIdAndSequenceLessThanOrderBySequenceDesc(simulationId, before,
+                Limit.of(limit));
+    }
+
+    /**
+     * 시뮬레이션의 기록과 체크포인트를 모두 지운다.
+     */
+    public void delete(Long simulationId) {
+        entryRepository.deleteBySimulationId(simulationId);
+        checkpointRepository.deleteBySimulationId(simulationId);
+        heads.invalidate(simulationId);
+    }
+
+    /*
+    캐시한 시점이 DB의 마지막 기록과 다르면(다른 인스턴스가 기록했거나 롤백된 경우) 체크포인트에서 다시 만든다.
+    체크포인트가 없으면(기록을 시작하기 전이거나 이 기능 이전에 만든 시뮬레이션) 지금 상태를 마지막 기록 시점의 체크포인트로 저장한다.
+     */
+    private Head head(Long simulationId, String simulationPublicId) {
+        long latest = latestSequence(simulationId);
+        Head cached = heads.getIfPresent(simulationId);
+        if (cached != null && cached.sequence() == latest) {
+            return cached;
+        }
+
+        boolean hasCheckpoint = checkpointRepository
+                .findFirstBySimulationIdAndSequenceLessThanEqualOrderBySequenceDesc(simulationId, latest)
+                .isPresent();
+        Head head;
+        if (hasCheckpoint) {
+            head = new Head(latest, reconstruct(simulationId, latest));
+        } else {
+            flushPendingChanges(simulationId);
+            SimulationSnapshot current = snapshotStore.load(simulationId, simulationPublicId);
+            saveCheckpoint(simulationId, latest, current);
+            head = new Head(latest, current);
+        }
+        cacheHead(simulationId, head);
+        return head;
+    }
+
+    private void append(Long simulationId, String simulationPublicId, Head head, String actorPublicId, String command,
+            CommandResultStatus status) {
+        SimulationSnapshot after = snapshotStore.load(simulationId, simulationPublicId);
+        SimulationSnapshotDelta delta = SimulationSnapshotDelta.between(head.state(), after);
+        if (delta.isEmpty() && (status == null || status == CommandResultStatus.READ)) {
+            return;
+        }
+
+        long sequence = head.sequence() + 1;
+        byte[] encoded = SimulationSnapshotCodec.encodeDelta(delta);
+        entryRepository.save(SimulationJournalEntry.builder()
+                .simulationId(simulationId)
+                .sequence(sequence)
+                .command(command)
+                .actorPublicId(actorPublicId)
+                .status(status)
+                .delta(encoded)
+                .executedAt(LocalDateTime.now())
+                .build());
+        deltaBytes.record(encoded.length);
+        if (sequence % checkpointInterval == 0) {
+            saveCheckpoint(simulationId, sequence, after);
+        }
+        cacheHead(simulationId, new Head(sequence, after));
+    }
+
+    /*
+    상태는 JDBC로 읽으므로 메모리 그래프와 (트랜잭션 안이라면) 영속성 컨텍스트의 변경분을 먼저 DB에 반영한다.
+    명령이 만든 SQL이므로 명령 기록용 구간을 열기 전에 실행해 명령의 SQL 수에 포함되게 한다.
+     */
+    private void flushPendingChanges(Long simulationId) {
+        hotSimulationEngine.flush(simulationId);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+    }
+
+    private void saveCheckpoint(Long simulationId, long sequence, SimulationSnapshot state) {
+        checkpointRepository.save(SimulationCheckpoint.builder()
+                .simulationId(simulationId)
+                .sequence(sequence)
+                .snapshot(SimulationSnapshotCodec.encode(state))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /*
+    트랜잭션(예: STOP_ON_ERROR 배치) 안에서 기록했다면 롤백될 때 기록도 사라지므로 캐시도 버린다.
+    같은 트랜잭션의 다음 명령은 커밋 전의 기록을 이어서 써야 하므로 커밋을 기다리지 않고 바로 캐시한다.
+     */
+    private void cacheHead(Long simulationId, Head head) {
+        heads.put(simulationId, head);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    heads.invalidate(simulationId);
+                }
+            }
+        });
+    }
+}
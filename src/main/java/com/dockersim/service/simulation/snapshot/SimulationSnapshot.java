@@ -0,0 +1,60 @@
+package com.dockersim.service.simulation.snapshot;
+
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.ImageLocation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시뮬레이션 하나의 상태(이미지, 컨테이너, 네트워크, 볼륨과 연결 관계).
+ * <p>
+ * 행 사이의 참조는 DB ID 대신 각 목록의 위치(index)로 표현하므로, 다른 시뮬레이션이나 다른 DB에 그대로 다시 넣을 수 있다.
+ *
+ * @param sourcePublicId 스냅샷을 만든 시뮬레이션 ID. 같은 시뮬레이션으로 복원할 때만 컨테이너/네트워크 ID를 유지한다.
+ */
+public record SimulationSnapshot(
+        String sourcePublicId,
+        List<Image> images,
+        List<Container> containers,
+        List<Network> networks,
+        List<Volume> volumes,
+        List<NetworkLink> networkLinks,
+        List<VolumeLink> volumeLinks
+) {
+
+    public static final int NO_REFERENCE = -1;
+
+    /**
+     * @param layers 레이어 내용을 줄바꿈으로 이어 붙인 값. 레이어 ID가 아닌 내용이므로 다른 DB에서도 그대로 복원된다
+     */
+    public record Image(String hexId, String shortHexId, String namespace, String name, String tag,
+                        ImageLocation location, String layers, LocalDateTime createdAt) {
+    }
+
+    /**
+     * @param image           {@link #images()}의 위치. 시뮬레이션 밖의 이미지를 가리키면 {@link #NO_REFERENCE}
+     * @param externalImageId 시뮬레이션 밖의 이미지를 가리킬 때 그 이미지의 DB ID
+     */
+    public record Container(String hexId, String shortHexId, String name, ContainerStatus status,
+                            int image, Long externalImageId,
+                            LocalDateTime createdAt, LocalDateTime startedAt, LocalDateTime stoppedAt) {
+    }
+
+    public record Network(String hexId, String shortHexId, String name, LocalDateTime createdAt) {
+    }
+
+    public record Volume(String name, boolean anonymous, LocalDateTime createdAt) {
+    }
+
+    public record NetworkLink(int container, int network, LocalDateTime connectedAt) {
+    }
+
+    public record VolumeLink(int container, int volume, String containerPath, boolean readOnly) {
+    }
+
+    public int objectCount() {
+        return images.size() + containers.size() + networks.size() + volumes.size()
+                + networkLinks.size() + volumeLinks.size();
+    }
+}
@@ -0,0 +1,510 @@
+package com.dockersim.service.simulation.snapshot;
+
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.SimulationErrorCode;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.Container;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.Image;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.Network;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.NetworkLink;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.Volume;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.VolumeLink;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link SimulationSnapshot}과 {@link SimulationSnapshotDelta}의 바이너리 형식.
+ * <pre>
+ * "DSIM"(4) | 형식 버전(1) | DEFLATE(본문)
+ * 본문 = 문자열 표 | 원본 시뮬레이션 ID | 이미지 | 컨테이너 | 네트워크 | 볼륨 | 네트워크 연결 | 볼륨 연결
+ * </pre>
+ * 변경분은 같은 객체 기록 방식을 쓰며 형식은 {@link #encodeDelta(SimulationSnapshotDelta)}에 적었다.
+ * 문자열(이름, 태그, 상태, 레이어 등)은 문자열 표에 한 번만 기록하고 번호로 참조하며, 숫자는 가변 길이(LEB128)로 기록한다.
+ * 시각은 UTC 기준 epoch 마이크로초(DB 정밀도)로 저장한다. null은 참조 번호/값 0으로 표현한다.
+ * <p>
+ * 형식을 바꾸면 {@link #FORMAT_VERSION}을 올리고, 이전 버전을 읽는 분기를 남긴다.
+ */
+public final class SimulationSnapshotCodec {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final byte[] SNAPSHOT_MAGIC = {'D', 'S', 'I', 'M'};
+    private static final byte[] DELTA_MAGIC = {'D', 'S', 'I', 'D'};
+    private static final int HEADER_LENGTH = SNAPSHOT_MAGIC.length + 1;
+
+    private static final int DELTA_DEFLATE_THRESHOLD = 512;
+
+    /**
+     * 압축을 푼 본문의 최대 크기. 작은 입력이 과도하게 부풀려지는 경우를 막는다.
+     */
+    private static final int MAX_BODY_BYTES = 64 * 1024 * 1024;
+
+    private SimulationSnapshotCodec() {
+    }
+
+    public static byte[] encode(SimulationSnapshot snapshot) {
+        Body body = new Body();
+        body.string(snapshot.sourcePublicId());
+        body.list(snapshot.images(), SimulationSnapshotCodec::writeImage);
+        body.list(snapshot.containers(), SimulationSnapshotCodec::writeContainer);
+        body.list(snapshot.networks(), SimulationSnapshotCodec::writeNetwork);
+        body.list(snapshot.volumes(), SimulationSnapshotCodec::writeVolume);
+        body.list(snapshot.networkLinks(), SimulationSnapshotCodec::writeNetworkLink);
+        body.list(snapshot.volumeLinks(), SimulationSnapshotCodec::writeVolumeLink);
+        return withHeader(SNAPSHOT_MAGIC, deflate(body.toByteArray()));
+    }
+
+    public static SimulationSnapshot decode(byte[] bytes) {
+        Reader in = new Reader(inflate(bytes, readHeader(bytes, SNAPSHOT_MAGIC, "DockerSim 스냅샷 형식이 아닙니다")));
+        try {
+            String sourcePublicId = in.string();
+            List<Image> images = in.list(SimulationSnapshotCodec::readImage);
+            int imageCount = images.size();
+            List<Container> containers = in.list(reader -> readContainer(reader, imageCount));
+            List<Network> networks = in.list(SimulationSnapshotCodec::readNetwork);
+            List<Volume> volumes = in.list(SimulationSnapshotCodec::readVolume);
+            int containerCount = containers.size();
+            int networkCount = networks.size();
+            int volumeCount = volumes.size();
+            List<NetworkLink> networkLinks = in.list(reader -> readNetworkLink(reader, containerCount, networkCount));
+            List<VolumeLink> volumeLinks = in.list(reader -> readVolumeLink(reader, containerCount, volumeCount));
+            in.finish();
+            return new SimulationSnapshot(sourcePublicId, images, containers, networks, volumes,
+                    networkLinks, volumeLinks);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            // 알 수 없는 상태/위치 값 등
+            throw invalid(e.getMessage());
+        }
+    }
+
+    /**
+     * 변경분을 기록한다. 헤더는 스냅샷과 같은 구조("DSID" | 형식 버전)이고, 본문 앞의 1바이트로 압축 여부를 표시한다.
+     * 명령 하나의 변경분은 대부분 수십 바이트라 압축하면 오히려 커지므로 {@link #DELTA_DEFLATE_THRESHOLD} 이상일 때만 압축한다.
+     * <p>
+     * 목록마다 지운 위치(앞 위치와의 차이) | 바뀐 객체(위치, 객체) | 붙인 객체 순서로 기록한다.
+     * 참조 번호의 범위는 기준 상태가 있어야 확인할 수 있으므로 {@link SimulationSnapshotDelta#apply}에서 검사한다.
+     */
+    public static byte[] encodeDelta(SimulationSnapshotDelta delta) {
+        Body body = new Body();
+        body.changes(delta.images(), SimulationSnapshotCodec::writeImage);
+        body.changes(delta.containers(), SimulationSnapshotCodec::writeContainer);
+        body.changes(delta.networks(), SimulationSnapshotCodec::writeNetwork);
+        body.changes(delta.volumes(), SimulationSnapshotCodec::writeVolume);
+        body.changes(delta.networkLinks(), SimulationSnapshotCodec::writeNetworkLink);
+        body.changes(delta.volumeLinks(), SimulationSnapshotCodec::writeVolumeLink);
+
+        byte[] raw = body.toByteArray();
+        boolean compressed = raw.length >= DELTA_DEFLATE_THRESHOLD;
+        byte[] payload = compressed ? deflate(raw) : raw;
+        byte[] flagged = new byte[payload.length + 1];
+        flagged[0] = (byte) (compressed ? 1 : 0);
+        System.arraycopy(payload, 0, flagged, 1, payload.length);
+        return withHeader(DELTA_MAGIC, flagged);
+    }
+
+    public static SimulationSnapshotDelta decodeDelta(byte[] bytes) {
+        int offset = readHeader(bytes, DELTA_MAGIC, "DockerSim 변경분 형식이 아닙니다");
+        if (bytes.length == offset) {
+            throw invalid("압축 여부가 없습니다");
+        }
+        byte[] raw = switch (bytes[offset]) {
+            case 0 -> Arrays.copyOfRange(bytes, offset + 1, bytes.length);
+            case 1 -> inflate(bytes, offset + 1);
+            default -> throw invalid("압축 여부 " + bytes[offset]);
+        };
+
+        Reader in = new Reader(raw);
+        try {
+            SimulationSnapshotDelta delta = new SimulationSnapshotDelta(
+                    in.changes(SimulationSnapshotCodec::readImage),
+                    in.changes(reader -> readContainer(reader, Integer.MAX_VALUE)),
+                    in.changes(SimulationSnapshotCodec::readNetwork),
+                    in.changes(SimulationSnapshotCodec::readVolume),
+                    in.changes(reader -> readNetworkLink(reader, Integer.MAX_VALUE, Integer.MAX_VALUE)),
+                    in.changes(reader -> readVolumeLink(reader, Integer.MAX_VALUE, Integer.MAX_VALUE)));
+            in.finish();
+            return delta;
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw invalid(e.getMessage());
+        }
+    }
+
+    private static void writeImage(Body body, Image image) {
+        body.string(image.hexId());
+        body.string(image.shortHexId());
+        body.string(image.namespace());
+        body.string(image.name());
+        body.string(image.tag());
+        body.string(image.location().name());
+        body.string(image.layers());
+        body.time(image.createdAt());
+    }
+
+    private static Image readImage(Reader in) {
+        return new Image(in.string(), in.string(), in.string(), in.string(), in.string(),
+                ImageLocation.valueOf(in.string()), in.string(), in.time());
+    }
+
+    private static void writeContainer(Body body, Container container) {
+        body.string(container.hexId());
+        body.string(container.shortHexId());
+        body.string(container.name());
+        body.string(container.status().name());
+        body.reference(container.image());
+        body.number(container.externalImageId() == null ? 0 : container.externalImageId() + 1);
+        body.time(container.createdAt());
+        body.time(container.startedAt());
+        body.time(container.stoppedAt());
+    }
+
+    private static Container readContainer(Reader in, int imageCount) {
+        String hexId = in.string();
+        String shortHexId = in.string();
+        String name = in.string();
+        ContainerStatus status = ContainerStatus.valueOf(in.string());
+        int image = in.optionalReference(imageCount);
+        long externalImageId = in.number();
+        return new Container(hexId, shortHexId, name, status, image,
+                externalImageId == 0 ? null : externalImageId - 1, in.time(), in.time(), in.time());
+    }
+
+    private static void writeNetwork(Body body, Network network) {
+        body.string(network.hexId());
+        body.string(network.shortHexId());
+        body.string(network.name());
+        body.time(network.createdAt());
+    }
+
+    private static Network readNetwork(Reader in) {
+        return new Network(in.string(), in.string(), in.string(), in.time());
+    }
+
+    private static void writeVolume(Body body, Volume volume) {
+        body.string(volume.name());
+        body.number(volume.anonymous() ? 1 : 0);
+        body.time(volume.createdAt());
+    }
+
+    private static Volume readVolume(Reader in) {
+        return new Volume(in.string(), in.number() != 0, in.time());
+    }
+
+    private static void writeNetworkLink(Body body, NetworkLink link) {
+        body.reference(link.container());
+        body.reference(link.network());
+        body.time(link.connectedAt());
+    }
+
+    private static NetworkLink readNetworkLink(Reader in, int containerCount, int networkCount) {
+        return new NetworkLink(in.reference(containerCount), in.reference(networkCount), in.time());
+    }
+
+    private static void writeVolumeLink(Body body, VolumeLink link) {
+        body.reference(link.container());
+        body.reference(link.volume());
+        body.string(link.containerPath());
+        body.number(link.readOnly() ? 1 : 0);
+    }
+
+    private static VolumeLink readVolumeLink(Reader in, int containerCount, int volumeCount) {
+        return new VolumeLink(in.reference(containerCount), in.reference(volumeCount), in.string(), in.number() != 0);
+    }
+
+    private static byte[] withHeader(byte[] magic, byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_LENGTH + payload.length);
+        out.writeBytes(magic);
+        out.write(FORMAT_VERSION);
+        out.writeBytes(payload);
+        return out.toByteArray();
+    }
+
+    /*
+    헤더를 확인하고 본문이 시작하는 위치를 돌려준다.
+     */
+    private static int readHeader(byte[] bytes, byte[] magic, String notThisFormat) {
+        if (bytes == null || bytes.length < HEADER_LENGTH
+                || !Arrays.equals(bytes, 0, magic.length, magic, 0, magic.length)) {
+            throw invalid(notThisFormat);
+        }
+        int version = bytes[magic.length];
+        if (version != FORMAT_VERSION) {
+            throw invalid("지원하지 않는 형식 버전 " + version);
+        }
+        return HEADER_LENGTH;
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] data, int offset) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, offset, data.length - offset);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(256, (data.length - offset) * 3));
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw invalid("압축된 본문이 잘렸습니다");
+                }
+                if (out.size() + inflated > MAX_BODY_BYTES) {
+                    throw invalid("본문이 너무 큽니다");
+                }
+                out.write(buffer, 0, inflated);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw invalid(e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static BusinessException invalid(String reason) {
+        return new BusinessException(SimulationErrorCode.SIMULATION_SNAPSHOT_INVALID, reason);
+    }
+
+    /**
+     * 본문을 쓰면서 문자열 표를 모은다. 표는 본문보다 앞에 기록해야 하므로 값은 따로 모았다가 마지막에 합친다.
+     */
+    private static final class Body {
+
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final List<String> table = new ArrayList<>();
+        private final ByteArrayOutputStream values = new ByteArrayOutputStream(4096);
+
+        void string(String value) {
+            if (value == null) {
+                number(0);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index == null) {
+                index = table.size();
+                strings.put(value, index);
+                table.add(value);
+            }
+            number(index + 1L);
+        }
+
+        void count(int count) {
+            number(count);
+        }
+
+        <T> void list(List<T> items, BiConsumer<Body, T> writer) {
+            count(items.size());
+            for (T item : items) {
+                writer.accept(this, item);
+            }
+        }
+
+        <T> void changes(SimulationSnapshotDelta.Changes<T> changes, BiConsumer<Body, T> writer) {
+            count(changes.removed().size());
+            int previous = -1;
+            for (int removed : changes.removed()) {
+                number(removed - previous);
+                previous = removed;
+            }
+            count(changes.replaced().size());
+            for (SimulationSnapshotDelta.Replaced<T> replaced : changes.replaced()) {
+                number(replaced.index());
+                writer.accept(this, replaced.value());
+            }
+            list(changes.appended(), writer);
+        }
+
+        void reference(int index) {
+            number(index + 1L);
+        }
+
+        void time(LocalDateTime time) {
+            if (time == null) {
+                number(0);
+                return;
+            }
+            long micros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), time);
+            number(((micros << 1) ^ (micros >> 63)) + 1);
+        }
+
+        void number(long value) {
+            writeVarLong(values, value);
+        }
+
+        byte[] toByteArray() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(values.size() + table.size() * 24 + 8);
+            writeVarLong(out, table.size());
+            for (String value : table) {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(out, utf8.length);
+                out.writeBytes(utf8);
+            }
+            try {
+                values.writeTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+
+        private static void writeVarLong(ByteArrayOutputStream out, long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private final String[] table;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+            int size = count();
+            this.table = new String[size];
+            for (int i = 0; i < size; i++) {
+                int length = count();
+                if (length > data.length - position) {
+                    throw invalid("문자열 표가 잘렸습니다");
+                }
+                table[i] = new String(data, position, length, StandardCharsets.UTF_8);
+                position += length;
+            }
+        }
+
+        <T> List<T> list(Function<Reader, T> reader) {
+            int size = count();
+            List<T> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(reader.apply(this));
+            }
+            return items;
+        }
+
+        <T> SimulationSnapshotDelta.Changes<T> changes(Function<Reader, T> reader) {
+            int removedCount = count();
+            List<Integer> removed = new ArrayList<>(removedCount);
+            long previous = -1;
+            for (int i = 0; i < removedCount; i++) {
+                previous += number();
+                if (previous > Integer.MAX_VALUE) {
+                    throw invalid("지운 위치 " + previous);
+                }
+                removed.add((int) previous);
+            }
+            int replacedCount = count();
+            List<SimulationSnapshotDelta.Replaced<T>> replaced = new ArrayList<>(replacedCount);
+            for (int i = 0; i < replacedCount; i++) {
+                long index = number();
+                if (index > Integer.MAX_VALUE) {
+                    throw invalid("바꾼 위치 " + index);
+                }
+                replaced.add(new SimulationSnapshotDelta.Replaced<>((int) index, reader.apply(this)));
+            }
+            return new SimulationSnapshotDelta.Changes<>(removed, replaced, list(reader));
+        }
+
+        void finish() {
+            if (position != data.length) {
+                throw invalid("본문 뒤에 알 수 없는 데이터가 있습니다");
+            }
+        }
+
+        String string() {
+            long index = number();
+            if (index == 0) {
+                return null;
+            }
+            if (index > table.length) {
+                throw invalid("문자열 번호 " + index);
+            }
+            return table[(int) index - 1];
+        }
+
+        /**
+         * 목록 길이. 남은 바이트보다 많은 항목은 있을 수 없으므로 큰 배열을 미리 잡지 않도록 검사한다.
+         */
+        int count() {
+            long count = number();
+            if (count > data.length - position) {
+                throw invalid("항목 수 " + count);
+            }
+            return (int) count;
+        }
+
+        int reference(int size) {
+            int reference = optionalReference(size);
+            if (reference == SimulationSnapshot.NO_REFERENCE) {
+                throw invalid("연결 대상이 없습니다");
+            }
+            return reference;
+        }
+
+        int optionalReference(int size) {
+            long reference = number() - 1;
+            if (reference < SimulationSnapshot.NO_REFERENCE || reference >= size) {
+                throw invalid("참조 번호 " + reference);
+            }
+            return (int) reference;
+        }
+
+        LocalDateTime time() {
+            long value = number();
+            if (value == 0) {
+                return null;
+            }
+            long zigzag = value - 1;
+            long micros = (zigzag >>> 1) ^ -(zigzag & 1);
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                    (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+        }
+
+        long number() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= data.length) {
+                    throw invalid("본문이 잘렸습니다");
+                }
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw invalid("잘못된 숫자 형식");
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.dockersim.service.simulation.snapshot;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.SimulationErrorCode;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.Container;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.Image;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.Network;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.NetworkLink;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.Volume;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.VolumeLink;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 두 {@link SimulationSnapshot} 사이의 변경분. 이전 상태에 {@link #apply(SimulationSnapshot)}하면 이후 상태가 된다.
+ * <p>
+ * 스냅샷의 목록은 DB ID 순서이므로, 남은 객체는 순서를 유지하고 새 객체는 뒤에 붙는다.
+ * 그래서 목록마다 지운 위치, 바뀐 객체(이후 목록의 위치), 뒤에 붙은 객체만 기록한다.
+ * 객체 안의 참조(위치)는 이후 상태 기준이므로, 앞쪽 객체가 지워져 참조 위치가 밀린 객체도 바뀐 객체로 기록된다.
+ * 순서가 이 규칙과 다르면(예: 같은 키가 두 번 나옴) 그 목록은 통째로 바꾼 것으로 기록한다.
+ */
+public record SimulationSnapshotDelta(
+        Changes<Image> images,
+        Changes<Container> containers,
+        Changes<Network> networks,
+        Changes<Volume> volumes,
+        Changes<NetworkLink> networkLinks,
+        Changes<VolumeLink> volumeLinks
+) {
+
+    /**
+     * @param removed  이전 목록에서 지운 위치(오름차순)
+     * @param replaced 내용이 바뀐 객체. 위치는 지운 뒤의 목록 기준
+     * @param appended 뒤에 붙은 객체
+     */
+    public record Changes<T>(List<Integer> removed, List<Replaced<T>> replaced, List<T> appended) {
+
+        public boolean isEmpty() {
+            return removed.isEmpty() && replaced.isEmpty() && appended.isEmpty();
+        }
+
+        public int size() {
+            return removed.size() + replaced.size() + appended.size();
+        }
+    }
+
+    public record Replaced<T>(int index, T value) {
+    }
+
+    public static SimulationSnapshotDelta between(SimulationSnapshot before, SimulationSnapshot after) {
+        Function<Container, String> containerKey = Container::hexId;
+        Function<Network, String> networkKey = Network::hexId;
+        Function<Volume, String> volumeKey = Volume::name;
+        return new SimulationSnapshotDelta(
+                diff(before.images(), after.images(), SimulationSnapshotDelta::imageKey, SimulationSnapshotDelta::imageKey),
+                diff(before.containers(), after.containers(), containerKey, containerKey),
+                diff(before.networks(), after.networks(), networkKey, networkKey),
+                diff(before.volumes(), after.volumes(), volumeKey, volumeKey),
+                diff(before.networkLinks(), after.networkLinks(),
+                        link -> networkLinkKey(before, link), link -> networkLinkKey(after, link)),
+                diff(before.volumeLinks(), after.volumeLinks(),
+                        link -> volumeLinkKey(before, link), link -> volumeLinkKey(after, link)));
+    }
+
+    public static SimulationSnapshotDelta empty() {
+        return new SimulationSnapshotDelta(none(), none(), none(), none(), none(), none());
+    }
+
+    /**
+     * 이전 상태에 변경분을 적용한다. 결과의 참조가 목록 범위를 벗어나면 기준 상태가 맞지 않는 것이므로
+     * {@code SIMULATION_SNAPSHOT_INVALID}를 던진다.
+     */
+    public SimulationSnapshot apply(SimulationSnapshot base) {
+        List<Image> appliedImages = apply(base.images(), images);
+        List<Container> appliedContainers = apply(base.containers(), containers);
+        List<Network> appliedNetworks = apply(base.networks(), networks);
+        List<Volume> appliedVolumes = apply(base.volumes(), volumes);
+        List<NetworkLink> appliedNetworkLinks = apply(base.networkLinks(), networkLinks);
+        List<VolumeLink> appliedVolumeLinks = apply(base.volumeLinks(), volumeLinks);
+
+        for (Container container : appliedContainers) {
+            if (container.image() != SimulationSnapshot.NO_REFERENCE) {
+                checkReference(container.image(), appliedImages.size());
+            }
+        }
+        for (NetworkLink link : appliedNetworkLinks) {
+            checkReference(link.container(), appliedContainers.size());
+            checkReference(link.network(), appliedNetworks.size());
+        }
+        for (VolumeLink link : appliedVolumeLinks) {
+            checkReference(link.container(), appliedContainers.size());
+            checkReference(link.volume(), appliedVolumes.size());
+        }
+        return new SimulationSnapshot(base.sourcePublicId(), appliedImages, appliedContainers, appliedNetworks,
+                appliedVolumes, appliedNetworkLinks, appliedVolumeLinks);
+    }
+
+    public boolean isEmpty() {
+        return images.isEmpty() && containers.isEmpty() && networks.isEmpty() && volumes.isEmpty()
+                && networkLinks.isEmpty() && volumeLinks.isEmpty();
+    }
+
+    /**
+     * 지우거나 바꾸거나 붙인 객체 수
+     */
+    public int size() {
+        return images.size() + containers.size() + networks.size() + volumes.size()
+                + networkLinks.size() + volumeLinks.size();
+    }
+
+    private static <T, K> Changes<T> diff(List<T> before, List<T> after,
+            Function<T, K> beforeKey, Function<T, K> afterKey) {
+        Map<K, Integer> afterIndex = new HashMap<>(after.size() * 2);
+        for (int i = 0; i < after.size(); i++) {
+            if (afterIndex.put(afterKey.apply(after.get(i)), i) != null) {
+                return replaceAll(before, after);
+            }
+        }
+
+        List<Integer> removed = new ArrayList<>();
+        List<Replaced<T>> replaced = new ArrayList<>();
+        Map<K, Boolean> seen = new HashMap<>(before.size() * 2);
+        int survivors = 0;
+        for (int i = 0; i < before.size(); i++) {
+            T previous = before.get(i);
+            K key = beforeKey.apply(previous);
+            if (seen.put(key, Boolean.TRUE) != null) {
+                return replaceAll(before, after);
+            }
+            Integer index = afterIndex.get(key);
+            if (index == null) {
+                removed.add(i);
+                continue;
+            }
+            if (index != survivors) {
+                return replaceAll(before, after);
+            }
+            T current = after.get(index);
+            if (!current.equals(previous)) {
+                replaced.add(new Replaced<>(index, current));
+            }
+            survivors++;
+        }
+        return new Changes<>(removed, replaced, List.copyOf(after.subList(survivors, after.size())));
+    }
+
+    private static <T> Changes<T> replaceAll(List<T> before, List<T> after) {
+        List<Integer> removed = new ArrayList<>(before.size());
+        for (int i = 0; i < before.size(); i++) {
+            removed.add(i);
+        }
+        return new Changes<>(removed, List.of(), List.copyOf(after));
+    }
+
+    private static <T> Changes<T> none() {
+        return new Changes<>(List.of(), List.of(), List.of());
+    }
+
+    private static <T> List<T> apply(List<T> base, Changes<T> changes) {
+        List<T> result = new ArrayList<>(base.size() + changes.appended().size());
+        int next = 0;
+        int previousRemoved = -1;
+        for (int removed : changes.removed()) {
+            if (removed <= previousRemoved || removed >= base.size()) {
+                throw mismatch("지울 위치 " + removed);
+            }
+            result.addAll(base.subList(next, removed));
+            next = removed + 1;
+            previousRemoved = removed;
+        }
+        result.addAll(base.subList(next, base.size()));
+
+        for (Replaced<T> replaced : changes.replaced()) {
+            if (replaced.index() < 0 || replaced.index() >= result.size()) {
+                throw mismatch("바꿀 위치 " + replaced.index());
+            }
+            result.set(replaced.index(), replaced.value());
+        }
+        result.addAll(changes.appended());
+        return result;
+    }
+
+    private static void checkReference(int reference, int size) {
+        if (reference < 0 || reference >= size) {
+            throw mismatch("참조 번호 " + reference);
+        }
+    }
+
+    private static BusinessException mismatch(String reason) {
+        return new BusinessException(SimulationErrorCode.SIMULATION_SNAPSHOT_INVALID,
+                "변경분이 기준 상태와 맞지 않습니다 - " + reason);
+    }
+
+    /*
+    같은 이미지(hexId)가 태그나 위치(LOCAL/HUB)를 달리해 여러 행으로 있을 수 있다.
+     */
+    private static List<Object> imageKey(Image image) {
+        return Arrays.asList(image.hexId(), image.location(), image.namespace(), image.name(), image.tag());
+    }
+
+    private static List<String> networkLinkKey(SimulationSnapshot snapshot, NetworkLink link) {
+        return Arrays.asList(snapshot.containers().get(link.container()).hexId(),
+                snapshot.networks().get(link.network()).hexId());
+    }
+
+    private static List<String> volumeLinkKey(SimulationSnapshot snapshot, VolumeLink link) {
+        return Arrays.asList(snapshot.containers().get(link.container()).hexId(),
+                snapshot.volumes().get(link.volume()).name(), link.containerPath());
+    }
+}
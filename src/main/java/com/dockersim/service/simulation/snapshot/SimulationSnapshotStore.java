@@ -0,0 +1,322 @@
+package com.dockersim.service.simulation.snapshot;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.service.image.layer.DockerLayerStore;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.Container;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.Image;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.Network;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.NetworkLink;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.Volume;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot.VolumeLink;
+import com.dockersim.util.LongListConverter;
+import com.dockersim.util.StringListConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시뮬레이션 상태를 JDBC로 읽고 한꺼번에 넣는다.
+ * <p>
+ * 수천 개의 객체를 엔티티로 적재/저장하면 영속성 컨텍스트와 행 단위 INSERT 비용이 커지므로,
+ * 테이블마다 SELECT 한 번으로 읽고 JDBC batch INSERT로 넣는다. 새 행의 ID는 생성 키로 받아 연결 테이블에 사용한다.
+ * MySQL에서는 {@code rewriteBatchedStatements=true}이면 batch가 다중 행 INSERT로 바뀐다.
+ * <p>
+ * JPA를 거치지 않으므로 엔티티 리스너가 동작하지 않는다. 레이어 참조 수는 여기서 {@link DockerLayerStore}로 갱신하지만,
+ * 호출한 쪽에서 식별자 색인과 메모리 그래프를 버려야 한다.
+ * 호출한 쪽의 트랜잭션에 참여한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SimulationSnapshotStore {
+
+    private static final String SELECT_IMAGES = """
+            SELECT id, hex_id, short_hex_id, namespace, name, tag, location, layer_ids, created_at
+            FROM docker_images WHERE simulation_id = ? ORDER BY id""";
+    private static final String SELECT_CONTAINERS = """
+            SELECT id, hex_id, short_hex_id, name, status, image_id, created_at, started_at, stopped_at
+            FROM docker_containers WHERE simulation_id = ? ORDER BY id""";
+    private static final String SELECT_NETWORKS = """
+            SELECT id, hex_id, short_hex_id, name, created_at
+            FROM docker_networks WHERE simulation_id = ? ORDER BY id""";
+    private static final String SELECT_VOLUMES = """
+            SELECT id, name, anonymous, create_at
+            FROM docker_volumes WHERE simulation_id = ? ORDER BY id""";
+    private static final String SELECT_NETWORK_LINKS = """
+            SELECT cn.container_id, cn.network_id, cn.connected_at
+            FROM container_network cn JOIN docker_containers c ON c.id = cn.container_id
+            WHERE c.simulation_id = ? ORDER BY cn.id""";
+    private static final String SELECT_VOLUME_LINKS = """
+            SELECT cv.container_pk, cv.volume_pk, cv.container_path, cv.is_read_only
+            FROM container_volume_mapping cv JOIN docker_containers c ON c.id = cv.container_pk
+            WHERE c.simulation_id = ? ORDER BY cv.id""";
+
+    private static final String INSERT_IMAGE = """
+            INSERT INTO docker_images
+                (simulation_id, hex_id, short_hex_id, namespace, name, tag, location, layer_ids, created_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)""";
+    private static final String INSERT_CONTAINER = """
+            INSERT INTO docker_containers
+                (simulation_id, hex_id, short_hex_id, name, status, image_id, created_at, started_at, stopped_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)""";
+    private static final String INSERT_NETWORK = """
+            INSERT INTO docker_networks (simulation_id, hex_id, short_hex_id, name, created_at, version)
+            VALUES (?, ?, ?, ?, ?, 0)""";
+    private static final String INSERT_VOLUME = """
+            INSERT INTO docker_volumes (simulation_id, name, anonymous, create_at, version)
+            VALUES (?, ?, ?, ?, 0)""";
+    private static final String INSERT_NETWORK_LINK = """
+            INSERT INTO container_network (container_id, network_id, connected_at) VALUES (?, ?, ?)""";
+    private static final String INSERT_VOLUME_LINK = """
+            INSERT INTO container_volume_mapping (container_pk, volume_pk, container_path, is_read_only)
+            VALUES (?, ?, ?, ?)""";
+
+    private static final String SELECT_IMAGE_LAYER_IDS = "SELECT layer_ids FROM docker_images WHERE simulation_id = ?";
+
+    private static final List<String> DELETE_CONTENTS = List.of(
+            "DELETE FROM container_network WHERE container_id IN"
+                    + " (SELECT id FROM docker_containers WHERE simulation_id = ?)",
+            "DELETE FROM container_volume_mapping WHERE container_pk IN"
+                    + " (SELECT id FROM docker_containers WHERE simulation_id = ?)",
+            "DELETE FROM docker_containers WHERE simulation_id = ?",
+            "DELETE FROM docker_volumes WHERE simulation_id = ?",
+            "DELETE FROM docker_networks WHERE simulation_id = ?",
+            "DELETE FROM docker_images WHERE simulation_id = ?"
+    );
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final StringListConverter LAYERS_CONVERTER = new StringListConverter();
+    private static final LongListConverter LAYER_IDS_CONVERTER = new LongListConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DockerLayerStore layerStore;
+
+    /**
+     * 시뮬레이션의 이미지/컨테이너/네트워크/볼륨과 연결 관계를 읽는다.
+     * (SELECT 6번, 레이어 내용이 캐시에 없으면 레이어 조회 1번)
+     */
+    public SimulationSnapshot load(Long simulationId, String simulationPublicId) {
+        Map<Long, Integer> imageIndex = new HashMap<>();
+        List<List<Long>> layerIds = new ArrayList<>();
+        List<Image> imageRows = jdbcTemplate.query(SELECT_IMAGES, (rs, row) -> {
+            imageIndex.put(rs.getLong("id"), row);
+            layerIds.add(LAYER_IDS_CONVERTER.convertToEntityAttribute(rs.getString("layer_ids")));
+            return new Image(rs.getString("hex_id"), rs.getString("short_hex_id"), rs.getString("namespace"),
+                    rs.getString("name"), rs.getString("tag"), ImageLocation.valueOf(rs.getString("location")),
+                    null, time(rs, "created_at"));
+        }, simulationId);
+        List<List<String>> layers = layerStore.resolveAll(layerIds);
+        List<Image> images = new ArrayList<>(imageRows.size());
+        for (int i = 0; i < imageRows.size(); i++) {
+            Image row = imageRows.get(i);
+            images.add(new Image(row.hexId(), row.shortHexId(), row.namespace(), row.name(), row.tag(),
+                    row.location(), LAYERS_CONVERTER.convertToDatabaseColumn(layers.get(i)), row.createdAt()));
+        }
+
+        Map<Long, Integer> containerIndex = new HashMap<>();
+        List<Container> containers = jdbcTemplate.query(SELECT_CONTAINERS, (rs, row) -> {
+            containerIndex.put(rs.getLong("id"), row);
+            long imageId = rs.getLong("image_id");
+            boolean hasImage = !rs.wasNull();
+            int image = hasImage ? imageIndex.getOrDefault(imageId, SimulationSnapshot.NO_REFERENCE)
+                    : SimulationSnapshot.NO_REFERENCE;
+            Long externalImageId = hasImage && image == SimulationSnapshot.NO_REFERENCE ? imageId : null;
+            return new Container(rs.getString("hex_id"), rs.getString("short_hex_id"), rs.getString("name"),
+                    ContainerStatus.valueOf(rs.getString("status")), image, externalImageId,
+                    time(rs, "created_at"), time(rs, "started_at"), time(rs, "stopped_at"));
+        }, simulationId);
+
+        Map<Long, Integer> networkIndex = new HashMap<>();
+        List<Network> networks = jdbcTemplate.query(SELECT_NETWORKS, (rs, row) -> {
+            networkIndex.put(rs.getLong("id"), row);
+            return new Network(rs.getString("hex_id"), rs.getString("short_hex_id"), rs.getString("name"),
+                    time(rs, "created_at"));
+        }, simulationId);
+
+        Map<Long, Integer> volumeIndex = new HashMap<>();
+        List<Volume> volumes = jdbcTemplate.query(SELECT_VOLUMES, (rs, row) -> {
+            volumeIndex.put(rs.getLong("id"), row);
+            return new Volume(rs.getString("name"), rs.getBoolean("anonymous"), time(rs, "create_at"));
+        }, simulationId);
+
+        List<NetworkLink> networkLinks = new ArrayList<>();
+        jdbcTemplate.query(SELECT_NETWORK_LINKS, rs -> {
+            Integer network = networkIndex.get(rs.getLong("network_id"));
+            // 다른 시뮬레이션의 네트워크와의 연결은 옮길 수 없으므로 제외한다.
+            if (network != null) {
+                networkLinks.add(new NetworkLink(containerIndex.get(rs.getLong("container_id")), network,
+                        time(rs, "connected_at")));
+            }
+        }, simulationId);
+
+        List<VolumeLink> volumeLinks = new ArrayList<>();
+        jdbcTemplate.query(SELECT_VOLUME_LINKS, rs -> {
+            long volumeId = rs.getLong("volume_pk");
+            Integer volume = rs.wasNull() ? null : volumeIndex.get(volumeId);
+            if (volume != null) {
+                volumeLinks.add(new VolumeLink(containerIndex.get(rs.getLong("container_pk")), volume,
+                        rs.getString("container_path"), rs.getBoolean("is_read_only")));
+            }
+        }, simulationId);
+
+        return new SimulationSnapshot(simulationPublicId, images, containers, networks, volumes,
+                networkLinks, volumeLinks);
+    }
+
+    /**
+     * 시뮬레이션의 이미지/컨테이너/네트워크/볼륨과 연결 관계를 모두 지우고, 지운 이미지의 레이어 참조를 놓는다.
+     */
+    public void deleteContents(Long simulationId) {
+        layerStore.releaseAll(jdbcTemplate.query(SELECT_IMAGE_LAYER_IDS,
+                (rs, row) -> LAYER_IDS_CONVERTER.convertToEntityAttribute(rs.getString("layer_ids")), simulationId));
+        for (String sql : DELETE_CONTENTS) {
+            jdbcTemplate.update(sql, simulationId);
+        }
+    }
+
+    /**
+     * 스냅샷의 객체를 시뮬레이션에 넣는다.
+     *
+     * @param keepIdentifiers false이면 컨테이너/네트워크 ID를 새로 만든다.
+     *                        컨테이너 ID는 DB 전체에서 유일해야 하므로 다른 시뮬레이션으로 복사할 때는 false로 호출한다.
+     * @return 넣은 객체 수
+     */
+    public int insert(Long simulationId, SimulationSnapshot snapshot, boolean keepIdentifiers) {
+        List<List<Long>> layerIds = layerStore.acquireAll(snapshot.images().stream()
+                .map(image -> LAYERS_CONVERTER.convertToEntityAttribute(image.layers()))
+                .toList());
+        Map<Image, String> layerIdColumns = new HashMap<>();
+        for (int i = 0; i < snapshot.images().size(); i++) {
+            layerIdColumns.put(snapshot.images().get(i), LAYER_IDS_CONVERTER.convertToDatabaseColumn(layerIds.get(i)));
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            long[] imageIds = insertAll(connection, INSERT_IMAGE, snapshot.images(), (ps, image) -> {
+                ps.setLong(1, simulationId);
+                ps.setString(2, image.hexId());
+                ps.setString(3, image.shortHexId());
+                ps.setString(4, image.namespace());
+                ps.setString(5, image.name());
+                ps.setString(6, image.tag());
+                ps.setString(7, image.location().name());
+                ps.setString(8, layerIdColumns.get(image));
+                setTime(ps, 9, image.createdAt());
+            });
+
+            long[] containerIds = insertAll(connection, INSERT_CONTAINER, snapshot.containers(), (ps, container) -> {
+                String hexId = keepIdentifiers ? container.hexId() : IdGenerator.generateHexFullId();
+                String shortHexId = keepIdentifiers ? container.shortHexId() : IdGenerator.getShortId(hexId);
+                ps.setLong(1, simulationId);
+                ps.setString(2, hexId);
+                ps.setString(3, shortHexId);
+                // 이름을 지정하지 않은 컨테이너는 short ID가 이름이므로 함께 바꾼다.
+                ps.setString(4, container.shortHexId().equals(container.name()) ? shortHexId : container.name());
+                ps.setString(5, container.status().name());
+                if (container.image() != SimulationSnapshot.NO_REFERENCE) {
+                    ps.setLong(6, imageIds[container.image()]);
+                } else if (container.externalImageId() != null) {
+                    ps.setLong(6, container.externalImageId());
+                } else {
+                    ps.setNull(6, Types.BIGINT);
+                }
+                setTime(ps, 7, container.createdAt());
+                setTime(ps, 8, container.startedAt());
+                setTime(ps, 9, container.stoppedAt());
+            });
+
+            long[] networkIds = insertAll(connection, INSERT_NETWORK, snapshot.networks(), (ps, network) -> {
+                String hexId = keepIdentifiers ? network.hexId() : IdGenerator.generateHexFullId();
+                ps.setLong(1, simulationId);
+                ps.setString(2, hexId);
+                ps.setString(3, keepIdentifiers ? network.shortHexId() : IdGenerator.getShortId(hexId));
+                ps.setString(4, network.name());
+                setTime(ps, 5, network.createdAt());
+            });
+
+            long[] volumeIds = insertAll(connection, INSERT_VOLUME, snapshot.volumes(), (ps, volume) -> {
+                ps.setLong(1, simulationId);
+                ps.setString(2, volume.name());
+                ps.setBoolean(3, volume.anonymous());
+                setTime(ps, 4, volume.createdAt());
+            });
+
+            insertAll(connection, INSERT_NETWORK_LINK, snapshot.networkLinks(), (ps, link) -> {
+                ps.setLong(1, containerIds[link.container()]);
+                ps.setLong(2, networkIds[link.network()]);
+                setTime(ps, 3, link.connectedAt());
+            });
+
+            insertAll(connection, INSERT_VOLUME_LINK, snapshot.volumeLinks(), (ps, link) -> {
+                ps.setLong(1, containerIds[link.container()]);
+                ps.setLong(2, volumeIds[link.volume()]);
+                ps.setString(3, link.containerPath());
+                ps.setBoolean(4, link.readOnly());
+            });
+            return snapshot.objectCount();
+        });
+    }
+
+    /*
+    BATCH_SIZE개씩 나눠 batch INSERT하고, 생성된 ID를 입력 순서대로 돌려준다.
+     */
+    private <T> long[] insertAll(Connection connection, String sql, List<T> rows, RowBinder<T> binder)
+            throws SQLException {
+        long[] ids = new long[rows.size()];
+        if (rows.isEmpty()) {
+            return ids;
+        }
+        try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            int generated = 0;
+            for (int i = 0; i < rows.size(); i++) {
+                binder.bind(ps, rows.get(i));
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0 || i == rows.size() - 1) {
+                    ps.executeBatch();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            ids[generated++] = keys.getLong(1);
+                        }
+                    }
+                }
+            }
+            if (generated != rows.size()) {
+                throw new SQLException("생성된 키 수가 행 수와 다릅니다: " + generated + "/" + rows.size());
+            }
+        }
+        return ids;
+    }
+
+    private static LocalDateTime time(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private static void setTime(PreparedStatement ps, int index, LocalDateTime time) throws SQLException {
+        if (time == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(time));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+}
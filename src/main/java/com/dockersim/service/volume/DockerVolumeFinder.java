@@ -2,8 +2,11 @@ package com.dockersim.service.volume;
 
 import java.util.List;
 
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListPage;
 import com.dockersim.domain.DockerVolume;
 import com.dockersim.domain.Simulation;
+import com.dockersim.repository.VolumeRow;
 
 public interface DockerVolumeFinder {
 
@@ -24,11 +27,11 @@ public interface DockerVolumeFinder {
 	DockerVolume findBySimulationAndName(Simulation simulation, String name);
 
 	/**
-	 * 시뮬레이션에 속한 익명/명명 볼륨을 조회합니다.
+	 * 시뮬레이션에 속한 볼륨의 목록 행(docker volume ls)을 필터/페이지 조건과 함께 조회합니다.
 	 *
-	 * @param simulation 볼륨이 속한 Simulation
+	 * @param simulationId 볼륨이 속한 Simulation ID
 	 */
-	List<DockerVolume> findBySimulation(Simulation simulation);
+	List<VolumeRow> findRows(Long simulationId, ListFilter filter, ListPage page);
 
 	/**
 	 * 시뮬레이션 내 사용하지 않는 익명/명명 볼륨을 조회합니다.
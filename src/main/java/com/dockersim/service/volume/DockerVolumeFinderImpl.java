@@ -5,11 +5,15 @@ import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListPage;
 import com.dockersim.domain.DockerVolume;
 import com.dockersim.domain.Simulation;
 import com.dockersim.exception.BusinessException;
 import com.dockersim.exception.code.DockerVolumeErrorCode;
 import com.dockersim.repository.DockerVolumeRepository;
+import com.dockersim.repository.ListingQueryRepository;
+import com.dockersim.repository.VolumeRow;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class DockerVolumeFinderImpl implements DockerVolumeFinder {
 
 	private final DockerVolumeRepository repo;
+	private final ListingQueryRepository listingQueryRepository;
 
 	@Override
 	public boolean existsBySimulationAndName(Simulation simulation, String name) {
@@ -32,8 +37,8 @@ public class DockerVolumeFinderImpl implements DockerVolumeFinder {
 	}
 
 	@Override
-	public List<DockerVolume> findBySimulation(Simulation simulation) {
-		return repo.findBySimulation(simulation);
+	public List<VolumeRow> findRows(Long simulationId, ListFilter filter, ListPage page) {
+		return listingQueryRepository.findVolumeRows(simulationId, filter, page);
 	}
 
 	@Override
@@ -46,7 +51,7 @@ public class DockerVolumeFinderImpl implements DockerVolumeFinder {
 		DockerVolume volume = repo.findBySimulationAndName(simulation, name)
 			.orElseThrow(() -> new BusinessException(DockerVolumeErrorCode.VOLUME_NOT_FOUND, name));
 
-		if (volume.getContainerVolumes().isEmpty()) {
+		if (!volume.getContainerVolumes().isEmpty()) {
 			throw new BusinessException(DockerVolumeErrorCode.VOLUME_NAME_DUPLICATED, name);
 		}
 		return volume;
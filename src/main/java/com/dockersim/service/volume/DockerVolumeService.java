@@ -2,6 +2,7 @@ package com.dockersim.service.volume;
 
 import java.util.List;
 
+import com.dockersim.common.listing.ListOptions;
 import com.dockersim.config.SimulationUserPrincipal;
 import com.dockersim.dto.response.DockerVolumeResponse;
 
@@ -39,9 +40,10 @@ public interface DockerVolumeService {
 	 *
 	 * @param principal 인증 정보
 	 * @param quiet     불륨명만 출력 여부
+	 * @param options   --filter, --format, --limit, --after 옵션
 	 * @return 조회된 불륨명 목록
 	 */
-	List<String> ls(SimulationUserPrincipal principal, boolean quiet);
+	List<String> ls(SimulationUserPrincipal principal, boolean quiet, ListOptions options);
 
 	/**
 	 * Remove all unused local volumes. Unused local volumes are those which are not referenced by
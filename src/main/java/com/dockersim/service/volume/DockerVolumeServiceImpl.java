@@ -1,19 +1,30 @@
 package com.dockersim.service.volume;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
 import com.dockersim.common.IdGenerator;
+import com.dockersim.common.InspectRenderer;
+import com.dockersim.common.listing.ListFilter;
+import com.dockersim.common.listing.ListFormat;
+import com.dockersim.common.listing.ListOptions;
+import com.dockersim.common.listing.ListPage;
 import com.dockersim.config.SimulationUserPrincipal;
 import com.dockersim.domain.DockerVolume;
 import com.dockersim.domain.Simulation;
 import com.dockersim.dto.response.DockerVolumeResponse;
+import com.dockersim.dto.response.VolumeInspectData;
 import com.dockersim.exception.BusinessException;
 import com.dockersim.exception.code.DockerVolumeErrorCode;
 import com.dockersim.repository.DockerVolumeRepository;
+import com.dockersim.repository.ListingQueryRepository;
+import com.dockersim.repository.VolumeRow;
 import com.dockersim.service.simulation.SimulationFinder;
+import com.dockersim.service.simulation.hot.HotSimulationEngine;
+import com.dockersim.util.FixedWidthRow;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,9 +34,22 @@ public class DockerVolumeServiceImpl implements DockerVolumeService {
 
 	private final SimulationFinder simulationFinder;
 	private final DockerVolumeFinder dockerVolumeFinder;
+	private final HotSimulationEngine hotSimulationEngine;
+	private final InspectRenderer inspectRenderer;
 
 	private final DockerVolumeRepository repo;
 
+	private static final String DRIVER = "local";
+
+	/*
+	docker volume ls --format에서 사용할 수 있는 필드
+	 */
+	private static final Map<String, ListFormat.Column<VolumeRow>> LS_COLUMNS = Map.of(
+		"Driver", new ListFormat.Column<>("DRIVER", volume -> DRIVER),
+		"Name", new ListFormat.Column<>("VOLUME NAME", VolumeRow::name),
+		"CreatedAt", new ListFormat.Column<>("CREATED AT", VolumeRow::createdAt)
+	);
+
 	@Override
 	public DockerVolumeResponse create(SimulationUserPrincipal principal, String name, boolean anonymous) {
 		Simulation simulation = simulationFinder.findById(principal.getSimulationId());
@@ -41,7 +65,7 @@ public class DockerVolumeServiceImpl implements DockerVolumeService {
 		동일한 이름의 불륨이 이미 있는 경우, 불륨 생성에 실패합니다.
 		익명 볼륨의 이름은 새로 생성되는 Hex ID이므로, name은 항상 null이 아닙니다.
 		 */
-		if (!dockerVolumeFinder.existsBySimulationAndName(simulation, name)) {
+		if (dockerVolumeFinder.existsBySimulationAndName(simulation, name)) {
 			throw new BusinessException(DockerVolumeErrorCode.VOLUME_NAME_DUPLICATED, name);
 		}
 
@@ -57,32 +81,39 @@ public class DockerVolumeServiceImpl implements DockerVolumeService {
 		Simulation simulation = simulationFinder.findById(principal.getSimulationId());
 		DockerVolume volume = dockerVolumeFinder.findBySimulationAndName(simulation, name);
 
-		return List.of(
-			"[\n",
-			"  {\n",
-			"    \"CreatedAt\": \"" + volume.getCreateAt() + "\",\n",
-			"    \"Driver\": \"local\",\n",
-			"    \"Mountpoint\": \"" + volume.getMountPoint() + "\",\n",
-			"    \"Name\": \"" + volume.getName() + "\",\n",
-			"    \"RefCount\": " + volume.getContainerVolumes().size(),
-			"  }\n",
-			"]\n"
-		);
+		return inspectRenderer.render(VolumeInspectData.from(volume));
 	}
 
 	@Override
-	public List<String> ls(SimulationUserPrincipal principal, boolean quiet) {
-		Simulation simulation = simulationFinder.findById(principal.getSimulationId());
-		List<DockerVolume> volumes = dockerVolumeFinder.findBySimulation(simulation);
-
-		Stream<String> headerStream = Stream.of(
-			quiet ? "VOLUME NAME" : String.format("%-20s %s", "DRIVER", "VOLUME NAME"));
+	public List<String> ls(SimulationUserPrincipal principal, boolean quiet, ListOptions options) {
+		ListFilter filter = ListFilter.parse(options.getFilters(), ListingQueryRepository.VOLUME_FILTERS);
+		ListFormat<VolumeRow> format = ListFormat.parse(options.getFormat(), LS_COLUMNS);
+		ListPage page = options.toPage();
+
+		Long simulationId = principal.getSimulationId();
+		List<VolumeRow> volumes;
+		if (hotSimulationEngine.isEnabled() && filter.isEmpty() && page.isUnbounded()) {
+			volumes = hotSimulationEngine.access(simulationId,
+				hot -> hot.getVolumes().stream().map(VolumeRow::from).toList());
+		} else {
+			hotSimulationEngine.flush(simulationId);
+			volumes = dockerVolumeFinder.findRows(simulationId, filter, page);
+		}
 
-		Stream<String> bodyStream = volumes.stream()
-			.map(volume -> quiet ? volume.getName()
-				: String.format("%-20s %s", "local", volume.getName()));
+		if (!quiet && format != null) {
+			return format.render(volumes);
+		}
+		List<String> lines = new ArrayList<>(volumes.size() + 1);
+		if (quiet) {
+			lines.add("VOLUME NAME");
+			volumes.forEach(volume -> lines.add(volume.name()));
+			return lines;
+		}
 
-		return Stream.concat(headerStream, bodyStream).toList();
+		FixedWidthRow row = new FixedWidthRow(20, 0);
+		lines.add(row.cell("DRIVER").cell("VOLUME NAME").build());
+		volumes.forEach(volume -> lines.add(row.cell(DRIVER).cell(volume.name()).build()));
+		return lines;
 	}
 
 	@Override
@@ -0,0 +1,69 @@
+package com.dockersim.util;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerImageErrorCode;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 콘솔 출력에 쓰는 크기/경과 시간 표기.
+ * <p>
+ * 크기는 docker CLI와 같이 10진 단위(1kB = 1000B)에 유효숫자 4자리로 표기한다(예: 512B, 1.5MB, 2.048GB).
+ */
+public final class DisplayUnits {
+
+    private static final String[] SIZE_UNITS = {"B", "kB", "MB", "GB", "TB"};
+    private static final Pattern SIZE = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*([kmgt]?)b?", Pattern.CASE_INSENSITIVE);
+
+    private DisplayUnits() {
+    }
+
+    public static String formatSize(long bytes) {
+        double value = bytes;
+        int unit = 0;
+        while (value >= 1000 && unit < SIZE_UNITS.length - 1) {
+            value /= 1000;
+            unit++;
+        }
+        return new BigDecimal(value).round(new MathContext(4)).stripTrailingZeros().toPlainString() + SIZE_UNITS[unit];
+    }
+
+    /**
+     * {@code 512MB}, {@code 1.5gb}, {@code 1000} 같은 크기를 바이트로 바꾼다. 단위는 대소문자를 구분하지 않는다.
+     */
+    public static long parseSize(String text) {
+        Matcher matcher = SIZE.matcher(text == null ? "" : text.strip());
+        if (!matcher.matches()) {
+            throw new BusinessException(DockerImageErrorCode.INVALID_SIZE, text);
+        }
+        int unit = "bkmgt".indexOf(matcher.group(2).isEmpty() ? 'b' : matcher.group(2).toLowerCase(Locale.ROOT).charAt(0));
+        return new BigDecimal(matcher.group(1)).multiply(BigDecimal.TEN.pow(unit * 3)).longValue();
+    }
+
+    /**
+     * docker image ls의 CREATED처럼 {@code time}부터 {@code now}까지 지난 시간(예: 3 days ago)
+     */
+    public static String formatDuration(LocalDateTime time, LocalDateTime now) {
+
+        Duration duration = Duration.between(time, now);
+        long days = duration.toDays();
+        if (days > 0) {
+            return days + (days == 1 ? " day ago" : " days ago");
+        }
+        long hours = duration.toHours();
+        if (hours > 0) {
+            return hours + (hours == 1 ? " hour ago" : " hours ago");
+        }
+        long minutes = duration.toMinutes();
+        if (minutes > 0) {
+            return minutes + (minutes == 1 ? " minute ago" : " minutes ago");
+        }
+        return "just now";
+    }
+}
@@ -0,0 +1,66 @@
+package com.dockersim.util;
+
+/**
+ * 고정 폭 표(docker ps, docker image ls 등)의 한 줄을 만든다.
+ * <p>
+ * {@code String.format("%-25s %-20s ...")}와 같은 결과(왼쪽 정렬, 폭보다 긴 값은 자르지 않음, 열 사이 공백 하나)를
+ * 포맷 문자열 해석 없이 하나의 StringBuilder에 이어 붙여 만든다. 목록 하나를 만드는 동안 인스턴스를 재사용하며,
+ * 스레드 안전하지 않으므로 호출마다 새로 만든다.
+ * <pre>
+ * FixedWidthRow row = new FixedWidthRow(25, 20);
+ * String line = row.cell("CONTAINER ID").cell("IMAGE").build();
+ * </pre>
+ */
+public final class FixedWidthRow {
+
+    private static final String SPACES = " ".repeat(64);
+
+    private final int[] widths;
+    private final StringBuilder line;
+    private int column;
+
+    public FixedWidthRow(int... widths) {
+        this.widths = widths;
+        int capacity = 0;
+        for (int width : widths) {
+            capacity += width + 1;
+        }
+        this.line = new StringBuilder(capacity);
+    }
+
+    public FixedWidthRow cell(Object value) {
+        return cell(String.valueOf(value));
+    }
+
+    public FixedWidthRow cell(String value) {
+        if (column >= widths.length) {
+            throw new IllegalStateException("열 개수(" + widths.length + ")를 넘었습니다.");
+        }
+        if (column > 0) {
+            line.append(' ');
+        }
+        String text = value == null ? "null" : value;
+        line.append(text);
+        pad(widths[column] - text.length());
+        column++;
+        return this;
+    }
+
+    /**
+     * 지금까지 추가한 열로 한 줄을 만들고 다음 줄을 위해 비운다.
+     */
+    public String build() {
+        String result = line.toString();
+        line.setLength(0);
+        column = 0;
+        return result;
+    }
+
+    private void pad(int count) {
+        while (count > 0) {
+            int chunk = Math.min(count, SPACES.length());
+            line.append(SPACES, 0, chunk);
+            count -= chunk;
+        }
+    }
+}
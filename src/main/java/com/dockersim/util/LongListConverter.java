@@ -0,0 +1,45 @@
+package com.dockersim.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.persistence.AttributeConverter;
+
+public class LongListConverter implements AttributeConverter<List<Long>, String> {
+
+	private static final char SPLIT_CHAR = ',';
+
+	@Override
+	public String convertToDatabaseColumn(List<Long> attribute) {
+		if (attribute == null || attribute.isEmpty()) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder(attribute.size() * 8);
+		for (Long value : attribute) {
+			if (!sb.isEmpty()) {
+				sb.append(SPLIT_CHAR);
+			}
+			sb.append(value);
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public List<Long> convertToEntityAttribute(String dbData) {
+		if (dbData == null || dbData.isBlank()) {
+			return Collections.emptyList();
+		}
+		List<Long> values = new ArrayList<>();
+		int start = 0;
+		while (start <= dbData.length()) {
+			int end = dbData.indexOf(SPLIT_CHAR, start);
+			if (end < 0) {
+				end = dbData.length();
+			}
+			values.add(Long.parseLong(dbData.substring(start, end).trim()));
+			start = end + 1;
+		}
+		return values;
+	}
+}
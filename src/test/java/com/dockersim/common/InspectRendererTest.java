@@ -0,0 +1,213 @@
+package com.dockersim.common;
+
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.domain.ContainerNetwork;
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.DockerNetwork;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+import com.dockersim.dto.response.ContainerInspectData;
+import com.dockersim.dto.response.DockerContainerSimpleInspect;
+import com.dockersim.dto.response.DockerNetworkInspect;
+import com.dockersim.dto.response.ImageInspectData;
+import com.dockersim.dto.response.ImageInspectRootFSData;
+import com.dockersim.dto.response.VolumeInspectData;
+import com.dockersim.service.command.CommandExecutorService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class InspectRendererTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+
+    @Autowired
+    private InspectRenderer renderer;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private CommandExecutorService executor;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("이미지 inspect는 docker CLI와 같은 키의 JSON 배열로 출력")
+    void render_image() throws Exception {
+        List<String> console = renderer.render(ImageInspectData.builder()
+                .Id("sha256:abc")
+                .RepoTags(List.of("nginx:latest"))
+                .Created(CREATED.toString())
+                .RootFS(ImageInspectRootFSData.builder().Type("layers").Layers(List.of("sha256:l1", "sha256:l2")).build())
+                .build());
+
+        assertEquals(1, console.size());
+        assertTrue(console.get(0).startsWith("[ {"));
+        JsonNode image = single(console);
+        assertEquals("sha256:abc", image.get("Id").asText());
+        assertEquals("nginx:latest", image.get("RepoTags").get(0).asText());
+        assertEquals("2025-01-02T03:04:05", image.get("Created").asText());
+        assertEquals("layers", image.get("RootFS").get("Type").asText());
+        assertEquals(List.of("sha256:l1", "sha256:l2"),
+                mapper.convertValue(image.get("RootFS").get("Layers"), List.class));
+    }
+
+    @Test
+    @DisplayName("컨테이너 inspect는 상태와 기반 이미지 ID를 포함")
+    void render_container() throws Exception {
+        JsonNode container = single(renderer.render(ContainerInspectData.builder()
+                .id("c0ffee")
+                .createdAt(CREATED.toString())
+                .startedAt("")
+                .stoppedAt("")
+                .state(ContainerStatus.RUNNING)
+                .baseImage("beef")
+                .build()));
+
+        assertEquals("c0ffee", container.get("id").asText());
+        assertEquals("RUNNING", container.get("state").asText());
+        assertEquals("beef", container.get("baseImage").asText());
+        assertEquals("", container.get("startedAt").asText());
+    }
+
+    @Test
+    @DisplayName("볼륨 inspect는 올바른 JSON이고 기존 키를 유지")
+    void render_volume() throws Exception {
+        JsonNode volume = single(renderer.render(VolumeInspectData.builder()
+                .CreatedAt(CREATED.toString())
+                .Driver("local")
+                .Mountpoint("/var/lib/docker/volumes/data/_data")
+                .Name("data")
+                .RefCount(2)
+                .build()));
+
+        assertEquals("data", volume.get("Name").asText());
+        assertEquals("local", volume.get("Driver").asText());
+        assertEquals("/var/lib/docker/volumes/data/_data", volume.get("Mountpoint").asText());
+        assertEquals(2, volume.get("RefCount").asInt());
+    }
+
+    @Test
+    @DisplayName("네트워크 inspect는 생성 시각을 ISO 문자열로, 연결된 컨테이너를 배열로 출력")
+    void render_network() throws Exception {
+        JsonNode network = single(renderer.render(DockerNetworkInspect.builder()
+                .name("lab-net")
+                .id("n1")
+                .created(CREATED)
+                .containers(List.of(new DockerContainerSimpleInspect("c1", "web")))
+                .build()));
+
+        assertEquals("lab-net", network.get("name").asText());
+        assertEquals("2025-01-02T03:04:05", network.get("created").asText());
+        assertEquals("web", network.get("containers").get(0).get("name").asText());
+        assertEquals("c1", network.get("containers").get(0).get("id").asText());
+    }
+
+    @Test
+    @DisplayName("여러 항목은 하나의 JSON 배열로 출력")
+    void renderAll_writesSingleArray() throws Exception {
+        List<String> console = renderer.renderAll(List.of(
+                VolumeInspectData.builder().Name("a").build(),
+                VolumeInspectData.builder().Name("b").build()));
+
+        JsonNode array = mapper.readTree(console.get(0));
+        assertEquals(2, array.size());
+        assertEquals("b", array.get(1).get("Name").asText());
+    }
+
+    @Test
+    @DisplayName("docker network inspect는 해당 네트워크에 연결된 컨테이너만 보여줌")
+    void networkInspect_listsConnectedContainers() throws Exception {
+        SimulationUserPrincipal principal = new TransactionTemplate(transactionManager).execute(status -> seed());
+        execute(principal, "docker network create other-net");
+        execute(principal, "docker network create lab-net");
+        execute(principal, "docker create --name web nginx");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager.persist(
+                new ContainerNetwork(find(DockerContainer.class, principal, "web"),
+                        find(DockerNetwork.class, principal, "lab-net"))));
+
+        JsonNode labNet = single(execute(principal, "docker network inspect lab-net"));
+        JsonNode otherNet = single(execute(principal, "docker network inspect other-net"));
+
+        assertEquals("lab-net", labNet.get("name").asText());
+        assertEquals(1, labNet.get("containers").size());
+        assertEquals("web", labNet.get("containers").get(0).get("name").asText());
+        assertEquals(0, otherNet.get("containers").size());
+    }
+
+    private <T> T find(Class<T> type, SimulationUserPrincipal principal, String name) {
+        return entityManager.createQuery("SELECT e FROM " + type.getSimpleName()
+                        + " e WHERE e.simulation.id = :simulationId AND e.name = :name", type)
+                .setParameter("simulationId", principal.getSimulationId())
+                .setParameter("name", name)
+                .getSingleResult();
+    }
+
+    private JsonNode single(List<String> console) throws Exception {
+        JsonNode array = mapper.readTree(String.join("\n", console));
+        assertTrue(array.isArray());
+        assertEquals(1, array.size());
+        return array.get(0);
+    }
+
+    private List<String> execute(SimulationUserPrincipal principal, String command) {
+        return new TransactionTemplate(transactionManager).execute(
+                status -> executor.execute(command, principal).getConsole());
+    }
+
+    private SimulationUserPrincipal seed() {
+        LocalDateTime now = LocalDateTime.now();
+        User user = User.builder()
+                .publicId(IdGenerator.generatePublicId())
+                .name("inspect")
+                .email("inspect-" + System.nanoTime() + "@dockersim.com")
+                .createdAt(now)
+                .build();
+        entityManager.persist(user);
+
+        Simulation simulation = Simulation.builder()
+                .publicId(IdGenerator.generatePublicId())
+                .title("inspect-" + System.nanoTime())
+                .shareState(SimulationShareState.PRIVATE)
+                .owner(user)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        entityManager.persist(simulation);
+
+        String hexId = IdGenerator.generateHexFullId();
+        entityManager.persist(DockerImage.builder()
+                .hexId(hexId)
+                .shortHexId(IdGenerator.getShortId(hexId))
+                .namespace("library")
+                .name("nginx")
+                .tag("latest")
+                .location(ImageLocation.LOCAL)
+                .layers(List.of("sha256:" + hexId))
+                .createdAt(now)
+                .simulation(simulation)
+                .build());
+        return new SimulationUserPrincipal(user, simulation);
+    }
+}
@@ -0,0 +1,78 @@
+package com.dockersim.common.listing;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ListFormatTest {
+
+    private record Row(String id, String name) {
+    }
+
+    private static final Map<String, ListFormat.Column<Row>> COLUMNS = Map.of(
+            "ID", new ListFormat.Column<>("CONTAINER ID", Row::id),
+            "Names", new ListFormat.Column<>("NAMES", Row::name)
+    );
+
+    private static final List<Row> ROWS = List.of(new Row("a1b2c3", "web"), new Row("d4e5f6", "database-primary"));
+
+    @Test
+    @DisplayName("table 형식은 헤더를 붙이고 탭으로 나뉜 열을 정렬")
+    void render_alignsTableColumns() {
+        ListFormat<Row> format = ListFormat.parse("table {{.Names}}\\t{{.ID}}", COLUMNS);
+
+        assertEquals(List.of(
+                "NAMES              CONTAINER ID",
+                "web                a1b2c3",
+                "database-primary   d4e5f6"
+        ), format.render(ROWS));
+    }
+
+    @Test
+    @DisplayName("table이 없으면 템플릿을 행마다 그대로 치환")
+    void render_substitutesFieldsPerRow() {
+        ListFormat<Row> format = ListFormat.parse("{{ .ID }}: {{.Names}}", COLUMNS);
+
+        assertEquals(List.of("a1b2c3: web", "d4e5f6: database-primary"), format.render(ROWS));
+    }
+
+    @Test
+    @DisplayName("비어 있거나 table만 지정하면 기본 표 형식을 사용")
+    void parse_returnsNullForDefaultTable() {
+        assertNull(ListFormat.parse(null, COLUMNS));
+        assertNull(ListFormat.parse("table", COLUMNS));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 필드나 닫히지 않은 템플릿은 예외")
+    void parse_rejectsUnknownFields() {
+        BusinessException unknown = assertThrows(BusinessException.class,
+                () -> ListFormat.parse("{{.Ports}}", COLUMNS));
+        assertEquals(DockerCommandErrorCode.INVALID_LIST_FORMAT, unknown.getErrorCode());
+
+        assertThrows(BusinessException.class, () -> ListFormat.parse("{{.ID", COLUMNS));
+    }
+
+    @Test
+    @DisplayName("같은 키는 OR로 모으고, 허용되지 않은 키나 형식은 예외")
+    void filter_groupsValuesAndRejectsUnknownKeys() {
+        ListFilter filter = ListFilter.parse(List.of("status=running", "status=paused", "dangling=1"),
+                Set.of("status", "dangling"));
+
+        assertEquals(List.of("running", "paused"), filter.values("status"));
+        assertEquals(Boolean.TRUE, filter.booleanValue("dangling"));
+        assertThrows(BusinessException.class, () -> ListFilter.parse(List.of("until=1h"), Set.of("status")));
+        assertThrows(BusinessException.class, () -> ListFilter.parse(List.of("status"), Set.of("status")));
+        assertThrows(BusinessException.class,
+                () -> ListFilter.parse(List.of("dangling=true", "dangling=false"), Set.of("dangling")).booleanValue("dangling"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.dockersim.config;
+
+import com.dockersim.common.IdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EntityVersionMigrationTest {
+
+    private static final String INSERT_UNVERSIONED_IMAGE = """
+            INSERT INTO docker_images (hex_id, short_hex_id, namespace, name, tag, location, created_at, version)
+            VALUES (?, ?, 'library', 'legacy-version', 'latest', 'HUB', ?, NULL)""";
+
+    @Autowired
+    private EntityVersionMigration migration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM docker_images WHERE name = 'legacy-version'");
+        jdbcTemplate.execute("ALTER TABLE docker_images ALTER COLUMN version SET NOT NULL");
+    }
+
+    @Test
+    @DisplayName("버전 열이 추가되기 전의 행(version = NULL)은 0으로 채움")
+    void migrate_initializesNullVersions() {
+        // version 열을 나중에 추가한 예전 스키마를 흉내 낸다.
+        jdbcTemplate.execute("ALTER TABLE docker_images ALTER COLUMN version SET NULL");
+        String hexId = IdGenerator.generateHexFullId();
+        jdbcTemplate.update(INSERT_UNVERSIONED_IMAGE, hexId, IdGenerator.getShortId(hexId),
+                Timestamp.valueOf(LocalDateTime.now()));
+
+        migration.migrate();
+
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT version FROM docker_images WHERE hex_id = ?", Long.class, hexId));
+        for (String table : EntityVersionMigration.VERSIONED_TABLES) {
+            assertEquals(0, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + table + " WHERE version IS NULL", Integer.class));
+        }
+    }
+}
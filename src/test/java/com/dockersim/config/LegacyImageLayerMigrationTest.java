@@ -0,0 +1,70 @@
+package com.dockersim.config;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.service.image.layer.DockerLayerStore;
+import com.dockersim.util.LongListConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class LegacyImageLayerMigrationTest {
+
+    private static final String INSERT_LEGACY_IMAGE = """
+            INSERT INTO docker_images (hex_id, short_hex_id, namespace, name, tag, location, created_at, version, layers)
+            VALUES (?, ?, 'library', 'legacy', 'latest', 'LOCAL', ?, 0, ?)""";
+
+    @Autowired
+    private LegacyImageLayerMigration migration;
+
+    @Autowired
+    private DockerLayerStore layerStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM docker_images WHERE name = 'legacy'");
+        jdbcTemplate.execute("ALTER TABLE docker_images DROP COLUMN IF EXISTS layers");
+    }
+
+    @Test
+    @DisplayName("예전 layers 열에 남은 레이어를 레이어 테이블로 옮기고 layer_ids를 채움")
+    void migrate_movesLegacyLayersToLayerTable() {
+        jdbcTemplate.execute("ALTER TABLE docker_images ADD COLUMN layers VARCHAR(4000)");
+        String base = "FROM ubuntu:" + System.nanoTime();
+        String step = "RUN apt-get install -y curl " + System.nanoTime();
+        String hexId = IdGenerator.generateHexFullId();
+        jdbcTemplate.update(INSERT_LEGACY_IMAGE, hexId, IdGenerator.getShortId(hexId),
+                Timestamp.valueOf(LocalDateTime.now()), base + "\n" + step + "\n" + base);
+
+        migration.migrate();
+        // 다시 실행해도 이미 옮긴 행은 건드리지 않는다.
+        migration.migrate();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT layers, layer_ids FROM docker_images WHERE hex_id = ?", hexId);
+        assertNull(row.get("layers"));
+        List<Long> layerIds = new LongListConverter().convertToEntityAttribute((String) row.get("layer_ids"));
+        assertEquals(List.of(base, step, base), layerStore.resolve(layerIds));
+        assertEquals(2L, jdbcTemplate.queryForObject(
+                "SELECT reference_count FROM docker_layers WHERE digest = ?", Long.class, DockerLayerStore.digest(base)));
+    }
+
+    @Test
+    @DisplayName("예전 layers 열이 없는 스키마에서는 아무것도 하지 않음")
+    void migrate_withoutLegacyColumn_doesNothing() {
+        assertDoesNotThrow(migration::migrate);
+    }
+}
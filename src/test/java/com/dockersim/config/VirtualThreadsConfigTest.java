@@ -0,0 +1,40 @@
+package com.dockersim.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.WebApplicationType;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsConfigTest {
+
+    @Test
+    @DisplayName("Java 21 미만에서 가상 스레드 모드를 켜면 시작을 중단")
+    void belowJava21_failsFast() {
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> new VirtualThreadsConfig(17));
+        assertTrue(ex.getMessage().contains("Java 21"));
+        assertDoesNotThrow(() -> new VirtualThreadsConfig(21));
+    }
+
+    @Test
+    @DisplayName("설정을 켠 채 현재 JVM(17)에서 컨텍스트를 띄우면 실패")
+    void context_withVirtualThreadsOnJava17_failsToStart() {
+        assumeTrue(Runtime.version().feature() < VirtualThreadsConfig.MIN_JAVA_VERSION);
+
+        Exception ex = assertThrows(Exception.class, () -> new SpringApplicationBuilder(VirtualThreadsConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.threads.virtual.enabled=true")
+                .run()
+                .close());
+        assertInstanceOf(IllegalStateException.class, rootCause(ex));
+    }
+
+    private static Throwable rootCause(Throwable throwable) {
+        while (throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+}
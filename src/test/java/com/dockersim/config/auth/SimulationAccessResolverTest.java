@@ -0,0 +1,85 @@
+package com.dockersim.config.auth;
+
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+import com.dockersim.repository.SimulationCollaboratorRepository;
+import com.dockersim.service.simulation.SimulationFinder;
+import com.dockersim.service.user.UserFinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SimulationAccessResolverTest {
+
+    private final UserFinder userFinder = mock(UserFinder.class);
+    private final SimulationFinder simulationFinder = mock(SimulationFinder.class);
+    private final SimulationCollaboratorRepository collaboratorRepository = mock(SimulationCollaboratorRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final User owner = User.builder().id(1L).publicId("owner").build();
+    private final User collaborator = User.builder().id(2L).publicId("collaborator").build();
+    private Simulation simulation;
+
+    private SimulationAccessResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        simulation = Simulation.builder().id(10L).publicId("sim").owner(owner)
+            .shareState(SimulationShareState.WRITE).build();
+        when(userFinder.findUserByPublicId("owner")).thenReturn(owner);
+        when(userFinder.findUserByPublicId("collaborator")).thenReturn(collaborator);
+        when(simulationFinder.findByPublicId("sim")).thenAnswer(invocation -> simulation);
+        resolver = new SimulationAccessResolver(userFinder, simulationFinder, collaboratorRepository,
+            meterRegistry, 100, 60_000);
+    }
+
+    @Test
+    @DisplayName("같은 사용자/시뮬레이션의 반복 요청은 DB를 조회하지 않음")
+    void resolve_repeatedRequest_usesCache() {
+        when(collaboratorRepository.existsBySimulationAndUser(simulation, collaborator)).thenReturn(true);
+
+        Optional<SimulationUserPrincipal> first = resolver.resolve("collaborator", "sim", false);
+        Optional<SimulationUserPrincipal> second = resolver.resolve("collaborator", "sim", true);
+
+        assertTrue(first.isPresent());
+        assertSame(first.get(), second.get());
+        verify(userFinder, times(1)).findUserByPublicId("collaborator");
+        verify(simulationFinder, times(1)).findByPublicId("sim");
+        verify(collaboratorRepository, times(1)).existsBySimulationAndUser(simulation, collaborator);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "simulationAccess")
+            .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("evict 이후에는 바뀐 공유 상태를 다시 조회")
+    void evict_reloadsChangedShareState() {
+        when(collaboratorRepository.existsBySimulationAndUser(simulation, collaborator)).thenReturn(true);
+        assertTrue(resolver.resolve("collaborator", "sim", false).isPresent());
+
+        simulation = Simulation.builder().id(10L).publicId("sim").owner(owner)
+            .shareState(SimulationShareState.PRIVATE).build();
+        resolver.evict("sim");
+
+        assertTrue(resolver.resolve("collaborator", "sim", true).isEmpty());
+        assertTrue(resolver.resolve("owner", "sim", false).isPresent());
+        verify(simulationFinder, times(3)).findByPublicId("sim");
+    }
+
+    @Test
+    @DisplayName("READ 공유 시뮬레이션은 읽기 요청만 허용")
+    void resolve_readShare_allowsReadOnly() {
+        simulation = Simulation.builder().id(10L).publicId("sim").owner(owner)
+            .shareState(SimulationShareState.READ).build();
+
+        assertTrue(resolver.resolve("collaborator", "sim", true).isPresent());
+        assertTrue(resolver.resolve("collaborator", "sim", false).isEmpty());
+    }
+}
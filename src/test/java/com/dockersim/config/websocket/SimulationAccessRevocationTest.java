@@ -0,0 +1,100 @@
+package com.dockersim.config.websocket;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.controller.DockerCommandSocketController;
+import com.dockersim.domain.User;
+import com.dockersim.dto.request.CollaboratorRequest;
+import com.dockersim.dto.request.SimulationRequest;
+import com.dockersim.repository.UserRepository;
+import com.dockersim.service.simulation.SimulationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이미 연결된 WebSocket 세션도 협업자 제거 직후의 메시지부터 거부되는지 확인한다.
+ */
+@SpringBootTest
+class SimulationAccessRevocationTest {
+
+    @Autowired
+    private SimulationService simulationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SimulationChannelInterceptor interceptor;
+
+    @Autowired
+    private DockerCommandSocketController socketController;
+
+    private User owner;
+    private User collaborator;
+    private String simulationPublicId;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(user("owner"));
+        collaborator = userRepository.save(user("collaborator"));
+        simulationPublicId = simulationService.createSimulation(owner.getPublicId(),
+            new SimulationRequest("revoke-" + System.nanoTime(), "WRITE")).getSimulationPublicId();
+        simulationService.inviteCollaborator(simulationPublicId, owner.getPublicId(),
+            new CollaboratorRequest(collaborator.getEmail()));
+    }
+
+    @Test
+    @DisplayName("협업자에서 제거되면 같은 세션의 다음 SEND부터 거부")
+    void removeCollaborator_deniesNextSend() {
+        Map<String, Object> session = new HashMap<>();
+        Principal user = collaborator::getPublicId;
+        String destination = "/app/simulations/%s/command".formatted(simulationPublicId);
+
+        interceptor.preSend(message(StompCommand.SUBSCRIBE,
+            "/topic/simulations/%s/events".formatted(simulationPublicId), user, session), null);
+        interceptor.preSend(message(StompCommand.SEND, destination, user, session), null);
+        socketController.executeCommand(simulationPublicId, "docker ps", null, user);
+
+        simulationService.removeCollaborator(owner.getPublicId(), simulationPublicId, collaborator.getPublicId());
+
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SEND, destination, user, session), null));
+        assertThrows(AccessDeniedException.class,
+            () -> socketController.executeCommand(simulationPublicId, "docker ps", null, user));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message(StompCommand.SUBSCRIBE,
+            "/topic/simulations/%s/events".formatted(simulationPublicId), user, session), null));
+    }
+
+    private static User user(String name) {
+        return User.builder()
+            .publicId(IdGenerator.generatePublicId())
+            .name(name)
+            .email(name + "-" + System.nanoTime() + "@dockersim.com")
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+
+    private static Message<?> message(StompCommand command, String destination, Principal user,
+        Map<String, Object> session) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setSessionAttributes(session);
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,149 @@
+package com.dockersim.config.websocket;
+
+import com.dockersim.config.auth.SimulationAccessResolver;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+import com.dockersim.repository.SimulationCollaboratorRepository;
+import com.dockersim.service.simulation.SimulationFinder;
+import com.dockersim.service.user.UserFinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.security.Principal;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SimulationChannelInterceptorTest {
+
+    private final UserFinder userFinder = mock(UserFinder.class);
+    private final SimulationFinder simulationFinder = mock(SimulationFinder.class);
+    private final SimulationCollaboratorRepository collaboratorRepository = mock(SimulationCollaboratorRepository.class);
+
+    private final User owner = User.builder().id(1L).publicId("owner").build();
+    private final User collaborator = User.builder().id(2L).publicId("collaborator").build();
+    private Simulation simulation;
+
+    private SimulationAccessResolver resolver;
+    private SimulationChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        simulation = Simulation.builder().id(10L).publicId("sim").owner(owner)
+            .shareState(SimulationShareState.WRITE).build();
+        when(userFinder.findUserByPublicId("owner")).thenReturn(owner);
+        when(userFinder.findUserByPublicId("collaborator")).thenReturn(collaborator);
+        when(simulationFinder.findByPublicId("sim")).thenAnswer(invocation -> simulation);
+        when(collaboratorRepository.existsBySimulationAndUser(any(), eq(collaborator))).thenReturn(true);
+        resolver = spy(new SimulationAccessResolver(userFinder, simulationFinder, collaboratorRepository,
+            new SimpleMeterRegistry(), 100, 60_000));
+        interceptor = new SimulationChannelInterceptor(resolver);
+    }
+
+    @Test
+    @DisplayName("시뮬레이션 이벤트/콘솔 목적지 구독은 읽기 권한으로 허용")
+    void subscribe_simulationDestinations_allowed() {
+        Message<?> events = message(StompCommand.SUBSCRIBE, "/topic/simulations/sim/events", "collaborator");
+        Message<?> console = message(StompCommand.SUBSCRIBE, "/user/queue/simulations/sim/console", "collaborator");
+
+        assertSame(events, interceptor.preSend(events, null));
+        assertSame(console, interceptor.preSend(console, null));
+        verify(resolver, times(2)).resolve("collaborator", "sim", true);
+    }
+
+    @Test
+    @DisplayName("와일드카드 목적지 구독은 거부")
+    void subscribe_wildcard_denied() {
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/**", "owner"), null));
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/simulations/*/events", "owner"), null));
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/simulations/sim/event?", "owner"), null));
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/simulations/{id}/events", "owner"), null));
+        verifyNoInteractions(userFinder, simulationFinder);
+    }
+
+    @Test
+    @DisplayName("정해진 형태가 아닌 브로커 목적지 구독은 거부")
+    void subscribe_otherBrokerDestinations_denied() {
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/simulations", "owner"), null));
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/simulations/sim/other", "owner"), null));
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/queue/simulations/sim/console", "owner"), null));
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/user/queue/errors", "owner"), null));
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/user/owner/queue/simulations/sim/console", "collaborator"), null));
+    }
+
+    @Test
+    @DisplayName("권한이 없는 시뮬레이션 구독은 거부")
+    void subscribe_privateSimulation_denied() {
+        simulation = Simulation.builder().id(10L).publicId("sim").owner(owner)
+            .shareState(SimulationShareState.PRIVATE).build();
+
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/simulations/sim/events", "collaborator"), null));
+    }
+
+    @Test
+    @DisplayName("READ 공유 시뮬레이션에는 명령을 보낼 수 없음")
+    void send_readShare_denied() {
+        simulation = Simulation.builder().id(10L).publicId("sim").owner(owner)
+            .shareState(SimulationShareState.READ).build();
+
+        interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/simulations/sim/events", "collaborator"), null);
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SEND, "/app/simulations/sim/command", "collaborator"), null));
+    }
+
+    @Test
+    @DisplayName("명령 전송은 메시지마다 resolver로 쓰기 권한을 확인")
+    void send_resolvesEveryMessage() {
+        interceptor.preSend(message(StompCommand.SEND, "/app/simulations/sim/command", "collaborator"), null);
+        interceptor.preSend(message(StompCommand.SEND, "/app/simulations/sim/command", "collaborator"), null);
+
+        verify(resolver, times(2)).resolve("collaborator", "sim", false);
+    }
+
+    @Test
+    @DisplayName("브로커 목적지로 직접 보내는 메시지는 거부")
+    void send_brokerDestination_denied() {
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SEND, "/topic/simulations/sim/events", "owner"), null));
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SEND, "/app/simulations/*/command", "owner"), null));
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 세션은 거부")
+    void subscribe_anonymous_denied() {
+        assertThrows(AccessDeniedException.class,
+            () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/simulations/sim/events", null), null));
+    }
+
+    private static Message<?> message(StompCommand command, String destination, String userPublicId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setSessionAttributes(new HashMap<>());
+        if (userPublicId != null) {
+            Principal user = () -> userPublicId;
+            accessor.setUser(user);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
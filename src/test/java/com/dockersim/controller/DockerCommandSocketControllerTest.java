@@ -0,0 +1,172 @@
+package com.dockersim.controller;
+
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.config.auth.SimulationAccessResolver;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.User;
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.dto.response.CommandResultStatus;
+import com.dockersim.dto.response.CommandStreamFrame;
+import com.dockersim.dto.response.CommandStreamFrameType;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerContainerErrorCode;
+import com.dockersim.service.command.CommandConsole;
+import com.dockersim.service.command.CommandExecutorService;
+import com.dockersim.service.command.OptimisticConflictRetry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DockerCommandSocketControllerTest {
+
+    private static final String CONSOLE_DESTINATION = "/queue/simulations/sim/console";
+
+    private final CommandExecutorService commandExecutor = mock(CommandExecutorService.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimulationAccessResolver accessResolver = mock(SimulationAccessResolver.class);
+    private final Principal user = () -> "collaborator";
+
+    private final SimulationUserPrincipal principal = new SimulationUserPrincipal(
+        User.builder().id(2L).publicId("collaborator").build(),
+        Simulation.builder().id(10L).publicId("sim").build());
+
+    private DockerCommandSocketController controller;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        controller = new DockerCommandSocketController(commandExecutor, messagingTemplate, transactionManager,
+            new OptimisticConflictRetry(new SimpleMeterRegistry(), 3, 0), accessResolver);
+    }
+
+    @Test
+    @DisplayName("콘솔 출력을 한 줄씩 보낸 뒤 결과 프레임을 보냄")
+    void executeCommand_streamsConsoleThenResult() {
+        when(accessResolver.resolve("collaborator", "sim", false)).thenReturn(Optional.of(principal));
+        when(commandExecutor.execute("docker run nginx", principal)).thenReturn(CommandResult.builder()
+            .console(List.of("abc123", "started"))
+            .status(CommandResultStatus.CREATE)
+            .build());
+
+        controller.executeCommand("sim", "docker run nginx", "req-1", user);
+
+        List<CommandStreamFrame> frames = sentFrames(3);
+        assertEquals(List.of(CommandStreamFrameType.CONSOLE, CommandStreamFrameType.CONSOLE,
+            CommandStreamFrameType.RESULT), frames.stream().map(CommandStreamFrame::getType).toList());
+        assertEquals(List.of(0, 1, 2), frames.stream().map(CommandStreamFrame::getSequence).toList());
+        assertEquals("abc123", frames.get(0).getLine());
+        assertEquals(CommandResultStatus.CREATE, frames.get(2).getStatus());
+        assertTrue(frames.stream().allMatch(frame -> "req-1".equals(frame.getRequestId())));
+    }
+
+    @Test
+    @DisplayName("실행 중 CommandConsole로 내보낸 줄은 명령이 끝나기 전에 보내고, 결과에서는 나머지 줄만 보냄")
+    void executeCommand_streamsPrintedLinesWhileRunning() {
+        when(accessResolver.resolve("collaborator", "sim", false)).thenReturn(Optional.of(principal));
+        when(commandExecutor.execute("docker build -t web .", principal)).thenAnswer(invocation -> {
+            CommandConsole.print(List.of("Step 1/2 : FROM nginx", "Step 2/2 : COPY . /app"));
+            // 명령이 끝나기 전에 이미 전달됨
+            sentFrames(2);
+            return CommandResult.builder()
+                .console(List.of("header", "Step 1/2 : FROM nginx", "Step 2/2 : COPY . /app", "footer"))
+                .status(CommandResultStatus.CREATE)
+                .build();
+        });
+
+        controller.executeCommand("sim", "docker build -t web .", "req-1", user);
+
+        List<CommandStreamFrame> frames = sentFrames(5);
+        assertEquals(List.of("Step 1/2 : FROM nginx", "Step 2/2 : COPY . /app", "header", "footer"),
+            frames.subList(0, 4).stream().map(CommandStreamFrame::getLine).toList());
+        assertEquals(List.of(0, 1, 2, 3, 4), frames.stream().map(CommandStreamFrame::getSequence).toList());
+        assertEquals(CommandStreamFrameType.RESULT, frames.get(4).getType());
+    }
+
+    @Test
+    @DisplayName("충돌로 다시 실행해도 이미 보낸 줄은 다시 보내지 않음")
+    void executeCommand_retry_doesNotResendStreamedLines() {
+        when(accessResolver.resolve("collaborator", "sim", false)).thenReturn(Optional.of(principal));
+        AtomicInteger attempts = new AtomicInteger();
+        when(commandExecutor.execute("docker build -t web .", principal)).thenAnswer(invocation -> {
+            CommandConsole.print(List.of("Step 1/1 : FROM nginx"));
+            if (attempts.incrementAndGet() == 1) {
+                throw new ObjectOptimisticLockingFailureException("DockerImage", 1L);
+            }
+            return CommandResult.builder()
+                .console(List.of("Step 1/1 : FROM nginx"))
+                .status(CommandResultStatus.CREATE)
+                .build();
+        });
+
+        controller.executeCommand("sim", "docker build -t web .", null, user);
+
+        List<CommandStreamFrame> frames = sentFrames(2);
+        assertEquals(List.of(CommandStreamFrameType.CONSOLE, CommandStreamFrameType.RESULT),
+            frames.stream().map(CommandStreamFrame::getType).toList());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("명령 오류는 오류 프레임으로 전달")
+    void executeCommand_businessException_sendsErrorFrame() {
+        when(accessResolver.resolve("collaborator", "sim", false)).thenReturn(Optional.of(principal));
+        when(commandExecutor.execute("docker start web", principal))
+            .thenThrow(new BusinessException(DockerContainerErrorCode.NOT_FOUND_CONTAINER, "web"));
+
+        controller.executeCommand("sim", "docker start web", null, user);
+
+        CommandStreamFrame frame = sentFrames(1).get(0);
+        assertEquals(CommandStreamFrameType.ERROR, frame.getType());
+        assertEquals(DockerContainerErrorCode.NOT_FOUND_CONTAINER.getCode(), frame.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("쓰기 권한은 메시지마다 resolver로 다시 확인하고, 권한이 없으면 실행하지 않음")
+    void executeCommand_resolvesAccessEveryMessage() {
+        when(accessResolver.resolve("collaborator", "sim", false))
+            .thenReturn(Optional.of(principal))
+            .thenReturn(Optional.empty());
+        when(commandExecutor.execute("docker ps", principal)).thenReturn(CommandResult.builder()
+            .console(List.of())
+            .status(CommandResultStatus.READ)
+            .build());
+
+        controller.executeCommand("sim", "docker ps", null, user);
+        assertThrows(AccessDeniedException.class, () -> controller.executeCommand("sim", "docker ps", null, user));
+
+        verify(accessResolver, times(2)).resolve("collaborator", "sim", false);
+        verify(commandExecutor, times(1)).execute("docker ps", principal);
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 세션은 거부")
+    void executeCommand_anonymous_denied() {
+        assertThrows(AccessDeniedException.class, () -> controller.executeCommand("sim", "docker ps", null, null));
+        verifyNoInteractions(accessResolver, commandExecutor);
+    }
+
+    private List<CommandStreamFrame> sentFrames(int count) {
+        ArgumentCaptor<CommandStreamFrame> captor = ArgumentCaptor.forClass(CommandStreamFrame.class);
+        verify(messagingTemplate, times(count))
+            .convertAndSendToUser(eq("collaborator"), eq(CONSOLE_DESTINATION), captor.capture());
+        return captor.getAllValues();
+    }
+}
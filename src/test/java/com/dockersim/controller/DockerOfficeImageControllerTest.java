@@ -0,0 +1,108 @@
+package com.dockersim.controller;
+
+import com.dockersim.service.image.DockerOfficeImageService;
+import com.dockersim.service.image.OfficeImageCatalog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class DockerOfficeImageControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DockerOfficeImageService officeImageService;
+
+    @Autowired
+    private OfficeImageCatalog catalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 적재가 커밋되면 카탈로그 스냅샷이 교체된다.
+        officeImageService.loadAllFromJson();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM docker_images WHERE simulation_id IS NULL AND location = 'HUB'");
+        jdbcTemplate.update("DELETE FROM docker_office_images");
+        catalog.refresh();
+    }
+
+    @Test
+    @DisplayName("전체 목록은 ETag와 함께 응답하고, If-None-Match가 같으면 304")
+    void getAllImages_supportsEtag() throws Exception {
+        String etag = mockMvc.perform(get("/api/officeimage/list"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(catalog.getAll().size()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotNull(etag);
+        mockMvc.perform(get("/api/officeimage/list").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("이름 검색은 스냅샷에서 응답하고, 없는 이름은 OFFICE_IMAGE_NOT_FOUND")
+    void findByName_servesFromSnapshot() throws Exception {
+        mockMvc.perform(get("/api/officeimage/search").param("name", "ubuntu"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.data[0].name").value("ubuntu"));
+
+        mockMvc.perform(get("/api/officeimage/search").param("name", "no-such-image"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("D011"));
+    }
+
+    @Test
+    @DisplayName("자동완성은 이름 일치를 먼저, 오타와 name:tag 검색도 지원")
+    void autocomplete_ranksAndToleratesTypos() throws Exception {
+        mockMvc.perform(get("/api/officeimage/autocomplete").param("q", "ubuntu").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("ubuntu"))
+                .andExpect(jsonPath("$.data[0].matchType").value("EXACT"));
+
+        mockMvc.perform(get("/api/officeimage/autocomplete").param("q", "ubnutu"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("ubuntu"))
+                .andExpect(jsonPath("$.data[0].matchType").value("FUZZY"));
+
+        mockMvc.perform(get("/api/officeimage/autocomplete").param("q", "ubuntu:2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("ubuntu"))
+                .andExpect(jsonPath("$.data[0].matchedTags[0]").value(startsWith("2")));
+    }
+
+    @Test
+    @DisplayName("미리 직렬화해 내려주는 목록 응답도 OpenAPI 문서에 본문 스키마가 있음")
+    void renderedEndpoints_documentResponseSchema() throws Exception {
+        String schema = "#/components/schemas/OfficeImageListResponse";
+        String okSchema = ".get.responses['200'].content['application/json'].schema['$ref']";
+        mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paths['/api/officeimage/list']" + okSchema).value(schema))
+                .andExpect(jsonPath("$.paths['/api/officeimage/search']" + okSchema).value(schema))
+                .andExpect(jsonPath("$.components.schemas.OfficeImageListResponse.properties.data.items['$ref']")
+                        .value("#/components/schemas/DockerOfficeImageResponse"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.dockersim.parser;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DockerCommandParserImplTest {
+
+    private final DockerCommandParserImpl parser = new DockerCommandParserImpl(new SimpleMeterRegistry(), 16);
+
+    @Test
+    @DisplayName("공백, 따옴표, 이스케이프 처리")
+    void tokenize_handlesQuotesAndEscapes() {
+        assertEquals(List.of("docker", "run", "-e", "MSG=hello world", "it's", "a\"b", "ab"),
+                parser.tokenize("  docker run\t-e \"MSG=hello world\" it\\'s 'a\"b' a\"\"b  "));
+        assertEquals(List.of("docker", "ps"), parser.tokenize("docker '' ps"));
+        assertEquals(List.of("docker", "trailing\\"), parser.tokenize("docker trailing\\"));
+    }
+
+    @Test
+    @DisplayName("작은따옴표 안의 \\는 그대로, 큰따옴표 안에서는 \\\"와 \\\\만 이스케이프")
+    void tokenize_keepsBackslashesInsideQuotes() {
+        assertEquals(List.of("docker", "ps", "--format", "table {{.ID}}\\t{{.Names}}", "a\"b\\n"),
+                parser.tokenize("docker ps --format 'table {{.ID}}\\t{{.Names}}' \"a\\\"b\\n\""));
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 따옴표와 빈 명령어는 예외")
+    void tokenize_rejectsInvalidInput() {
+        BusinessException unclosed = assertThrows(BusinessException.class,
+                () -> parser.tokenize("docker run \"oops"));
+        assertEquals(DockerCommandErrorCode.FAILED_PARSE_DOCKER_COMMAND, unclosed.getErrorCode());
+
+        BusinessException blank = assertThrows(BusinessException.class, () -> parser.parseArguments("   "));
+        assertEquals(DockerCommandErrorCode.INVALID_DOCKER_COMMAND, blank.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("캐시된 인자 배열은 복사본으로 반환")
+    void parseArguments_returnsDefensiveCopy() {
+        String[] first = parser.parseArguments("docker network connect my-net my-container");
+        first[0] = "changed";
+
+        assertArrayEquals(new String[]{"network", "connect", "my-net", "my-container"},
+                parser.parseArguments("docker network connect my-net my-container"));
+        assertEquals(0, parser.parseArguments("docker").length);
+    }
+}
@@ -0,0 +1,100 @@
+package com.dockersim.service.command;
+
+import com.dockersim.dto.request.CommandBatchMode;
+import com.dockersim.dto.request.CommandBatchRequest;
+import com.dockersim.dto.response.CommandBatchItemResult;
+import com.dockersim.dto.response.CommandBatchItemStatus;
+import com.dockersim.dto.response.CommandBatchResult;
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+import com.dockersim.exception.code.DockerContainerErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CommandBatchServiceImplTest {
+
+    // "docker stop missing"만 실패하는 실행기
+    private final CommandExecutorService executor = (rawCommand, principal) -> {
+        if (rawCommand.endsWith("missing")) {
+            throw new BusinessException(DockerContainerErrorCode.NOT_FOUND_CONTAINER, "missing");
+        }
+        return CommandResult.builder().console(List.of(rawCommand)).build();
+    };
+
+    private final List<String> commands = List.of("docker ps", "docker stop missing", "docker images");
+
+    @Test
+    @DisplayName("STOP_ON_ERROR: 첫 오류에서 중단하고 남은 명령은 건너뛰며 트랜잭션을 롤백")
+    void execute_stopOnError_rollsBack() {
+        List<SimpleTransactionStatus> transactions = new ArrayList<>();
+        CommandBatchServiceImpl service = new CommandBatchServiceImpl(executor, transactionManager(transactions), 10);
+
+        CommandBatchResult result = service.execute(
+                new CommandBatchRequest(commands, null, CommandBatchMode.STOP_ON_ERROR), null);
+
+        assertTrue(result.isRolledBack());
+        assertEquals(List.of(CommandBatchItemStatus.SUCCESS, CommandBatchItemStatus.FAILED,
+                        CommandBatchItemStatus.SKIPPED),
+                result.getResults().stream().map(CommandBatchItemResult::getStatus).toList());
+        assertEquals(DockerContainerErrorCode.NOT_FOUND_CONTAINER.getCode(), result.getResults().get(1).getErrorCode());
+        // 배치 전체가 하나의 트랜잭션
+        assertEquals(1, transactions.size());
+        assertTrue(transactions.get(0).isRollbackOnly());
+    }
+
+    @Test
+    @DisplayName("CONTINUE_ON_ERROR: 실패한 명령만 롤백하고 나머지는 명령별로 커밋")
+    void execute_continueOnError_runsAll() {
+        List<SimpleTransactionStatus> transactions = new ArrayList<>();
+        CommandBatchServiceImpl service = new CommandBatchServiceImpl(executor, transactionManager(transactions), 10);
+
+        CommandBatchResult result = service.execute(
+                new CommandBatchRequest(commands, null, CommandBatchMode.CONTINUE_ON_ERROR), null);
+
+        assertFalse(result.isRolledBack());
+        assertEquals(2, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        // 명령마다 별도 트랜잭션, 실패한 명령만 롤백
+        assertEquals(List.of(false, true, false),
+                transactions.stream().map(SimpleTransactionStatus::isRollbackOnly).toList());
+    }
+
+    @Test
+    @DisplayName("스크립트의 빈 줄과 주석은 무시하고, '\\'로 끝나는 줄은 이어 붙임")
+    void resolveCommands_script() {
+        CommandBatchRequest request = new CommandBatchRequest(null,
+                "# 준비\ndocker pull nginx\n\ndocker create \\\n  --name web nginx\n", CommandBatchMode.STOP_ON_ERROR);
+
+        assertEquals(List.of("docker pull nginx", "docker create --name web nginx"), request.resolveCommands());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘는 배치는 TOO_MANY_COMMANDS_IN_BATCH 예외")
+    void execute_tooManyCommands_throwsBusinessException() {
+        CommandBatchServiceImpl service = new CommandBatchServiceImpl(executor, transactionManager(new ArrayList<>()), 2);
+
+        BusinessException ex = assertThrows(BusinessException.class, () -> service.execute(
+                new CommandBatchRequest(commands, null, CommandBatchMode.STOP_ON_ERROR), null));
+        assertEquals(DockerCommandErrorCode.TOO_MANY_COMMANDS_IN_BATCH, ex.getErrorCode());
+    }
+
+    private PlatformTransactionManager transactionManager(List<SimpleTransactionStatus> transactions) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            SimpleTransactionStatus status = new SimpleTransactionStatus();
+            transactions.add(status);
+            return status;
+        });
+        return transactionManager;
+    }
+}
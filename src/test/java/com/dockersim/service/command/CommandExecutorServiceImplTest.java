@@ -2,9 +2,9 @@ package com.dockersim.service.command;
 
 import com.dockersim.exception.BusinessException;
 import com.dockersim.exception.code.DockerCommandErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import picocli.CommandLine;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -14,9 +14,10 @@ class CommandExecutorServiceImplTest {
     @DisplayName("null 입력 시 INVALID_DOCKER_COMMAND 예외")
     void execute_nullCommand_throwsBusinessException() {
         // given: dependencies are not needed because method exits early for invalid input
-        CommandLine.IFactory factory = null;
+        CommandLinePool pool = new CommandLinePool(null, 1);
         com.dockersim.parser.DockerCommandParser parser = null;
-        CommandExecutorServiceImpl service = new CommandExecutorServiceImpl(factory, parser);
+        CommandExecutorServiceImpl service = new CommandExecutorServiceImpl(pool, parser, null,
+                new CommandMetrics(new SimpleMeterRegistry(), 20, 5), null, null, null);
 
         // when + then
         BusinessException ex = assertThrows(BusinessException.class,
@@ -28,13 +29,30 @@ class CommandExecutorServiceImplTest {
     @DisplayName("docker로 시작하지 않는 입력 시 INVALID_DOCKER_COMMAND 예외")
     void execute_nonDockerCommand_throwsBusinessException() {
         // given
-        CommandLine.IFactory factory = null;
+        CommandLinePool pool = new CommandLinePool(null, 1);
         com.dockersim.parser.DockerCommandParser parser = null;
-        CommandExecutorServiceImpl service = new CommandExecutorServiceImpl(factory, parser);
+        CommandExecutorServiceImpl service = new CommandExecutorServiceImpl(pool, parser, null,
+                new CommandMetrics(new SimpleMeterRegistry(), 20, 5), null, null, null);
 
         // when + then
         BusinessException ex = assertThrows(BusinessException.class,
                 () -> service.execute("echo hello", null));
         assertEquals(DockerCommandErrorCode.INVALID_DOCKER_COMMAND, ex.getErrorCode());
     }
+
+    @Test
+    @DisplayName("실패한 명령은 오류 코드별로 집계")
+    void execute_invalidCommand_recordsErrorMetric() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CommandExecutorServiceImpl service = new CommandExecutorServiceImpl(
+                new CommandLinePool(null, 1), null, null, new CommandMetrics(registry, 20, 5), null, null, null);
+
+        assertThrows(BusinessException.class, () -> service.execute("echo hello", null));
+
+        assertEquals(1.0, registry.get("dockersim.command.errors")
+                .tag("command", "unknown")
+                .tag("code", DockerCommandErrorCode.INVALID_DOCKER_COMMAND.getCode())
+                .counter().count());
+        assertEquals(1L, registry.get("dockersim.command").tag("outcome", "error").timer().count());
+    }
 }
@@ -0,0 +1,84 @@
+package com.dockersim.service.command;
+
+import com.dockersim.command.DockerCommand;
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import picocli.CommandLine;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CommandLinePoolTest {
+
+    @Autowired
+    private CommandLine.IFactory factory;
+
+    @Test
+    @DisplayName("유휴 인스턴스가 없으면 기다리지 않고 새로 만들며, 반납 시 maxIdle을 넘는 인스턴스는 버림")
+    void borrow_exhausted_createsNewInstanceWithoutBlocking() {
+        CommandLinePool pool = new CommandLinePool(factory, 1);
+        CommandLinePool.Lease first = pool.borrow(null);
+
+        CommandLinePool.Lease second = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> pool.borrow(null));
+
+        assertNotSame(first.getCommandLine(), second.getCommandLine());
+        first.close();
+        second.close();
+        assertEquals(1, pool.idleCount());
+
+        try (CommandLinePool.Lease reused = pool.borrow(null)) {
+            assertSame(first.getCommandLine(), reused.getCommandLine());
+            assertEquals(0, pool.idleCount());
+        }
+    }
+
+    @Test
+    @DisplayName("다시 빌려온 인스턴스는 이전 실행의 출력과 예외를 갖지 않음")
+    void borrow_reusedLease_resetsOutputAndException() {
+        CommandLinePool pool = new CommandLinePool(factory, 1);
+
+        try (CommandLinePool.Lease lease = pool.borrow(null)) {
+            // principal 없이 실행하면 명령 내부에서 예외가 발생한다.
+            lease.getCommandLine().execute("ps");
+            lease.getCommandLine().execute("unknown-command");
+            assertNotNull(lease.getExecutionException());
+            assertTrue(lease.getExecutionNanos() >= 0);
+            assertFalse(lease.getOutput().isEmpty());
+        }
+
+        try (CommandLinePool.Lease lease = pool.borrow(null)) {
+            assertNull(lease.getExecutionException());
+            assertEquals(-1, lease.getExecutionNanos());
+            assertEquals("", lease.getOutput());
+        }
+    }
+
+    @Test
+    @DisplayName("반납하면 principal을 비우고, 다음 임대에는 새 principal을 설정")
+    void close_clearsPrincipal() {
+        CommandLinePool pool = new CommandLinePool(factory, 1);
+        SimulationUserPrincipal principal = new SimulationUserPrincipal(
+                User.builder().name("owner").build(), Simulation.builder().title("sim").build());
+        SimulationUserPrincipal next = new SimulationUserPrincipal(
+                User.builder().name("next").build(), Simulation.builder().title("sim").build());
+
+        CommandLinePool.Lease lease = pool.borrow(principal);
+        DockerCommand root = lease.getCommandLine().getCommand();
+        assertSame(principal, root.getPrincipal());
+
+        lease.close();
+        assertNull(root.getPrincipal());
+
+        try (CommandLinePool.Lease reused = pool.borrow(next)) {
+            assertSame(root, reused.getCommandLine().getCommand());
+            assertSame(next, root.getPrincipal());
+        }
+    }
+}
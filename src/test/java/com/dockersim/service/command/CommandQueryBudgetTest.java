@@ -0,0 +1,188 @@
+package com.dockersim.service.command;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.config.metrics.QueryCountInspector;
+import com.dockersim.config.metrics.QueryScope;
+import com.dockersim.domain.ContainerNetwork;
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.DockerNetwork;
+import com.dockersim.domain.DockerVolume;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * COMMAND_SUPPORT_POLICY.md에서 지원하는 명령(구현된 것)마다 실행되는 SQL 수를 검증한다.
+ * <p>
+ * 컨테이너 수가 다른 두 시뮬레이션에서 같은 명령을 실행해 SQL 수가 컨테이너 수에 따라 늘지 않는지(N+1)와,
+ * 명령별 예산을 넘지 않는지 확인한다. 각 명령은 OSIV 요청처럼 새 영속성 컨텍스트(트랜잭션)에서 실행한다.
+ * 예산은 현재 SQL 수이므로, 조회를 줄였다면 함께 낮춰서 다시 늘어나지 않도록 한다.
+ */
+@SpringBootTest
+class CommandQueryBudgetTest {
+
+    private static final int SMALL = 3;
+    private static final int LARGE = 12;
+
+    @Autowired
+    private CommandExecutorService executor;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    static Stream<Arguments> commands() {
+        return Stream.of(
+                // 컨테이너 라이프사이클
+                Arguments.of("docker ps -a", 1),
+                Arguments.of("docker container ls", 1),
+                Arguments.of("docker ps --filter status=exited --filter name=container", 1),
+                Arguments.of("docker ps -a --filter ancestor=image-1:latest --format '{{.ID}}\t{{.Names}}'", 1),
+                Arguments.of("docker ps -a --limit 2 --after container-0", 1),
+                Arguments.of("docker ps -n 2", 1),
+                Arguments.of("docker start container-1", 7),
+                Arguments.of("docker stop container-0", 7),
+                Arguments.of("docker restart container-0", 7),
+                Arguments.of("docker rm detached", 7),
+                // 모니터링 & 디버깅
+                Arguments.of("docker container inspect container-1", 6),
+                // 이미지
+                Arguments.of("docker images", 1),
+                Arguments.of("docker images --filter dangling=false --filter reference=image-* --limit 5", 1),
+                Arguments.of("docker rmi orphan-image", 5),
+                // 볼륨
+                Arguments.of("docker volume create new-volume", 3),
+                Arguments.of("docker volume ls", 1),
+                Arguments.of("docker volume ls --filter dangling=true --format 'table {{.Name}}'", 1),
+                Arguments.of("docker volume inspect bench-volume", 3),
+                Arguments.of("docker volume rm bench-volume", 4),
+                // 네트워크
+                Arguments.of("docker network create new-network", 3),
+                Arguments.of("docker network ls", 1),
+                Arguments.of("docker network ls --filter dangling=false --after bench-network", 1),
+                Arguments.of("docker network inspect bench-network", 6),
+                Arguments.of("docker network rm unused-network", 7)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("commands")
+    void commandStaysWithinQueryBudget(String command, int budget) {
+        int small = countStatements(seed(SMALL), command);
+        int large = countStatements(seed(LARGE), command);
+
+        assertEquals(small, large, () -> String.format(
+                "[%s] 컨테이너 %d개: SQL %d건, %d개: SQL %d건 (N+1 의심)", command, SMALL, small, LARGE, large));
+        assertTrue(large <= budget, () -> String.format("[%s] SQL %d건, 예산 %d건", command, large, budget));
+    }
+
+    private int countStatements(SimulationUserPrincipal principal, String command) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            try (QueryScope scope = QueryCountInspector.openScope()) {
+                executor.execute(command, principal);
+                entityManager.flush();
+                return scope.count();
+            }
+        });
+    }
+
+    /**
+     * 컨테이너마다 서로 다른 이미지를 쓰는 시뮬레이션을 만든다.
+     * 짝수 번째 컨테이너는 RUNNING이고, 모든 컨테이너는 bench-network에 연결된다.
+     * 네트워크에 연결되지 않은 EXITED 컨테이너(detached)와 사용하지 않는 이미지(orphan-image), 네트워크, 볼륨을 하나씩 더 둔다.
+     */
+    private SimulationUserPrincipal seed(int containerCount) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            User user = User.builder()
+                    .publicId(IdGenerator.generatePublicId())
+                    .name("budget")
+                    .email("budget-" + System.nanoTime() + "@dockersim.com")
+                    .createdAt(now)
+                    .build();
+            entityManager.persist(user);
+
+            Simulation simulation = Simulation.builder()
+                    .publicId(IdGenerator.generatePublicId())
+                    .title("budget")
+                    .shareState(SimulationShareState.PRIVATE)
+                    .owner(user)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            entityManager.persist(simulation);
+
+            DockerNetwork network = persistNetwork(simulation, "bench-network", now);
+            persistNetwork(simulation, "unused-network", now);
+            entityManager.persist(DockerVolume.from("bench-volume", false, simulation));
+            persistImage(simulation, "orphan-image", now);
+            DockerImage detachedImage = persistImage(simulation, "detached-image", now);
+            entityManager.persist(DockerContainer.from("detached", detachedImage, simulation));
+
+            List<DockerImage> images = new ArrayList<>();
+            for (int i = 0; i < containerCount; i++) {
+                images.add(persistImage(simulation, "image-" + i, now));
+            }
+            for (int i = 0; i < containerCount; i++) {
+                DockerContainer container = DockerContainer.from("container-" + i, images.get(i), simulation);
+                if (i % 2 == 0) {
+                    container.start();
+                }
+                entityManager.persist(container);
+                entityManager.persist(new ContainerNetwork(container, network));
+            }
+            return new SimulationUserPrincipal(user, simulation);
+        });
+    }
+
+    private DockerNetwork persistNetwork(Simulation simulation, String name, LocalDateTime now) {
+        String hexId = IdGenerator.generateHexFullId();
+        DockerNetwork network = DockerNetwork.builder()
+                .hexId(hexId)
+                .shortHexId(IdGenerator.getShortId(hexId))
+                .name(name)
+                .simulation(simulation)
+                .createdAt(now)
+                .containerNetworks(new ArrayList<>())
+                .build();
+        entityManager.persist(network);
+        return network;
+    }
+
+    private DockerImage persistImage(Simulation simulation, String name, LocalDateTime now) {
+        String hexId = IdGenerator.generateHexFullId();
+        DockerImage image = DockerImage.builder()
+                .hexId(hexId)
+                .shortHexId(IdGenerator.getShortId(hexId))
+                .namespace("library")
+                .name(name)
+                .tag("latest")
+                .location(ImageLocation.LOCAL)
+                .layers(List.of("sha256:" + hexId))
+                .createdAt(now)
+                .simulation(simulation)
+                .build();
+        entityManager.persist(image);
+        return image;
+    }
+}
@@ -0,0 +1,70 @@
+package com.dockersim.service.command;
+
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.User;
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.dto.response.CommandResultStatus;
+import com.dockersim.dto.response.SimulationEventMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CommandResultBroadcasterTest {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final CommandResultBroadcaster broadcaster = new CommandResultBroadcaster(messagingTemplate);
+
+    private final SimulationUserPrincipal principal = new SimulationUserPrincipal(
+        User.builder().id(2L).publicId("collaborator").build(),
+        Simulation.builder().id(10L).publicId("sim").build());
+
+    @Test
+    @DisplayName("상태를 바꾼 명령은 시뮬레이션 이벤트 토픽으로 전달")
+    void onCommandExecuted_broadcastsStateChange() {
+        broadcaster.onCommandExecuted(new CommandExecutedEvent(principal, "docker run nginx", result(CommandResultStatus.CREATE)));
+
+        ArgumentCaptor<SimulationEventMessage> captor = ArgumentCaptor.forClass(SimulationEventMessage.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/simulations/sim/events"), captor.capture());
+        SimulationEventMessage message = captor.getValue();
+        assertEquals("sim", message.getSimulationPublicId());
+        assertEquals("collaborator", message.getActorPublicId());
+        assertEquals("docker run nginx", message.getCommand());
+        assertEquals(CommandResultStatus.CREATE, message.getStatus());
+    }
+
+    @Test
+    @DisplayName("조회 명령이나 상태가 없는 결과는 전달하지 않음")
+    void onCommandExecuted_skipsReadAndEmptyResults() {
+        broadcaster.onCommandExecuted(new CommandExecutedEvent(principal, "docker ps", result(CommandResultStatus.READ)));
+        broadcaster.onCommandExecuted(new CommandExecutedEvent(principal, "docker --help", result(null)));
+        broadcaster.onCommandExecuted(new CommandExecutedEvent(principal, "docker ps", null));
+        broadcaster.onCommandExecuted(new CommandExecutedEvent(null, "docker rm web", result(CommandResultStatus.DELETE)));
+
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("전달 실패는 예외로 전파하지 않음")
+    void onCommandExecuted_swallowsDeliveryFailure() {
+        doThrow(new MessageDeliveryException("broker down"))
+            .when(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+
+        assertDoesNotThrow(() -> broadcaster.onCommandExecuted(
+            new CommandExecutedEvent(principal, "docker rm web", result(CommandResultStatus.DELETE))));
+    }
+
+    private static CommandResult result(CommandResultStatus status) {
+        return CommandResult.builder().console(List.of()).status(status).build();
+    }
+}
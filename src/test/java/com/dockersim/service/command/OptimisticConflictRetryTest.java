@@ -0,0 +1,83 @@
+package com.dockersim.service.command;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+import com.dockersim.exception.code.DockerContainerErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimisticConflictRetryTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final OptimisticConflictRetry retry = new OptimisticConflictRetry(registry, 3, 0);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("충돌하면 다시 실행하고, 성공하면 결과를 반환")
+    void execute_retriesConflicts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retry.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw conflict();
+            }
+            return "started";
+        });
+
+        assertEquals("started", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, registry.get("dockersim.command.conflict.retries").counter().count());
+    }
+
+    @Test
+    @DisplayName("최대 횟수까지 충돌하면 CONCURRENT_MODIFICATION, 다른 예외는 재시도하지 않음")
+    void execute_givesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        BusinessException exhausted = assertThrows(BusinessException.class, () -> retry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new RuntimeException("picocli", conflict());
+        }));
+        assertEquals(DockerCommandErrorCode.CONCURRENT_MODIFICATION, exhausted.getErrorCode());
+        assertEquals(3, attempts.get());
+
+        attempts.set(0);
+        BusinessException notFound = assertThrows(BusinessException.class, () -> retry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new BusinessException(DockerContainerErrorCode.NOT_FOUND_CONTAINER, "web");
+        }));
+        assertEquals(DockerContainerErrorCode.NOT_FOUND_CONTAINER, notFound.getErrorCode());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 재시도하지 않고 충돌을 CONCURRENT_MODIFICATION으로 변환")
+    void execute_insideTransaction_translatesWithoutRetry() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        AtomicInteger attempts = new AtomicInteger();
+
+        BusinessException e = assertThrows(BusinessException.class, () -> retry.execute(() -> {
+            attempts.incrementAndGet();
+            throw conflict();
+        }));
+
+        assertEquals(DockerCommandErrorCode.CONCURRENT_MODIFICATION, e.getErrorCode());
+        assertEquals(1, attempts.get());
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException("DockerContainer", 1L);
+    }
+}
@@ -0,0 +1,107 @@
+package com.dockersim.service.command;
+
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerCommandErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationCommandLanesTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 시뮬레이션의 명령은 한 번에 하나씩 실행")
+    void execute_sameSimulation_runsOneAtATime() throws Exception {
+        SimulationCommandLanes lanes = new SimulationCommandLanes(new SimpleMeterRegistry(), 16, 5000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[8];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = CompletableFuture.runAsync(() -> lanes.execute(1L, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                return running.decrementAndGet();
+            }), executor);
+        }
+        CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("다른 시뮬레이션의 명령은 서로 기다리지 않음")
+    void execute_differentSimulations_runInParallel() throws Exception {
+        SimulationCommandLanes lanes = new SimulationCommandLanes(new SimpleMeterRegistry(), 16, 5000);
+        CountDownLatch bothEntered = new CountDownLatch(2);
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(
+                () -> lanes.execute(1L, () -> await(bothEntered)), executor);
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(
+                () -> lanes.execute(2L, () -> await(bothEntered)), executor);
+
+        assertTrue(first.get(10, TimeUnit.SECONDS));
+        assertTrue(second.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 완료될 때까지 락을 유지하고, 기다리다 시간이 지나면 SIMULATION_COMMAND_BUSY")
+    void execute_insideTransaction_holdsLaneUntilCompletion() throws Exception {
+        SimulationCommandLanes lanes = new SimulationCommandLanes(new SimpleMeterRegistry(), 16, 50);
+        TransactionSynchronizationManager.initSynchronization();
+
+        lanes.execute(1L, () -> lanes.execute(1L, () -> "reentrant"));
+        assertTrue(lanes.isHeldByCurrentThread(1L));
+
+        CompletionException blocked = assertThrows(CompletionException.class, () -> CompletableFuture
+                .supplyAsync(() -> lanes.execute(1L, () -> "blocked"), executor)
+                .join());
+        assertEquals(DockerCommandErrorCode.SIMULATION_COMMAND_BUSY,
+                ((BusinessException) blocked.getCause()).getErrorCode());
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        assertFalse(lanes.isHeldByCurrentThread(1L));
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.dockersim.service.container;
+
+import com.dockersim.common.InspectRenderer;
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.Simulation;
+import com.dockersim.dto.response.DockerContainerResponse;
+import com.dockersim.repository.DockerContainerRepository;
+import com.dockersim.service.image.DockerImageFinder;
+import com.dockersim.service.simulation.SimulationFinder;
+import com.dockersim.service.simulation.hot.HotSimulationEngine;
+import com.dockersim.service.user.UserFinder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DockerContainerServiceImplTest {
+
+    @Test
+    @DisplayName("restart는 컨테이너를 한 번 조회해 중지와 시작을 모두 적용하고 한 번만 저장")
+    void restart_isSingleLoadTransitionSave() {
+        Simulation simulation = mock(Simulation.class);
+        DockerImage image = DockerImage.builder().name("nginx").layers(List.of("sha256:a")).build();
+        DockerContainer container = DockerContainer.from("web", image, simulation);
+        container.start();
+
+        SimulationUserPrincipal principal = mock(SimulationUserPrincipal.class);
+        when(principal.getSimulationId()).thenReturn(1L);
+        SimulationFinder simulationFinder = mock(SimulationFinder.class);
+        when(simulationFinder.findById(1L)).thenReturn(simulation);
+        DockerContainerFinder containerFinder = mock(DockerContainerFinder.class);
+        when(containerFinder.findBySimulationAndIdentifierAndStatus(simulation, "web", ContainerStatus.RUNNING))
+                .thenReturn(container);
+        HotSimulationEngine hotSimulationEngine = mock(HotSimulationEngine.class);
+        DockerContainerRepository repo = mock(DockerContainerRepository.class);
+
+        DockerContainerServiceImpl service = new DockerContainerServiceImpl(
+                simulationFinder, mock(DockerImageFinder.class), containerFinder, mock(UserFinder.class),
+                hotSimulationEngine, mock(InspectRenderer.class), repo);
+
+        List<DockerContainerResponse> responses = service.restart(principal, "web");
+
+        assertEquals(List.of(ContainerStatus.EXITED, ContainerStatus.RUNNING),
+                responses.stream().map(DockerContainerResponse::getStatus).toList());
+        assertEquals(List.of("[Stop Container]: " + container.getShortHexId()), responses.get(0).getConsole());
+        assertEquals(ContainerStatus.RUNNING, container.getStatus());
+        // 충돌로 다시 실행돼도 RUNNING 컨테이너 한 건만 찾으므로 NOT_FOUND_CONTAINER가 나지 않는다
+        verify(containerFinder, times(1)).findBySimulationAndIdentifierAndStatus(any(), eq("web"), any());
+        verify(repo, times(1)).save(container);
+    }
+}
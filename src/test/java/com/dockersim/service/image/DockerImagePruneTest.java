@@ -0,0 +1,156 @@
+package com.dockersim.service.image;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.service.command.CommandExecutorService;
+import com.dockersim.service.image.layer.DockerLayerStore;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class DockerImagePruneTest {
+
+    @Autowired
+    private CommandExecutorService executor;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimulationUserPrincipal principal;
+    private String shared;
+    private String danglingOnly;
+    private String usedDangling;
+    private String unusedTagged;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트끼리 같은 DB를 쓰므로 레이어 내용을 매번 다르게 만든다.
+        shared = "FROM alpine:" + System.nanoTime();
+        danglingOnly = "RUN make dangling " + System.nanoTime();
+        principal = new TransactionTemplate(transactionManager).execute(status -> seed());
+    }
+
+    @Test
+    @DisplayName("prune은 컨테이너가 쓰지 않는 댕글링 이미지만 한 번에 지우고 레이어 참조와 확보한 크기를 반영")
+    void prune_deletesUnusedDanglingImages() {
+        assertEquals(5, referenceCount(shared));
+
+        CommandResult result = execute("docker image prune");
+
+        assertEquals(2, result.getChangedImages().size());
+        assertEquals("Deleted Images:", result.getConsole().get(0));
+        // 두 댕글링 이미지만 쓰던 레이어가 지워지므로 그 크기만큼 확보한다.
+        assertEquals("Total reclaimed space: " + danglingOnly.length() + "B",
+                result.getConsole().get(result.getConsole().size() - 1));
+        assertEquals(List.of(usedDangling, unusedTagged, "used"), localImageNames());
+        assertEquals(3, referenceCount(shared));
+        assertNull(referenceCount(danglingOnly));
+
+        // 지운 이미지는 ID 접두사 색인에서도 빠진다.
+        String deleted = result.getChangedImages().get(0).getShortHexId();
+        assertThrows(BusinessException.class, () -> execute("docker rmi " + deleted));
+
+        assertEquals(List.of("삭제할 이미지가 없습니다."), execute("docker image prune").getConsole());
+    }
+
+    @Test
+    @DisplayName("prune -a는 태그가 있어도 컨테이너가 쓰지 않는 이미지를 모두 지움")
+    void pruneAll_keepsOnlyImagesUsedByContainers() {
+        CommandResult result = execute("docker image prune -a");
+
+        assertEquals(3, result.getChangedImages().size());
+        assertEquals(List.of(usedDangling, "used"), localImageNames());
+        assertEquals(2, referenceCount(shared));
+    }
+
+    private CommandResult execute(String command) {
+        return new TransactionTemplate(transactionManager).execute(
+                status -> executor.execute(command, principal));
+    }
+
+    private List<String> localImageNames() {
+        return jdbcTemplate.queryForList("SELECT CASE WHEN name = '<none>' THEN short_hex_id ELSE name END"
+                        + " FROM docker_images WHERE simulation_id = ? AND location = 'LOCAL' ORDER BY id",
+                String.class, principal.getSimulationId());
+    }
+
+    private Long referenceCount(String content) {
+        return jdbcTemplate.query("SELECT reference_count FROM docker_layers WHERE digest = ?",
+                rs -> rs.next() ? rs.getLong(1) : null, DockerLayerStore.digest(content));
+    }
+
+    private SimulationUserPrincipal seed() {
+        LocalDateTime now = LocalDateTime.now();
+        User user = User.builder()
+                .publicId(IdGenerator.generatePublicId())
+                .name("prune")
+                .email("prune-" + System.nanoTime() + "@dockersim.com")
+                .createdAt(now)
+                .build();
+        entityManager.persist(user);
+
+        Simulation simulation = Simulation.builder()
+                .publicId(IdGenerator.generatePublicId())
+                .title("prune-" + System.nanoTime())
+                .shareState(SimulationShareState.PRIVATE)
+                .owner(user)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        entityManager.persist(simulation);
+
+        persistImage(simulation, "<none>", List.of(shared, danglingOnly));
+        persistImage(simulation, "<none>", List.of(shared, danglingOnly));
+        DockerImage used = persistImage(simulation, "<none>", List.of(shared));
+        usedDangling = used.getShortHexId();
+        unusedTagged = persistImage(simulation, "unused", List.of(shared)).getName();
+        DockerImage tagged = persistImage(simulation, "used", List.of(shared));
+
+        entityManager.persist(DockerContainer.from("dangling-user", used, simulation));
+        entityManager.persist(DockerContainer.from("tagged-user", tagged, simulation));
+        return new SimulationUserPrincipal(user, simulation);
+    }
+
+    private DockerImage persistImage(Simulation simulation, String name, List<String> layers) {
+        String hexId = IdGenerator.generateHexFullId();
+        DockerImage image = DockerImage.builder()
+                .hexId(hexId)
+                .shortHexId(IdGenerator.getShortId(hexId))
+                .namespace(name.equals("<none>") ? "<none>" : "library")
+                .name(name)
+                .tag(name.equals("<none>") ? "<none>" : "latest")
+                .location(ImageLocation.LOCAL)
+                .layers(layers)
+                .createdAt(LocalDateTime.now())
+                .simulation(simulation)
+                .build();
+        entityManager.persist(image);
+        return image;
+    }
+}
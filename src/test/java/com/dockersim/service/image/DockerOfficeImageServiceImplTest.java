@@ -0,0 +1,61 @@
+package com.dockersim.service.image;
+
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.repository.DockerImageRepository;
+import com.dockersim.repository.DockerOfficeImageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class DockerOfficeImageServiceImplTest {
+
+    @Autowired
+    private DockerOfficeImageService officeImageService;
+
+    @Autowired
+    private DockerOfficeImageRepository officeImageRepository;
+
+    @Autowired
+    private DockerImageRepository imageRepository;
+
+    @Test
+    @DisplayName("카탈로그를 다시 적재해도 이미 저장된 항목은 추가되지 않음")
+    void loadAllFromJson_isIdempotent() {
+        officeImageService.loadAllFromJson();
+        long officeImages = officeImageRepository.count();
+        long hubImages = imageRepository.findAll().stream()
+                .filter(image -> image.getLocation() == ImageLocation.HUB)
+                .count();
+
+        officeImageService.loadAllFromJson();
+
+        assertTrue(officeImages > 0);
+        assertEquals(officeImages, hubImages);
+        assertEquals(officeImages, officeImageRepository.count());
+        assertTrue(officeImageRepository.findByNameAndTag("ubuntu", "latest").isPresent()
+                || !officeImageRepository.findAllByName("ubuntu").isEmpty());
+    }
+
+    @Test
+    @DisplayName("JDBC로 추가한 허브 이미지도 낙관적 락 버전이 0으로 시작")
+    void loadAllFromJson_initializesVersion() {
+        officeImageService.loadAllFromJson();
+
+        List<Long> versions = imageRepository.findAll().stream()
+                .filter(image -> image.getLocation() == ImageLocation.HUB)
+                .map(DockerImage::getVersion)
+                .toList();
+
+        assertFalse(versions.isEmpty());
+        assertTrue(versions.stream().allMatch(version -> version != null && version == 0L));
+    }
+}
@@ -0,0 +1,342 @@
+package com.dockersim.service.image.build;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.domain.DockerFile;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerImageErrorCode;
+import com.dockersim.repository.BuildCacheEntryRepository;
+import com.dockersim.repository.BuildCacheUsage;
+import com.dockersim.service.command.CommandConsole;
+import com.dockersim.service.command.CommandExecutorService;
+import com.dockersim.service.image.DockerImageFinder;
+import com.dockersim.service.image.build.DockerImageBuilder.BuildResult;
+import com.dockersim.service.image.layer.DockerLayerStore;
+import com.dockersim.util.DisplayUnits;
+import com.dockersim.util.ImageUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class DockerImageBuilderTest {
+
+    private static final String DOCKERFILE = """
+            # 주석과 빈 줄은 건너뛴다
+            FROM nginx:latest
+
+            RUN apt-get update && \\
+                apt-get install -y curl
+            COPY . /app
+            ENV MODE=prod
+            CMD ["nginx", "-g", "daemon off;"]
+            """;
+
+    private static final String MULTI_STAGE = """
+            FROM golang:1.22 AS build
+            RUN go build -o /out/app
+            FROM node:20 AS assets
+            RUN npm ci
+            RUN npm run build
+            FROM build AS test
+            RUN go test ./...
+            FROM nginx:latest
+            COPY --from=assets /dist /usr/share/nginx/html
+            COPY --from=0 /out/app /usr/bin/app
+            """;
+
+    @Autowired
+    private CommandExecutorService executor;
+
+    @Autowired
+    private BuildCacheEntryRepository cacheRepository;
+
+    @Autowired
+    private DockerImageBuilder builder;
+
+    @Autowired
+    private BuildCacheService buildCacheService;
+
+    @Autowired
+    private DockerImageFinder dockerImageFinder;
+
+    @Autowired
+    private DockerLayerStore layerStore;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimulationUserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        principal = new TransactionTemplate(transactionManager).execute(status -> seed());
+    }
+
+    @Test
+    @DisplayName("바뀌지 않은 Dockerfile을 다시 빌드하면 모든 단계가 캐시되고 같은 이미지가 유지됨")
+    void rebuild_usesCacheForEveryStep() {
+        List<String> first = build("docker build -t app:1 ./v1");
+        assertFalse(first.contains(" ---> Using cache"));
+        assertTrue(first.contains("Step 2/5 : RUN apt-get update && apt-get install -y curl"));
+        assertTrue(first.stream().anyMatch(line -> line.startsWith(" ---> Running in ")));
+        String imageId = localImages().get(0).getHexId();
+
+        List<String> second = build("docker build -t app:1 ./v1");
+
+        assertEquals(4, second.stream().filter(" ---> Using cache"::equals).count());
+        assertFalse(second.stream().anyMatch(line -> line.startsWith(" ---> Running in ")));
+        assertTrue(second.contains("Successfully built " + imageId.substring(0, 12)));
+        assertEquals(1, localImages().size());
+        assertEquals(List.of("FROM nginx:latest", "RUN apt-get update && apt-get install -y curl", "COPY . /app",
+                "ENV MODE=prod", "CMD [\"nginx\", \"-g\", \"daemon off;\"]"), localImages().get(0).getLayers());
+
+        // --no-cache는 모든 단계를 다시 실행하지만 결과는 같다.
+        List<String> noCache = build("docker build --no-cache -t app:1 ./v1");
+        assertFalse(noCache.contains(" ---> Using cache"));
+        assertEquals(imageId, localImages().get(0).getHexId());
+    }
+
+    @Test
+    @DisplayName("명령 하나가 바뀌면 그 앞은 캐시를 쓰고 그 뒤는 다시 빌드하며, 되돌리면 댕글링 이미지에 태그가 돌아옴")
+    void changedStep_rebuildsFromThatStep() {
+        build("docker build -t app:1 ./v1");
+        String v1 = localImages().get(0).getHexId();
+
+        List<String> console = build("docker build -t app:1 ./v2");
+
+        assertEquals(List.of(" ---> Using cache", " ---> Using cache"),
+                console.stream().filter(" ---> Using cache"::equals).toList());
+        assertTrue(console.indexOf("Step 4/5 : ENV MODE=dev") > console.lastIndexOf(" ---> Using cache"));
+        List<DockerImage> images = localImages();
+        assertEquals(2, images.size());
+        assertEquals("<none>", images.stream().filter(image -> image.getHexId().equals(v1)).findFirst()
+                .orElseThrow().getName());
+
+        build("docker build -t app:1 ./v1");
+
+        images = localImages();
+        assertEquals(2, images.size());
+        DockerImage tagged = images.stream().filter(image -> image.getTag().equals("1")).findFirst().orElseThrow();
+        assertEquals(v1, tagged.getHexId());
+    }
+
+    @Test
+    @DisplayName("Dockerfile 형식 오류는 줄 번호와 함께 INVALID_DOCKERFILE")
+    void parse_rejectsInvalidDockerfile() {
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> DockerfileParser.parse("RUN echo hi\nFROM nginx"));
+        assertEquals(DockerImageErrorCode.INVALID_DOCKERFILE, e.getErrorCode());
+        assertTrue(e.getMessage().contains("1번째 줄"));
+
+        e = assertThrows(BusinessException.class, () -> DockerfileParser.parse("FROM nginx\n\nRUNN echo hi"));
+        assertTrue(e.getMessage().contains("3번째 줄"));
+
+        ParsedDockerfile parsed = DockerfileParser.parse("ARG VERSION=1\nfrom golang AS Build\nrun go build\n"
+                + "FROM alpine\nCOPY --from=build /out /app");
+        assertEquals(1, parsed.globalArgs().size());
+        assertEquals("build", parsed.stages().get(0).name());
+        assertEquals("alpine", parsed.target().baseImage());
+        assertEquals(4, parsed.stepCount());
+        assertEquals(List.of(0), parsed.target().dependencies());
+
+        parsed = DockerfileParser.parse(MULTI_STAGE);
+        assertEquals(List.of(), parsed.stages().get(1).dependencies());
+        assertEquals(List.of(0), parsed.stages().get(2).dependencies());
+        assertEquals(List.of(0, 1), parsed.target().dependencies());
+
+        e = assertThrows(BusinessException.class,
+                () -> DockerfileParser.parse("FROM alpine\nCOPY --from=1 /a /b\nFROM alpine"));
+        assertTrue(e.getMessage().contains("2번째 줄"));
+    }
+
+    @Test
+    @DisplayName("여러 단계 빌드는 의존 순서대로 같은 결과를 내고, COPY --from 대상 단계가 바뀌면 결과 이미지도 바뀜")
+    void multiStage_buildsInDependencyOrder() {
+        BuildResult first = build(builder, MULTI_STAGE, true);
+        BuildResult second = build(builder, MULTI_STAGE, true);
+
+        assertEquals(first.imageId(), second.imageId());
+        assertEquals(withoutContainerIds(first.console()), withoutContainerIds(second.console()));
+        assertTrue(second.console().contains("[assets] Step 5/10 : RUN npm run build"));
+        assertTrue(second.console().contains("[stage-3] Step 8/10 : FROM nginx:latest"));
+        assertEquals(List.of("FROM nginx:latest", "COPY --from=assets /dist /usr/share/nginx/html",
+                "COPY --from=0 /out/app /usr/bin/app"), second.layers());
+
+        BuildResult cached = build(builder, MULTI_STAGE, false);
+        assertEquals(6, cached.cachedSteps());
+
+        // 마지막 단계의 명령은 그대로지만 복사해 오는 단계가 바뀌었으므로 COPY부터 다시 빌드한다.
+        BuildResult changed = build(builder, MULTI_STAGE.replace("npm run build", "npm run build:prod"), false);
+        assertNotEquals(first.imageId(), changed.imageId());
+        assertEquals(3, changed.cachedSteps());
+    }
+
+    @Test
+    @DisplayName("빌드 출력은 단계가 끝나는 대로 CommandConsole로 내보내며, 내보낸 줄은 결과 출력과 같음")
+    void build_printsStageOutputAsItCompletes() {
+        List<String> printed = new ArrayList<>();
+        BuildResult result;
+        try (CommandConsole.Scope scope = CommandConsole.open(printed::add)) {
+            result = build(builder, MULTI_STAGE, true);
+        }
+
+        assertEquals(result.console(), printed);
+        assertTrue(printed.indexOf("[assets] Step 5/10 : RUN npm run build")
+                < printed.indexOf("[stage-3] Step 8/10 : FROM nginx:latest"));
+    }
+
+    @Test
+    @DisplayName("빌드 캐시가 한도를 넘으면 오래 쓰지 않은 항목부터 지우고, builder du/prune으로 조회/삭제")
+    void buildCache_evictsLeastRecentlyUsedOverBudget() {
+        build("docker build -t app:1 ./v1");
+        build("docker build -t app:1 ./v2");
+
+        List<String> du = build("docker builder du");
+        assertEquals("ID", du.get(0).substring(0, 2));
+        // v1 4개 + v2에서 새로 만든 ENV, CMD 2개
+        assertTrue(du.get(du.size() - 2).endsWith("(6 entries)"));
+        assertTrue(du.get(1).contains("CMD [\"nginx\", \"-g\", \"daemon off;\"]"));
+
+        // 한도 1MB: v1의 RUN(1MB 이상)부터 지우고, 가장 최근에 쓴 v2의 단계는 남는다.
+        BuildCacheService smallBudget = new BuildCacheServiceImpl(cacheRepository, new SimpleMeterRegistry(), "1MB",
+                1000);
+        int evicted = new TransactionTemplate(transactionManager)
+                .execute(status -> smallBudget.evictOverBudget(principal.getSimulationId()));
+        assertTrue(evicted > 0);
+        BuildCacheUsage usage = cacheRepository.usage(principal.getSimulationId());
+        assertTrue(usage.size() <= 1_000_000);
+        assertEquals(6 - evicted, usage.entries());
+
+        List<String> rebuilt = build("docker build -t app:1 ./v2");
+        assertTrue(rebuilt.stream().anyMatch(line -> line.startsWith(" ---> Running in ")));
+
+        List<String> pruned = build("docker buildx prune");
+        assertEquals("Deleted build cache objects:", pruned.get(0));
+        assertTrue(pruned.get(pruned.size() - 1).startsWith("Total reclaimed space: "));
+        assertEquals(0, cacheRepository.usage(principal.getSimulationId()).entries());
+    }
+
+    @Test
+    @DisplayName("크기 표기와 해석은 10진 단위")
+    void displayUnits_size() {
+        assertEquals("512B", DisplayUnits.formatSize(512));
+        assertEquals("1.235MB", DisplayUnits.formatSize(1_234_567));
+        assertEquals("1GB", DisplayUnits.formatSize(1_000_000_000));
+        assertEquals(1_500_000, DisplayUnits.parseSize("1.5mb"));
+        assertEquals(2048, DisplayUnits.parseSize("2048"));
+        BusinessException e = assertThrows(BusinessException.class, () -> DisplayUnits.parseSize("lots"));
+        assertEquals(DockerImageErrorCode.INVALID_SIZE, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("서로 의존하지 않는 단계는 풀에서 동시에 빌드해도 순차 빌드와 결과가 같음")
+    void multiStage_parallelMatchesSequential() {
+        DockerImageBuilder sequential = new DockerImageBuilder(cacheRepository, buildCacheService,
+                dockerImageFinder, new SimpleMeterRegistry(), 1, 0);
+        DockerImageBuilder parallel = new DockerImageBuilder(cacheRepository, buildCacheService,
+                dockerImageFinder, new SimpleMeterRegistry(), 4, 0);
+        try {
+            BuildResult first = build(sequential, MULTI_STAGE, true);
+            BuildResult second = build(parallel, MULTI_STAGE, true);
+
+            assertEquals(first.imageId(), second.imageId());
+            assertEquals(withoutContainerIds(first.console()), withoutContainerIds(second.console()));
+            assertEquals(first.layers(), second.layers());
+            assertEquals(6, build(parallel, MULTI_STAGE, false).cachedSteps());
+        } finally {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("단계가 한 줄로 이어지면 동시에 빌드할 단계가 없음")
+    void hasIndependentStages_onlyWhenStagesCanOverlap() {
+        assertTrue(DockerImageBuilder.hasIndependentStages(DockerfileParser.parse(MULTI_STAGE).stages()));
+        assertFalse(DockerImageBuilder.hasIndependentStages(DockerfileParser.parse(DOCKERFILE).stages()));
+        assertFalse(DockerImageBuilder.hasIndependentStages(DockerfileParser.parse("""
+                FROM golang:1.22 AS build
+                RUN go build -o /out/app
+                FROM build AS test
+                RUN go test ./...
+                FROM nginx:latest
+                COPY --from=test /out/app /usr/bin/app
+                """).stages()));
+    }
+
+    private BuildResult build(DockerImageBuilder builder, String content, boolean noCache) {
+        return new TransactionTemplate(transactionManager).execute(status -> builder.build(
+                entityManager.find(Simulation.class, principal.getSimulationId()), content,
+                ImageUtil.parserFullName("web:1"), noCache));
+    }
+
+    private static List<String> withoutContainerIds(List<String> console) {
+        return console.stream().filter(line -> !line.contains("Running in ") && !line.contains("intermediate"))
+                .toList();
+    }
+
+    private List<String> build(String command) {
+        return new TransactionTemplate(transactionManager).execute(
+                status -> executor.execute(command, principal).getConsole());
+    }
+
+    private List<DockerImage> localImages() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            List<DockerImage> images = entityManager.createQuery(
+                            "SELECT i FROM DockerImage i WHERE i.simulation.id = :simulationId AND i.location = :location"
+                                    + " ORDER BY i.id", DockerImage.class)
+                    .setParameter("simulationId", principal.getSimulationId())
+                    .setParameter("location", ImageLocation.LOCAL)
+                    .getResultList();
+            layerStore.fillLayers(images);
+            return images;
+        });
+    }
+
+    private SimulationUserPrincipal seed() {
+        LocalDateTime now = LocalDateTime.now();
+        User user = User.builder()
+                .publicId(IdGenerator.generatePublicId())
+                .name("builder")
+                .email("builder-" + System.nanoTime() + "@dockersim.com")
+                .createdAt(now)
+                .build();
+        entityManager.persist(user);
+
+        Simulation simulation = Simulation.builder()
+                .publicId(IdGenerator.generatePublicId())
+                .title("build-" + System.nanoTime())
+                .shareState(SimulationShareState.PRIVATE)
+                .owner(user)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        entityManager.persist(simulation);
+
+        entityManager.persist(DockerFile.builder().name("v1").path("./v1").content(DOCKERFILE).user(user).build());
+        entityManager.persist(DockerFile.builder().name("v2").path("./v2")
+                .content(DOCKERFILE.replace("MODE=prod", "MODE=dev")).user(user).build());
+        return new SimulationUserPrincipal(user, simulation);
+    }
+}
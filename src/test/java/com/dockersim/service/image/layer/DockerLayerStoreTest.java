@@ -0,0 +1,207 @@
+package com.dockersim.service.image.layer;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+import com.dockersim.dto.request.SimulationRequest;
+import com.dockersim.dto.response.SimulationResponse;
+import com.dockersim.service.simulation.SimulationService;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshotCodec;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class DockerLayerStoreTest {
+
+    @Autowired
+    private SimulationService simulationService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DockerLayerStore layerStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private String base;
+    private String step;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트끼리 같은 DB를 쓰므로 레이어 내용을 매번 다르게 만든다.
+        base = "FROM ubuntu:" + System.nanoTime();
+        step = "RUN apt-get install -y curl " + System.nanoTime();
+        user = inTransaction(() -> {
+            User created = User.builder()
+                    .publicId(IdGenerator.generatePublicId())
+                    .name("layer")
+                    .email("layer-" + System.nanoTime() + "@dockersim.com")
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            entityManager.persist(created);
+            return created;
+        });
+    }
+
+    @Test
+    @DisplayName("같은 내용의 레이어는 한 행을 공유하고, 참조 수는 이미지 생성/삭제에 맞춰 바뀜")
+    void sameLayers_areStoredOnce() {
+        Simulation first = inTransaction(this::createSimulation);
+        Simulation second = inTransaction(this::createSimulation);
+        Long firstImage = inTransaction(() -> persistImage(first, List.of(base, step)));
+        Long secondImage = inTransaction(() -> persistImage(second, List.of(base, step, base)));
+
+        assertEquals(3, referenceCount(base));
+        assertEquals(2, referenceCount(step));
+        inTransaction(() -> {
+            DockerImage image = entityManager.find(DockerImage.class, secondImage);
+            layerStore.fillLayers(List.of(image));
+            assertEquals(List.of(base, step, base), image.getLayers());
+            assertEquals(image.getLayerIds().get(0), image.getLayerIds().get(2));
+            return null;
+        });
+
+        inTransaction(() -> {
+            entityManager.remove(entityManager.find(DockerImage.class, secondImage));
+            return null;
+        });
+        assertEquals(1, referenceCount(base));
+        assertEquals(1, referenceCount(step));
+
+        inTransaction(() -> {
+            entityManager.remove(entityManager.find(DockerImage.class, firstImage));
+            return null;
+        });
+        assertNull(referenceCount(base));
+        assertNull(referenceCount(step));
+    }
+
+    @Test
+    @DisplayName("push 복사본은 원본의 레이어 ID를 그대로 공유")
+    void copiedImage_sharesLayerIds() {
+        Simulation simulation = inTransaction(this::createSimulation);
+        Long local = inTransaction(() -> persistImage(simulation, List.of(base, step)));
+
+        Long hub = inTransaction(() -> {
+            DockerImage copy = DockerImage.from(entityManager.find(DockerImage.class, local), ImageLocation.HUB);
+            entityManager.persist(copy);
+            return copy.getId();
+        });
+
+        assertEquals(2, referenceCount(base));
+        inTransaction(() -> {
+            DockerImage copy = entityManager.find(DockerImage.class, hub);
+            assertEquals(entityManager.find(DockerImage.class, local).getLayerIds(), copy.getLayerIds());
+            layerStore.fillLayers(List.of(copy));
+            assertEquals(List.of(base, step), copy.getLayers());
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("이미지를 읽기만 해서는 레이어를 조회하지 않고, fillLayers가 여러 이미지의 레이어를 한 번에 채움")
+    void fillLayers_resolvesLoadedImagesInBulk() {
+        Simulation simulation = inTransaction(this::createSimulation);
+        Long firstImage = inTransaction(() -> persistImage(simulation, List.of(base, step)));
+        Long secondImage = inTransaction(() -> persistImage(simulation, List.of(step)));
+
+        inTransaction(() -> {
+            DockerImage first = entityManager.find(DockerImage.class, firstImage);
+            DockerImage second = entityManager.find(DockerImage.class, secondImage);
+            assertNull(first.getLayers());
+            assertNull(second.getLayers());
+
+            layerStore.fillLayers(Arrays.asList(first, second, first, null));
+
+            assertEquals(List.of(base, step), first.getLayers());
+            assertEquals(List.of(step), second.getLayers());
+            return null;
+        });
+    }
+
+    @Test
+    @DisplayName("포크/복원/삭제는 JDBC 경로에서도 레이어 내용을 옮기고 참조 수를 맞춤")
+    void snapshotPaths_keepReferenceCounts() {
+        Simulation simulation = inTransaction(this::createSimulation);
+        inTransaction(() -> persistImage(simulation, List.of(base, step)));
+
+        SimulationResponse fork = simulationService.forkSimulation(user.getPublicId(), simulation.getPublicId(),
+                new SimulationRequest("layer-fork-" + System.nanoTime(), "PRIVATE"));
+        assertEquals(2, referenceCount(base));
+        SimulationSnapshot forked = SimulationSnapshotCodec.decode(
+                simulationService.exportSnapshot(user.getPublicId(), fork.getSimulationPublicId()));
+        assertEquals(base + "\n" + step, forked.images().get(0).layers());
+
+        // 같은 상태로 복원하면 지운 이미지의 참조를 놓고 새 이미지의 참조를 잡는다.
+        simulationService.restoreSnapshot(user.getPublicId(), fork.getSimulationPublicId(),
+                SimulationSnapshotCodec.encode(forked));
+        assertEquals(2, referenceCount(base));
+
+        simulationService.deleteSimulation(user.getPublicId(), fork.getSimulationPublicId());
+        assertEquals(1, referenceCount(step));
+    }
+
+    private Long referenceCount(String content) {
+        return jdbcTemplate.query("SELECT reference_count FROM docker_layers WHERE digest = ?",
+                rs -> rs.next() ? rs.getLong(1) : null, DockerLayerStore.digest(content));
+    }
+
+    private Simulation createSimulation() {
+        LocalDateTime now = LocalDateTime.now();
+        Simulation simulation = Simulation.builder()
+                .publicId(IdGenerator.generatePublicId())
+                .title("layer-" + System.nanoTime())
+                .shareState(SimulationShareState.PRIVATE)
+                .owner(entityManager.find(User.class, user.getId()))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        entityManager.persist(simulation);
+        return simulation;
+    }
+
+    private Long persistImage(Simulation simulation, List<String> layers) {
+        String hexId = IdGenerator.generateHexFullId();
+        DockerImage image = DockerImage.builder()
+                .hexId(hexId)
+                .shortHexId(IdGenerator.getShortId(hexId))
+                .namespace("library")
+                .name("app")
+                .tag("latest")
+                .location(ImageLocation.LOCAL)
+                .layers(layers)
+                .createdAt(LocalDateTime.now())
+                .simulation(entityManager.find(Simulation.class, simulation.getId()))
+                .build();
+        entityManager.persist(image);
+        return image.getId();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+}
@@ -0,0 +1,235 @@
+package com.dockersim.service.simulation.hot;
+
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.SimulationErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class HotSimulationEngineTest {
+
+    private static final Long SIMULATION_ID = 1L;
+
+    private final HotSimulationStore store = mock(HotSimulationStore.class);
+    private final HotSimulationEngine engine = new HotSimulationEngine(store, true, 300_000, 100);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("처음 접근할 때만 적재하고 이후에는 메모리 그래프를 사용")
+    void access_loadsOnce() {
+        when(store.load(SIMULATION_ID)).thenAnswer(invocation -> graph());
+
+        HotSimulation first = engine.access(SIMULATION_ID, hot -> hot);
+        HotSimulation second = engine.access(SIMULATION_ID, hot -> hot);
+
+        assertSame(first, second);
+        assertEquals(1, engine.activeCount());
+        verify(store, times(1)).load(SIMULATION_ID);
+    }
+
+    @Test
+    @DisplayName("같은 시뮬레이션에 동시에 접근해도 적재는 한 번만 수행")
+    void access_concurrentFirstAccess_loadsOnce() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        when(store.load(SIMULATION_ID)).thenAnswer(invocation -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return graph();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<HotSimulation> first = executor.submit(() -> engine.access(SIMULATION_ID, hot -> hot));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<HotSimulation> second = executor.submit(() -> engine.access(SIMULATION_ID, hot -> hot));
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("적재 중인 시뮬레이션이 있어도 다른 시뮬레이션 접근은 기다리지 않음")
+    void access_slowLoad_doesNotBlockOtherSimulations() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(store.load(SIMULATION_ID)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return graph();
+        });
+        when(store.load(2L)).thenAnswer(invocation -> graph(2L));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<HotSimulation> slow = executor.submit(() -> engine.access(SIMULATION_ID, hot -> hot));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            assertEquals(2L, engine.access(2L, HotSimulation::getSimulationId));
+            assertFalse(slow.isDone());
+
+            release.countDown();
+            assertEquals(SIMULATION_ID, slow.get(5, TimeUnit.SECONDS).getSimulationId());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("적재에 실패하면 다음 접근에서 다시 적재")
+    void access_loadFailure_retriesNextAccess() {
+        when(store.load(SIMULATION_ID))
+            .thenThrow(new BusinessException(SimulationErrorCode.SIMULATION_NOT_FOUND, SIMULATION_ID))
+            .thenAnswer(invocation -> graph());
+
+        assertThrows(BusinessException.class, () -> engine.access(SIMULATION_ID, hot -> hot));
+        assertEquals(0, engine.activeCount());
+        assertNotNull(engine.access(SIMULATION_ID, hot -> hot));
+        verify(store, times(2)).load(SIMULATION_ID);
+    }
+
+    @Test
+    @DisplayName("flush는 변경분만 반영하고 그래프는 유지")
+    void flush_writesChangesAndKeepsGraph() {
+        when(store.load(SIMULATION_ID)).thenAnswer(invocation -> graph());
+        startContainer();
+
+        engine.flush(SIMULATION_ID);
+
+        List<ContainerStateChange> changes = writtenChanges(1);
+        assertEquals(1, changes.size());
+        assertEquals(10L, changes.get(0).getContainerId());
+        assertEquals(ContainerStatus.RUNNING, changes.get(0).getStatus());
+
+        engine.flush(SIMULATION_ID);
+        writtenChanges(1);
+        engine.access(SIMULATION_ID, hot -> hot);
+        verify(store, times(1)).load(SIMULATION_ID);
+    }
+
+    @Test
+    @DisplayName("invalidate는 변경분을 반영한 뒤 그래프를 내리고, 다음 접근 시 다시 적재")
+    void invalidate_writesAndEvicts() {
+        when(store.load(SIMULATION_ID)).thenAnswer(invocation -> graph());
+        HotSimulation before = startContainer();
+
+        engine.invalidate(SIMULATION_ID);
+
+        writtenChanges(1);
+        assertEquals(0, engine.activeCount());
+        assertTrue(before.isEvicted());
+        assertNotSame(before, engine.access(SIMULATION_ID, hot -> hot));
+        verify(store, times(2)).load(SIMULATION_ID);
+    }
+
+    @Test
+    @DisplayName("오래 사용하지 않은 그래프는 변경분을 반영하고 내림")
+    void evictIdle_invalidatesIdleGraphs() {
+        HotSimulationEngine idleEngine = new HotSimulationEngine(store, true, -1, 100);
+        when(store.load(SIMULATION_ID)).thenAnswer(invocation -> graph());
+        idleEngine.access(SIMULATION_ID, hot -> {
+            DockerContainer container = hot.findContainers(true).get(0);
+            container.start();
+            hot.markDirty(container);
+            return hot;
+        });
+
+        idleEngine.evictIdle();
+
+        writtenChanges(1);
+        assertEquals(0, idleEngine.activeCount());
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 변경분을 반영하지 않고 그래프를 버림")
+    void access_rollback_discardsGraph() {
+        when(store.load(SIMULATION_ID)).thenAnswer(invocation -> graph());
+        TransactionSynchronizationManager.initSynchronization();
+        HotSimulation before = startContainer();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertTrue(before.isEvicted());
+        assertEquals(0, engine.activeCount());
+        engine.flush(SIMULATION_ID);
+        verify(store, never()).writeContainerStates(anyList(), anyInt());
+        assertEquals(ContainerStatus.CREATED, engine.access(SIMULATION_ID,
+            hot -> hot.findContainers(true).get(0).getStatus()));
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 invalidate/flush는 아무 동작도 하지 않음")
+    void disabled_skipsFlushAndInvalidate() {
+        HotSimulationEngine disabled = new HotSimulationEngine(store, false, 300_000, 100);
+
+        disabled.flush(SIMULATION_ID);
+        disabled.invalidate(SIMULATION_ID);
+        disabled.flush();
+
+        verifyNoInteractions(store);
+    }
+
+    private HotSimulation startContainer() {
+        return engine.access(SIMULATION_ID, hot -> {
+            DockerContainer container = hot.findContainers(true).get(0);
+            container.start();
+            hot.markDirty(container);
+            return hot;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ContainerStateChange> writtenChanges(int times) {
+        ArgumentCaptor<List<ContainerStateChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(store, times(times)).writeContainerStates(captor.capture(), eq(100));
+        return captor.getValue();
+    }
+
+    private static HotSimulation graph() {
+        return graph(SIMULATION_ID);
+    }
+
+    private static HotSimulation graph(Long simulationId) {
+        DockerContainer container = DockerContainer.builder()
+            .id(10L)
+            .name("web")
+            .hexId("3f4e5d" + "0".repeat(58))
+            .status(ContainerStatus.CREATED)
+            .build();
+        return new HotSimulation(simulationId, List.of(container), List.of(), List.of(), List.of());
+    }
+}
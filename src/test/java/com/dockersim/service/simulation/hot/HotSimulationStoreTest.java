@@ -0,0 +1,128 @@
+package com.dockersim.service.simulation.hot;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class HotSimulationStoreTest {
+
+    @Autowired
+    private HotSimulationStore store;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Long simulationId;
+    private Long containerId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> seed());
+    }
+
+    @Test
+    @DisplayName("적재한 그래프는 영속성 컨텍스트에서 분리된 상태")
+    void load_detachesEntities() {
+        HotSimulation hot = transaction.execute(status -> {
+            HotSimulation loaded = store.load(simulationId);
+            assertFalse(entityManager.contains(loaded.findContainers(true).get(0)));
+            return loaded;
+        });
+
+        DockerContainer container = hot.findContainers(true).get(0);
+        assertEquals(containerId, container.getId());
+        assertEquals("nginx", container.getBaseImage().getName());
+    }
+
+    @Test
+    @DisplayName("상태 반영 시 낙관적 락 버전을 올려, 이전 버전을 읽은 JPA 쓰기가 충돌하도록 함")
+    void writeContainerStates_bumpsVersion() {
+        DockerContainer stale = transaction.execute(status -> entityManager.find(DockerContainer.class, containerId));
+        Long versionBefore = stale.getVersion();
+
+        HotSimulation hot = store.load(simulationId);
+        DockerContainer container = hot.findContainers(true).get(0);
+        container.start();
+        store.writeContainerStates(List.of(ContainerStateChange.from(container)), 100);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT status, version FROM docker_containers WHERE id = ?", containerId);
+        assertEquals(ContainerStatus.RUNNING.name(), row.get("status"));
+        assertEquals(versionBefore + 1, ((Number) row.get("version")).longValue());
+
+        stale.stop();
+        assertThrows(OptimisticLockException.class,
+            () -> transaction.executeWithoutResult(status -> entityManager.merge(stale)));
+    }
+
+    private void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        User user = User.builder()
+            .publicId(IdGenerator.generatePublicId())
+            .name("hot")
+            .email("hot-" + System.nanoTime() + "@dockersim.com")
+            .createdAt(now)
+            .build();
+        entityManager.persist(user);
+
+        Simulation simulation = Simulation.builder()
+            .publicId(IdGenerator.generatePublicId())
+            .title("hot-" + System.nanoTime())
+            .shareState(SimulationShareState.PRIVATE)
+            .owner(user)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+        entityManager.persist(simulation);
+
+        String hexId = IdGenerator.generateHexFullId();
+        DockerImage image = DockerImage.builder()
+            .hexId(hexId)
+            .shortHexId(IdGenerator.getShortId(hexId))
+            .namespace("library")
+            .name("nginx")
+            .tag("latest")
+            .location(ImageLocation.LOCAL)
+            .layers(List.of("sha256:" + hexId))
+            .createdAt(now)
+            .simulation(simulation)
+            .build();
+        entityManager.persist(image);
+
+        DockerContainer container = DockerContainer.from("web", image, simulation);
+        entityManager.persist(container);
+
+        simulationId = simulation.getId();
+        containerId = container.getId();
+    }
+}
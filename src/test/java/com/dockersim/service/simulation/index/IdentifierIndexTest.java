@@ -0,0 +1,89 @@
+package com.dockersim.service.simulation.index;
+
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.DockerContainerErrorCode;
+import com.dockersim.service.simulation.hot.HotSimulation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentifierIndexTest {
+
+    private static final String WEB_HEX = "3f4e5d" + "0".repeat(58);
+    private static final String DB_HEX = "3f4a11" + "1".repeat(58);
+
+    @Test
+    @DisplayName("이름, 전체 ID, 유일한 접두사로 찾고, 여러 개와 일치하는 접두사는 AMBIGUOUS")
+    void resolve_nameOrPrefix() {
+        IdentifierIndex index = new IdentifierIndex();
+        index.put(1L, "web", WEB_HEX);
+        index.put(2L, "db", DB_HEX);
+
+        assertEquals(1L, index.resolve("web"));
+        assertEquals(2L, index.resolve(DB_HEX));
+        assertEquals(1L, index.resolve("3f4e"));
+        assertEquals(2L, index.resolve(DB_HEX.substring(0, 12)));
+        assertEquals(HexPrefixIndex.AMBIGUOUS, index.resolve("3f4"));
+        assertEquals(HexPrefixIndex.NOT_FOUND, index.resolve("ff"));
+        assertEquals(HexPrefixIndex.NOT_FOUND, index.resolve("cache"));
+    }
+
+    @Test
+    @DisplayName("삭제 후에는 접두사가 다시 유일해지고, 이름으로도 찾지 않음")
+    void remove_updatesPrefixAndName() {
+        IdentifierIndex index = new IdentifierIndex();
+        index.put(1L, "web", WEB_HEX);
+        index.put(2L, "db", DB_HEX);
+
+        index.remove(1L);
+
+        assertEquals(2L, index.resolve("3f4"));
+        assertEquals(HexPrefixIndex.NOT_FOUND, index.resolve("web"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("이름이 다른 리소스의 ID 접두사와 같으면 이름이 우선")
+    void resolve_namePrecedesPrefix() {
+        IdentifierIndex index = new IdentifierIndex();
+        index.put(1L, "web", WEB_HEX);
+        index.put(2L, "3f4e", DB_HEX);
+
+        assertEquals(2L, index.resolve("3f4e"));
+    }
+
+    @Test
+    @DisplayName("메모리 그래프도 전체 ID, 이름, 유일한 접두사로 찾고, 여러 개와 일치하는 접두사는 오류")
+    void hotSimulation_findContainer_followsIndexRules() {
+        DockerContainer web = container(1L, "web", WEB_HEX, ContainerStatus.RUNNING);
+        DockerContainer db = container(2L, "db", DB_HEX, ContainerStatus.CREATED);
+        HotSimulation hot = new HotSimulation(10L, List.of(web, db), List.of(), List.of(), List.of());
+
+        assertSame(web, hot.findContainer(WEB_HEX, ContainerStatus.RUNNING).orElseThrow());
+        assertSame(web, hot.findContainer("web", ContainerStatus.RUNNING).orElseThrow());
+        assertSame(web, hot.findContainer("3f4e", ContainerStatus.RUNNING).orElseThrow());
+        assertSame(db, hot.findContainer(DB_HEX.substring(0, 12), ContainerStatus.CREATED).orElseThrow());
+        assertTrue(hot.findContainer("web", ContainerStatus.CREATED).isEmpty());
+        assertTrue(hot.findContainer("ff", ContainerStatus.RUNNING).isEmpty());
+        assertTrue(hot.findContainer("", ContainerStatus.RUNNING).isEmpty());
+
+        BusinessException ex = assertThrows(BusinessException.class,
+            () -> hot.findContainer("3f4", ContainerStatus.RUNNING));
+        assertEquals(DockerContainerErrorCode.AMBIGUOUS_CONTAINER_IDENTIFIER, ex.getErrorCode());
+    }
+
+    private static DockerContainer container(Long id, String name, String hexId, ContainerStatus status) {
+        return DockerContainer.builder()
+            .id(id)
+            .name(name)
+            .hexId(hexId)
+            .shortHexId(hexId.substring(0, 12))
+            .status(status)
+            .build();
+    }
+}
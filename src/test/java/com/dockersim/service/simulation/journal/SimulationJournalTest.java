@@ -0,0 +1,261 @@
+package com.dockersim.service.simulation.journal;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.config.SimulationUserPrincipal;
+import com.dockersim.domain.ContainerStatus;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+import com.dockersim.dto.response.CommandResult;
+import com.dockersim.dto.response.CommandResultStatus;
+import com.dockersim.dto.response.SimulationJournalEntryResponse;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.SimulationErrorCode;
+import com.dockersim.service.command.CommandExecutorService;
+import com.dockersim.service.simulation.SimulationService;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshot;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshotCodec;
+import com.dockersim.service.simulation.snapshot.SimulationSnapshotDelta;
+import com.dockersim.service.volume.DockerVolumeService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 기록은 기본으로 꺼져 있으므로 켜고, 체크포인트 사이의 변경분 적용 경로도 확인하도록 체크포인트 간격을 3으로 줄여 실행한다.
+ */
+@SpringBootTest(properties = {"dockersim.journal.enabled=true", "dockersim.journal.checkpoint-interval=3"})
+class SimulationJournalTest {
+
+    private static final List<String> COMMANDS = List.of(
+            "docker network create lab-net",
+            "docker create --name web nginx",
+            "docker create --name cache nginx",
+            "docker volume create data",
+            "docker network connect lab-net cache",
+            "docker ps -a",
+            "docker start web",
+            "docker stop web",
+            "docker rm web"
+    );
+
+    @Autowired
+    private CommandExecutorService executor;
+
+    @Autowired
+    private SimulationService simulationService;
+
+    @Autowired
+    private SimulationJournal journal;
+
+    @Autowired
+    private DockerVolumeService volumeService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimulationUserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        principal = new TransactionTemplate(transactionManager).execute(status -> seed());
+    }
+
+    @Test
+    @DisplayName("상태를 바꾼 명령만 순서대로 기록되고, 각 시점의 상태를 그대로 다시 만듦")
+    void record_reconstructsEveryPoint() {
+        List<SimulationSnapshot> states = new ArrayList<>();
+        states.add(exportState());
+        for (String command : COMMANDS) {
+            execute(command);
+            if (!command.equals("docker ps -a")) {
+                states.add(exportState());
+            }
+        }
+
+        List<SimulationJournalEntryResponse> entries = simulationService.getJournal(
+                principal.getUserPublicId(), principal.getSimulationPublicId(), null, 50);
+        List<String> recorded = new ArrayList<>(COMMANDS);
+        recorded.remove("docker ps -a");
+        Collections.reverse(recorded);
+        assertEquals(recorded, entries.stream().map(SimulationJournalEntryResponse::getCommand).toList());
+        assertEquals(List.of(8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L),
+                entries.stream().map(SimulationJournalEntryResponse::getSequence).toList());
+        assertEquals(CommandResultStatus.CREATE, entries.get(entries.size() - 1).getStatus());
+        assertEquals(principal.getUserPublicId(), entries.get(0).getActorPublicId());
+
+        // 0(기록 전)부터 마지막까지, 체크포인트(0, 3, 6)와 그 사이 변경분으로 만든 상태가 실행 직후 상태와 같다.
+        for (int sequence = 0; sequence < states.size(); sequence++) {
+            assertEquals(states.get(sequence), journal.reconstruct(principal.getSimulationId(), sequence),
+                    "sequence " + sequence);
+        }
+
+        // 다음 페이지
+        assertEquals(List.of(2L, 1L), simulationService.getJournal(principal.getUserPublicId(),
+                        principal.getSimulationPublicId(), 3L, 50).stream()
+                .map(SimulationJournalEntryResponse::getSequence).toList());
+    }
+
+    @Test
+    @DisplayName("기록 시점으로 복원하면 그때의 상태(컨테이너 ID 포함)로 돌아가고, 복원도 새 기록으로 남음")
+    void restoreJournal_returnsToRecordedState() {
+        execute("docker create --name web nginx");
+        SimulationSnapshot afterCreate = exportState();
+        execute("docker network create lab-net");
+        execute("docker network connect lab-net web");
+        execute("docker start web");
+
+        simulationService.restoreJournal(principal.getUserPublicId(), principal.getSimulationPublicId(), 1);
+
+        assertEquals(afterCreate, exportState());
+        assertEquals(5, journal.latestSequence(principal.getSimulationId()));
+        assertEquals("simulation restore --sequence 1", simulationService.getJournal(principal.getUserPublicId(),
+                principal.getSimulationPublicId(), null, 1).get(0).getCommand());
+
+        // 복원 이후에도 명령이 같은 ID의 컨테이너를 찾는다.
+        execute("docker start web");
+        assertEquals(journal.reconstruct(principal.getSimulationId(), 6), exportState());
+    }
+
+    @Test
+    @DisplayName("되돌리기는 마지막 기록 직전 상태로 복원하고, 기록이 없으면 SIMULATION_JOURNAL_ENTRY_NOT_FOUND")
+    void undo_restoresPreviousState() {
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> simulationService.undo(principal.getUserPublicId(), principal.getSimulationPublicId()));
+        assertEquals(SimulationErrorCode.SIMULATION_JOURNAL_ENTRY_NOT_FOUND, e.getErrorCode());
+
+        execute("docker volume create data");
+        SimulationSnapshot beforeNetwork = exportState();
+        execute("docker network create lab-net");
+
+        simulationService.undo(principal.getUserPublicId(), principal.getSimulationPublicId());
+
+        assertEquals(beforeNetwork, exportState());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖(REST 경로)에서 실행한 명령도 기록과 같은 트랜잭션에서 실행")
+    void record_withoutTransaction_runsCommandInRecordTransaction() {
+        List<Boolean> transactionActive = new ArrayList<>();
+
+        journal.record(principal, "docker volume create data", () -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            volumeService.create(principal, "data", false);
+            return CommandResult.builder().console(List.of()).status(CommandResultStatus.CREATE).build();
+        });
+
+        assertEquals(List.of(true), transactionActive);
+        assertEquals(1, journal.latestSequence(principal.getSimulationId()));
+        assertEquals(1, exportState().volumes().size());
+    }
+
+    @Test
+    @DisplayName("기록 저장이 실패하면 명령도 함께 롤백")
+    void record_appendFailure_rollsBackCommand() {
+        assertThrows(RuntimeException.class, () -> journal.record(principal.getSimulationId(),
+                principal.getSimulationPublicId(), null, "docker volume create data", () -> {
+                    volumeService.create(principal, "data", false);
+                    return CommandResult.builder().console(List.of()).status(CommandResultStatus.CREATE).build();
+                }));
+
+        assertEquals(0, journal.latestSequence(principal.getSimulationId()));
+        assertTrue(exportState().volumes().isEmpty());
+    }
+
+    @Test
+    @DisplayName("변경분은 지운 객체 뒤의 참조 위치를 바로잡고, 바이너리로 그대로 왕복")
+    void delta_appliesAndRoundTrips() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        SimulationSnapshot.Image image = new SimulationSnapshot.Image("sha", "sha", "library", "nginx", "latest",
+                ImageLocation.LOCAL, "sha256:1", now);
+        SimulationSnapshot.Network network = new SimulationSnapshot.Network("n1", "n1", "lab-net", now);
+        SimulationSnapshot before = new SimulationSnapshot("sim", List.of(image),
+                List.of(container("a", now), container("b", now), container("c", now)), List.of(network), List.of(),
+                List.of(new SimulationSnapshot.NetworkLink(2, 0, now)), List.of());
+        SimulationSnapshot after = new SimulationSnapshot("sim", List.of(image),
+                List.of(container("b", now), container("c", now), container("d", now)), List.of(network), List.of(),
+                List.of(new SimulationSnapshot.NetworkLink(1, 0, now)), List.of());
+
+        SimulationSnapshotDelta delta = SimulationSnapshotDelta.between(before, after);
+
+        assertEquals(List.of(0), delta.containers().removed());
+        assertTrue(delta.containers().replaced().isEmpty());
+        assertEquals(1, delta.networkLinks().replaced().size());
+        assertEquals(after, delta.apply(before));
+        assertEquals(delta, SimulationSnapshotCodec.decodeDelta(SimulationSnapshotCodec.encodeDelta(delta)));
+        assertTrue(SimulationSnapshotDelta.between(after, after).isEmpty());
+
+        SimulationSnapshot empty = new SimulationSnapshot("sim", List.of(image), List.of(), List.of(network),
+                List.of(), List.of(), List.of());
+        BusinessException e = assertThrows(BusinessException.class, () -> delta.apply(empty));
+        assertEquals(SimulationErrorCode.SIMULATION_SNAPSHOT_INVALID, e.getErrorCode());
+    }
+
+    private static SimulationSnapshot.Container container(String name, LocalDateTime now) {
+        return new SimulationSnapshot.Container(name, name, name,
+                ContainerStatus.CREATED, 0, null, now, null, null);
+    }
+
+    private void execute(String command) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> executor.execute(command, principal));
+    }
+
+    private SimulationSnapshot exportState() {
+        return SimulationSnapshotCodec.decode(simulationService.exportSnapshot(principal.getUserPublicId(),
+                principal.getSimulationPublicId()));
+    }
+
+    private SimulationUserPrincipal seed() {
+        LocalDateTime now = LocalDateTime.now();
+        User user = User.builder()
+                .publicId(IdGenerator.generatePublicId())
+                .name("journal")
+                .email("journal-" + System.nanoTime() + "@dockersim.com")
+                .createdAt(now)
+                .build();
+        entityManager.persist(user);
+
+        Simulation simulation = Simulation.builder()
+                .publicId(IdGenerator.generatePublicId())
+                .title("journal-" + System.nanoTime())
+                .shareState(SimulationShareState.PRIVATE)
+                .owner(user)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        entityManager.persist(simulation);
+
+        String hexId = IdGenerator.generateHexFullId();
+        entityManager.persist(DockerImage.builder()
+                .hexId(hexId)
+                .shortHexId(IdGenerator.getShortId(hexId))
+                .namespace("library")
+                .name("nginx")
+                .tag("latest")
+                .location(ImageLocation.LOCAL)
+                .layers(List.of("sha256:" + hexId))
+                .createdAt(now)
+                .simulation(simulation)
+                .build());
+        return new SimulationUserPrincipal(user, simulation);
+    }
+}
@@ -0,0 +1,228 @@
+package com.dockersim.service.simulation.snapshot;
+
+import com.dockersim.common.IdGenerator;
+import com.dockersim.domain.ContainerNetwork;
+import com.dockersim.domain.ContainerVolume;
+import com.dockersim.domain.DockerContainer;
+import com.dockersim.domain.DockerImage;
+import com.dockersim.domain.DockerNetwork;
+import com.dockersim.domain.DockerVolume;
+import com.dockersim.domain.ImageLocation;
+import com.dockersim.domain.Simulation;
+import com.dockersim.domain.SimulationShareState;
+import com.dockersim.domain.User;
+import com.dockersim.dto.request.SimulationRequest;
+import com.dockersim.dto.response.SimulationResponse;
+import com.dockersim.exception.BusinessException;
+import com.dockersim.exception.code.SimulationErrorCode;
+import com.dockersim.repository.SimulationRepository;
+import com.dockersim.service.simulation.SimulationService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SimulationSnapshotTest {
+
+    @Autowired
+    private SimulationService simulationService;
+
+    @Autowired
+    private SimulationRepository simulationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String userPublicId;
+    private String simulationPublicId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> seed());
+    }
+
+    @Test
+    @DisplayName("내보낸 스냅샷은 같은 상태로 다시 읽힘")
+    void exportSnapshot_roundTrips() {
+        SimulationSnapshot snapshot = SimulationSnapshotCodec.decode(
+                simulationService.exportSnapshot(userPublicId, simulationPublicId));
+
+        assertEquals(simulationPublicId, snapshot.sourcePublicId());
+        assertEquals(2, snapshot.images().size());
+        assertEquals(3, snapshot.containers().size());
+        assertEquals(List.of("lab-net"), snapshot.networks().stream().map(SimulationSnapshot.Network::name).toList());
+        assertEquals(List.of(
+                "image nginx:latest LOCAL",
+                "image redis:7 LOCAL",
+                "container web RUNNING nginx",
+                "container cache EXITED redis",
+                "container job EXITED nginx",
+                "network web-lab-net",
+                "network cache-lab-net",
+                "volume web-data:/data ro=false"
+        ), describe(snapshot));
+        assertArrayEquals(SimulationSnapshotCodec.encode(snapshot), SimulationSnapshotCodec.encode(
+                SimulationSnapshotCodec.decode(SimulationSnapshotCodec.encode(snapshot))));
+    }
+
+    @Test
+    @DisplayName("복사한 시뮬레이션은 같은 상태이고 컨테이너 ID는 새로 생성")
+    void forkSimulation_copiesStateWithNewContainerIds() {
+        SimulationResponse fork = simulationService.forkSimulation(userPublicId, simulationPublicId,
+                new SimulationRequest("lab-fork-" + System.nanoTime(), "PRIVATE"));
+
+        SimulationSnapshot source = SimulationSnapshotCodec.decode(
+                simulationService.exportSnapshot(userPublicId, simulationPublicId));
+        SimulationSnapshot copy = SimulationSnapshotCodec.decode(
+                simulationService.exportSnapshot(userPublicId, fork.getSimulationPublicId()));
+
+        assertEquals(describe(source), describe(copy));
+        assertNotEquals(source.containers().get(0).hexId(), copy.containers().get(0).hexId());
+        assertEquals(source.images().get(0).hexId(), copy.images().get(0).hexId());
+    }
+
+    @Test
+    @DisplayName("복원하면 현재 상태를 지우고 스냅샷의 상태로 되돌리며, 같은 시뮬레이션이면 ID를 유지")
+    void restoreSnapshot_replacesState() {
+        byte[] bytes = simulationService.exportSnapshot(userPublicId, simulationPublicId);
+        SimulationSnapshot before = SimulationSnapshotCodec.decode(bytes);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Simulation simulation = simulationRepository.findByPublicId(simulationPublicId).orElseThrow();
+            DockerImage image = entityManager.createQuery(
+                    "SELECT i FROM DockerImage i WHERE i.simulation = :simulation AND i.name = 'nginx'", DockerImage.class)
+                    .setParameter("simulation", simulation)
+                    .getSingleResult();
+            entityManager.persist(DockerContainer.from("extra", image, simulation));
+        });
+        assertEquals(4, SimulationSnapshotCodec.decode(
+                simulationService.exportSnapshot(userPublicId, simulationPublicId)).containers().size());
+
+        simulationService.restoreSnapshot(userPublicId, simulationPublicId, bytes);
+
+        SimulationSnapshot after = SimulationSnapshotCodec.decode(
+                simulationService.exportSnapshot(userPublicId, simulationPublicId));
+        assertEquals(describe(before), describe(after));
+        assertEquals(before.containers().stream().map(SimulationSnapshot.Container::hexId).toList(),
+                after.containers().stream().map(SimulationSnapshot.Container::hexId).toList());
+    }
+
+    @Test
+    @DisplayName("형식이 다르거나 잘린 스냅샷은 SIMULATION_SNAPSHOT_INVALID")
+    void decode_rejectsInvalidInput() {
+        byte[] bytes = simulationService.exportSnapshot(userPublicId, simulationPublicId);
+
+        for (byte[] invalid : List.of(new byte[0], "not a snapshot".getBytes(), Arrays.copyOf(bytes, bytes.length - 4))) {
+            BusinessException e = assertThrows(BusinessException.class, () -> SimulationSnapshotCodec.decode(invalid));
+            assertEquals(SimulationErrorCode.SIMULATION_SNAPSHOT_INVALID, e.getErrorCode());
+        }
+    }
+
+    /*
+    DB ID와 무관하게 비교할 수 있도록 이름으로 풀어 쓴다.
+     */
+    private static List<String> describe(SimulationSnapshot snapshot) {
+        List<String> lines = new ArrayList<>();
+        snapshot.images().forEach(image -> lines.add(
+                "image " + image.name() + ":" + image.tag() + " " + image.location()));
+        snapshot.containers().forEach(container -> lines.add("container " + container.name() + " "
+                + container.status() + " " + snapshot.images().get(container.image()).name()));
+        snapshot.networkLinks().forEach(link -> lines.add("network "
+                + snapshot.containers().get(link.container()).name() + "-" + snapshot.networks().get(link.network()).name()));
+        snapshot.volumeLinks().forEach(link -> lines.add("volume "
+                + snapshot.containers().get(link.container()).name() + "-" + snapshot.volumes().get(link.volume()).name()
+                + ":" + link.containerPath() + " ro=" + link.readOnly()));
+        return lines;
+    }
+
+    /**
+     * 이미지 2개, 컨테이너 3개(web은 RUNNING), 네트워크 1개(web, cache 연결), 볼륨 1개(web에 연결)
+     */
+    private void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        User user = User.builder()
+                .publicId(IdGenerator.generatePublicId())
+                .name("teacher")
+                .email("teacher-" + System.nanoTime() + "@dockersim.com")
+                .createdAt(now)
+                .build();
+        entityManager.persist(user);
+
+        Simulation simulation = Simulation.builder()
+                .publicId(IdGenerator.generatePublicId())
+                .title("lab-" + System.nanoTime())
+                .shareState(SimulationShareState.PRIVATE)
+                .owner(user)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        entityManager.persist(simulation);
+
+        DockerImage nginx = persistImage(simulation, "nginx", "latest", now);
+        DockerImage redis = persistImage(simulation, "redis", "7", now);
+
+        DockerContainer web = DockerContainer.from("web", nginx, simulation);
+        web.start();
+        entityManager.persist(web);
+        DockerContainer cache = DockerContainer.from("cache", redis, simulation);
+        entityManager.persist(cache);
+        entityManager.persist(DockerContainer.from("job", nginx, simulation));
+
+        String hexId = IdGenerator.generateHexFullId();
+        DockerNetwork network = DockerNetwork.builder()
+                .hexId(hexId)
+                .shortHexId(IdGenerator.getShortId(hexId))
+                .name("lab-net")
+                .simulation(simulation)
+                .createdAt(now)
+                .containerNetworks(new ArrayList<>())
+                .build();
+        entityManager.persist(network);
+        entityManager.persist(new ContainerNetwork(web, network));
+        entityManager.persist(new ContainerNetwork(cache, network));
+
+        DockerVolume volume = DockerVolume.from("data", false, simulation);
+        entityManager.persist(volume);
+        entityManager.persist(ContainerVolume.builder()
+                .container(web)
+                .volume(volume)
+                .containerPath("/data")
+                .isReadOnly(false)
+                .build());
+
+        userPublicId = user.getPublicId();
+        simulationPublicId = simulation.getPublicId();
+    }
+
+    private DockerImage persistImage(Simulation simulation, String name, String tag, LocalDateTime now) {
+        String hexId = IdGenerator.generateHexFullId();
+        DockerImage image = DockerImage.builder()
+                .hexId(hexId)
+                .shortHexId(IdGenerator.getShortId(hexId))
+                .namespace("library")
+                .name(name)
+                .tag(tag)
+                .location(ImageLocation.LOCAL)
+                .layers(List.of("sha256:" + hexId))
+                .createdAt(now)
+                .simulation(simulation)
+                .build();
+        entityManager.persist(image);
+        return image;
+    }
+}